@@ -23,9 +23,11 @@
 package org.jboss.as.connector.pool;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import org.jboss.as.connector.ConnectorServices;
+import org.jboss.as.connector.services.IndexedManagementRepository;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.OperationFailedException;
@@ -85,10 +87,23 @@ public abstract class PoolMetrics implements OperationStepHandler {
 
     protected abstract List<StatisticsPlugin> getMatchingStats(String jndiName, ManagementRepository repository);
 
+    static void addStatistics(final ModelNode node, final StatisticsPlugin stat) {
+        for (String attributeName : ATTRIBUTES) {
+            node.get(attributeName).set("" + stat.getValue(attributeName));
+        }
+    }
+
     public static class LocalAndXaDataSourcePoolMetricsHandler extends PoolMetrics {
         public static LocalAndXaDataSourcePoolMetricsHandler INSTANCE = new LocalAndXaDataSourcePoolMetricsHandler();
 
         protected List<StatisticsPlugin> getMatchingStats(String jndiName, ManagementRepository repository) {
+            if (repository instanceof IndexedManagementRepository) {
+                final DataSource ds = ((IndexedManagementRepository) repository).getDataSource(jndiName);
+                if (ds == null || ds.getPool() == null) {
+                    return Collections.emptyList();
+                }
+                return Collections.singletonList(ds.getPool().getStatistics());
+            }
             ArrayList<StatisticsPlugin> result = new ArrayList<StatisticsPlugin>(repository.getDataSources().size());
             if (repository.getDataSources() != null) {
                 for (DataSource ds : repository.getDataSources()) {
@@ -108,6 +123,14 @@ public abstract class PoolMetrics implements OperationStepHandler {
         public static RaPoolMetricsHandler INSTANCE = new RaPoolMetricsHandler();
 
         protected List<StatisticsPlugin> getMatchingStats(String jndiName, ManagementRepository repository) {
+            if (repository instanceof IndexedManagementRepository) {
+                final Connector c = ((IndexedManagementRepository) repository).getConnector(jndiName);
+                if (c == null || c.getConnectionFactories() == null || c.getConnectionFactories().get(0) == null
+                        || c.getConnectionFactories().get(0).getPool() == null) {
+                    return Collections.emptyList();
+                }
+                return Collections.singletonList(c.getConnectionFactories().get(0).getPool().getStatistics());
+            }
             ArrayList<StatisticsPlugin> result = new ArrayList<StatisticsPlugin>(repository.getConnectors().size());
             if (repository.getConnectors() != null) {
                 for (Connector c : repository.getConnectors()) {
@@ -126,4 +149,69 @@ public abstract class PoolMetrics implements OperationStepHandler {
 
     }
 
+    /**
+     * Reads the statistics of every pool in a single step, keyed by the name the pool is registered under.
+     */
+    public abstract static class ReadAllPoolMetrics implements OperationStepHandler {
+
+        public static final String OPERATION_NAME = "read-all-pool-metrics";
+
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            if (context.getType() == OperationContext.Type.SERVER) {
+                context.addStep(new OperationStepHandler() {
+                    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                        final ServiceController<?> managementRepoService = context.getServiceRegistry(false).getService(
+                                ConnectorServices.MANAGEMENT_REPOSISTORY_SERVICE);
+                        final ModelNode result = context.getResult();
+                        result.setEmptyObject();
+                        if (managementRepoService != null) {
+                            try {
+                                final ManagementRepository repository = (ManagementRepository) managementRepoService.getValue();
+                                readAll(repository, result);
+                            } catch (Exception e) {
+                                throw new OperationFailedException(new ModelNode().set("failed to get metrics " + e.getMessage()));
+                            }
+                        }
+                        context.completeStep();
+                    }
+                }, OperationContext.Stage.RUNTIME);
+            } else {
+                context.getResult().set("no metrics available");
+            }
+
+            context.completeStep();
+        }
+
+        protected abstract void readAll(ManagementRepository repository, ModelNode result);
+    }
+
+    public static class ReadAllDataSourcePoolMetricsHandler extends ReadAllPoolMetrics {
+        public static ReadAllDataSourcePoolMetricsHandler INSTANCE = new ReadAllDataSourcePoolMetricsHandler();
+
+        protected void readAll(ManagementRepository repository, ModelNode result) {
+            if (repository.getDataSources() != null) {
+                for (DataSource ds : repository.getDataSources()) {
+                    if (ds.getJndiName() != null && ds.getPool() != null) {
+                        addStatistics(result.get(ds.getJndiName()), ds.getPool().getStatistics());
+                    }
+                }
+            }
+        }
+    }
+
+    public static class ReadAllRaPoolMetricsHandler extends ReadAllPoolMetrics {
+        public static ReadAllRaPoolMetricsHandler INSTANCE = new ReadAllRaPoolMetricsHandler();
+
+        protected void readAll(ManagementRepository repository, ModelNode result) {
+            if (repository.getConnectors() != null) {
+                for (Connector c : repository.getConnectors()) {
+                    if (c.getUniqueId() == null || c.getConnectionFactories() == null || c.getConnectionFactories().isEmpty()
+                            || c.getConnectionFactories().get(0) == null || c.getConnectionFactories().get(0).getPool() == null)
+                        continue;
+                    addStatistics(result.get(c.getUniqueId()), c.getConnectionFactories().get(0).getPool().getStatistics());
+                }
+            }
+        }
+    }
+
 }
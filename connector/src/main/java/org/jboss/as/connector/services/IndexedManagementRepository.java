@@ -0,0 +1,235 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jboss.jca.core.api.management.Connector;
+import org.jboss.jca.core.api.management.DataSource;
+import org.jboss.jca.core.api.management.ManagementRepository;
+
+/**
+ * A {@link ManagementRepository} which indexes its data sources by JNDI name and its connectors by unique id as they
+ * are registered, so management operations can find them without walking the whole repository.
+ * <p>
+ * Keys are matched case-insensitively, as the management layer has always done.
+ */
+public class IndexedManagementRepository extends ManagementRepository {
+
+    private final IndexedList<DataSource> dataSources = new IndexedList<DataSource>() {
+        @Override
+        String getKey(final DataSource element) {
+            return element.getJndiName();
+        }
+    };
+
+    private final IndexedList<Connector> connectors = new IndexedList<Connector>() {
+        @Override
+        String getKey(final Connector element) {
+            return element.getUniqueId();
+        }
+    };
+
+    @Override
+    public List<DataSource> getDataSources() {
+        return dataSources;
+    }
+
+    @Override
+    public List<Connector> getConnectors() {
+        return connectors;
+    }
+
+    /**
+     * Get the data source registered under the given JNDI name.
+     *
+     * @param jndiName the JNDI name
+     * @return the data source, or {@code null} if none is registered
+     */
+    public DataSource getDataSource(final String jndiName) {
+        return dataSources.lookup(jndiName);
+    }
+
+    /**
+     * Get the connector registered under the given unique id.
+     *
+     * @param uniqueId the unique id
+     * @return the connector, or {@code null} if none is registered
+     */
+    public Connector getConnector(final String uniqueId) {
+        return connectors.lookup(uniqueId);
+    }
+
+    /**
+     * A list which keeps a key index in step with its contents. Mutators are synchronized so the list and the index
+     * change together; lookups only read the index.
+     * <p>
+     * Every mutation has to pass through one of the overridden methods. Iterators are the read-only snapshots of
+     * {@link CopyOnWriteArrayList}, and {@link #subList(int, int)} returns a read-only view, since writes through
+     * either would bypass the index.
+     */
+    abstract static class IndexedList<E> extends CopyOnWriteArrayList<E> {
+
+        private static final long serialVersionUID = -1532406839374186427L;
+
+        private final ConcurrentMap<String, E> index = new ConcurrentHashMap<String, E>();
+
+        abstract String getKey(E element);
+
+        E lookup(final String key) {
+            return key == null ? null : index.get(normalize(key));
+        }
+
+        private static String normalize(final String key) {
+            return key.toLowerCase(Locale.ENGLISH);
+        }
+
+        private void indexElement(final E element) {
+            final String key = element == null ? null : getKey(element);
+            if (key != null) {
+                index.put(normalize(key), element);
+            }
+        }
+
+        private void unindexElement(final Object element) {
+            @SuppressWarnings("unchecked")
+            final String key = element == null ? null : getKey((E) element);
+            if (key != null && index.remove(normalize(key), element)) {
+                // Fall back to any remaining element registered under the same key
+                for (E other : this) {
+                    if (key.equalsIgnoreCase(getKey(other))) {
+                        index.put(normalize(key), other);
+                    }
+                }
+            }
+        }
+
+        private void reindex() {
+            index.clear();
+            for (E element : this) {
+                indexElement(element);
+            }
+        }
+
+        @Override
+        public synchronized boolean add(final E element) {
+            final boolean added = super.add(element);
+            indexElement(element);
+            return added;
+        }
+
+        @Override
+        public synchronized void add(final int position, final E element) {
+            super.add(position, element);
+            indexElement(element);
+        }
+
+        @Override
+        public synchronized boolean addAll(final Collection<? extends E> elements) {
+            final boolean added = super.addAll(elements);
+            for (E element : elements) {
+                indexElement(element);
+            }
+            return added;
+        }
+
+        @Override
+        public synchronized boolean addAll(final int position, final Collection<? extends E> elements) {
+            final boolean added = super.addAll(position, elements);
+            for (E element : elements) {
+                indexElement(element);
+            }
+            return added;
+        }
+
+        @Override
+        public synchronized boolean addIfAbsent(final E element) {
+            final boolean added = super.addIfAbsent(element);
+            if (added) {
+                indexElement(element);
+            }
+            return added;
+        }
+
+        @Override
+        public synchronized int addAllAbsent(final Collection<? extends E> elements) {
+            final int added = super.addAllAbsent(elements);
+            reindex();
+            return added;
+        }
+
+        @Override
+        public synchronized boolean remove(final Object element) {
+            final boolean removed = super.remove(element);
+            if (removed) {
+                unindexElement(element);
+            }
+            return removed;
+        }
+
+        @Override
+        public synchronized E remove(final int position) {
+            final E removed = super.remove(position);
+            unindexElement(removed);
+            return removed;
+        }
+
+        @Override
+        public synchronized E set(final int position, final E element) {
+            final E previous = super.set(position, element);
+            reindex();
+            return previous;
+        }
+
+        @Override
+        public synchronized boolean removeAll(final Collection<?> elements) {
+            final boolean removed = super.removeAll(elements);
+            reindex();
+            return removed;
+        }
+
+        @Override
+        public synchronized boolean retainAll(final Collection<?> elements) {
+            final boolean removed = super.retainAll(elements);
+            reindex();
+            return removed;
+        }
+
+        @Override
+        public synchronized void clear() {
+            super.clear();
+            index.clear();
+        }
+
+        @Override
+        public List<E> subList(final int fromIndex, final int toIndex) {
+            return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
+        }
+    }
+}
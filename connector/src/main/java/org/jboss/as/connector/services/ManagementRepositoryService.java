@@ -16,7 +16,7 @@ public class ManagementRepositoryService implements Service<ManagementRepository
     /** create an instance **/
     public ManagementRepositoryService() {
         super();
-        this.value = new ManagementRepository();
+        this.value = new IndexedManagementRepository();
 
     }
 
@@ -483,6 +483,20 @@ class DataSourcesSubsystemProviders {
         }
     };
 
+    static DescriptionProvider READ_ALL_POOL_METRICS_DESC = new DescriptionProvider() {
+        @Override
+        public ModelNode getModelDescription(final Locale locale) {
+            final ResourceBundle bundle = getResourceBundle(locale);
+            final ModelNode operation = new ModelNode();
+            operation.get(OPERATION_NAME).set(PoolMetrics.ReadAllPoolMetrics.OPERATION_NAME);
+            operation.get(DESCRIPTION).set(bundle.getString("datasources.read-all-pool-metrics"));
+            operation.get(REQUEST_PROPERTIES).setEmptyObject();
+            operation.get(REPLY_PROPERTIES, TYPE).set(ModelType.OBJECT);
+            operation.get(REPLY_PROPERTIES, DESCRIPTION).set(bundle.getString("datasources.read-all-pool-metrics.reply"));
+            return operation;
+        }
+    };
+
     static DescriptionProvider FLUSH_IDLE_CONNECTION_DESC = new DescriptionProvider() {
         @Override
         public ModelNode getModelDescription(final Locale locale) {
@@ -24,6 +24,7 @@ package org.jboss.as.connector.subsystems.datasources;
 
 import java.util.Set;
 import org.jboss.as.connector.ConnectorServices;
+import org.jboss.as.connector.services.IndexedManagementRepository;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.OperationFailedException;
@@ -59,7 +60,12 @@ public class LocalAndXaDataSourcesJdbcMetrics implements OperationStepHandler {
                         try {
                             final ManagementRepository repository = (ManagementRepository) managementRepoService.getValue();
                             final ModelNode result = context.getResult();
-                            if (repository.getDataSources() != null) {
+                            if (repository instanceof IndexedManagementRepository) {
+                                final DataSource ds = ((IndexedManagementRepository) repository).getDataSource(jndiName);
+                                if (ds != null && ds.getStatistics() != null) {
+                                    result.set("" + ds.getStatistics().getValue(attributeName));
+                                }
+                            } else if (repository.getDataSources() != null) {
                                 for (DataSource ds : repository.getDataSources()) {
                                     if (jndiName.equalsIgnoreCase(ds.getJndiName())) {
                                         if (ds.getStatistics() != null) {
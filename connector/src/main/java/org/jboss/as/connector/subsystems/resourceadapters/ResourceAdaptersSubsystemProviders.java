@@ -70,6 +70,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TYP
 import java.util.Locale;
 import java.util.ResourceBundle;
 
+import org.jboss.as.connector.pool.PoolMetrics;
 import org.jboss.as.controller.descriptions.DescriptionProvider;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -264,6 +265,20 @@ class ResourceAdaptersSubsystemProviders {
         }
     };
 
+    static DescriptionProvider READ_ALL_POOL_METRICS_DESC = new DescriptionProvider() {
+        @Override
+        public ModelNode getModelDescription(final Locale locale) {
+            final ResourceBundle bundle = getResourceBundle(locale);
+            final ModelNode operation = new ModelNode();
+            operation.get(OPERATION_NAME).set(PoolMetrics.ReadAllPoolMetrics.OPERATION_NAME);
+            operation.get(DESCRIPTION).set(bundle.getString("resource-adapters.read-all-pool-metrics"));
+            operation.get(REQUEST_PROPERTIES).setEmptyObject();
+            operation.get(REPLY_PROPERTIES, TYPE).set(ModelType.OBJECT);
+            operation.get(REPLY_PROPERTIES, DESCRIPTION).set(bundle.getString("resource-adapters.read-all-pool-metrics.reply"));
+            return operation;
+        }
+    };
+
     static DescriptionProvider FLUSH_IDLE_CONNECTION_DESC = new DescriptionProvider() {
         @Override
         public ModelNode getModelDescription(final Locale locale) {
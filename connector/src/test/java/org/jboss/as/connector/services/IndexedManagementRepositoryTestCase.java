@@ -0,0 +1,160 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the index of {@link IndexedManagementRepository} stays in step with the registered elements.
+ */
+public class IndexedManagementRepositoryTestCase {
+
+    private IndexedManagementRepository.IndexedList<Element> list;
+
+    @Before
+    public void createList() {
+        list = new IndexedManagementRepository.IndexedList<Element>() {
+            @Override
+            String getKey(final Element element) {
+                return element.key;
+            }
+        };
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        final Element a = new Element("java:/A");
+        final Element b = new Element("java:/B");
+        list.add(a);
+        list.add(0, b);
+        assertSame(a, list.lookup("java:/a"));
+        assertSame(b, list.lookup("JAVA:/B"));
+        assertNull(list.lookup("java:/C"));
+        assertNull(list.lookup(null));
+
+        list.remove(a);
+        assertNull(list.lookup("java:/A"));
+        list.remove(0);
+        assertNull(list.lookup("java:/B"));
+    }
+
+    @Test
+    public void testBulkMutators() {
+        final Element a = new Element("a");
+        final Element b = new Element("b");
+        final Element c = new Element("c");
+        list.addAll(Arrays.asList(a, b));
+        list.addAll(1, Collections.singletonList(c));
+        assertSame(c, list.lookup("c"));
+
+        list.removeAll(Arrays.asList(a, c));
+        assertNull(list.lookup("a"));
+        assertNull(list.lookup("c"));
+        assertSame(b, list.lookup("b"));
+
+        list.addAllAbsent(Arrays.asList(a, b));
+        assertSame(a, list.lookup("a"));
+        list.retainAll(Collections.singletonList(a));
+        assertNull(list.lookup("b"));
+
+        final Element d = new Element("d");
+        list.set(0, d);
+        assertNull(list.lookup("a"));
+        assertSame(d, list.lookup("d"));
+
+        list.clear();
+        assertNull(list.lookup("d"));
+    }
+
+    @Test
+    public void testDuplicateKeys() {
+        final Element first = new Element("dup");
+        final Element second = new Element("DUP");
+        list.add(first);
+        list.add(second);
+        list.remove(second);
+        assertSame(first, list.lookup("dup"));
+        list.remove(first);
+        assertNull(list.lookup("dup"));
+    }
+
+    @Test
+    public void testViewsAreReadOnly() {
+        final Element a = new Element("a");
+        list.add(a);
+        list.add(new Element("b"));
+
+        final Iterator<Element> iterator = list.iterator();
+        iterator.next();
+        try {
+            iterator.remove();
+            fail("Iterator removal should not be supported");
+        } catch (UnsupportedOperationException expected) {
+        }
+
+        final ListIterator<Element> listIterator = list.listIterator();
+        listIterator.next();
+        try {
+            listIterator.set(new Element("c"));
+            fail("ListIterator set should not be supported");
+        } catch (UnsupportedOperationException expected) {
+        }
+
+        final List<Element> subList = list.subList(0, 1);
+        assertEquals(Collections.singletonList(a), subList);
+        try {
+            subList.clear();
+            fail("Sub list mutation should not be supported");
+        } catch (UnsupportedOperationException expected) {
+        }
+        try {
+            subList.add(new Element("c"));
+            fail("Sub list mutation should not be supported");
+        } catch (UnsupportedOperationException expected) {
+        }
+
+        assertEquals(2, list.size());
+        assertSame(a, list.lookup("a"));
+        assertNull(list.lookup("c"));
+    }
+
+    private static final class Element {
+        private final String key;
+
+        Element(final String key) {
+            this.key = key;
+        }
+    }
+}
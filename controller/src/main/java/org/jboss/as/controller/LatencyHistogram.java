@@ -0,0 +1,174 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * A rolling latency histogram with fixed, roughly exponential buckets. Recording a sample costs a few atomic
+ * increments; samples are kept in a current and a previous window, so a snapshot covers between one and two window
+ * lengths of history.
+ */
+public final class LatencyHistogram {
+
+    public static final String COUNT = "count";
+    public static final String MEAN = "mean";
+    public static final String MAX = "max";
+    public static final String P50 = "p50";
+    public static final String P90 = "p90";
+    public static final String P99 = "p99";
+    public static final String P999 = "p999";
+    public static final String BUCKETS = "buckets";
+    public static final String WINDOW = "window";
+
+    /** Bucket upper bounds, in microseconds. The last bucket is unbounded. */
+    private static final long[] BOUNDS = {
+        100, 250, 500, 1000, 2500, 5000, 10000, 25000, 50000, 100000, 250000, 500000, 1000000, 2500000, 5000000, 10000000
+    };
+
+    private static final long WINDOW_MILLIS = TimeUnit.SECONDS.toMillis(60);
+
+    private final AtomicReference<Window> current = new AtomicReference<Window>(new Window(System.currentTimeMillis(), null));
+
+    /**
+     * Record a sample.
+     *
+     * @param nanos the sample, in nanoseconds
+     */
+    public void record(final long nanos) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        currentWindow(System.currentTimeMillis()).record(micros);
+    }
+
+    private Window currentWindow(final long now) {
+        Window window = current.get();
+        while (now - window.start >= WINDOW_MILLIS) {
+            // Keep only one previous window so history does not pile up
+            final Window rolled = new Window(now, now - window.start >= 2 * WINDOW_MILLIS ? null : window);
+            if (current.compareAndSet(window, rolled)) {
+                window.previous = null;
+                return rolled;
+            }
+            window = current.get();
+        }
+        return window;
+    }
+
+    /**
+     * Take a snapshot of the samples recorded in the current and previous windows. Times are in milliseconds.
+     */
+    public ModelNode toModelNode() {
+        final long now = System.currentTimeMillis();
+        final Window window = currentWindow(now);
+        final Window previous = window.previous;
+        final long[] counts = new long[BOUNDS.length + 1];
+        long count = 0;
+        long total = 0;
+        long max = 0;
+        long start = window.start;
+        for (Window w = window; w != null; w = w == window ? previous : null) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += w.buckets.get(i);
+            }
+            count += w.count.get();
+            total += w.total.get();
+            max = Math.max(max, w.max.get());
+            start = Math.min(start, w.start);
+        }
+
+        final ModelNode node = new ModelNode();
+        node.get(COUNT).set(count);
+        node.get(MEAN).set(count == 0 ? 0.0 : toMillis(total / count));
+        node.get(MAX).set(toMillis(max));
+        node.get(P50).set(toMillis(percentile(counts, count, 0.50, max)));
+        node.get(P90).set(toMillis(percentile(counts, count, 0.90, max)));
+        node.get(P99).set(toMillis(percentile(counts, count, 0.99, max)));
+        node.get(P999).set(toMillis(percentile(counts, count, 0.999, max)));
+        node.get(WINDOW).set(TimeUnit.MILLISECONDS.toSeconds(now - start));
+        final ModelNode buckets = node.get(BUCKETS);
+        for (int i = 0; i < counts.length; i++) {
+            buckets.get(i < BOUNDS.length ? Double.toString(toMillis(BOUNDS[i])) : "+Inf").set(counts[i]);
+        }
+        return node;
+    }
+
+    /**
+     * @return the upper bound of the bucket holding the given percentile, capped at the largest sample
+     */
+    private static long percentile(final long[] counts, final long count, final double fraction, final long max) {
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = (long) Math.ceil(count * fraction);
+        long seen = 0;
+        for (int i = 0; i < BOUNDS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(BOUNDS[i], max);
+            }
+        }
+        return max;
+    }
+
+    private static double toMillis(final long micros) {
+        return micros / 1000.0;
+    }
+
+    private static int bucketOf(final long micros) {
+        for (int i = 0; i < BOUNDS.length; i++) {
+            if (micros <= BOUNDS[i]) {
+                return i;
+            }
+        }
+        return BOUNDS.length;
+    }
+
+    private static final class Window {
+        private final long start;
+        private volatile Window previous;
+        private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS.length + 1);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+
+        private Window(final long start, final Window previous) {
+            this.start = start;
+            this.previous = previous;
+        }
+
+        private void record(final long micros) {
+            buckets.incrementAndGet(bucketOf(micros));
+            count.incrementAndGet();
+            total.addAndGet(micros);
+            long current;
+            while (micros > (current = max.get()) && !max.compareAndSet(current, micros)) {
+                // retry
+            }
+        }
+    }
+}
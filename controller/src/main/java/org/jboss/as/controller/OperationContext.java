@@ -130,6 +130,14 @@ public interface OperationContext {
      */
     boolean hasFailureDescription();
 
+    /**
+     * Get the response headers node, creating it if necessary.  Headers are returned to the client alongside
+     * the operation outcome.
+     *
+     * @return the response headers
+     */
+    ModelNode getResponseHeaders();
+
     /**
      * Get the operation context type.  This can be used to determine whether an operation is executing on a
      * server or on a host controller, etc.
@@ -914,6 +914,10 @@ final class OperationContextImpl implements OperationContext {
         return response.has(RESULT);
     }
 
+    public ModelNode getResponseHeaders() {
+        return response.get(RESPONSE_HEADERS);
+    }
+
     static class Step {
         private final OperationStepHandler handler;
         private final ModelNode response;
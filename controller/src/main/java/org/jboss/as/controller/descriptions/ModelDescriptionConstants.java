@@ -44,10 +44,14 @@ public class ModelDescriptionConstants {
     public static final String ARCHIVE = "archive";
     public static final String ATTRIBUTES = "attributes";
     public static final String AUTHENTICATION = "authentication";
+    public static final String AUTHENTICATION_CACHE_HIT_COUNT = "authentication-cache-hit-count";
+    public static final String AUTHENTICATION_CACHE_MISS_COUNT = "authentication-cache-miss-count";
+    public static final String AUTHENTICATION_TIME = "authentication-time";
     public static final String AUTO_START = "auto-start";
     public static final String BASE_DN = "base-dn";
     public static final String BOOT_TIME = "boot-time";
     public static final String BYTES = "bytes";
+    public static final String CACHE_TTL = "cache-ttl";
     public static final String CANCELLED = "cancelled";
     public static final String CHILD_TYPE = "child-type";
     public static final String CHILDREN = "children";
@@ -89,6 +93,7 @@ public class ModelDescriptionConstants {
     public static final String HOST = "host";
     public static final String HOST_FAILURE_DESCRIPTION = "host-failure-description";
     public static final String HOST_FAILURE_DESCRIPTIONS = "host-failure-descriptions";
+    public static final String HOST_RESPONSE_TIMES = "host-response-times";
     public static final String HTTP_INTERFACE = "http-interface";
     public static final String IGNORED = "ignored-by-unaffected-host-controller";
     public static final String IN_SERIES = "in-series";
@@ -143,6 +148,7 @@ public class ModelDescriptionConstants {
     public static final String PASSWORD = "password";
     public static final String PATH = "path";
     public static final String PERSISTENT = "persistent";
+    public static final String PLAIN_TEXT = "plain-text";
     public static final String PORT = "port";
     public static final String PORT_OFFSET = "port-offset";
     public static final String PRIORITY = "priority";
@@ -154,6 +160,7 @@ public class ModelDescriptionConstants {
     public static final String PROTOCOL = "protocol";
     public static final String PROXIES = "proxies";
     public static final String READ_ATTRIBUTE_OPERATION = "read-attribute";
+    public static final String READ_ATTRIBUTES_OPERATION = "read-attributes";
     public static final String READ_CHILDREN_NAMES_OPERATION = "read-children-names";
     public static final String READ_CHILDREN_TYPES_OPERATION = "read-children-types";
     public static final String READ_CHILDREN_RESOURCES_OPERATION = "read-children-resources";
@@ -181,6 +188,7 @@ public class ModelDescriptionConstants {
     public static final String ROLLED_BACK = "rolled-back";
     public static final String ROLLING_TO_SERVERS = "rolling-to-servers";
     public static final String ROLLOUT_PLAN = "rollout-plan";
+    public static final String ROWS = "rows";
     public static final String RUNNING_SERVER = "server";
     public static final String RUNTIME_NAME = "runtime-name";
     public static final String RUNTIME_UPDATE_SKIPPED = "runtime-update-skipped";
@@ -188,6 +196,7 @@ public class ModelDescriptionConstants {
     public static final String SCHEMA_LOCATIONS = "schema-locations";
     public static final String SEARCH_CREDENTIAL = "search-credential";
     public static final String SEARCH_DN = "search-dn";
+    public static final String SEARCH_TIME_LIMIT = "search-time-limit";
     public static final String SECRET = "secret";
     public static final String SECURE_PORT = "secure-port";
     public static final String SECURITY_REALM = "security-realm";
@@ -199,6 +208,7 @@ public class ModelDescriptionConstants {
     public static final String SERVER_GROUPS = "server-groups";
     public static final String SERVER_IDENTITIES = "server-identities";
     public static final String SERVER_OPERATIONS = "server-operations";
+    public static final String SERVER_RESPONSE_TIMES = "server-response-times";
     public static final String OPERATION_REQUIRES_RELOAD = "operation-requires-reload";
     public static final String OPERATION_REQUIRES_RESTART = "operation-requires-restart";
     public static final String SHUTDOWN = "shutdown";
@@ -229,6 +239,7 @@ public class ModelDescriptionConstants {
     public static final String USERNAME_ATTRIBUTE = "username-attribute";
     public static final String USERS = "users";
     public static final String VALUE = "value";
+    public static final String VALUES = "values";
     public static final String VALUE_TYPE = "value-type";
     public static final String WRITE_ATTRIBUTE_OPERATION = "write-attribute";
 
@@ -79,6 +79,16 @@ public final class CommonProviders {
         }
     };
 
+    /**
+     * Provider for a security realm and the metrics of its authentication.
+     */
+    public static final DescriptionProvider SECURITY_REALM_PROVIDER = new DescriptionProvider() {
+        @Override
+        public ModelNode getModelDescription(final Locale locale) {
+            return ManagementDescription.getSecurityRealmDescription(locale);
+        }
+    };
+
 
     /**
      * Provider for a sub-model that names a management interface and specifies the criteria.
@@ -170,6 +180,20 @@ public final class CommonProviders {
         }
     };
 
+    public static final DescriptionProvider READ_ATTRIBUTES_PROVIDER = new DescriptionProvider() {
+        @Override
+        public ModelNode getModelDescription(Locale locale) {
+            return GlobalDescriptions.getReadAttributesOperationDescription(locale);
+        }
+    };
+
+    public static final DescriptionProvider READ_RESOURCE_METRICS_PROVIDER = new DescriptionProvider() {
+        @Override
+        public ModelNode getModelDescription(Locale locale) {
+            return GlobalDescriptions.getReadResourceMetricsOperationDescription(locale);
+        }
+    };
+
     public static final DescriptionProvider READ_CHILDREN_TYPES_PROVIDER = new DescriptionProvider() {
         @Override
         public ModelNode getModelDescription(Locale locale) {
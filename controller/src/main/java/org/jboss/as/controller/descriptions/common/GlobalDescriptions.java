@@ -29,12 +29,14 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NIL
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATIONS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTES_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_CHILDREN_RESOURCES_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_OPERATION_DESCRIPTION_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_OPERATION_NAMES_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_DESCRIPTION_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_METRICS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RECURSIVE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REPLY_PROPERTIES;
@@ -101,6 +103,24 @@ public class GlobalDescriptions {
         return node;
     }
 
+    public static ModelNode getReadAttributesOperationDescription(Locale locale) {
+        ResourceBundle bundle = getResourceBundle(locale);
+
+        ModelNode node = new ModelNode();
+        node.get(OPERATION_NAME).set(READ_ATTRIBUTES_OPERATION);
+        node.get(DESCRIPTION).set(bundle.getString("global.read-attributes"));
+
+        node.get(REQUEST_PROPERTIES, NAMES, TYPE).set(ModelType.LIST);
+        node.get(REQUEST_PROPERTIES, NAMES, DESCRIPTION).set(bundle.getString("global.read-attributes.names"));
+        node.get(REQUEST_PROPERTIES, NAMES, NILLABLE).set(false);
+        node.get(REQUEST_PROPERTIES, NAMES, VALUE_TYPE).set(ModelType.STRING);
+        node.get(REPLY_PROPERTIES, TYPE).set(ModelType.OBJECT);
+        node.get(REPLY_PROPERTIES, DESCRIPTION).set(bundle.getString("global.read-attributes.reply"));
+        node.protect();
+
+        return node;
+    }
+
     public static ModelNode getWriteAttributeOperationDescription(Locale locale) {
         ResourceBundle bundle = getResourceBundle(locale);
 
@@ -153,6 +173,21 @@ public class GlobalDescriptions {
         return node;
     }
 
+    public static ModelNode getReadResourceMetricsOperationDescription(Locale locale) {
+        ResourceBundle bundle = getResourceBundle(locale);
+
+        ModelNode node = new ModelNode();
+        node.get(OPERATION_NAME).set(READ_RESOURCE_METRICS);
+        node.get(DESCRIPTION).set(bundle.getString("global.read-resource-metrics"));
+
+        node.get(REPLY_PROPERTIES, TYPE).set(ModelType.LIST);
+        node.get(REPLY_PROPERTIES, DESCRIPTION).set(bundle.getString("global.read-resource-metrics.reply"));
+        node.get(REPLY_PROPERTIES, VALUE_TYPE).set(ModelType.OBJECT);
+
+        node.protect();
+        return node;
+    }
+
     public static ModelNode getReadChildrenResourcesOperationDescription(Locale locale) {
         ResourceBundle bundle = getResourceBundle(locale);
 
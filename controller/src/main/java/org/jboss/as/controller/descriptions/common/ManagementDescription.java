@@ -23,6 +23,9 @@ package org.jboss.as.controller.descriptions.common;
 
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTHENTICATION_CACHE_HIT_COUNT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTHENTICATION_CACHE_MISS_COUNT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTHENTICATION_TIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HEAD_COMMENT_ALLOWED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INTERFACE;
@@ -84,6 +87,24 @@ public class ManagementDescription {
         return root;
     }
 
+    public static ModelNode getSecurityRealmDescription(final Locale locale) {
+        final ResourceBundle bundle = getResourceBundle(locale);
+        final ModelNode root = new ModelNode();
+        root.get(DESCRIPTION).set(bundle.getString("server.management.security-realm"));
+        root.get(ATTRIBUTES, AUTHENTICATION_TIME, TYPE).set(ModelType.OBJECT);
+        root.get(ATTRIBUTES, AUTHENTICATION_TIME, DESCRIPTION).set(bundle.getString("server.management.security-realm.authentication-time"));
+        root.get(ATTRIBUTES, AUTHENTICATION_TIME, REQUIRED).set(false);
+        root.get(ATTRIBUTES, AUTHENTICATION_CACHE_HIT_COUNT, TYPE).set(ModelType.LONG);
+        root.get(ATTRIBUTES, AUTHENTICATION_CACHE_HIT_COUNT, DESCRIPTION).set(bundle.getString("server.management.security-realm.authentication-cache-hit-count"));
+        root.get(ATTRIBUTES, AUTHENTICATION_CACHE_HIT_COUNT, REQUIRED).set(false);
+        root.get(ATTRIBUTES, AUTHENTICATION_CACHE_MISS_COUNT, TYPE).set(ModelType.LONG);
+        root.get(ATTRIBUTES, AUTHENTICATION_CACHE_MISS_COUNT, DESCRIPTION).set(bundle.getString("server.management.security-realm.authentication-cache-miss-count"));
+        root.get(ATTRIBUTES, AUTHENTICATION_CACHE_MISS_COUNT, REQUIRED).set(false);
+        root.get(HEAD_COMMENT_ALLOWED).set(true);
+        root.get(TAIL_COMMENT_ALLOWED).set(false);
+        return root;
+    }
+
     public static ModelNode getAddNativeManagementDescription(final Locale locale) {
         final ResourceBundle bundle = getResourceBundle(locale);
         final ModelNode op = new ModelNode();
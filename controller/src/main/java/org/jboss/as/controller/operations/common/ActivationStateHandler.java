@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.operations.common;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * Runtime attribute handler reporting whether the service a subsystem installs on demand has been activated yet.
+ * Subsystems which register their heavy services in {@link ServiceController.Mode#ON_DEMAND} mode use this to show
+ * whether they are still dormant or have been brought up by a deployment or a lookup.
+ */
+public class ActivationStateHandler implements OperationStepHandler {
+
+    public static final String ATTRIBUTE_NAME = "activation-state";
+
+    public static final String ACTIVE = "active";
+    public static final String ACTIVATING = "activating";
+    public static final String DORMANT = "dormant";
+    public static final String FAILED = "failed";
+
+    private final ServiceName serviceName;
+
+    /**
+     * Create a handler reporting on the given service.
+     *
+     * @param serviceName the name of the service whose activation the attribute reflects
+     */
+    public ActivationStateHandler(final ServiceName serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        context.addStep(new OperationStepHandler() {
+            @Override
+            public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+                final ServiceController<?> controller = context.getServiceRegistry(false).getService(serviceName);
+                if (controller != null) {
+                    context.getResult().set(getActivationState(controller));
+                }
+                context.completeStep();
+            }
+        }, OperationContext.Stage.RUNTIME);
+        context.completeStep();
+    }
+
+    static String getActivationState(final ServiceController<?> controller) {
+        switch (controller.getState()) {
+            case UP:
+                return ACTIVE;
+            case STARTING:
+                return ACTIVATING;
+            case START_FAILED:
+                return FAILED;
+            default:
+                return DORMANT;
+        }
+    }
+}
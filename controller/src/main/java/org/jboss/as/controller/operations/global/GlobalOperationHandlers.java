@@ -22,6 +22,7 @@
 package org.jboss.as.controller.operations.global;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CHILDREN;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CHILD_TYPE;
@@ -31,20 +32,27 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INH
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LOCALE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MODEL_DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAMES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATIONS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROXIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RECURSIVE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROWS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STORAGE;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -81,6 +89,8 @@ public class GlobalOperationHandlers {
     public static final OperationStepHandler READ_ATTRIBUTE = new ReadAttributeHandler();
     public static final OperationStepHandler READ_CHILDREN_NAMES = new ReadChildrenNamesOperationHandler();
     public static final OperationStepHandler READ_CHILDREN_RESOURCES = new ReadChildrenResourcesOperationHandler();
+    public static final OperationStepHandler READ_RESOURCE_METRICS = new ReadResourceMetricsHandler();
+    public static final OperationStepHandler READ_ATTRIBUTES = new ReadAttributesHandler();
     public static final OperationStepHandler WRITE_ATTRIBUTE = new WriteAttributeHandler();
     public static final OperationStepHandler VALIDATE_ADDRESS = new OperationStepHandler() {
         @Override
@@ -284,7 +294,10 @@ public class GlobalOperationHandlers {
         public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
 
             Map<String, ModelNode> sortedAttributes = new TreeMap<String, ModelNode>();
-            Map<String, ModelNode> sortedChildren = new TreeMap<String, ModelNode>();
+            // Child read-resource responses by child type. These are only referenced here and copied into the
+            // result once, rather than assembled into an intermediate node that would then be copied again
+            Map<String, Map<String, ModelNode>> sortedChildren = new TreeMap<String, Map<String, ModelNode>>();
+            Map<String, ModelNode> sortedDirectChildren = new TreeMap<String, ModelNode>();
             boolean failed = false;
             for (Map.Entry<String, ModelNode> entry : otherAttributes.entrySet()) {
                 ModelNode value = entry.getValue();
@@ -301,12 +314,12 @@ public class GlobalOperationHandlers {
                     PathElement path = entry.getKey();
                     ModelNode value = entry.getValue();
                     if (!value.has(FAILURE_DESCRIPTION)) {
-                        ModelNode childTypeNode = sortedChildren.get(path.getKey());
-                        if (childTypeNode == null) {
-                            childTypeNode = new ModelNode();
-                            sortedChildren.put(path.getKey(), childTypeNode);
+                        Map<String, ModelNode> childTypeResponses = sortedChildren.get(path.getKey());
+                        if (childTypeResponses == null) {
+                            childTypeResponses = new LinkedHashMap<String, ModelNode>();
+                            sortedChildren.put(path.getKey(), childTypeResponses);
                         }
-                        childTypeNode.get(path.getValue()).set(value.get(RESULT));
+                        childTypeResponses.put(path.getValue(), value);
                     } else if (!failed && value.hasDefined(FAILURE_DESCRIPTION)) {
                         context.getFailureDescription().set(value.get(FAILURE_DESCRIPTION));
                         failed = true;
@@ -318,7 +331,9 @@ public class GlobalOperationHandlers {
                     sortedAttributes.put(simpleAttribute.getKey(), simpleAttribute.getValue());
                 }
                 for (Map.Entry<String, ModelNode> directChild : directChildren.entrySet()) {
-                    sortedChildren.put(directChild.getKey(), directChild.getValue());
+                    // As before, the direct children of a type replace any child responses of that type
+                    sortedChildren.remove(directChild.getKey());
+                    sortedDirectChildren.put(directChild.getKey(), directChild.getValue());
                 }
                 for (Map.Entry<String, ModelNode> metric : metrics.entrySet()) {
                     ModelNode value = metric.getValue();
@@ -335,11 +350,278 @@ public class GlobalOperationHandlers {
                     result.get(entry.getKey()).set(entry.getValue());
                 }
 
-                for (Map.Entry<String, ModelNode> entry : sortedChildren.entrySet()) {
-                    result.get(entry.getKey()).set(entry.getValue());
+                final Set<String> childTypes = new TreeSet<String>(sortedChildren.keySet());
+                childTypes.addAll(sortedDirectChildren.keySet());
+                for (String childType : childTypes) {
+                    final ModelNode directChildNode = sortedDirectChildren.get(childType);
+                    if (directChildNode != null) {
+                        result.get(childType).set(directChildNode);
+                        continue;
+                    }
+                    final ModelNode childTypeNode = result.get(childType);
+                    for (Map.Entry<String, ModelNode> child : sortedChildren.get(childType).entrySet()) {
+                        final ModelNode childResponse = child.getValue();
+                        childTypeNode.get(child.getKey()).set(childResponse.get(RESULT));
+                        // The child's result now only needs to live in our result; let it be collected
+                        // rather than held by the child step until the whole operation completes
+                        childResponse.get(RESULT).clear();
+                    }
+                }
+            }
+
+            context.completeStep();
+        }
+    }
+
+    /**
+     * {@link org.jboss.as.controller.OperationStepHandler} reading every metric of the resource at the operation address and
+     * of all its descendants in one operation. The result is a list with one entry per metric holding its "address",
+     * "name" and "value"; metrics which are undefined or fail to read are left out. Remote resources are not included.
+     * The resources are walked in the read-only root resource, so no part of the model is copied.
+     */
+    public static class ReadResourceMetricsHandler implements OperationStepHandler {
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final PathAddress address = PathAddress.pathAddress(operation.get(OP_ADDR));
+            final ImmutableManagementResourceRegistration registry = context.getResourceRegistration();
+            // Walk the read-only root, as readResource would copy the whole subtree
+            Resource resource = context.getRootResource();
+            for (final PathElement element : address) {
+                resource = resource.requireChild(element);
+            }
+
+            final List<MetricResponse> responses = new ArrayList<MetricResponse>();
+            // The metric read handlers add runtime steps of their own, so assemble once those have run
+            context.addStep(new ReadResourceMetricsAssemblyHandler(responses), OperationContext.Stage.VERIFY);
+            if (registry != null) {
+                addMetricSteps(context, address, registry, resource, responses);
+            }
+            context.completeStep();
+        }
+
+        private void addMetricSteps(final OperationContext context, final PathAddress address, final ImmutableManagementResourceRegistration registry,
+                                    final Resource resource, final List<MetricResponse> responses) {
+            if (registry.isRemote() || resource.isProxy()) {
+                return;
+            }
+            for (final String attributeName : registry.getAttributeNames(PathAddress.EMPTY_ADDRESS)) {
+                final AttributeAccess access = registry.getAttributeAccess(PathAddress.EMPTY_ADDRESS, attributeName);
+                if (access == null || access.getAccessType() != AccessType.METRIC || access.getReadHandler() == null) {
+                    continue;
+                }
+                final ModelNode attributeOperation = new ModelNode();
+                attributeOperation.get(OP_ADDR).set(address.toModelNode());
+                attributeOperation.get(OP).set(READ_ATTRIBUTE_OPERATION);
+                attributeOperation.get(NAME).set(attributeName);
+
+                final ModelNode attrResponse = new ModelNode();
+                responses.add(new MetricResponse(address, attributeName, attrResponse));
+                context.addStep(attrResponse, attributeOperation, access.getReadHandler(), OperationContext.Stage.IMMEDIATE);
+            }
+            for (final String childType : resource.getChildTypes()) {
+                for (final Resource.ResourceEntry child : resource.getChildren(childType)) {
+                    final PathElement element = child.getPathElement();
+                    final ImmutableManagementResourceRegistration childRegistry = registry.getSubModel(PathAddress.pathAddress(element));
+                    if (childRegistry != null) {
+                        addMetricSteps(context, address.append(element), childRegistry, child, responses);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class MetricResponse {
+
+        private final PathAddress address;
+        private final String name;
+        private final ModelNode response;
+
+        private MetricResponse(final PathAddress address, final String name, final ModelNode response) {
+            this.address = address;
+            this.name = name;
+            this.response = response;
+        }
+    }
+
+    /**
+     * Assembles the response to a read-resource-metrics request from the read-attribute responses gathered by earlier steps.
+     */
+    private static class ReadResourceMetricsAssemblyHandler implements OperationStepHandler {
+
+        private final List<MetricResponse> responses;
+
+        private ReadResourceMetricsAssemblyHandler(final List<MetricResponse> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final ModelNode result = context.getResult();
+            result.setEmptyList();
+            for (final MetricResponse metric : responses) {
+                // As with read-resource, metric failures are ignored
+                if (!metric.response.has(FAILURE_DESCRIPTION) && metric.response.hasDefined(RESULT)) {
+                    final ModelNode entry = result.add();
+                    entry.get(ADDRESS).set(metric.address.toModelNode());
+                    entry.get(NAME).set(metric.name);
+                    entry.get(VALUE).set(metric.response.get(RESULT));
+                }
+            }
+            context.completeStep();
+        }
+    }
+
+    /**
+     * {@link org.jboss.as.controller.OperationStepHandler} reading a list of attributes from every resource matching the
+     * operation address, which may contain wildcards (e.g. the {@code subsystem=web} of every {@code deployment=*}). The
+     * required request parameter "names" lists the attribute names. The address is resolved in a single pass over the read-only root
+     * resource, so no part of the model is copied apart from the values returned. The result holds the "names" followed
+     * by one entry in "rows" per matching resource, with its "address" and the "values" in the order of the names.
+     * Values which are not defined, or whose read handler fails, are left undefined. Remote resources are not included.
+     */
+    public static class ReadAttributesHandler implements OperationStepHandler {
+
+        private final ParametersValidator validator = new ParametersValidator();
+
+        public ReadAttributesHandler() {
+            validator.registerValidator(NAMES, new ModelTypeValidator(ModelType.LIST));
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            validator.validate(operation);
+            final PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+            final List<String> names = new ArrayList<String>();
+            for (final ModelNode name : operation.require(NAMES).asList()) {
+                names.add(name.asString());
+            }
+
+            final ModelNode result = context.getResult();
+            result.get(NAMES).setEmptyList();
+            for (final String name : names) {
+                result.get(NAMES).add(name);
+            }
+            final ModelNode rows = result.get(ROWS).setEmptyList();
+            final List<AttributeResponse> responses = new ArrayList<AttributeResponse>();
+            // Trick the context to give us the model-root, which is resolved against instead of reading each level
+            context.addStep(new ModelNode(), AbstractMultiTargetHandler.FAKE_OPERATION, new OperationStepHandler() {
+                @Override
+                public void execute(final OperationContext context, final ModelNode ignored) throws OperationFailedException {
+                    addRows(context, address, PathAddress.EMPTY_ADDRESS, context.getResourceRegistration(), context.getRootResource(),
+                            names, rows, responses);
+                    context.completeStep();
+                }
+            }, OperationContext.Stage.IMMEDIATE);
+            // Attributes with a read handler may add runtime steps of their own, so fill them in once those have run
+            context.addStep(new ReadAttributesAssemblyHandler(responses), OperationContext.Stage.VERIFY);
+            context.completeStep();
+        }
+
+        private void addRows(final OperationContext context, final PathAddress pattern, final PathAddress base,
+                             final ImmutableManagementResourceRegistration registry, final Resource resource,
+                             final List<String> names, final ModelNode rows, final List<AttributeResponse> responses) {
+            if (registry == null || registry.isRemote() || resource.isProxy()) {
+                return;
+            }
+            if (base.size() == pattern.size()) {
+                addRow(context, base, registry, resource, names, rows, responses);
+                return;
+            }
+            final PathElement element = pattern.getElement(base.size());
+            if (element.isMultiTarget()) {
+                final String childType = element.getKey().equals("*") ? null : element.getKey();
+                for (final Map.Entry<String, Set<String>> entry : getChildAddresses(registry, resource, childType).entrySet()) {
+                    final Set<String> children = entry.getValue();
+                    if (element.isWildcard()) {
+                        for (final String child : children) {
+                            addChildRows(context, pattern, base, PathElement.pathElement(entry.getKey(), child), registry, resource, names, rows, responses);
+                        }
+                    } else {
+                        for (final String segment : element.getSegments()) {
+                            if (children.contains(segment)) {
+                                addChildRows(context, pattern, base, PathElement.pathElement(entry.getKey(), segment), registry, resource, names, rows, responses);
+                            }
+                        }
+                    }
                 }
+            } else {
+                addChildRows(context, pattern, base, element, registry, resource, names, rows, responses);
             }
+        }
 
+        private void addChildRows(final OperationContext context, final PathAddress pattern, final PathAddress base, final PathElement element,
+                                  final ImmutableManagementResourceRegistration registry, final Resource resource,
+                                  final List<String> names, final ModelNode rows, final List<AttributeResponse> responses) {
+            final ImmutableManagementResourceRegistration childRegistry = registry.getSubModel(PathAddress.pathAddress(element));
+            Resource child = resource.getChild(element);
+            if (child == null) {
+                if (childRegistry == null || !childRegistry.isRuntimeOnly()) {
+                    return;
+                }
+                // Runtime-only resources have no model, their attributes come from read handlers
+                child = Resource.Factory.create();
+            }
+            addRows(context, pattern, base.append(element), childRegistry, child, names, rows, responses);
+        }
+
+        private void addRow(final OperationContext context, final PathAddress address, final ImmutableManagementResourceRegistration registry,
+                            final Resource resource, final List<String> names, final ModelNode rows, final List<AttributeResponse> responses) {
+            final ModelNode row = rows.add();
+            row.get(ADDRESS).set(address.toModelNode());
+            final ModelNode values = row.get(VALUES).setEmptyList();
+            final ModelNode model = resource.getModel();
+            for (final String name : names) {
+                final ModelNode value = values.add();
+                final AttributeAccess access = registry.getAttributeAccess(PathAddress.EMPTY_ADDRESS, name);
+                if (access == null || access.getReadHandler() == null) {
+                    // The root resource is shared, so only look at the model without creating missing nodes
+                    if (model.has(name)) {
+                        value.set(model.get(name));
+                    }
+                } else {
+                    final ModelNode attributeOperation = new ModelNode();
+                    attributeOperation.get(OP_ADDR).set(address.toModelNode());
+                    attributeOperation.get(OP).set(READ_ATTRIBUTE_OPERATION);
+                    attributeOperation.get(NAME).set(name);
+
+                    final ModelNode attrResponse = new ModelNode();
+                    responses.add(new AttributeResponse(value, attrResponse));
+                    context.addStep(attrResponse, attributeOperation, access.getReadHandler(), OperationContext.Stage.IMMEDIATE);
+                }
+            }
+        }
+    }
+
+    private static final class AttributeResponse {
+
+        private final ModelNode value;
+        private final ModelNode response;
+
+        private AttributeResponse(final ModelNode value, final ModelNode response) {
+            this.value = value;
+            this.response = response;
+        }
+    }
+
+    /**
+     * Fills in the values of a read-attributes request which came from read handlers run by earlier steps.
+     */
+    private static class ReadAttributesAssemblyHandler implements OperationStepHandler {
+
+        private final List<AttributeResponse> responses;
+
+        private ReadAttributesAssemblyHandler(final List<AttributeResponse> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            for (final AttributeResponse attribute : responses) {
+                if (!attribute.response.has(FAILURE_DESCRIPTION) && attribute.response.hasDefined(RESULT)) {
+                    attribute.value.set(attribute.response.get(RESULT));
+                }
+            }
             context.completeStep();
         }
     }
@@ -525,7 +807,7 @@ public class GlobalOperationHandlers {
                 PathElement path = entry.getKey();
                 ModelNode value = entry.getValue();
                 if (!value.has(FAILURE_DESCRIPTION)) {
-                    sortedChildren.put(path.getValue(), value.get(RESULT));
+                    sortedChildren.put(path.getValue(), value);
                 } else if (!failed && value.hasDefined(FAILURE_DESCRIPTION)) {
                     context.getFailureDescription().set(value.get(FAILURE_DESCRIPTION));
                     failed = true;
@@ -536,7 +818,8 @@ public class GlobalOperationHandlers {
                 result.setEmptyObject();
 
                 for (Map.Entry<String, ModelNode> entry : sortedChildren.entrySet()) {
-                    result.get(entry.getKey()).set(entry.getValue());
+                    result.get(entry.getKey()).set(entry.getValue().get(RESULT));
+                    entry.getValue().get(RESULT).clear();
                 }
             }
 
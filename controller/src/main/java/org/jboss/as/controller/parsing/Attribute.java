@@ -42,6 +42,7 @@ public enum Attribute {
     AUTO_START("auto-start"),
     BASE_DN("base-dn"),
     BOOT_TIME("boot-time"),
+    CACHE_TTL("cache-ttl"),
     CONNECTION("connection"),
     DEFAULT_INTERFACE("default-interface"),
     DEBUG_ENABLED("debug-enabled"),
@@ -64,6 +65,7 @@ public enum Attribute {
     PASSWORD("password"),
     PATH("path"),
     PATTERN("pattern"),
+    PLAIN_TEXT("plain-text"),
     PORT("port"),
     PORT_OFFSET("port-offset"),
     PREFIX("prefix"),
@@ -78,6 +80,7 @@ public enum Attribute {
     SCAN_INTERVAL("scan-interval"),
     SEARCH_CREDENTIAL("search-credential"),
     SEARCH_DN("search-dn"),
+    SEARCH_TIME_LIMIT("search-time-limit"),
     SECURE_PORT("secure-port"),
     SECURITY_REALM("security-realm"),
     SHA1("sha1"),
@@ -28,6 +28,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ANY
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ARCHIVE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTHENTICATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BASE_DN;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CACHE_TTL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BOOT_TIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONNECTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONNECTIONS;
@@ -61,6 +62,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PAS
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PATH;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PORT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PORT_OFFSET;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PLAIN_TEXT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROPERTIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROTOCOL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RECURSIVE;
@@ -70,6 +72,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SCH
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SCHEMA_LOCATIONS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SEARCH_CREDENTIAL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SEARCH_DN;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SEARCH_TIME_LIMIT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SECRET;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SECURE_PORT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SECURITY_REALM;
@@ -492,7 +495,7 @@ public abstract class CommonXml implements XMLElementReader<List<ModelNode>>, XM
         add.get(SEARCH_DN).set(searchDN);
         add.get(SEARCH_CREDENTIAL).set(searchCredential);
         if (initialContextFactory != null) {
-            add.get(INITIAL_CONTEXT_FACTORY).set(INITIAL_CONTEXT_FACTORY);
+            add.get(INITIAL_CONTEXT_FACTORY).set(initialContextFactory);
         }
 
         list.add(add);
@@ -768,6 +771,8 @@ public abstract class CommonXml implements XMLElementReader<List<ModelNode>>, XM
         String usernameAttribute = null;
         String recursive = null;
         String userDN = null;
+        String searchTimeLimit = null;
+        String cacheTtl = null;
 
         final int count = reader.getAttributeCount();
         for (int i = 0; i < count; i++) {
@@ -797,6 +802,14 @@ public abstract class CommonXml implements XMLElementReader<List<ModelNode>>, XM
                         userDN = value;
                         break;
                     }
+                    case SEARCH_TIME_LIMIT: {
+                        searchTimeLimit = value;
+                        break;
+                    }
+                    case CACHE_TTL: {
+                        cacheTtl = value;
+                        break;
+                    }
                     default: {
                         throw unexpectedAttribute(reader, i);
                     }
@@ -813,6 +826,8 @@ public abstract class CommonXml implements XMLElementReader<List<ModelNode>>, XM
             missingAttributes.add(Attribute.USERNAME_ATTRIBUTE);
         // recursive is optional with a default of false
         // userDN is optional with a default of "dn"
+        // searchTimeLimit is optional with a default of 10000
+        // cacheTtl is optional with a default of 0, verified credentials are not cached
 
         if (missingAttributes.size() > 0)
             throw missingRequired(reader, missingAttributes);
@@ -828,6 +843,12 @@ public abstract class CommonXml implements XMLElementReader<List<ModelNode>>, XM
         if (userDN != null) {
             ldapAuthentication.get(USER_DN).set(userDN);
         }
+        if (searchTimeLimit != null) {
+            ldapAuthentication.get(SEARCH_TIME_LIMIT).set(Integer.parseInt(searchTimeLimit));
+        }
+        if (cacheTtl != null) {
+            ldapAuthentication.get(CACHE_TTL).set(Long.parseLong(cacheTtl));
+        }
     }
 
     protected void parsePropertiesAuthentication(final XMLExtendedStreamReader reader, final ModelNode authentication) throws XMLStreamException {
@@ -835,6 +856,7 @@ public abstract class CommonXml implements XMLElementReader<List<ModelNode>>, XM
 
         String path = null;
         String relativeTo = null;
+        String plainText = null;
 
         final int count = reader.getAttributeCount();
         for (int i = 0; i < count; i++) {
@@ -851,6 +873,10 @@ public abstract class CommonXml implements XMLElementReader<List<ModelNode>>, XM
                         relativeTo = value;
                         break;
                     }
+                    case PLAIN_TEXT: {
+                        plainText = value;
+                        break;
+                    }
                     default: {
                         throw unexpectedAttribute(reader, i);
                     }
@@ -867,6 +893,9 @@ public abstract class CommonXml implements XMLElementReader<List<ModelNode>>, XM
         if (relativeTo != null) {
             properties.get(RELATIVE_TO).set(relativeTo);
         }
+        if (plainText != null) {
+            properties.get(PLAIN_TEXT).set(Boolean.valueOf(plainText));
+        }
     }
 
     // The users element defines users within the domain model, it is a simple authentication for some out of the box users.
@@ -2384,6 +2413,12 @@ public abstract class CommonXml implements XMLElementReader<List<ModelNode>>, XM
                         if (userLdap.hasDefined(USER_DN)) {
                             writer.writeAttribute(Attribute.USER_DN.getLocalName(), userLdap.require(USER_DN).asString());
                         }
+                        if (userLdap.hasDefined(SEARCH_TIME_LIMIT)) {
+                            writer.writeAttribute(Attribute.SEARCH_TIME_LIMIT.getLocalName(), userLdap.require(SEARCH_TIME_LIMIT).asString());
+                        }
+                        if (userLdap.hasDefined(CACHE_TTL)) {
+                            writer.writeAttribute(Attribute.CACHE_TTL.getLocalName(), userLdap.require(CACHE_TTL).asString());
+                        }
                         writer.writeEndElement();
                     } else if (authentication.hasDefined(PROPERTIES)) {
                         ModelNode properties = authentication.require(PROPERTIES);
@@ -2392,6 +2427,9 @@ public abstract class CommonXml implements XMLElementReader<List<ModelNode>>, XM
                         if (properties.hasDefined(RELATIVE_TO)) {
                             writer.writeAttribute(Attribute.RELATIVE_TO.getLocalName(), properties.require(RELATIVE_TO).asString());
                         }
+                        if (properties.hasDefined(PLAIN_TEXT)) {
+                            writer.writeAttribute(Attribute.PLAIN_TEXT.getLocalName(), properties.require(PLAIN_TEXT).asString());
+                        }
 
                         writer.writeEndElement();
                     }
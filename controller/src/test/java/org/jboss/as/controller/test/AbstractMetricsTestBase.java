@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.test;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+
+import java.util.Locale;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.descriptions.DescriptionProvider;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Base class for tests of the global operations that read metrics. It sets up two servers, each with a http connector,
+ * with a {@code requests} metric on the servers and {@code active} and {@code undefined} metrics on the connectors.
+ */
+abstract class AbstractMetricsTestBase extends AbstractControllerTestBase {
+
+    static final DescriptionProvider NULL = new DescriptionProvider() {
+        public ModelNode getModelDescription(Locale locale) {
+            return new ModelNode();
+        }
+    };
+
+    @Override
+    DescriptionProvider getRootDescriptionProvider() {
+        return NULL;
+    }
+
+    @Override
+    void initModel(ManagementResourceRegistration root) {
+        root.registerOperationHandler("setup", new OperationStepHandler() {
+            @Override
+            public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                final ModelNode model = new ModelNode();
+                model.get("server", "one", "name").set("one");
+                model.get("server", "one", "connector", "http", "port").set(8080);
+                model.get("server", "two", "name").set("two");
+                model.get("server", "two", "connector", "http", "port").set(8180);
+
+                createModel(context, model);
+
+                context.completeStep();
+            }
+        }, NULL);
+
+        final ManagementResourceRegistration servers = root.registerSubModel(PathElement.pathElement("server"), NULL);
+        servers.registerMetric("requests", new ConstantMetricHandler(new ModelNode().set(10)));
+        final ManagementResourceRegistration connectors = servers.registerSubModel(PathElement.pathElement("connector"), NULL);
+        connectors.registerMetric("active", new ConstantMetricHandler(new ModelNode().set(3)));
+        connectors.registerMetric("undefined", new ConstantMetricHandler(new ModelNode()));
+    }
+
+    /**
+     * Gets the {@code key=value/key=value} form of the {@code address} of a result entry.
+     */
+    static String toKey(final ModelNode entry) {
+        final StringBuilder key = new StringBuilder();
+        for (PathElement element : PathAddress.pathAddress(entry.get(ADDRESS))) {
+            if (key.length() > 0) {
+                key.append('/');
+            }
+            key.append(element.getKey()).append('=').append(element.getValue());
+        }
+        return key.toString();
+    }
+
+    private static class ConstantMetricHandler implements OperationStepHandler {
+
+        private final ModelNode value;
+
+        private ConstantMetricHandler(final ModelNode value) {
+            this.value = value;
+        }
+
+        @Override
+        public void execute(final OperationContext context, final ModelNode operation) {
+            // Resolve at runtime, as real metric handlers do
+            context.addStep(new OperationStepHandler() {
+                @Override
+                public void execute(final OperationContext context, final ModelNode operation) {
+                    context.getResult().set(value);
+                    context.completeStep();
+                }
+            }, OperationContext.Stage.RUNTIME);
+            context.completeStep();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.controller.test;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAMES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTES_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROWS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUES;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.as.controller.operations.global.GlobalOperationHandlers;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of the read-attributes global operation.
+ */
+public class ReadAttributesTestCase extends AbstractMetricsTestBase {
+
+    @Test
+    public void testWildcardAddress() throws Exception {
+        final ModelNode address = new ModelNode();
+        address.add("server", "*");
+        address.add("connector", "http");
+        final ModelNode result = readAttributes(address, "port", "active", "missing");
+
+        Assert.assertEquals(3, result.get(NAMES).asList().size());
+        Assert.assertEquals("port", result.get(NAMES).get(0).asString());
+
+        final Map<String, ModelNode> rows = getRows(result);
+        Assert.assertEquals(rows.toString(), 2, rows.size());
+        final ModelNode one = rows.get("server=one/connector=http");
+        Assert.assertEquals(8080, one.get(0).asInt());
+        Assert.assertEquals(3, one.get(1).asInt());
+        Assert.assertFalse(one.get(2).isDefined());
+        final ModelNode two = rows.get("server=two/connector=http");
+        Assert.assertEquals(8180, two.get(0).asInt());
+        Assert.assertEquals(3, two.get(1).asInt());
+    }
+
+    @Test
+    public void testSegmentsAddress() throws Exception {
+        final ModelNode address = new ModelNode();
+        address.add("server", "[two,three]");
+        final ModelNode result = readAttributes(address, "name", "requests");
+
+        final Map<String, ModelNode> rows = getRows(result);
+        Assert.assertEquals(rows.toString(), 1, rows.size());
+        final ModelNode two = rows.get("server=two");
+        Assert.assertEquals("two", two.get(0).asString());
+        Assert.assertEquals(10, two.get(1).asInt());
+    }
+
+    @Test
+    public void testSingleAddress() throws Exception {
+        final ModelNode address = new ModelNode();
+        address.add("server", "one");
+        final Map<String, ModelNode> rows = getRows(readAttributes(address, "name"));
+
+        Assert.assertEquals(rows.toString(), 1, rows.size());
+        Assert.assertEquals("one", rows.get("server=one").get(0).asString());
+    }
+
+    @Test
+    public void testNoMatch() throws Exception {
+        final ModelNode address = new ModelNode();
+        address.add("server", "*");
+        address.add("connector", "https");
+        final ModelNode result = readAttributes(address, "port");
+
+        Assert.assertEquals(0, result.get(ROWS).asList().size());
+    }
+
+    private ModelNode readAttributes(final ModelNode address, final String... names) {
+        final ModelNode operation = new ModelNode();
+        operation.get(OP).set(READ_ATTRIBUTES_OPERATION);
+        operation.get(OP_ADDR).set(address);
+        for (String name : names) {
+            operation.get(NAMES).add(name);
+        }
+
+        final ModelNode response = getController().execute(operation, null, null, null);
+        Assert.assertEquals(response.toString(), SUCCESS, response.get(OUTCOME).asString());
+        return response.get(RESULT);
+    }
+
+    private static Map<String, ModelNode> getRows(final ModelNode result) {
+        final Map<String, ModelNode> rows = new HashMap<String, ModelNode>();
+        for (ModelNode row : result.get(ROWS).asList()) {
+            rows.put(toKey(row), row.get(VALUES));
+        }
+        return rows;
+    }
+
+    @Override
+    void initModel(ManagementResourceRegistration root) {
+        super.initModel(root);
+        root.registerOperationHandler(READ_ATTRIBUTES_OPERATION, GlobalOperationHandlers.READ_ATTRIBUTES, NULL, true);
+    }
+}
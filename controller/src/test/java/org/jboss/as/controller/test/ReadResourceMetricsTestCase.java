@@ -0,0 +1,93 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.controller.test;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_METRICS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.as.controller.operations.global.GlobalOperationHandlers;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of the read-resource-metrics global operation.
+ */
+public class ReadResourceMetricsTestCase extends AbstractMetricsTestBase {
+
+    @Test
+    public void testReadAllMetrics() throws Exception {
+        final Map<String, ModelNode> metrics = readMetrics(new ModelNode().setEmptyList());
+
+        Assert.assertEquals(metrics.toString(), 4, metrics.size());
+        Assert.assertEquals(10, metrics.get("server=one:requests").asInt());
+        Assert.assertEquals(10, metrics.get("server=two:requests").asInt());
+        Assert.assertEquals(3, metrics.get("server=one/connector=http:active").asInt());
+        Assert.assertEquals(3, metrics.get("server=two/connector=http:active").asInt());
+        // Undefined metrics are left out
+        Assert.assertFalse(metrics.containsKey("server=one/connector=http:undefined"));
+    }
+
+    @Test
+    public void testReadMetricsBelowAddress() throws Exception {
+        final ModelNode address = new ModelNode();
+        address.add("server", "two");
+        final Map<String, ModelNode> metrics = readMetrics(address);
+
+        Assert.assertEquals(metrics.toString(), 2, metrics.size());
+        Assert.assertTrue(metrics.containsKey("server=two:requests"));
+        Assert.assertTrue(metrics.containsKey("server=two/connector=http:active"));
+    }
+
+    private Map<String, ModelNode> readMetrics(final ModelNode address) {
+        final ModelNode operation = new ModelNode();
+        operation.get(OP).set(READ_RESOURCE_METRICS);
+        operation.get(OP_ADDR).set(address);
+
+        final ModelNode response = getController().execute(operation, null, null, null);
+        Assert.assertEquals(response.toString(), SUCCESS, response.get(OUTCOME).asString());
+
+        final Map<String, ModelNode> metrics = new HashMap<String, ModelNode>();
+        for (ModelNode metric : response.get(RESULT).asList()) {
+            metrics.put(toKey(metric) + ':' + metric.get(NAME).asString(), metric.get(VALUE));
+        }
+        return metrics;
+    }
+
+    @Override
+    void initModel(ManagementResourceRegistration root) {
+        super.initModel(root);
+        root.registerOperationHandler(READ_RESOURCE_METRICS, GlobalOperationHandlers.READ_RESOURCE_METRICS, NULL, true);
+    }
+}
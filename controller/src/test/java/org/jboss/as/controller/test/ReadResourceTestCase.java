@@ -0,0 +1,125 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.controller.test;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RECURSIVE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+
+import org.jboss.as.controller.operations.global.GlobalOperationHandlers;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of how the read-resource global operation assembles its result.
+ */
+public class ReadResourceTestCase extends AbstractMetricsTestBase {
+
+    @Test
+    public void testRecursive() throws Exception {
+        final ModelNode operation = createReadResource(new ModelNode().setEmptyList());
+        operation.get(RECURSIVE).set(true);
+        final ModelNode result = readResource(operation);
+
+        Assert.assertEquals(result.toString(), 1, result.keys().size());
+        Assert.assertEquals(2, result.get("server").keys().size());
+
+        final ModelNode one = result.get("server", "one");
+        Assert.assertEquals("one", one.get("name").asString());
+        Assert.assertEquals(8080, one.get("connector", "http", "port").asInt());
+        // Metrics are not read recursively
+        Assert.assertFalse(one.has("requests"));
+        Assert.assertFalse(one.get("connector", "http").has("active"));
+
+        final ModelNode two = result.get("server", "two");
+        Assert.assertEquals("two", two.get("name").asString());
+        Assert.assertEquals(8180, two.get("connector", "http", "port").asInt());
+    }
+
+    @Test
+    public void testIncludeRuntime() throws Exception {
+        final ModelNode address = new ModelNode();
+        address.add("server", "one");
+        final ModelNode operation = createReadResource(address);
+        operation.get(INCLUDE_RUNTIME).set(true);
+        final ModelNode result = readResource(operation);
+
+        Assert.assertEquals("one", result.get("name").asString());
+        Assert.assertEquals(10, result.get("requests").asInt());
+        // Children are only named, with an undefined value
+        Assert.assertTrue(result.get("connector").has("http"));
+        Assert.assertFalse(result.get("connector", "http").isDefined());
+    }
+
+    @Test
+    public void testWithoutRuntime() throws Exception {
+        final ModelNode address = new ModelNode();
+        address.add("server", "one");
+        address.add("connector", "http");
+        final ModelNode result = readResource(createReadResource(address));
+
+        Assert.assertEquals(result.toString(), 1, result.keys().size());
+        Assert.assertEquals(8080, result.get("port").asInt());
+    }
+
+    @Test
+    public void testIncludeRuntimeIgnoredWhenRecursive() throws Exception {
+        final ModelNode address = new ModelNode();
+        address.add("server", "two");
+        final ModelNode operation = createReadResource(address);
+        operation.get(RECURSIVE).set(true);
+        operation.get(INCLUDE_RUNTIME).set(true);
+        final ModelNode result = readResource(operation);
+
+        Assert.assertEquals("two", result.get("name").asString());
+        Assert.assertEquals(8180, result.get("connector", "http", "port").asInt());
+        Assert.assertFalse(result.has("requests"));
+        Assert.assertFalse(result.get("connector", "http").has("active"));
+    }
+
+    private static ModelNode createReadResource(final ModelNode address) {
+        final ModelNode operation = new ModelNode();
+        operation.get(OP).set(READ_RESOURCE_OPERATION);
+        operation.get(OP_ADDR).set(address);
+        return operation;
+    }
+
+    private ModelNode readResource(final ModelNode operation) {
+        final ModelNode response = getController().execute(operation, null, null, null);
+        Assert.assertEquals(response.toString(), SUCCESS, response.get(OUTCOME).asString());
+        return response.get(RESULT);
+    }
+
+    @Override
+    void initModel(ManagementResourceRegistration root) {
+        super.initModel(root);
+        root.registerOperationHandler(READ_RESOURCE_OPERATION, GlobalOperationHandlers.READ_RESOURCE, NULL, true);
+    }
+}
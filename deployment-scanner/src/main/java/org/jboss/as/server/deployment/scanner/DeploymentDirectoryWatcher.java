@@ -0,0 +1,241 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment.scanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks filesystem change events for a deployment directory and all of its subdirectories
+ * (including exploded deployment content) using the platform {@code java.nio.file.WatchService}.
+ * <p>
+ * The build targets Java 6, so the {@code java.nio.file} API is only ever used reflectively. Check
+ * {@link #isAvailable()} before creating a watcher; if it returns {@code false} the deployment directory
+ * can only be polled.
+ */
+final class DeploymentDirectoryWatcher {
+
+    private static final Api API = Api.load();
+
+    private final Object root;
+    private final Object watchService;
+    private final Map<Object, Object> keys = new HashMap<Object, Object>();
+
+    DeploymentDirectoryWatcher(final File root) throws IOException {
+        if (API == null) {
+            throw new IOException("Filesystem watch is not supported by this VM");
+        }
+        this.root = API.invoke(API.toPath, root);
+        this.watchService = API.invoke(API.newWatchService, API.invoke(API.getFileSystem, this.root));
+        try {
+            registerAll(root);
+        } catch (IOException e) {
+            close();
+            throw e;
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Whether the running VM provides the {@code java.nio.file} watch API.
+     *
+     * @return {@code true} if a watcher can be created
+     */
+    static boolean isAvailable() {
+        return API != null;
+    }
+
+    /**
+     * Drains all currently pending change events without blocking, registering any newly
+     * created directories so changes beneath them are also reported.
+     *
+     * @return {@code true} if any event that may affect the outcome of a scan was seen
+     * @throws IOException if the deployment directory itself can no longer be watched
+     */
+    boolean pollChanges() throws IOException {
+        boolean changed = false;
+        Object key;
+        while ((key = nextKey()) != null) {
+            final Object dir = keys.get(key);
+            for (Object event : (List<?>) API.invoke(API.pollEvents, key)) {
+                final Object kind = API.invoke(API.kind, event);
+                if (kind == API.overflow || dir == null) {
+                    // Events were lost; only a full scan can tell what happened
+                    changed = true;
+                    continue;
+                }
+                final Object child = API.invoke(API.resolve, dir, API.invoke(API.context, event));
+                if (kind == API.entryCreate) {
+                    final File file = (File) API.invoke(API.toFile, child);
+                    if (file.isDirectory()) {
+                        try {
+                            registerAll(file);
+                        } catch (IOException e) {
+                            // The directory went away again before we could watch it
+                        }
+                    }
+                }
+                if (!isScannerMarker(API.invoke(API.getFileName, child).toString(), kind == API.entryDelete)) {
+                    changed = true;
+                }
+            }
+            if (!((Boolean) API.invoke(API.reset, key)).booleanValue()) {
+                keys.remove(key);
+                if (root.equals(dir)) {
+                    throw new IOException(root + " is no longer accessible");
+                }
+            }
+        }
+        return changed;
+    }
+
+    private Object nextKey() throws IOException {
+        try {
+            return API.invoke(API.poll, watchService);
+        } catch (IllegalStateException e) {
+            // ClosedWatchServiceException; concurrently closed as the scanner was stopped or reconfigured
+            return null;
+        }
+    }
+
+    void close() {
+        try {
+            API.invoke(API.close, watchService);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void registerAll(final File dir) throws IOException {
+        final Object path = API.invoke(API.toPath, dir);
+        keys.put(API.invoke(API.register, path, watchService, API.kinds), path);
+        final File[] children = dir.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                if (child.isDirectory()) {
+                    registerAll(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Markers written by the scanner itself; the scanner's own changes to them never require another scan. Removing a
+     * {@code .deployed} or {@code .failed} marker is how a user asks for an undeploy or a retry, so that still counts.
+     */
+    private static boolean isScannerMarker(final String fileName, final boolean deleted) {
+        if (fileName.endsWith(FileSystemDeploymentService.DEPLOYED) || fileName.endsWith(FileSystemDeploymentService.FAILED_DEPLOY)) {
+            return !deleted;
+        }
+        return fileName.endsWith(FileSystemDeploymentService.DEPLOYING)
+                || fileName.endsWith(FileSystemDeploymentService.UNDEPLOYING)
+                || fileName.endsWith(FileSystemDeploymentService.UNDEPLOYED)
+                || fileName.endsWith(FileSystemDeploymentService.PENDING);
+    }
+
+    /** The reflectively resolved parts of the {@code java.nio.file} API a watcher uses */
+    private static final class Api {
+        private Method toPath;
+        private Method getFileSystem;
+        private Method newWatchService;
+        private Method register;
+        private Method poll;
+        private Method close;
+        private Method pollEvents;
+        private Method reset;
+        private Method kind;
+        private Method context;
+        private Method resolve;
+        private Method toFile;
+        private Method getFileName;
+        private Object entryCreate;
+        private Object entryDelete;
+        private Object overflow;
+        private Object kinds;
+
+        private static Api load() {
+            try {
+                final ClassLoader loader = File.class.getClassLoader();
+                final Class<?> path = Class.forName("java.nio.file.Path", false, loader);
+                final Class<?> fileSystem = Class.forName("java.nio.file.FileSystem", false, loader);
+                final Class<?> watchService = Class.forName("java.nio.file.WatchService", false, loader);
+                final Class<?> watchKey = Class.forName("java.nio.file.WatchKey", false, loader);
+                final Class<?> watchEvent = Class.forName("java.nio.file.WatchEvent", false, loader);
+                final Class<?> kind = Class.forName("java.nio.file.WatchEvent$Kind", false, loader);
+                final Class<?> standardKinds = Class.forName("java.nio.file.StandardWatchEventKinds", false, loader);
+
+                final Api api = new Api();
+                api.toPath = File.class.getMethod("toPath");
+                api.getFileSystem = path.getMethod("getFileSystem");
+                api.newWatchService = fileSystem.getMethod("newWatchService");
+                api.register = path.getMethod("register", watchService, Array.newInstance(kind, 0).getClass());
+                api.poll = watchService.getMethod("poll");
+                api.close = watchService.getMethod("close");
+                api.pollEvents = watchKey.getMethod("pollEvents");
+                api.reset = watchKey.getMethod("reset");
+                api.kind = watchEvent.getMethod("kind");
+                api.context = watchEvent.getMethod("context");
+                api.resolve = path.getMethod("resolve", path);
+                api.toFile = path.getMethod("toFile");
+                api.getFileName = path.getMethod("getFileName");
+                api.entryCreate = standardKinds.getField("ENTRY_CREATE").get(null);
+                api.entryDelete = standardKinds.getField("ENTRY_DELETE").get(null);
+                api.overflow = standardKinds.getField("OVERFLOW").get(null);
+                api.kinds = Array.newInstance(kind, 3);
+                Array.set(api.kinds, 0, api.entryCreate);
+                Array.set(api.kinds, 1, api.entryDelete);
+                Array.set(api.kinds, 2, standardKinds.getField("ENTRY_MODIFY").get(null));
+                return api;
+            } catch (Exception e) {
+                // Not a Java 7 VM
+                return null;
+            }
+        }
+
+        /** Invokes an API method, rethrowing whatever it threw */
+        private Object invoke(final Method method, final Object target, final Object... args) throws IOException {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IOException(cause);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
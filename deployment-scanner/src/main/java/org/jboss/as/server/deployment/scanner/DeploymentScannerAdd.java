@@ -61,6 +61,7 @@ class DeploymentScannerAdd extends AbstractAddStepHandler implements Description
         final String relativeTo = operation.hasDefined(CommonAttributes.RELATIVE_TO) ? operation.get(CommonAttributes.RELATIVE_TO).asString() : null;
         final Boolean autoDeployZip = operation.hasDefined(CommonAttributes.AUTO_DEPLOY_ZIPPED) ? operation.get(CommonAttributes.AUTO_DEPLOY_ZIPPED).asBoolean() : true;
         final Boolean autoDeployExp = operation.hasDefined(CommonAttributes.AUTO_DEPLOY_EXPLODED) ? operation.get(CommonAttributes.AUTO_DEPLOY_EXPLODED).asBoolean() : false;
+        final Boolean watchEnabled = operation.hasDefined(CommonAttributes.WATCH_ENABLED) ? operation.get(CommonAttributes.WATCH_ENABLED).asBoolean() : false;
         final Long deploymentTimeout = operation.hasDefined(CommonAttributes.DEPLOYMENT_TIMEOUT) ? operation.get(CommonAttributes.DEPLOYMENT_TIMEOUT).asLong() : 60L;
 
         model.get(CommonAttributes.NAME).set(name);
@@ -69,6 +70,7 @@ class DeploymentScannerAdd extends AbstractAddStepHandler implements Description
         if (interval != null) model.get(CommonAttributes.SCAN_INTERVAL).set(interval);
         if (autoDeployZip != null) model.get(CommonAttributes.AUTO_DEPLOY_ZIPPED).set(autoDeployZip);
         if (autoDeployExp != null) model.get(CommonAttributes.AUTO_DEPLOY_EXPLODED).set(autoDeployExp);
+        if (watchEnabled != null) model.get(CommonAttributes.WATCH_ENABLED).set(watchEnabled);
         if (relativeTo != null) model.get(CommonAttributes.RELATIVE_TO).set(relativeTo);
         if (deploymentTimeout != null) model.get(CommonAttributes.DEPLOYMENT_TIMEOUT).set(deploymentTimeout);
 
@@ -83,11 +85,12 @@ class DeploymentScannerAdd extends AbstractAddStepHandler implements Description
         final String relativeTo = operation.hasDefined(CommonAttributes.RELATIVE_TO) ? operation.get(CommonAttributes.RELATIVE_TO).asString() : null;
         final Boolean autoDeployZip = operation.hasDefined(CommonAttributes.AUTO_DEPLOY_ZIPPED) ? operation.get(CommonAttributes.AUTO_DEPLOY_ZIPPED).asBoolean() : true;
         final Boolean autoDeployExp = operation.hasDefined(CommonAttributes.AUTO_DEPLOY_EXPLODED) ? operation.get(CommonAttributes.AUTO_DEPLOY_EXPLODED).asBoolean() : false;
+        final Boolean watchEnabled = operation.hasDefined(CommonAttributes.WATCH_ENABLED) ? operation.get(CommonAttributes.WATCH_ENABLED).asBoolean() : false;
         final Long deploymentTimeout = operation.hasDefined(CommonAttributes.DEPLOYMENT_TIMEOUT) ? operation.get(CommonAttributes.DEPLOYMENT_TIMEOUT).asLong() : 60L;
 
         final ServiceTarget serviceTarget = context.getServiceTarget();
         newControllers.add(DeploymentScannerService.addService(serviceTarget, name, relativeTo, path, interval, TimeUnit.MILLISECONDS,
-                autoDeployZip, autoDeployExp, enabled, deploymentTimeout, verificationHandler));
+                autoDeployZip, autoDeployExp, enabled, watchEnabled, deploymentTimeout, verificationHandler));
     }
 
     @Override
@@ -0,0 +1,155 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.server.deployment.scanner;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Per-file content hashes of an exploded deployment, used to decide whether a change to the
+ * content requires the deployment to be redeployed or can be served in place.
+ * <p>
+ * Static resources of a web archive (anything outside {@code WEB-INF} and {@code META-INF}) are
+ * read from the exploded content on each request, so changes limited to those do not need a
+ * redeploy. JSPs and tag files are only recompiled on change when JSP development mode is on;
+ * otherwise changing them, like any other change, e.g. to a class, a library or a descriptor,
+ * requires a redeploy.
+ */
+final class ExplodedContentManifest {
+
+    private static final Pattern ARCHIVE_PATTERN = Pattern.compile("^.*\\.[SsWwJjEeRr][Aa][Rr]$");
+    private static final Pattern WAR_PATTERN = Pattern.compile("^.*\\.[Ww][Aa][Rr]$");
+    private static final Pattern JSP_PATTERN = Pattern.compile("^.*\\.(jsp|jspx|jspf|tag|tagx)$", Pattern.CASE_INSENSITIVE);
+
+    /** Hashes keyed by path, starting with the name of the deployment and using '/' as separator */
+    private final Map<String, byte[]> hashes;
+
+    private ExplodedContentManifest(final Map<String, byte[]> hashes) {
+        this.hashes = hashes;
+    }
+
+    /**
+     * Hash the content of an exploded deployment.
+     *
+     * @param root the root directory of the deployment
+     * @return the manifest
+     * @throws IOException if the content cannot be read
+     */
+    static ExplodedContentManifest create(final File root) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot obtain SHA-1 " + MessageDigest.class.getSimpleName(), e);
+        }
+        final Map<String, byte[]> hashes = new HashMap<String, byte[]>();
+        addContent(root, root.getName(), digest, new byte[8192], hashes);
+        return new ExplodedContentManifest(hashes);
+    }
+
+    /**
+     * Gets whether the differences between this manifest and a previous one require a redeploy.
+     *
+     * @param previous the manifest of the currently deployed content
+     * @param jspDevelopment whether JSP development mode is on, so changed JSPs and tag files are recompiled
+     * @return {@code true} if any added, removed or modified file cannot be served in place
+     */
+    boolean requiresRedeploy(final ExplodedContentManifest previous, final boolean jspDevelopment) {
+        final Set<String> paths = new HashSet<String>(hashes.keySet());
+        paths.addAll(previous.hashes.keySet());
+        for (String path : paths) {
+            if (!Arrays.equals(hashes.get(path), previous.hashes.get(path)) && !isServedInPlace(path, jspDevelopment)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets whether a file is read from the exploded content at request time rather than at deployment time.
+     *
+     * @param path the path of the file, starting with the name of the deployment
+     * @param jspDevelopment whether JSP development mode is on, so changed JSPs and tag files are recompiled
+     * @return {@code true} if a change to the file does not require a redeploy
+     */
+    static boolean isServedInPlace(final String path, final boolean jspDevelopment) {
+        final String[] segments = path.split("/");
+        // Find the innermost (sub)deployment containing the file
+        int archive = -1;
+        for (int i = 0; i < segments.length - 1; i++) {
+            if (ARCHIVE_PATTERN.matcher(segments[i]).matches()) {
+                archive = i;
+            }
+        }
+        if (archive < 0 || !WAR_PATTERN.matcher(segments[archive]).matches()) {
+            return false;
+        }
+        if (JSP_PATTERN.matcher(segments[segments.length - 1]).matches()) {
+            // Outside development mode Jasper never checks for changes, so only a redeploy picks them up
+            return jspDevelopment;
+        }
+        if (archive + 1 < segments.length - 1) {
+            final String first = segments[archive + 1].toUpperCase(Locale.ENGLISH);
+            return !"WEB-INF".equals(first) && !"META-INF".equals(first);
+        }
+        return true;
+    }
+
+    private static void addContent(final File file, final String path, final MessageDigest digest, final byte[] buffer,
+            final Map<String, byte[]> hashes) throws IOException {
+        if (file.isDirectory()) {
+            final File[] children = file.listFiles();
+            if (children == null) {
+                throw new IOException("Cannot list " + file.getAbsolutePath());
+            }
+            for (File child : children) {
+                addContent(child, path + "/" + child.getName(), digest, buffer, hashes);
+            }
+        } else {
+            final InputStream is = new FileInputStream(file);
+            try {
+                int read;
+                while ((read = is.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            } finally {
+                try {
+                    is.close();
+                } catch (IOException ignored) {
+                }
+            }
+            hashes.put(path, digest.digest());
+        }
+    }
+}
@@ -34,10 +34,12 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAM
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PATH;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PERSISTENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RELATIVE_TO;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
 
 import java.io.Closeable;
@@ -107,10 +109,19 @@ class FileSystemDeploymentService implements DeploymentScanner {
     /** Default timeout for deployments to execute in seconds*/
     static final long DEFAULT_DEPLOYMENT_TIMEOUT = 60;
 
+    /** Period, in ms, at which a watching scanner drains pending filesystem events */
+    static final long WATCH_POLL_INTERVAL = 100;
+
+    /** Period, in ms, without further filesystem events a watching scanner waits before scanning */
+    static final long WATCH_QUIET_PERIOD = 500;
+
     private File deploymentDir;
     private long scanInterval = 0;
     private volatile boolean scanEnabled = false;
+    private volatile boolean watchEnabled = false;
+    private volatile boolean watching = false;
     private ScheduledFuture<?> scanTask;
+    private WatchTask currentWatchTask;
     private ScheduledFuture<?> rescanIncompleteTask;
     private final Lock scanLock = new ReentrantLock();
 
@@ -119,6 +130,8 @@ class FileSystemDeploymentService implements DeploymentScanner {
     private final HashSet<String> noticeLogged = new HashSet<String>();
     private final HashSet<File> nonscannableLogged = new HashSet<File>();
     private final Map<File, IncompleteDeploymentStatus> incompleteDeployments = new HashMap<File, IncompleteDeploymentStatus>();
+    /** Content hashes of deployed exploded content that was auto-deployed */
+    private final Map<String, ExplodedContentManifest> explodedManifests = new HashMap<String, ExplodedContentManifest>();
 
     private final ScheduledExecutorService scheduledExecutor;
     private final ModelControllerClient controllerClient;
@@ -238,6 +251,20 @@ class FileSystemDeploymentService implements DeploymentScanner {
         startScan();
     }
 
+    @Override
+    public boolean isWatchEnabled() {
+        return watchEnabled;
+    }
+
+    @Override
+    public synchronized void setWatchEnabled(boolean watchEnabled) {
+        if (watchEnabled != this.watchEnabled) {
+            this.watchEnabled = watchEnabled;
+            cancelScan();
+            startScan();
+        }
+    }
+
     @Override
     public void setDeploymentTimeout(long deploymentTimeout) {
         this.deploymentTimeout = deploymentTimeout;
@@ -331,7 +358,7 @@ class FileSystemDeploymentService implements DeploymentScanner {
                 // Deal with any incomplete or non-scannable auto-deploy content
                 ScanStatus status = handleAutoDeployFailures(scanContext);
                 if (status != ScanStatus.PROCEED) {
-                    if (status == ScanStatus.RETRY && scanInterval > 1000) {
+                    if (status == ScanStatus.RETRY && (scanInterval > 1000 || watching)) {
                         // in finally block, schedule a non-repeating task to try again more quickly
                         scheduleRescan = true;
                     }
@@ -462,7 +489,7 @@ class FileSystemDeploymentService implements DeploymentScanner {
                 long timestamp = getDeploymentTimestamp(deploymentFile);
                 final String path = relativeTo == null ? deploymentFile.getAbsolutePath() : relativePath + deploymentName; // TODO: sub-directories in the deploymentDir
                 final boolean archive = deploymentFile.isFile();
-                addContentAddingTask(path, archive, deploymentName, deploymentFile, timestamp, scanContext);
+                addContentAddingTask(path, archive, deploymentName, deploymentFile, timestamp, null, scanContext);
             }
             else if (fileName.endsWith(FAILED_DEPLOY)) {
                 final String deploymentName = fileName.substring(0, fileName.length() - FAILED_DEPLOY.length());
@@ -491,7 +518,12 @@ class FileSystemDeploymentService implements DeploymentScanner {
                                 if (isZipComplete(child)) {
                                     final String path =  relativeTo == null ? child.getAbsolutePath() : relativePath + fileName;
                                     final boolean archive = child.isFile();
-                                    addContentAddingTask(path, archive, fileName, child, timestamp, scanContext);
+                                    final ExplodedContentManifest manifest = archive ? null : createManifest(child);
+                                    if (marker != null && manifest != null && isServedInPlace(fileName, child, manifest, timestamp)) {
+                                        scanContext.toRemove.remove(fileName);
+                                        continue;
+                                    }
+                                    addContentAddingTask(path, archive, fileName, child, timestamp, manifest, scanContext);
                                 }
                                 else {
                                     scanContext.incompleteFiles.put(child, new IncompleteDeploymentStatus(child));
@@ -528,16 +560,71 @@ class FileSystemDeploymentService implements DeploymentScanner {
     }
 
     private long addContentAddingTask(final String path, final boolean archive, final String deploymentName, final File deploymentFile, final long timestamp,
-            final ScanContext scanContext) {
+            final ExplodedContentManifest manifest, final ScanContext scanContext) {
         if (scanContext.registeredDeployments.contains(deploymentName)) {
-            scanContext.scannerTasks.add(new ReplaceTask(path, archive, deploymentName, deploymentFile, timestamp));
+            scanContext.scannerTasks.add(new ReplaceTask(path, archive, deploymentName, deploymentFile, timestamp, manifest));
         } else {
-            scanContext.scannerTasks.add(new DeployTask(path, archive, deploymentName, deploymentFile, timestamp));
+            scanContext.scannerTasks.add(new DeployTask(path, archive, deploymentName, deploymentFile, timestamp, manifest));
         }
         scanContext.toRemove.remove(deploymentName);
         return timestamp;
     }
 
+    /**
+     * Hash auto-deployable exploded content, so later changes to it can be classified.
+     *
+     * @return the manifest, or {@code null} if the content could not be read
+     */
+    private ExplodedContentManifest createManifest(final File deploymentDir) {
+        try {
+            return ExplodedContentManifest.create(deploymentDir);
+        } catch (IOException e) {
+            log.debugf(e, "Failed hashing the content of %s", deploymentDir);
+            return null;
+        }
+    }
+
+    /**
+     * Check whether the changes to deployed exploded content are limited to resources that are
+     * read from the content at request time. If so the new content state is recorded as deployed,
+     * as there is no need to redeploy.
+     */
+    private boolean isServedInPlace(final String deploymentName, final File deploymentDir, final ExplodedContentManifest manifest,
+            final long timestamp) {
+        final ExplodedContentManifest previous = explodedManifests.get(deploymentName);
+        if (previous == null || manifest.requiresRedeploy(previous, isJspDevelopment())) {
+            return false;
+        }
+        explodedManifests.put(deploymentName, manifest);
+        final File deployedMarker = new File(deploymentDir.getParentFile(), deploymentName + DEPLOYED);
+        deployedMarker.setLastModified(timestamp);
+        deployed.put(deploymentName, new DeploymentMarker(deployedMarker.lastModified()));
+        log.infof("Changes to %s are limited to resources read at request time; the updated content will be served without redeploying", deploymentName);
+        return true;
+    }
+
+    /**
+     * Check whether the web subsystem runs JSPs in development mode, in which case Jasper recompiles
+     * changed JSPs and tag files itself.
+     *
+     * @return {@code true} if development mode is on; {@code false} if it is off or there is no web subsystem
+     */
+    private boolean isJspDevelopment() {
+        final ModelNode address = new ModelNode();
+        address.add(SUBSYSTEM, "web");
+        final ModelNode op = Util.getEmptyOperation(READ_ATTRIBUTE_OPERATION, address);
+        op.get(NAME).set("container-config");
+        try {
+            final ModelNode response = controllerClient.execute(op);
+            if (SUCCESS.equals(response.get(OUTCOME).asString())) {
+                return response.get(RESULT, "jsp-configuration", "development").asBoolean(false);
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Failed reading the JSP configuration");
+        }
+        return false;
+    }
+
     private boolean isZipComplete(File file) throws NonScannableZipException {
         if (file.isDirectory()) {
             for (File child : file.listFiles()) {
@@ -711,6 +798,46 @@ class FileSystemDeploymentService implements DeploymentScanner {
 
     private synchronized void startScan() {
         if (scanEnabled) {
+            final Runnable watchTask = watchEnabled ? createWatchTask() : null;
+            if (watchTask != null) {
+                watching = true;
+                scanTask = scheduledExecutor.scheduleWithFixedDelay(watchTask, 0, WATCH_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+            } else if (scanInterval > 0) {
+                scanTask = scheduledExecutor.scheduleWithFixedDelay(scanRunnable, 0, scanInterval, TimeUnit.MILLISECONDS);
+            } else {
+                scanTask = scheduledExecutor.schedule(scanRunnable, scanInterval, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Invoke with the object monitor held
+     *
+     * @return the task driving a watch based scan, or {@code null} if the deployment directory
+     *         cannot be watched and must be polled instead
+     */
+    private Runnable createWatchTask() {
+        if (!DeploymentDirectoryWatcher.isAvailable()) {
+            log.warnf("Filesystem watch is not supported by this VM; %s will be scanned for changes every %d ms",
+                    deploymentDir.getAbsolutePath(), scanInterval);
+            return null;
+        }
+        try {
+            currentWatchTask = new WatchTask(new DeploymentDirectoryWatcher(deploymentDir));
+            return currentWatchTask;
+        } catch (Exception e) {
+            log.warnf(e, "Cannot watch %s for changes; it will be scanned for changes every %d ms",
+                    deploymentDir.getAbsolutePath(), scanInterval);
+            return null;
+        }
+    }
+
+    /**
+     * Replace a failed watch based scan with periodic scanning
+     */
+    private synchronized void revertToPolling(final WatchTask failed) {
+        if (scanEnabled && watching && scanTask != null && failed == currentWatchTask) {
+            cancelScan();
             if (scanInterval > 0) {
                 scanTask = scheduledExecutor.scheduleWithFixedDelay(scanRunnable, 0, scanInterval, TimeUnit.MILLISECONDS);
             } else {
@@ -723,6 +850,11 @@ class FileSystemDeploymentService implements DeploymentScanner {
      * Invoke with the object monitor held
      */
     private void cancelScan() {
+        watching = false;
+        if (currentWatchTask != null) {
+            currentWatchTask.watcher.close();
+            currentWatchTask = null;
+        }
         if (rescanIncompleteTask != null) {
             rescanIncompleteTask.cancel(false);
             rescanIncompleteTask = null;
@@ -874,13 +1006,16 @@ class FileSystemDeploymentService implements DeploymentScanner {
         private final boolean archive;
         protected final File deploymentFile;
         protected final long doDeployTimestamp;
+        private final ExplodedContentManifest manifest;
 
-        protected ContentAddingTask(final String path, final boolean archive, final String deploymentName, final File deploymentFile, long markerTimestamp) {
+        protected ContentAddingTask(final String path, final boolean archive, final String deploymentName, final File deploymentFile, long markerTimestamp,
+                final ExplodedContentManifest manifest) {
             super(deploymentName, deploymentFile.getParentFile(), DEPLOYING);
             this.path = path;
             this.archive = archive;
             this.deploymentFile = deploymentFile;
             this.doDeployTimestamp = markerTimestamp;
+            this.manifest = manifest;
         }
 
         protected ModelNode createContent() {
@@ -916,12 +1051,23 @@ class FileSystemDeploymentService implements DeploymentScanner {
                 deployed.remove(deploymentName);
             }
             deployed.put(deploymentName, new DeploymentMarker(deployedMarker.lastModified()));
+            if (manifest != null) {
+                explodedManifests.put(deploymentName, manifest);
+            } else {
+                explodedManifests.remove(deploymentName);
+            }
+        }
+
+        @Override
+        protected void handleFailureResult(final ModelNode result) {
+            explodedManifests.remove(deploymentName);
         }
     }
 
     private final class DeployTask extends ContentAddingTask {
-        private DeployTask(final String path, final boolean archive, final String deploymentName, final File deploymentFile, long markerTimestamp) {
-            super(path, archive, deploymentName, deploymentFile, markerTimestamp);
+        private DeployTask(final String path, final boolean archive, final String deploymentName, final File deploymentFile, long markerTimestamp,
+                final ExplodedContentManifest manifest) {
+            super(path, archive, deploymentName, deploymentFile, markerTimestamp, manifest);
         }
 
         @Override
@@ -936,6 +1082,7 @@ class FileSystemDeploymentService implements DeploymentScanner {
 
         @Override
         protected void handleFailureResult(final ModelNode result) {
+            super.handleFailureResult(result);
             log.error(result.get(FAILURE_DESCRIPTION).asString());
 
             // Remove the in-progress marker
@@ -946,8 +1093,9 @@ class FileSystemDeploymentService implements DeploymentScanner {
     }
 
     private final class ReplaceTask extends ContentAddingTask {
-        private ReplaceTask(final String path, final boolean archive, String deploymentName, File deploymentFile, long markerTimestamp) {
-            super(path, archive, deploymentName, deploymentFile, markerTimestamp);
+        private ReplaceTask(final String path, final boolean archive, String deploymentName, File deploymentFile, long markerTimestamp,
+                final ExplodedContentManifest manifest) {
+            super(path, archive, deploymentName, deploymentFile, markerTimestamp, manifest);
         }
 
         @Override
@@ -960,6 +1108,7 @@ class FileSystemDeploymentService implements DeploymentScanner {
 
         @Override
         protected void handleFailureResult(ModelNode result) {
+            super.handleFailureResult(result);
 
             // Remove the in-progress marker
             removeInProgressMarker();
@@ -990,6 +1139,7 @@ class FileSystemDeploymentService implements DeploymentScanner {
 
             deployed.remove(deploymentName);
             deployed.put(deploymentName, new DeploymentMarker(markerLastModified));
+            explodedManifests.remove(deploymentName);
 
         }
 
@@ -1026,6 +1176,7 @@ class FileSystemDeploymentService implements DeploymentScanner {
             createMarkerFile(deployedMarker, deploymentName);
 
             deployed.remove(deploymentName);
+            explodedManifests.remove(deploymentName);
             noticeLogged.remove(deploymentName);
         }
 
@@ -1079,6 +1230,37 @@ class FileSystemDeploymentService implements DeploymentScanner {
         ABORT, RETRY, PROCEED
     }
 
+    /** Drains filesystem events and scans once they have settled for {@link #WATCH_QUIET_PERIOD} */
+    private class WatchTask implements Runnable {
+        private final DeploymentDirectoryWatcher watcher;
+        /** Start out as if a change was just seen, so the initial scan happens right away */
+        private boolean changePending = true;
+        private long lastChange;
+
+        private WatchTask(final DeploymentDirectoryWatcher watcher) {
+            this.watcher = watcher;
+        }
+
+        @Override
+        public void run() {
+            try {
+                final long now = System.currentTimeMillis();
+                if (watcher.pollChanges()) {
+                    changePending = true;
+                    lastChange = now;
+                } else if (changePending && now - lastChange >= WATCH_QUIET_PERIOD) {
+                    changePending = false;
+                    scan();
+                }
+            } catch (IOException e) {
+                log.warnf(e, "Watching %s for changes failed; reverting to periodic scanning", deploymentDir.getAbsolutePath());
+                revertToPolling(this);
+            } catch (Exception e) {
+                log.errorf(e, "Scan of %s threw Exception", deploymentDir.getAbsolutePath());
+            }
+        }
+    }
+
     private class DeploymentTask implements Callable<ModelNode> {
         private final Operation deploymentOp;
 
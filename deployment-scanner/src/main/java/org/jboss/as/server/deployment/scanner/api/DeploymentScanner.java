@@ -54,6 +54,23 @@ public interface DeploymentScanner {
      */
     void setScanInterval(long scanInterval);
 
+    /**
+     * Gets whether the scanner reacts to filesystem change notifications instead of
+     * periodically scanning the deployment directory.
+     *
+     * @return true if watching for changes is enabled
+     */
+    boolean isWatchEnabled();
+
+    /**
+     * Sets whether the scanner reacts to filesystem change notifications instead of
+     * periodically scanning the deployment directory. Where the platform does not support
+     * watching the directory the scanner continues to scan at the configured scan interval.
+     *
+     * @param watchEnabled true if watching for changes is enabled
+     */
+    void setWatchEnabled(boolean watchEnabled);
+
     /**
      * Start the scanner, if not already started.
      */
@@ -0,0 +1,180 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.server.deployment.scanner;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DeploymentDirectoryWatcher}
+ */
+public class DeploymentDirectoryWatcherUnitTestCase {
+
+    /** How long to wait for the platform to report an event; polling implementations may take a few seconds */
+    private static final long EVENT_TIMEOUT = 15000;
+
+    /** How long to wait before concluding no relevant event was reported */
+    private static final long QUIET_TIMEOUT = 1000;
+
+    private static AutoDeployTestSupport testSupport;
+    private static int count;
+
+    private File dir;
+
+    @BeforeClass
+    public static void setupClass() {
+        testSupport = new AutoDeployTestSupport(DeploymentDirectoryWatcherUnitTestCase.class.getSimpleName());
+    }
+
+    @AfterClass
+    public static void teardownClass() {
+        if (testSupport != null) {
+            testSupport.cleanupFiles();
+        }
+    }
+
+    @Before
+    public void setup() {
+        Assume.assumeTrue(DeploymentDirectoryWatcher.isAvailable());
+        dir = new File(testSupport.getTempDir(), "watched" + count++);
+        assertTrue(dir.mkdirs());
+    }
+
+    @Test
+    public void testNoChanges() throws Exception {
+        DeploymentDirectoryWatcher watcher = new DeploymentDirectoryWatcher(dir);
+        try {
+            assertFalse(watcher.pollChanges());
+        } finally {
+            watcher.close();
+        }
+    }
+
+    @Test
+    public void testFileAdded() throws Exception {
+        DeploymentDirectoryWatcher watcher = new DeploymentDirectoryWatcher(dir);
+        try {
+            write(new File(dir, "foo.war" + FileSystemDeploymentService.DO_DEPLOY));
+            assertTrue(awaitChange(watcher, EVENT_TIMEOUT));
+        } finally {
+            watcher.close();
+        }
+    }
+
+    @Test
+    public void testScannerMarkersIgnored() throws Exception {
+        DeploymentDirectoryWatcher watcher = new DeploymentDirectoryWatcher(dir);
+        try {
+            write(new File(dir, "foo.war" + FileSystemDeploymentService.DEPLOYING));
+            write(new File(dir, "bar.war" + FileSystemDeploymentService.PENDING));
+            write(new File(dir, "baz.war" + FileSystemDeploymentService.DEPLOYED));
+            write(new File(dir, "qux.war" + FileSystemDeploymentService.FAILED_DEPLOY));
+            write(new File(dir, "quux.war" + FileSystemDeploymentService.UNDEPLOYING));
+            write(new File(dir, "corge.war" + FileSystemDeploymentService.UNDEPLOYED));
+            assertFalse(awaitChange(watcher, QUIET_TIMEOUT));
+        } finally {
+            watcher.close();
+        }
+    }
+
+    @Test
+    public void testDeployedMarkerRemoved() throws Exception {
+        File marker = new File(dir, "foo.war" + FileSystemDeploymentService.DEPLOYED);
+        write(marker);
+        DeploymentDirectoryWatcher watcher = new DeploymentDirectoryWatcher(dir);
+        try {
+            assertTrue(marker.delete());
+            assertTrue(awaitChange(watcher, EVENT_TIMEOUT));
+        } finally {
+            watcher.close();
+        }
+    }
+
+    @Test
+    public void testExistingSubdirectoryWatched() throws Exception {
+        File war = new File(dir, "foo.war");
+        assertTrue(war.mkdirs());
+        DeploymentDirectoryWatcher watcher = new DeploymentDirectoryWatcher(dir);
+        try {
+            write(new File(war, "index.html"));
+            assertTrue(awaitChange(watcher, EVENT_TIMEOUT));
+        } finally {
+            watcher.close();
+        }
+    }
+
+    @Test
+    public void testNewSubdirectoryWatched() throws Exception {
+        DeploymentDirectoryWatcher watcher = new DeploymentDirectoryWatcher(dir);
+        try {
+            File war = new File(dir, "foo.war");
+            assertTrue(war.mkdirs());
+            assertTrue(awaitChange(watcher, EVENT_TIMEOUT));
+            // Drain whatever else creating the directory produced
+            while (watcher.pollChanges()) {
+                Thread.sleep(100);
+            }
+            write(new File(war, "index.html"));
+            assertTrue(awaitChange(watcher, EVENT_TIMEOUT));
+        } finally {
+            watcher.close();
+        }
+    }
+
+    @Test
+    public void testClosed() throws Exception {
+        DeploymentDirectoryWatcher watcher = new DeploymentDirectoryWatcher(dir);
+        watcher.close();
+        write(new File(dir, "foo.war" + FileSystemDeploymentService.DO_DEPLOY));
+        assertFalse(watcher.pollChanges());
+    }
+
+    private static boolean awaitChange(DeploymentDirectoryWatcher watcher, long timeout) throws Exception {
+        long deadline = System.currentTimeMillis() + timeout;
+        do {
+            if (watcher.pollChanges()) {
+                return true;
+            }
+            Thread.sleep(100);
+        } while (System.currentTimeMillis() < deadline);
+        return false;
+    }
+
+    private static void write(File file) throws IOException {
+        FileOutputStream fos = new FileOutputStream(file);
+        try {
+            fos.write(file.getName().getBytes());
+        } finally {
+            fos.close();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.server.deployment.scanner;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ExplodedContentManifest}
+ */
+public class ExplodedContentManifestUnitTestCase {
+
+    private static AutoDeployTestSupport testSupport;
+
+    @BeforeClass
+    public static void setupClass() {
+        testSupport = new AutoDeployTestSupport(ExplodedContentManifestUnitTestCase.class.getSimpleName());
+    }
+
+    @AfterClass
+    public static void teardownClass() {
+        if (testSupport != null) {
+            testSupport.cleanupFiles();
+        }
+    }
+
+    @Test
+    public void testServedInPlace() {
+        assertTrue(ExplodedContentManifest.isServedInPlace("foo.war/index.html", false));
+        assertTrue(ExplodedContentManifest.isServedInPlace("foo.war/css/site.css", false));
+        assertTrue(ExplodedContentManifest.isServedInPlace("foo.ear/web.war/images/logo.png", false));
+
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.war/WEB-INF/web.xml", false));
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.war/WEB-INF/classes/org/foo/Bar.class", false));
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.war/WEB-INF/lib/foo.jar", false));
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.war/web-inf/classes/messages.properties", false));
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.war/META-INF/MANIFEST.MF", false));
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.ear/ejb.jar/org/foo/Bar.class", false));
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.ear/ejb.jar/readme.txt", false));
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.ear/lib/util.jar", false));
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.war/WEB-INF/lib/exploded.jar/page.jsp", false));
+
+        // Jasper only recompiles JSPs and tag files in development mode
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.war/index.jsp", false));
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.war/WEB-INF/jsp/page.jsp", false));
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.war/WEB-INF/jsp/header.jspf", false));
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.war/WEB-INF/tags/list.tag", false));
+    }
+
+    @Test
+    public void testServedInPlaceJspDevelopment() {
+        assertTrue(ExplodedContentManifest.isServedInPlace("foo.war/index.html", true));
+        assertTrue(ExplodedContentManifest.isServedInPlace("foo.war/index.jsp", true));
+        assertTrue(ExplodedContentManifest.isServedInPlace("foo.war/WEB-INF/jsp/page.jsp", true));
+        assertTrue(ExplodedContentManifest.isServedInPlace("foo.war/WEB-INF/tags/list.tag", true));
+
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.war/WEB-INF/web.xml", true));
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.war/WEB-INF/classes/org/foo/Bar.class", true));
+        assertFalse(ExplodedContentManifest.isServedInPlace("foo.ear/ejb.jar/page.jsp", true));
+    }
+
+    @Test
+    public void testStaticChange() throws Exception {
+        File war = createWar("static.war");
+        ExplodedContentManifest original = ExplodedContentManifest.create(war);
+        write(new File(war, "index.html"), "changed");
+        write(new File(war, "added.html"), "added");
+        assertFalse(ExplodedContentManifest.create(war).requiresRedeploy(original, false));
+    }
+
+    @Test
+    public void testJspChange() throws Exception {
+        File war = createWar("jsp.war");
+        ExplodedContentManifest original = ExplodedContentManifest.create(war);
+        write(new File(war, "WEB-INF/page.jsp"), "changed");
+        ExplodedContentManifest changed = ExplodedContentManifest.create(war);
+        assertTrue(changed.requiresRedeploy(original, false));
+        assertFalse(changed.requiresRedeploy(original, true));
+    }
+
+    @Test
+    public void testClassChange() throws Exception {
+        File war = createWar("class.war");
+        ExplodedContentManifest original = ExplodedContentManifest.create(war);
+        write(new File(war, "WEB-INF/classes/Foo.class"), "changed");
+        assertTrue(ExplodedContentManifest.create(war).requiresRedeploy(original, true));
+    }
+
+    @Test
+    public void testDescriptorRemoved() throws Exception {
+        File war = createWar("descriptor.war");
+        ExplodedContentManifest original = ExplodedContentManifest.create(war);
+        assertTrue(new File(war, "WEB-INF/web.xml").delete());
+        assertTrue(ExplodedContentManifest.create(war).requiresRedeploy(original, true));
+    }
+
+    @Test
+    public void testUnchanged() throws Exception {
+        File war = createWar("unchanged.war");
+        assertFalse(ExplodedContentManifest.create(war).requiresRedeploy(ExplodedContentManifest.create(war), false));
+    }
+
+    private File createWar(String name) throws IOException {
+        File war = new File(testSupport.getTempDir(), name);
+        write(new File(war, "index.html"), "index");
+        write(new File(war, "WEB-INF/page.jsp"), "page");
+        write(new File(war, "WEB-INF/web.xml"), "<web-app/>");
+        write(new File(war, "WEB-INF/classes/Foo.class"), "Foo");
+        return war;
+    }
+
+    private static void write(File file, String content) throws IOException {
+        file.getParentFile().mkdirs();
+        FileOutputStream fos = new FileOutputStream(file);
+        try {
+            fos.write(content.getBytes());
+        } finally {
+            fos.close();
+        }
+    }
+}
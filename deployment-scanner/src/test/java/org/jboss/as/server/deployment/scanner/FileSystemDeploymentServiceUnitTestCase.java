@@ -14,6 +14,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAM
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REMOVE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
@@ -833,6 +834,78 @@ public class FileSystemDeploymentServiceUnitTestCase {
         assertTrue(nonarchive.exists());
     }
 
+    /**
+     * Tests that changes to the static content of an auto-deployed exploded war are
+     * served in place, while changes to its classes result in a redeploy
+     */
+    @Test
+    public void testExplodedStaticContentServedInPlace() throws Exception {
+        File deployment = createDirectory("foo.war", "index.html");
+        File index = new File(deployment, "index.html");
+        File clazz = createFile(new File(deployment, "WEB-INF/classes"), "Foo.class");
+        File deployed = new File(tmpDir, "foo.war" + FileSystemDeploymentService.DEPLOYED);
+        File failed = new File(tmpDir, "foo.war" + FileSystemDeploymentService.FAILED_DEPLOY);
+
+        TesteeSet ts = createTestee();
+        ts.testee.setAutoDeployExplodedContent(true);
+
+        ts.controller.addCompositeSuccessResponse(1);
+        ts.testee.scan();
+
+        assertTrue(deployed.exists());
+
+        // No response is queued, so any deployment operation would fail
+        updateFile(index);
+        index.setLastModified(deployed.lastModified() + 2000);
+        ts.testee.scan();
+
+        assertTrue(deployed.exists());
+        assertFalse(failed.exists());
+        assertEquals(index.lastModified(), deployed.lastModified());
+
+        updateFile(clazz);
+        clazz.setLastModified(index.lastModified() + 2000);
+        ts.controller.addCompositeSuccessResponse(1);
+        ts.testee.scan();
+
+        assertTrue(ts.controller.responses.isEmpty());
+        assertTrue(deployed.exists());
+        assertFalse(failed.exists());
+    }
+
+    /**
+     * Tests that changes to the JSPs of an auto-deployed exploded war result in a redeploy,
+     * unless JSP development mode is on
+     */
+    @Test
+    public void testExplodedJspChange() throws Exception {
+        File deployment = createDirectory("foo.war", "index.html");
+        File jsp = createFile(deployment, "page.jsp");
+        File deployed = new File(tmpDir, "foo.war" + FileSystemDeploymentService.DEPLOYED);
+
+        TesteeSet ts = createTestee();
+        ts.testee.setAutoDeployExplodedContent(true);
+
+        ts.controller.addCompositeSuccessResponse(1);
+        ts.testee.scan();
+        assertTrue(deployed.exists());
+
+        updateFile(jsp);
+        jsp.setLastModified(deployed.lastModified() + 2000);
+        ts.controller.addCompositeSuccessResponse(1);
+        ts.testee.scan();
+        assertTrue(ts.controller.responses.isEmpty());
+        assertTrue(deployed.exists());
+
+        // No response is queued, so any deployment operation would fail
+        ts.controller.jspDevelopment = true;
+        updateFile(jsp);
+        jsp.setLastModified(deployed.lastModified() + 2000);
+        ts.testee.scan();
+        assertTrue(deployed.exists());
+        assertEquals(jsp.lastModified(), deployed.lastModified());
+    }
+
     /**
      * Tests that the .skipdeploy marker prevents auto-deploy
      */
@@ -1006,6 +1079,16 @@ public class FileSystemDeploymentServiceUnitTestCase {
         return f;
     }
 
+    private void updateFile(File file) throws IOException {
+        PrintWriter writer = new PrintWriter(new FileOutputStream(file, true));
+        try {
+            writer.write(" updated");
+        }
+        finally {
+            writer.close();
+        }
+    }
+
     private File createDirectory(String name, String... children) throws IOException {
         return createDirectory(tmpDir, name, children);
     }
@@ -1080,6 +1163,7 @@ public class FileSystemDeploymentServiceUnitTestCase {
         private final List<Response> responses = new ArrayList<Response>(1);
         private final Map<String, byte[]> added = new HashMap<String, byte[]>();
         private final Map<String, byte[]> deployed = new HashMap<String, byte[]>();
+        private boolean jspDevelopment;
 
         @Override
         public ModelNode execute(ModelNode operation) throws IOException {
@@ -1196,6 +1280,13 @@ public class FileSystemDeploymentServiceUnitTestCase {
             if (READ_CHILDREN_NAMES_OPERATION.equals(opName)) {
                 return getDeploymentNamesResponse();
             }
+            else if (READ_ATTRIBUTE_OPERATION.equals(opName)) {
+                // The web subsystem's container-config
+                ModelNode rsp = new ModelNode();
+                rsp.get(OUTCOME).set(SUCCESS);
+                rsp.get(RESULT, "jsp-configuration", "development").set(jspDevelopment);
+                return rsp;
+            }
             else if (COMPOSITE.equals(opName)) {
                 for (ModelNode child : op.require(STEPS).asList()) {
                     opName = child.require(OP).asString();
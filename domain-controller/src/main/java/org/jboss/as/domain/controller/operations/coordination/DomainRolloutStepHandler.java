@@ -41,14 +41,18 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROL
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_GROUP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_OPERATIONS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_RESPONSE_TIMES;
 
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.ProxyController;
@@ -128,10 +132,12 @@ public class DomainRolloutStepHandler implements OperationStepHandler {
             // We no longer roll back by default
             domainOperationContext.setCompleteRollback(false);
 
-            final Map<ServerIdentity, ProxyTask> tasks = new HashMap<ServerIdentity, ProxyTask>();
-            final Map<ServerIdentity, Future<ModelNode>> futures = new HashMap<ServerIdentity, Future<ModelNode>>();
+            // The rollout plan may invoke the servers from several threads at once
+            final Map<ServerIdentity, ProxyTask> tasks = new ConcurrentHashMap<ServerIdentity, ProxyTask>();
+            final Map<ServerIdentity, Future<ModelNode>> futures = new ConcurrentHashMap<ServerIdentity, Future<ModelNode>>();
             try {
                 pushToServers(context, tasks, futures);
+                recordServerResponseTimes(context, tasks);
                 context.completeStep();
             } finally {
 
@@ -179,6 +185,16 @@ public class DomainRolloutStepHandler implements OperationStepHandler {
         return cancelled;
     }
 
+    private void recordServerResponseTimes(final OperationContext context, final Map<ServerIdentity, ProxyTask> tasks) {
+        for (Map.Entry<ServerIdentity, ProxyTask> entry : tasks.entrySet()) {
+            long responseTime = entry.getValue().getResponseTime();
+            if (responseTime >= 0) {
+                ServerIdentity server = entry.getKey();
+                context.getResponseHeaders().get(SERVER_RESPONSE_TIMES, server.getHostName(), server.getServerName()).set(responseTime);
+            }
+        }
+    }
+
     private void pushToServers(final OperationContext context, final Map<ServerIdentity, ProxyTask> tasks,
                                final Map<ServerIdentity, Future<ModelNode>> futures) throws OperationFailedException {
 
@@ -194,6 +210,7 @@ public class DomainRolloutStepHandler implements OperationStepHandler {
             if (trace) {
                 PrepareStepHandler.log.trace("Rollout plan is " + rolloutPlan);
             }
+            final Semaphore permits = new Semaphore(ProxyTask.MAX_CONCURRENT_REQUESTS);
             final NewServerOperationExecutor operationExecutor = new NewServerOperationExecutor() {
                 @Override
                 public ModelNode executeServerOperation(ServerIdentity server, ModelNode operation) {
@@ -213,7 +230,7 @@ public class DomainRolloutStepHandler implements OperationStepHandler {
                     // TODO this seems a bit convoluted. It's already an executor service thread calling this method
                     // But now we use another thread to actually make the invocation, so the first can read
                     // the result and decide how it fits in the overall rollout plan
-                    ProxyTask task = new ProxyTask(server.getHostName(), operation, context, proxy);
+                    ProxyTask task = new ProxyTask(server.getHostName(), operation, context, proxy, permits, null);
                     tasks.put(server, task);
 
                     boolean interrupted = false;
@@ -221,7 +238,16 @@ public class DomainRolloutStepHandler implements OperationStepHandler {
                     ModelNode result = null;
                     try {
                         future = executorService.submit(task);
-                        result = task.getUncommittedResult();
+                        result = ProxyTask.PREPARE_TIMEOUT > 0
+                                ? task.getUncommittedResult(ProxyTask.PREPARE_TIMEOUT, TimeUnit.SECONDS)
+                                : task.getUncommittedResult();
+                        if (result == null) {
+                            result = new ModelNode();
+                            result.get(OUTCOME).set(FAILED);
+                            result.get(FAILURE_DESCRIPTION).set(String.format("Server %s did not respond within [%d] seconds", server, ProxyTask.PREPARE_TIMEOUT));
+                            task.cancel();
+                            future.cancel(true);
+                        }
                         futures.put(server, future);
                     } catch (InterruptedException e) {
                         interrupted = true;
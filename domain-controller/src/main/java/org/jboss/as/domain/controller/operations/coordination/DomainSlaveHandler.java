@@ -25,13 +25,20 @@ package org.jboss.as.domain.controller.operations.coordination;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CANCELLED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST_RESPONSE_TIMES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.ProxyController;
@@ -52,13 +59,24 @@ public class DomainSlaveHandler implements OperationStepHandler {
     private final ExecutorService executorService;
     private final DomainOperationContext domainOperationContext;
     private final Map<String, ProxyController> hostProxies;
+    private final long prepareTimeout;
 
     public DomainSlaveHandler(final Map<String, ProxyController> hostProxies,
                               final DomainOperationContext domainOperationContext,
                               final ExecutorService executorService) {
+        this(hostProxies, domainOperationContext, executorService, ProxyTask.PREPARE_TIMEOUT);
+    }
+
+    /**
+     * @param prepareTimeout the number of seconds to wait for the hosts to prepare; zero or less means wait indefinitely
+     */
+    DomainSlaveHandler(final Map<String, ProxyController> hostProxies,
+                       final DomainOperationContext domainOperationContext,
+                       final ExecutorService executorService, final long prepareTimeout) {
         this.hostProxies = hostProxies;
         this.domainOperationContext = domainOperationContext;
         this.executorService = executorService;
+        this.prepareTimeout = prepareTimeout;
     }
 
     @Override
@@ -73,34 +91,47 @@ public class DomainSlaveHandler implements OperationStepHandler {
 
         final Map<String, ProxyTask> tasks = new HashMap<String, ProxyTask>();
         final Map<String, Future<ModelNode>> futures = new HashMap<String, Future<ModelNode>>();
+        final Semaphore permits = new Semaphore(ProxyTask.MAX_CONCURRENT_REQUESTS);
+        final BlockingQueue<ProxyTask> completed = new LinkedBlockingQueue<ProxyTask>();
 
         for (Map.Entry<String, ProxyController> entry : hostProxies.entrySet()) {
             String host = entry.getKey();
-            ProxyTask task = new ProxyTask(host, operation.clone(), context, entry.getValue());
+            ProxyTask task = new ProxyTask(host, operation.clone(), context, entry.getValue(), permits, completed);
             tasks.put(host, task);
             futures.put(host, executorService.submit(task));
         }
 
         boolean interrupted = false;
         try {
-            for (Map.Entry<String, ProxyTask> entry : tasks.entrySet()) {
-                ProxyTask task = entry.getValue();
-                ModelNode result = null;
-                try {
-                    result = entry.getValue().getUncommittedResult();
-                } catch (InterruptedException e) {
-                    result = new ModelNode();
-                    result.get(OUTCOME).set(FAILED);
-                    result.get(FAILURE_DESCRIPTION).set(String.format("Interrupted waiting for result from host %s", entry.getKey()));
-                    interrupted = true;
-                    task.cancel();
-                    futures.get(entry.getKey()).cancel(true);
+            // Record results in the order the hosts respond, so one slow host doesn't hold up the others
+            final Set<String> pending = new LinkedHashSet<String>(tasks.keySet());
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(prepareTimeout);
+            try {
+                while (!pending.isEmpty()) {
+                    ProxyTask task = prepareTimeout > 0
+                            ? completed.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)
+                            : completed.take();
+                    if (task == null) {
+                        break;
+                    }
+                    pending.remove(task.getHost());
+                    recordHostResult(context, task.getHost(), task.getUncommittedResult(), task.getResponseTime());
                 }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
 
-                if (PrepareStepHandler.isTraceEnabled()) {
-                    PrepareStepHandler.log.trace("Result for remote host " + entry.getKey() + " is " + result);
+            for (String host : pending) {
+                tasks.get(host).cancel();
+                futures.get(host).cancel(true);
+                ModelNode result = new ModelNode();
+                result.get(OUTCOME).set(FAILED);
+                if (interrupted) {
+                    result.get(FAILURE_DESCRIPTION).set(String.format("Interrupted waiting for result from host %s", host));
+                } else {
+                    result.get(FAILURE_DESCRIPTION).set(String.format("Host %s did not respond within [%d] seconds", host, prepareTimeout));
                 }
-                domainOperationContext.addHostControllerResult(entry.getKey(), result);
+                recordHostResult(context, host, result, -1);
             }
 
             context.completeStep();
@@ -140,6 +171,16 @@ public class DomainSlaveHandler implements OperationStepHandler {
         }
     }
 
+    private void recordHostResult(final OperationContext context, final String host, final ModelNode result, final long responseTime) {
+        if (PrepareStepHandler.isTraceEnabled()) {
+            PrepareStepHandler.log.trace("Result for remote host " + host + " is " + result);
+        }
+        domainOperationContext.addHostControllerResult(host, result);
+        if (responseTime >= 0) {
+            context.getResponseHeaders().get(HOST_RESPONSE_TIMES, host).set(responseTime);
+        }
+    }
+
     private ModelNode getCancelledResult() {
         ModelNode cancelled = new ModelNode();
         cancelled.get(OUTCOME).set(CANCELLED);
@@ -22,10 +22,17 @@
 
 package org.jboss.as.domain.controller.operations.coordination;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.jboss.as.controller.ModelController;
@@ -43,20 +50,49 @@ import org.jboss.dmr.ModelNode;
 */
 class ProxyTask implements Callable<ModelNode> {
 
+    /**
+     * The maximum number of proxies a single coordination step will have preparing an operation at the same time.
+     */
+    static final int MAX_CONCURRENT_REQUESTS = Math.max(1, Integer.getInteger("jboss.domain.proxy.max-concurrent-requests", 32));
+
+    /**
+     * The number of seconds to wait for a proxy to prepare an operation before treating it as failed. Zero or
+     * less means wait indefinitely.
+     */
+    static final long PREPARE_TIMEOUT = Long.getLong("jboss.domain.proxy.prepare-timeout", 300L);
+
     private final ProxyController proxyController;
     private final String host;
     private final ModelNode operation;
     private final OperationContext context;
+    private final Semaphore permits;
+    private final Queue<ProxyTask> completionQueue;
 
     private final AtomicReference<Boolean> transactionAction = new AtomicReference<Boolean>();
     private final AtomicReference<ModelNode> uncommittedResultRef = new AtomicReference<ModelNode>();
-    private boolean cancelRemoteTransaction;
+    private volatile boolean cancelRemoteTransaction;
+    private volatile long startTime;
+    private volatile long responseTime = -1;
 
     public ProxyTask(String host, ModelNode operation, OperationContext context, ProxyController proxyController) {
+        this(host, operation, context, proxyController, null, null);
+    }
+
+    /**
+     * Creates a task whose invocation is throttled by {@code permits} and which adds itself to
+     * {@code completionQueue} once its uncommitted result is available.
+     *
+     * @param permits permits shared by the tasks of one coordination step, or {@code null} for no limit
+     * @param completionQueue queue to notify when the uncommitted result is available, or {@code null}
+     */
+    public ProxyTask(String host, ModelNode operation, OperationContext context, ProxyController proxyController,
+                     Semaphore permits, Queue<ProxyTask> completionQueue) {
         this.host = host;
         this.operation = operation;
         this.context = context;
         this.proxyController = proxyController;
+        this.permits = permits;
+        this.completionQueue = completionQueue;
     }
 
     @Override
@@ -90,10 +126,33 @@ class ProxyTask implements Callable<ModelNode> {
             }
         };
 
-        proxyController.execute(operation, messageHandler, proxyControl, new DelegatingOperationAttachments(context));
-
         ModelController.OperationTransaction remoteTransaction = null;
-        ModelNode result = finalResultRef.get();
+        ModelNode result = null;
+        boolean acquired = false;
+        try {
+            if (permits != null) {
+                permits.acquire();
+                acquired = true;
+            }
+            if (cancelRemoteTransaction) {
+                // Controlling thread gave up on us before we got a chance to run
+                result = getFailedResult(String.format("Operation was cancelled before it was sent to %s", host));
+                setUncommittedResult(result);
+                return result;
+            }
+            startTime = System.nanoTime();
+            proxyController.execute(operation, messageHandler, proxyControl, new DelegatingOperationAttachments(context));
+        } catch (Exception e) {
+            // Don't leave the controlling thread waiting for a result that will never come
+            setUncommittedResult(getFailedResult(String.format("Failed to invoke operation on %s: %s", host, e)));
+            throw e;
+        } finally {
+            if (acquired) {
+                permits.release();
+            }
+        }
+
+        result = finalResultRef.get();
         if (result != null) {
             // operation failed before it could commit
             if (trace) {
@@ -107,10 +166,7 @@ class ProxyTask implements Callable<ModelNode> {
             remoteTransaction = txRef.get();
         }
 
-        synchronized (uncommittedResultRef) {
-            uncommittedResultRef.set(result);
-            uncommittedResultRef.notifyAll();
-        }
+        setUncommittedResult(result);
 
         if (remoteTransaction != null) {
             if (cancelRemoteTransaction) {
@@ -139,6 +195,19 @@ class ProxyTask implements Callable<ModelNode> {
         return finalResultRef.get();
     }
 
+    String getHost() {
+        return host;
+    }
+
+    /**
+     * Gets the number of milliseconds the proxy took to return its uncommitted result.
+     *
+     * @return the response time, or {@code -1} if no result has been received
+     */
+    long getResponseTime() {
+        return responseTime;
+    }
+
     ModelNode getUncommittedResult() throws InterruptedException {
         synchronized (uncommittedResultRef) {
 
@@ -155,6 +224,32 @@ class ProxyTask implements Callable<ModelNode> {
         }
     }
 
+    /**
+     * Waits at most the given time for the uncommitted result.
+     *
+     * @return the result, or {@code null} if it did not become available in time
+     */
+    ModelNode getUncommittedResult(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (uncommittedResultRef) {
+
+            while (uncommittedResultRef.get() == null) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return null;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(uncommittedResultRef, remaining);
+                }
+                catch (InterruptedException ie) {
+                    cancelRemoteTransaction = true;
+                    throw ie;
+                }
+            }
+            return uncommittedResultRef.get();
+        }
+    }
+
     void finalizeTransaction(boolean commit) {
         synchronized (transactionAction) {
             transactionAction.set(Boolean.valueOf(commit));
@@ -168,6 +263,29 @@ class ProxyTask implements Callable<ModelNode> {
         }
     }
 
+    private void setUncommittedResult(final ModelNode result) {
+        synchronized (uncommittedResultRef) {
+            if (uncommittedResultRef.get() != null) {
+                return;
+            }
+            if (startTime != 0) {
+                responseTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            }
+            uncommittedResultRef.set(result);
+            uncommittedResultRef.notifyAll();
+        }
+        if (completionQueue != null) {
+            completionQueue.add(this);
+        }
+    }
+
+    private static ModelNode getFailedResult(final String description) {
+        final ModelNode result = new ModelNode();
+        result.get(OUTCOME).set(FAILED);
+        result.get(FAILURE_DESCRIPTION).set(description);
+        return result;
+    }
+
     private static class DelegatingMessageHandler implements OperationMessageHandler {
 
         private final OperationContext context;
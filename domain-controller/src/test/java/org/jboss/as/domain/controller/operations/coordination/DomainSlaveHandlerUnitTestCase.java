@@ -0,0 +1,273 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.domain.controller.operations.coordination;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST_RESPONSE_TIMES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ProxyController;
+import org.jboss.as.controller.client.OperationAttachments;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the bounded, time limited fan-out of {@link DomainSlaveHandler} and {@link ProxyTask}.
+ */
+public class DomainSlaveHandlerUnitTestCase {
+
+    private ExecutorService executor;
+
+    @Before
+    public void createExecutor() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void shutdownExecutor() throws Exception {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testAllHostsRespond() throws Exception {
+        final Map<String, ProxyController> proxies = new LinkedHashMap<String, ProxyController>();
+        proxies.put("one", new MockProxyController(null));
+        proxies.put("two", new MockProxyController(null));
+        final RecordingDomainOperationContext domainContext = new RecordingDomainOperationContext();
+        final ModelNode headers = new ModelNode();
+
+        new DomainSlaveHandler(proxies, domainContext, executor, 10).execute(createContext(headers), new ModelNode());
+
+        Assert.assertEquals(SUCCESS, domainContext.getFirstResult("one").get(OUTCOME).asString());
+        Assert.assertEquals(SUCCESS, domainContext.getFirstResult("two").get(OUTCOME).asString());
+        Assert.assertTrue(headers.get(HOST_RESPONSE_TIMES).has("one"));
+        Assert.assertTrue(headers.get(HOST_RESPONSE_TIMES).has("two"));
+    }
+
+    @Test
+    public void testHostTimesOut() throws Exception {
+        final CountDownLatch never = new CountDownLatch(1);
+        final MockProxyController slow = new MockProxyController(never);
+        final Map<String, ProxyController> proxies = new LinkedHashMap<String, ProxyController>();
+        proxies.put("slow", slow);
+        proxies.put("fast", new MockProxyController(null));
+        final RecordingDomainOperationContext domainContext = new RecordingDomainOperationContext();
+        final ModelNode headers = new ModelNode();
+
+        final long start = System.currentTimeMillis();
+        new DomainSlaveHandler(proxies, domainContext, executor, 1).execute(createContext(headers), new ModelNode());
+        Assert.assertTrue(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(10));
+
+        // The fast host is not held up by the slow one
+        Assert.assertEquals(SUCCESS, domainContext.getFirstResult("fast").get(OUTCOME).asString());
+        Assert.assertTrue(headers.get(HOST_RESPONSE_TIMES).has("fast"));
+
+        final ModelNode timedOut = domainContext.getFirstResult("slow");
+        Assert.assertEquals(FAILED, timedOut.get(OUTCOME).asString());
+        Assert.assertTrue(timedOut.get(FAILURE_DESCRIPTION).asString(), timedOut.get(FAILURE_DESCRIPTION).asString().contains("did not respond"));
+        Assert.assertFalse(headers.get(HOST_RESPONSE_TIMES).has("slow"));
+        // The slow host's invocation was cancelled
+        Assert.assertTrue(slow.interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testHostInvocationFails() throws Exception {
+        final Map<String, ProxyController> proxies = new LinkedHashMap<String, ProxyController>();
+        proxies.put("broken", new MockProxyController(null) {
+            @Override
+            public void execute(ModelNode operation, OperationMessageHandler handler, ProxyOperationControl control, OperationAttachments attachments) {
+                throw new IllegalStateException("connection lost");
+            }
+        });
+        proxies.put("ok", new MockProxyController(null));
+        final RecordingDomainOperationContext domainContext = new RecordingDomainOperationContext();
+
+        new DomainSlaveHandler(proxies, domainContext, executor, 10).execute(createContext(new ModelNode()), new ModelNode());
+
+        final ModelNode failed = domainContext.getFirstResult("broken");
+        Assert.assertEquals(FAILED, failed.get(OUTCOME).asString());
+        Assert.assertTrue(failed.get(FAILURE_DESCRIPTION).asString(), failed.get(FAILURE_DESCRIPTION).asString().contains("connection lost"));
+        Assert.assertEquals(SUCCESS, domainContext.getFirstResult("ok").get(OUTCOME).asString());
+    }
+
+    @Test
+    public void testConcurrentRequestsBounded() throws Exception {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+        final Semaphore permits = new Semaphore(2);
+        final LinkedBlockingQueue<ProxyTask> completed = new LinkedBlockingQueue<ProxyTask>();
+        final List<ProxyTask> tasks = new ArrayList<ProxyTask>();
+        final List<Future<ModelNode>> futures = new ArrayList<Future<ModelNode>>();
+        final OperationContext context = createContext(new ModelNode());
+        for (int i = 0; i < 6; i++) {
+            final ProxyTask task = new ProxyTask("host" + i, new ModelNode(), context, new MockProxyController(null) {
+                @Override
+                public void execute(ModelNode operation, OperationMessageHandler handler, ProxyOperationControl control, OperationAttachments attachments) {
+                    final int now = active.incrementAndGet();
+                    int max;
+                    while ((max = maxActive.get()) < now && !maxActive.compareAndSet(max, now)) {
+                    }
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    active.decrementAndGet();
+                    super.execute(operation, handler, control, attachments);
+                }
+            }, permits, completed);
+            tasks.add(task);
+            futures.add(executor.submit(task));
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            Assert.assertNotNull(completed.poll(10, TimeUnit.SECONDS));
+        }
+        for (ProxyTask task : tasks) {
+            task.finalizeTransaction(true);
+        }
+        for (Future<ModelNode> future : futures) {
+            Assert.assertEquals(SUCCESS, future.get(10, TimeUnit.SECONDS).get(OUTCOME).asString());
+        }
+        Assert.assertTrue(String.valueOf(maxActive.get()), maxActive.get() <= 2);
+        Assert.assertEquals(2, permits.availablePermits());
+    }
+
+    private static OperationContext createContext(final ModelNode responseHeaders) {
+        return (OperationContext) Proxy.newProxyInstance(OperationContext.class.getClassLoader(), new Class<?>[] { OperationContext.class },
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        final String name = method.getName();
+                        if ("getResponseHeaders".equals(name)) {
+                            return responseHeaders;
+                        } else if ("hasFailureDescription".equals(name)) {
+                            return Boolean.FALSE;
+                        } else if ("completeStep".equals(name)) {
+                            return OperationContext.ResultAction.KEEP;
+                        }
+                        return null;
+                    }
+                });
+    }
+
+    /** Keeps the first result recorded per host, which the final results later overwrite */
+    private static class RecordingDomainOperationContext extends DomainOperationContext {
+
+        private final Map<String, ModelNode> firstResults = new LinkedHashMap<String, ModelNode>();
+
+        RecordingDomainOperationContext() {
+            super(null);
+            setCompleteRollback(false);
+        }
+
+        @Override
+        public synchronized void addHostControllerResult(String hostId, ModelNode hostResult) {
+            if (!firstResults.containsKey(hostId)) {
+                firstResults.put(hostId, hostResult);
+            }
+            if (hostResult != null) {
+                super.addHostControllerResult(hostId, hostResult);
+            }
+        }
+
+        synchronized ModelNode getFirstResult(String hostId) {
+            final ModelNode result = firstResults.get(hostId);
+            Assert.assertNotNull("No result for " + hostId, result);
+            return result;
+        }
+    }
+
+    /**
+     * Prepares successfully, after waiting for {@code block} if given, and completes once the transaction is
+     * committed or rolled back.
+     */
+    private static class MockProxyController implements ProxyController {
+
+        private final CountDownLatch block;
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        MockProxyController(final CountDownLatch block) {
+            this.block = block;
+        }
+
+        @Override
+        public PathAddress getProxyNodeAddress() {
+            return PathAddress.EMPTY_ADDRESS;
+        }
+
+        @Override
+        public void execute(ModelNode operation, OperationMessageHandler handler, final ProxyOperationControl control, OperationAttachments attachments) {
+            if (block != null) {
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    final ModelNode failed = new ModelNode();
+                    failed.get(OUTCOME).set(FAILED);
+                    failed.get(FAILURE_DESCRIPTION).set("interrupted");
+                    control.operationFailed(failed);
+                    return;
+                }
+            }
+            final ModelNode prepared = new ModelNode();
+            prepared.get(OUTCOME).set(SUCCESS);
+            control.operationPrepared(new ModelController.OperationTransaction() {
+                @Override
+                public void commit() {
+                    control.operationCompleted(prepared);
+                }
+
+                @Override
+                public void rollback() {
+                    control.operationCompleted(prepared);
+                }
+            }, prepared);
+        }
+    }
+}
@@ -61,6 +61,7 @@ public interface Constants {
     String IMAGE_PNG = "image/png";
     String TEXT_CSS = "text/css";
     String TEXT_HTML = "text/html";
+    String TEXT_PLAIN = "text/plain";
 
     /*
      * Charsets
@@ -424,6 +424,16 @@ class DomainApiHandler implements ManagementHttpHandler {
 
     public void start(HttpServer httpServer, SecurityRealm securityRealm) {
         HttpContext context = httpServer.createContext(DOMAIN_API_CONTEXT, this);
+        setAuthenticator(context, securityRealm);
+    }
+
+    /**
+     * Secure the context with the authentication mechanism best supported by the security realm.
+     *
+     * @param context the context to secure
+     * @param securityRealm the security realm, may be {@code null} in which case the context is left unsecured
+     */
+    static void setAuthenticator(HttpContext context, SecurityRealm securityRealm) {
         if (securityRealm != null) {
             DomainCallbackHandler callbackHandler = securityRealm.getCallbackHandler();
             Class[] supportedCallbacks = callbackHandler.getSupportedCallbacks();
@@ -157,6 +157,7 @@ public class ManagementHttpServer {
 
         ManagementHttpServer managementHttpServer = new ManagementHttpServer(httpServer, secureHttpServer, securityRealm);
         managementHttpServer.addHandler(new DomainApiHandler(modelControllerClient));
+        managementHttpServer.addHandler(new MetricsHandler(modelControllerClient));
         managementHttpServer.addHandler(new ConsoleHandler());
 
         return managementHttpServer;
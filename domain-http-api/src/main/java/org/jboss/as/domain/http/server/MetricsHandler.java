@@ -0,0 +1,262 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.domain.http.server;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_METRICS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
+import static org.jboss.as.domain.http.server.Constants.CONTENT_TYPE;
+import static org.jboss.as.domain.http.server.Constants.GET;
+import static org.jboss.as.domain.http.server.Constants.INTERNAL_SERVER_ERROR;
+import static org.jboss.as.domain.http.server.Constants.METHOD_NOT_ALLOWED;
+import static org.jboss.as.domain.http.server.Constants.OK;
+import static org.jboss.as.domain.http.server.Constants.TEXT_PLAIN;
+import static org.jboss.as.domain.http.server.Constants.UTF_8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.client.ModelControllerClient;
+import org.jboss.as.controller.client.OperationBuilder;
+import org.jboss.as.domain.management.SecurityRealm;
+import org.jboss.com.sun.net.httpserver.HttpExchange;
+import org.jboss.com.sun.net.httpserver.HttpServer;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+import org.jboss.logging.Logger;
+
+/**
+ * A read-only handler exposing every metric of the management model in the plain text exposition format used by
+ * Prometheus style scrapers.
+ * <p>
+ * A scrape executes a single read-resource-metrics operation against the root resource. Each metric becomes a sample
+ * named after the attribute with the address of its resource as labels; numeric fields of complex metrics, such as
+ * latency histograms, become samples of their own. Scrapes arriving within a second of each other share one
+ * resolution, and the time the last resolution took is reported alongside the metrics.
+ * <p>
+ * The exposition is built in memory rather than streamed: the operation result is a single {@link ModelNode} anyway,
+ * samples have to be grouped by family, and the text is kept for the scrapes sharing it.
+ */
+class MetricsHandler implements ManagementHttpHandler {
+
+    private static final String METRICS_CONTEXT = "/metrics";
+    private static final String CONTENT_TYPE_VALUE = TEXT_PLAIN + "; version=0.0.4; charset=" + UTF_8;
+    private static final String PREFIX = "jboss_";
+    private static final String SCRAPE_DURATION = PREFIX + "scrape_duration_seconds";
+    private static final String SCRAPE_SAMPLES = PREFIX + "scrape_samples";
+    private static final long SCRAPE_CACHE_MILLIS = 1000;
+
+    private static final Logger log = Logger.getLogger("org.jboss.as.domain.http.api");
+
+    private final ModelControllerClient modelController;
+
+    private byte[] lastScrape;
+    private long lastScrapeTime;
+
+    MetricsHandler(ModelControllerClient modelController) {
+        this.modelController = modelController;
+    }
+
+    public void start(HttpServer httpServer, SecurityRealm securityRealm) {
+        DomainApiHandler.setAuthenticator(httpServer.createContext(METRICS_CONTEXT, this), securityRealm);
+    }
+
+    public void stop(HttpServer httpServer) {
+        httpServer.removeContext(METRICS_CONTEXT);
+    }
+
+    public void handle(HttpExchange http) throws IOException {
+        if (!GET.equals(http.getRequestMethod())) {
+            http.sendResponseHeaders(METHOD_NOT_ALLOWED, -1);
+            return;
+        }
+
+        final byte[] body;
+        try {
+            body = scrape();
+        } catch (Throwable t) {
+            log.error("Unexpected error reading metrics", t);
+            http.sendResponseHeaders(INTERNAL_SERVER_ERROR, -1);
+            return;
+        }
+
+        http.getResponseHeaders().add(CONTENT_TYPE, CONTENT_TYPE_VALUE);
+        http.sendResponseHeaders(OK, body.length);
+        final OutputStream out = http.getResponseBody();
+        try {
+            out.write(body);
+        } finally {
+            out.close();
+        }
+    }
+
+    synchronized byte[] scrape() throws IOException {
+        final long now = System.currentTimeMillis();
+        if (lastScrape != null && now - lastScrapeTime < SCRAPE_CACHE_MILLIS) {
+            return lastScrape;
+        }
+
+        final long start = System.nanoTime();
+        final ModelNode operation = new ModelNode();
+        operation.get(OP).set(READ_RESOURCE_METRICS);
+        operation.get(OP_ADDR).setEmptyList();
+        final ModelNode response = modelController.execute(new OperationBuilder(operation).build());
+        if (FAILED.equals(response.get(OUTCOME).asString())) {
+            throw new IOException("Unable to read metrics: " + response.get(FAILURE_DESCRIPTION));
+        }
+
+        final Map<String, List<String>> families = new TreeMap<String, List<String>>();
+        int samples = 0;
+        for (ModelNode metric : response.get(RESULT).asList()) {
+            final String labels = toLabels(metric.get(ADDRESS));
+            final String name = PREFIX + sanitize(metric.get(NAME).asString());
+            final ModelNode value = metric.get(VALUE);
+            if (value.getType() == ModelType.OBJECT) {
+                for (Property field : value.asPropertyList()) {
+                    samples += addSample(families, name + "_" + sanitize(field.getName()), labels, field.getValue());
+                }
+            } else {
+                samples += addSample(families, name, labels, value);
+            }
+        }
+
+        final StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, List<String>> family : families.entrySet()) {
+            text.append("# TYPE ").append(family.getKey()).append(" untyped\n");
+            for (String sample : family.getValue()) {
+                text.append(sample);
+            }
+        }
+        final double duration = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+        text.append("# TYPE ").append(SCRAPE_DURATION).append(" gauge\n");
+        text.append(SCRAPE_DURATION).append(' ').append(duration).append('\n');
+        text.append("# TYPE ").append(SCRAPE_SAMPLES).append(" gauge\n");
+        text.append(SCRAPE_SAMPLES).append(' ').append(samples).append('\n');
+
+        lastScrape = text.toString().getBytes(UTF_8);
+        lastScrapeTime = now;
+        return lastScrape;
+    }
+
+    private static int addSample(final Map<String, List<String>> families, final String name, final String labels, final ModelNode value) {
+        final String formatted = format(value);
+        if (formatted == null) {
+            return 0;
+        }
+        List<String> samples = families.get(name);
+        if (samples == null) {
+            samples = new ArrayList<String>();
+            families.put(name, samples);
+        }
+        samples.add(name + labels + " " + formatted + "\n");
+        return 1;
+    }
+
+    /**
+     * Format a value as a sample value.
+     *
+     * @param value the value
+     * @return the formatted value, or {@code null} if the value is not numeric
+     */
+    static String format(final ModelNode value) {
+        switch (value.getType()) {
+            case INT:
+            case LONG:
+                return Long.toString(value.asLong());
+            case BIG_INTEGER:
+                return value.asBigInteger().toString();
+            case DOUBLE:
+            case BIG_DECIMAL: {
+                final double d = value.asDouble();
+                if (Double.isInfinite(d)) {
+                    return d > 0 ? "+Inf" : "-Inf";
+                }
+                return Double.toString(d);
+            }
+            case BOOLEAN:
+                return value.asBoolean() ? "1" : "0";
+            default:
+                return null;
+        }
+    }
+
+    static String toLabels(final ModelNode address) {
+        if (!address.isDefined() || address.asInt() == 0) {
+            return "";
+        }
+        final StringBuilder labels = new StringBuilder("{");
+        for (Property element : address.asPropertyList()) {
+            if (labels.length() > 1) {
+                labels.append(',');
+            }
+            labels.append(sanitize(element.getName())).append("=\"");
+            final String value = element.getValue().asString();
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                switch (c) {
+                    case '\\':
+                        labels.append("\\\\");
+                        break;
+                    case '"':
+                        labels.append("\\\"");
+                        break;
+                    case '\n':
+                        labels.append("\\n");
+                        break;
+                    default:
+                        labels.append(c);
+                }
+            }
+            labels.append('"');
+        }
+        return labels.append('}').toString();
+    }
+
+    static String sanitize(final String name) {
+        final StringBuilder sanitized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_') {
+                sanitized.append(c);
+            } else {
+                sanitized.append('_');
+            }
+        }
+        return sanitized.toString();
+    }
+
+}
@@ -26,6 +26,7 @@ import static org.jboss.as.domain.http.server.Constants.AUTHORIZATION_HEADER;
 import static org.jboss.as.domain.http.server.Constants.FORBIDDEN;
 import static org.jboss.as.domain.http.server.Constants.GET;
 import static org.jboss.as.domain.http.server.Constants.UNAUTHORIZED;
+import static org.jboss.as.domain.http.server.Constants.UTF_8;
 import static org.jboss.as.domain.http.server.Constants.WWW_AUTHENTICATE_HEADER;
 
 import javax.security.auth.callback.Callback;
@@ -40,6 +41,8 @@ import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.jboss.as.domain.management.security.DigestHashCallback;
+import org.jboss.as.domain.management.security.DomainCallbackHandler;
 import org.jboss.as.domain.management.security.UserNotFoundException;
 import org.jboss.as.domain.management.util.HexUtil;
 import org.jboss.com.sun.net.httpserver.Authenticator;
@@ -63,6 +66,8 @@ public class DigestAuthenticator extends Authenticator {
 
     private final String realm;
 
+    private final boolean digestHashCallback;
+
     private static final byte COLON = ':';
     private static final String CHALLENGE = "Digest";
     private static final String NONCE = "nonce";
@@ -72,9 +77,10 @@ public class DigestAuthenticator extends Authenticator {
     private static final String USERNAME = "username";
     private static final String URI = "uri";
 
-    public DigestAuthenticator(CallbackHandler callbackHandler, String realm) {
+    public DigestAuthenticator(DomainCallbackHandler callbackHandler, String realm) {
         this.callbackHandler = callbackHandler;
         this.realm = realm;
+        digestHashCallback = contains(DigestHashCallback.class, callbackHandler.getSupportedCallbacks());
     }
 
     @Override
@@ -142,13 +148,16 @@ public class DigestAuthenticator extends Authenticator {
 
         // Step 1 - Create Callbacks
         // TODO - Should we use SASL callbacks or add our own and have our handler support both?
-        /* TODO - Maybe also consider callbacks for returning some parts ready hashed e.g. HA1 - this
-           would mean password not even needed by JBoss installation, Hash would also only be applicable
-           this realm. */
+        // Where the handler can supply HA1 ready hashed the password is not needed at all.
         RealmCallback rcb = new RealmCallback("Realm", realm);
         NameCallback ncb = new NameCallback("Username", username);
-        PasswordCallback pcb = new PasswordCallback("Password", false);
-        Callback[] callbacks = new Callback[]{rcb, ncb, pcb};
+        Callback credentialCallback;
+        if (digestHashCallback) {
+            credentialCallback = new DigestHashCallback();
+        } else {
+            credentialCallback = new PasswordCallback("Password", false);
+        }
+        Callback[] callbacks = new Callback[]{rcb, ncb, credentialCallback};
 
         // Step 2 - Call CallbackHandler
         try {
@@ -171,13 +180,22 @@ public class DigestAuthenticator extends Authenticator {
             // TODO - The remaining combinations from RFC-2617 need to be added.
             // TODO - Verify all required parameters were set.
             MessageDigest md = MessageDigest.getInstance(MD5);
-            md.update(challengeParameters.get(USERNAME).getBytes());
-            md.update(COLON);
-            md.update(challengeParameters.get(REALM).getBytes());
-            md.update(COLON);
-            md.update(new String(pcb.getPassword()).getBytes());
-
-            byte[] ha1 = HexUtil.convertToHexBytes(md.digest());
+            byte[] ha1;
+            if (digestHashCallback) {
+                ha1 = ((DigestHashCallback) credentialCallback).getHexHash();
+                if (ha1 == null) {
+                    return null;
+                }
+            } else {
+                // Hash as UTF-8, the encoding handlers supplying the hash use
+                md.update(challengeParameters.get(USERNAME).getBytes(UTF_8));
+                md.update(COLON);
+                md.update(challengeParameters.get(REALM).getBytes(UTF_8));
+                md.update(COLON);
+                md.update(new String(((PasswordCallback) credentialCallback).getPassword()).getBytes(UTF_8));
+
+                ha1 = HexUtil.convertToHexBytes(md.digest());
+            }
 
             md.update(httpExchange.getRequestMethod().getBytes());
             md.update(COLON);
@@ -383,7 +401,7 @@ public class DigestAuthenticator extends Authenticator {
         if (contains(RealmCallback.class, callbacks) == false) {
             return false;
         }
-        if (contains(PasswordCallback.class, callbacks) == false) {
+        if ((contains(PasswordCallback.class, callbacks) == false) && (contains(DigestHashCallback.class, callbacks) == false)) {
             return false;
         }
 
@@ -0,0 +1,197 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.domain.http.server;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.jboss.as.controller.client.ModelControllerClient;
+import org.jboss.com.sun.net.httpserver.HttpServer;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Tests of the metrics exposition handler.
+ */
+public class MetricsHandlerTestCase {
+
+    private static final String EXPECTED_METRICS = "# TYPE jboss_authentication_time_count untyped\n"
+            + "jboss_authentication_time_count{core_service=\"management\",security_realm=\"ManagementRealm\"} 3\n"
+            + "# TYPE jboss_authentication_time_mean untyped\n"
+            + "jboss_authentication_time_mean{core_service=\"management\",security_realm=\"ManagementRealm\"} 1.5\n"
+            + "# TYPE jboss_enabled untyped\n"
+            + "jboss_enabled 1\n"
+            + "# TYPE jboss_max_time untyped\n"
+            + "jboss_max_time{subsystem=\"web\"} +Inf\n"
+            + "# TYPE jboss_requestCount untyped\n"
+            + "jboss_requestCount{subsystem=\"web\",connector=\"http\"} 5\n"
+            + "jboss_requestCount{subsystem=\"web\",connector=\"a\\\"b\\\\c\\nd\"} 7\n";
+
+    private static final Pattern SCRAPE_STATISTICS = Pattern.compile("# TYPE jboss_scrape_duration_seconds gauge\n"
+            + "jboss_scrape_duration_seconds [0-9.E-]+\n"
+            + "# TYPE jboss_scrape_samples gauge\n"
+            + "jboss_scrape_samples 6\n");
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    public void testFormat() throws Exception {
+        final String text = new String(new MetricsHandler(createClient()).scrape(), Constants.UTF_8);
+        assertTrue(text, text.startsWith(EXPECTED_METRICS));
+        assertTrue(text, SCRAPE_STATISTICS.matcher(text.substring(EXPECTED_METRICS.length())).matches());
+    }
+
+    @Test
+    public void testFormatValue() {
+        assertEquals("42", MetricsHandler.format(new ModelNode().set(42)));
+        assertEquals("42", MetricsHandler.format(new ModelNode().set(42L)));
+        assertEquals("0.25", MetricsHandler.format(new ModelNode().set(0.25)));
+        assertEquals("-Inf", MetricsHandler.format(new ModelNode().set(Double.NEGATIVE_INFINITY)));
+        assertEquals("0", MetricsHandler.format(new ModelNode().set(false)));
+        assertNull(MetricsHandler.format(new ModelNode().set("42")));
+        assertNull(MetricsHandler.format(new ModelNode()));
+    }
+
+    @Test
+    public void testLabels() {
+        assertEquals("", MetricsHandler.toLabels(new ModelNode()));
+        assertEquals("", MetricsHandler.toLabels(new ModelNode().setEmptyList()));
+        final ModelNode address = new ModelNode();
+        address.add("subsystem", "web");
+        address.add("virtual-server", "back\\slash \"quoted\"\nnext line");
+        assertEquals("{subsystem=\"web\",virtual_server=\"back\\\\slash \\\"quoted\\\"\\nnext line\"}",
+                MetricsHandler.toLabels(address));
+    }
+
+    @Test
+    public void testSanitize() {
+        assertEquals("requestCount", MetricsHandler.sanitize("requestCount"));
+        assertEquals("cache_hit_count", MetricsHandler.sanitize("cache-hit-count"));
+        assertEquals("a_b_c_d", MetricsHandler.sanitize("a.b:c d"));
+        assertEquals("_", MetricsHandler.sanitize("\u00e9"));
+    }
+
+    @Test
+    public void testScrapesWithinASecondShareOneResolution() throws Exception {
+        final MetricsHandler handler = new MetricsHandler(createClient());
+        final byte[] first = handler.scrape();
+        assertSame(first, handler.scrape());
+        assertEquals(1, executions.get());
+
+        Thread.sleep(1100);
+        handler.scrape();
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    public void testHttp() throws Exception {
+        final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/metrics", new MetricsHandler(createClient()));
+        server.start();
+        try {
+            final URL url = new URL("http", "localhost", server.getAddress().getPort(), "/metrics");
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            assertEquals(Constants.OK, connection.getResponseCode());
+            assertEquals("text/plain; version=0.0.4; charset=utf-8", connection.getContentType());
+            assertTrue(read(connection.getInputStream()).startsWith(EXPECTED_METRICS));
+
+            connection = (HttpURLConnection) url.openConnection();
+            connection.setRequestMethod("POST");
+            assertEquals(Constants.METHOD_NOT_ALLOWED, connection.getResponseCode());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private ModelControllerClient createClient() {
+        final ModelNode response = new ModelNode();
+        response.get(OUTCOME).set(SUCCESS);
+        final ModelNode result = response.get(RESULT).setEmptyList();
+        addMetric(result, "requestCount", new ModelNode().set(5L), "subsystem", "web", "connector", "http");
+        addMetric(result, "requestCount", new ModelNode().set(7), "subsystem", "web", "connector", "a\"b\\c\nd");
+        final ModelNode histogram = new ModelNode();
+        histogram.get("count").set(3L);
+        histogram.get("mean").set(1.5);
+        histogram.get("unit").set("ms");
+        addMetric(result, "authentication-time", histogram, "core-service", "management", "security-realm", "ManagementRealm");
+        addMetric(result, "enabled", new ModelNode().set(true));
+        addMetric(result, "description", new ModelNode().set("not a number"), "subsystem", "web");
+        addMetric(result, "max.time", new ModelNode().set(Double.POSITIVE_INFINITY), "subsystem", "web");
+
+        return (ModelControllerClient) Proxy.newProxyInstance(ModelControllerClient.class.getClassLoader(),
+                new Class<?>[] { ModelControllerClient.class }, new InvocationHandler() {
+                    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                        if ("execute".equals(method.getName())) {
+                            executions.incrementAndGet();
+                            return response.clone();
+                        }
+                        return null;
+                    }
+                });
+    }
+
+    private static void addMetric(final ModelNode result, final String name, final ModelNode value, final String... address) {
+        final ModelNode metric = new ModelNode();
+        metric.get(ADDRESS).setEmptyList();
+        for (int i = 0; i < address.length; i += 2) {
+            metric.get(ADDRESS).add(address[i], address[i + 1]);
+        }
+        metric.get(NAME).set(name);
+        metric.get(VALUE).set(value);
+        result.add(metric);
+    }
+
+    private static String read(final InputStream in) throws IOException {
+        try {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), Constants.UTF_8);
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.domain.management.operations;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTHENTICATION_CACHE_HIT_COUNT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTHENTICATION_CACHE_MISS_COUNT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTHENTICATION_TIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.domain.management.security.SecurityRealmService;
+import org.jboss.as.domain.management.security.UserLdapCallbackHandler;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Security realm metric handlers reporting on authentication against LDAP. Realms which do not authenticate against
+ * LDAP, or which have not been started, report an undefined value.
+ */
+public final class LdapAuthenticationMetricHandlers {
+
+    abstract static class AbstractLdapAuthenticationMetricHandler implements OperationStepHandler {
+
+        /** {@inheritDoc} */
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final PathAddress address = PathAddress.pathAddress(operation.get(OP_ADDR));
+            final String realmName = address.getLastElement().getValue();
+
+            context.addStep(new OperationStepHandler() {
+                @Override
+                public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+                    final ServiceController<?> controller = context.getServiceRegistry(false).getService(
+                            SecurityRealmService.BASE_SERVICE_NAME.append(realmName, UserLdapCallbackHandler.SERVICE_SUFFIX));
+                    if (controller != null && controller.getState() == ServiceController.State.UP) {
+                        final UserLdapCallbackHandler handler = UserLdapCallbackHandler.class.cast(controller.getValue());
+                        AbstractLdapAuthenticationMetricHandler.this.execute(handler, context.getResult());
+                    }
+                    context.completeStep();
+                }
+            }, OperationContext.Stage.RUNTIME);
+            context.completeStep();
+        }
+
+        abstract void execute(UserLdapCallbackHandler handler, ModelNode result);
+    }
+
+    public static class AuthenticationTimeHandler extends AbstractLdapAuthenticationMetricHandler {
+
+        public static final String ATTRIBUTE_NAME = AUTHENTICATION_TIME;
+        public static final OperationStepHandler INSTANCE = new AuthenticationTimeHandler();
+
+        private AuthenticationTimeHandler() {
+            //
+        }
+
+        @Override
+        void execute(final UserLdapCallbackHandler handler, final ModelNode result) {
+            result.set(handler.getAuthenticationTimes().toModelNode());
+        }
+    }
+
+    public static class CacheHitCountHandler extends AbstractLdapAuthenticationMetricHandler {
+
+        public static final String ATTRIBUTE_NAME = AUTHENTICATION_CACHE_HIT_COUNT;
+        public static final OperationStepHandler INSTANCE = new CacheHitCountHandler();
+
+        private CacheHitCountHandler() {
+            //
+        }
+
+        @Override
+        void execute(final UserLdapCallbackHandler handler, final ModelNode result) {
+            result.set(handler.getCacheHitCount());
+        }
+    }
+
+    public static class CacheMissCountHandler extends AbstractLdapAuthenticationMetricHandler {
+
+        public static final String ATTRIBUTE_NAME = AUTHENTICATION_CACHE_MISS_COUNT;
+        public static final OperationStepHandler INSTANCE = new CacheMissCountHandler();
+
+        private CacheMissCountHandler() {
+            //
+        }
+
+        @Override
+        void execute(final UserLdapCallbackHandler handler, final ModelNode result) {
+            result.set(handler.getCacheMissCount());
+        }
+    }
+
+    private LdapAuthenticationMetricHandlers() {
+        //
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.domain.management.security;
+
+import javax.security.auth.callback.Callback;
+
+/**
+ * A Callback to obtain the pre-computed hash of 'username:realm:password' used by digest authentication, so the
+ * plain text password does not need to be available. The hash is the MD5 of the UTF-8 encoding of that string.
+ */
+public class DigestHashCallback implements Callback {
+
+    private byte[] hexHash;
+
+    /**
+     * Get the hash.
+     *
+     * @return the hex encoded hash as lower case ASCII bytes, or {@code null} if no hash was set
+     */
+    public byte[] getHexHash() {
+        return hexHash;
+    }
+
+    public void setHexHash(final byte[] hexHash) {
+        this.hexHash = hexHash;
+    }
+
+}
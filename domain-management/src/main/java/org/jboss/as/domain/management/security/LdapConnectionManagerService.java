@@ -48,6 +48,12 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
     public static final ServiceName BASE_SERVICE_NAME = ServiceName.JBOSS.append("server", "controller", "management", "connection_manager");
 
     private static final String DEFAULT_INITIAL_CONTEXT = "com.sun.jndi.ldap.LdapCtxFactory";
+    /*
+     * Asks the JDK LDAP provider to keep the underlying connection open when the context is closed and hand it to the
+     * next context created with the same properties; the pool is sized using the standard
+     * com.sun.jndi.ldap.connect.pool.* system properties.
+     */
+    private static final String CONNECTION_POOL = "com.sun.jndi.ldap.connect.pool";
 
     /* Contains connection information only with no principal or credentials. */
     private Properties connectionOnlyProperties;
@@ -85,6 +91,10 @@ public class LdapConnectionManagerService implements Service<LdapConnectionManag
 
         fullProperties.put(Context.SECURITY_PRINCIPAL,searchDN);
         fullProperties.put(Context.SECURITY_CREDENTIALS,searchCredential);
+        // Only the search connections are pooled, connections bound as an individual user are closed once verified.
+        if (DEFAULT_INITIAL_CONTEXT.equals(initialContextFactory)) {
+            fullProperties.put(CONNECTION_POOL, "true");
+        }
     }
 
     public void stop(StopContext context) {
@@ -23,6 +23,7 @@
 package org.jboss.as.domain.management.security;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PATH;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PLAIN_TEXT;
 
 import javax.security.auth.callback.Callback;
 import javax.security.auth.callback.NameCallback;
@@ -31,13 +32,22 @@ import javax.security.auth.callback.UnsupportedCallbackException;
 import javax.security.sasl.AuthorizeCallback;
 import javax.security.sasl.RealmCallback;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 
+import org.jboss.as.domain.management.util.HexUtil;
 import org.jboss.dmr.ModelNode;
+import org.jboss.logging.Logger;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -46,23 +56,47 @@ import org.jboss.msc.value.InjectedValue;
 
 /**
  * A CallbackHandler obtaining the users and their passwords from a properties file.
+ * <p>
+ * The passwords are either held in plain text or as the hex encoded MD5 hash of the UTF-8 encoding of
+ * 'username:realm:password', the hash digest authentication starts from. The file is checked for modification at most once a second as authentication
+ * requests arrive; a changed file is loaded into a new immutable set of users which then replaces the current one, a
+ * file which fails to load leaves the current users in place.
  *
  * @author <a href="mailto:darran.lofthouse@jboss.com">Darran Lofthouse</a>
  */
 public class PropertiesCallbackHandler implements Service<PropertiesCallbackHandler>, DomainCallbackHandler {
 
     public static final String SERVICE_SUFFIX = "properties";
-    private static final Class[] supportedCallbacks = {AuthorizeCallback.class, RealmCallback.class,
-                                                       NameCallback.class, PasswordCallback.class};
+    private static final Class[] plainTextCallbacks = {AuthorizeCallback.class, RealmCallback.class,
+                                                       NameCallback.class, PasswordCallback.class, DigestHashCallback.class};
+    private static final Class[] hashedCallbacks = {AuthorizeCallback.class, RealmCallback.class,
+                                                    NameCallback.class, DigestHashCallback.class, VerifyPasswordCallback.class};
+
+    private static final Logger log = Logger.getLogger("org.jboss.as.domain-management");
+
+    private static final String MD5 = "MD5";
+    private static final byte COLON = ':';
+    private static final long RELOAD_CHECK_INTERVAL = 1000;
+    /* Compared against when the user is unknown so verification takes the same time either way. */
+    private static final byte[] UNKNOWN_USER_HASH = new byte[32];
 
     private final String realm;
     private final String path;
+    private final boolean plainText;
     private final InjectedValue<String> relativeTo = new InjectedValue<String>();
-    private final Properties users = new Properties();
+
+    private File propertiesFile;
+    private volatile Users users;
+    private volatile long nextReloadCheck;
 
     public PropertiesCallbackHandler(String realm, ModelNode properties) {
         this.realm = realm;
         path = properties.require(PATH).asString();
+        if (properties.hasDefined(PLAIN_TEXT)) {
+            plainText = properties.require(PLAIN_TEXT).asBoolean();
+        } else {
+            plainText = true;
+        }
     }
 
     /*
@@ -73,18 +107,18 @@ public class PropertiesCallbackHandler implements Service<PropertiesCallbackHand
         String relativeTo = this.relativeTo.getOptionalValue();
         String file = relativeTo == null ? path : relativeTo + "/" + path;
 
-        File propertiesFile = new File(file);
+        propertiesFile = new File(file);
         try {
-            users.load(propertiesFile.toURI().toURL().openStream());
-        } catch (MalformedURLException mue) {
-            throw new StartException("Unable to load properties", mue);
+            users = load();
         } catch (IOException ioe) {
             throw new StartException("Unable to load properties", ioe);
         }
+        nextReloadCheck = System.currentTimeMillis() + RELOAD_CHECK_INTERVAL;
     }
 
     public void stop(StopContext context) {
-        users.clear();
+        users = null;
+        propertiesFile = null;
     }
 
     public PropertiesCallbackHandler getValue() throws IllegalStateException, IllegalArgumentException {
@@ -104,12 +138,14 @@ public class PropertiesCallbackHandler implements Service<PropertiesCallbackHand
      */
 
     public Class[] getSupportedCallbacks() {
-        return supportedCallbacks;
+        return plainText ? plainTextCallbacks : hashedCallbacks;
     }
 
     public void handle(Callback[] callbacks) throws IOException, UnsupportedCallbackException {
         List<Callback> toRespondTo = new LinkedList<Callback>();
 
+        // Use the same set of users for the whole request even if the file is reloaded meanwhile.
+        final Users users = getUsers();
         String userName = null;
         boolean userFound = false;
 
@@ -125,8 +161,15 @@ public class PropertiesCallbackHandler implements Service<PropertiesCallbackHand
             } else if (current instanceof NameCallback) {
                 NameCallback nameCallback = (NameCallback) current;
                 userName = nameCallback.getDefaultName();
-                userFound = users.containsKey(userName);
+                userFound = users.credentials.containsKey(userName);
             } else if (current instanceof PasswordCallback) {
+                if (plainText == false) {
+                    throw new UnsupportedCallbackException(current);
+                }
+                toRespondTo.add(current);
+            } else if (current instanceof DigestHashCallback) {
+                toRespondTo.add(current);
+            } else if (current instanceof VerifyPasswordCallback) {
                 toRespondTo.add(current);
             } else if (current instanceof RealmCallback) {
                 String realm = ((RealmCallback) current).getDefaultText();
@@ -149,12 +192,121 @@ public class PropertiesCallbackHandler implements Service<PropertiesCallbackHand
                 if (userFound == false) {
                     throw new UserNotFoundException(userName);
                 }
-                String password = users.get(userName).toString();
+                String password = users.credentials.get(userName).password;
                 ((PasswordCallback) current).setPassword(password.toCharArray());
+            } else if (current instanceof DigestHashCallback) {
+                if (userFound == false) {
+                    throw new UserNotFoundException(userName);
+                }
+                ((DigestHashCallback) current).setHexHash(users.credentials.get(userName).hexHash.clone());
+            } else if (current instanceof VerifyPasswordCallback) {
+                VerifyPasswordCallback verifyPasswordCallback = (VerifyPasswordCallback) current;
+                byte[] expected = userFound ? users.credentials.get(userName).hexHash : UNKNOWN_USER_HASH;
+                byte[] actual = hexHash(userName == null ? "" : userName, verifyPasswordCallback.getPassword());
+                verifyPasswordCallback.setVerified(MessageDigest.isEqual(expected, actual) && userFound);
             }
         }
 
     }
 
+    private Users getUsers() {
+        final long now = System.currentTimeMillis();
+        if (now >= nextReloadCheck) {
+            synchronized (this) {
+                if (now >= nextReloadCheck) {
+                    nextReloadCheck = now + RELOAD_CHECK_INTERVAL;
+                    final Users current = users;
+                    if (current.isModified(propertiesFile)) {
+                        try {
+                            users = load();
+                        } catch (IOException e) {
+                            log.warnf(e, "Unable to reload users from %s, continuing with the previous users", propertiesFile);
+                        }
+                    }
+                }
+            }
+        }
+        return users;
+    }
+
+    private Users load() throws IOException {
+        final long lastModified = propertiesFile.lastModified();
+        final long length = propertiesFile.length();
+
+        final Properties properties = new Properties();
+        final InputStream is = new FileInputStream(propertiesFile);
+        try {
+            properties.load(is);
+        } finally {
+            try {
+                is.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        final Map<String, Credential> credentials = new HashMap<String, Credential>();
+        for (String userName : properties.stringPropertyNames()) {
+            final String value = properties.getProperty(userName);
+            if (plainText) {
+                credentials.put(userName, new Credential(value, hexHash(userName, value)));
+            } else {
+                final String hexHash = value.trim().toLowerCase(Locale.ENGLISH);
+                if (hexHash.matches("[0-9a-f]{32}") == false) {
+                    throw new IOException("The value for user '" + userName + "' is not a hex encoded MD5 hash");
+                }
+                credentials.put(userName, new Credential(null, hexHash.getBytes("US-ASCII")));
+            }
+        }
+
+        return new Users(Collections.unmodifiableMap(credentials), lastModified, length);
+    }
+
+    private byte[] hexHash(final String userName, final String password) throws IOException {
+        try {
+            MessageDigest md = MessageDigest.getInstance(MD5);
+            md.update(userName.getBytes("UTF-8"));
+            md.update(COLON);
+            md.update(realm.getBytes("UTF-8"));
+            md.update(COLON);
+            md.update(password.getBytes("UTF-8"));
+
+            return HexUtil.convertToHexBytes(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Unable to hash password as MD5 is unavailable.", e);
+        }
+    }
+
+    private static final class Credential {
+
+        /* The plain text password, null if only the hash is known. */
+        private final String password;
+        private final byte[] hexHash;
+
+        private Credential(final String password, final byte[] hexHash) {
+            this.password = password;
+            this.hexHash = hexHash;
+        }
+    }
+
+    /**
+     * An immutable snapshot of the users loaded from the properties file.
+     */
+    private static final class Users {
+
+        private final Map<String, Credential> credentials;
+        private final long lastModified;
+        private final long length;
+
+        private Users(final Map<String, Credential> credentials, final long lastModified, final long length) {
+            this.credentials = credentials;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        private boolean isModified(final File file) {
+            return file.lastModified() != lastModified || file.length() != length;
+        }
+    }
+
 
 }
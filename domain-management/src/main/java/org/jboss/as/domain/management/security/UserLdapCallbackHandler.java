@@ -23,7 +23,9 @@
 package org.jboss.as.domain.management.security;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BASE_DN;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CACHE_TTL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RECURSIVE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SEARCH_TIME_LIMIT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.USERNAME_ATTRIBUTE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.USER_DN;
 
@@ -40,7 +42,16 @@ import javax.security.auth.callback.NameCallback;
 import javax.security.auth.callback.UnsupportedCallbackException;
 import javax.security.sasl.RealmCallback;
 import java.io.IOException;
-
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.as.controller.LatencyHistogram;
 import org.jboss.as.domain.management.connections.ConnectionManager;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.Service;
@@ -60,6 +71,10 @@ public class UserLdapCallbackHandler implements Service<UserLdapCallbackHandler>
 
     private static final Class[] supportedCallbacks = {RealmCallback.class, NameCallback.class, VerifyPasswordCallback.class};
     private static final String DEFAULT_USER_DN = "dn";
+    private static final int DEFAULT_SEARCH_TIME_LIMIT = 10000;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    /* Once the cache holds this many entries a put first sweeps out the expired ones. */
+    private static final int CACHE_SWEEP_THRESHOLD = 1024;
 
     private final InjectedValue<ConnectionManager> connectionManager = new InjectedValue<ConnectionManager>();
 
@@ -67,7 +82,15 @@ public class UserLdapCallbackHandler implements Service<UserLdapCallbackHandler>
     private final String usernameAttribute;
     private final boolean recursive;
     private final String userDn;
-    protected final int searchTimeLimit = 10000; // TODO - Maybe make configurable.
+    protected final int searchTimeLimit;
+    private final long cacheTtl;
+
+    /* Verified credentials by username, only the salted digest of the password is held. */
+    private final ConcurrentMap<String, VerifiedCredential> verifiedCredentials = new ConcurrentHashMap<String, VerifiedCredential>();
+    private final byte[] salt = new byte[16];
+    private final LatencyHistogram authenticationTimes = new LatencyHistogram();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
 
     public UserLdapCallbackHandler(ModelNode userLdap) {
         baseDn = userLdap.require(BASE_DN).asString();
@@ -82,6 +105,16 @@ public class UserLdapCallbackHandler implements Service<UserLdapCallbackHandler>
         } else {
             userDn = DEFAULT_USER_DN;
         }
+        if (userLdap.hasDefined(SEARCH_TIME_LIMIT)) {
+            searchTimeLimit = userLdap.require(SEARCH_TIME_LIMIT).asInt();
+        } else {
+            searchTimeLimit = DEFAULT_SEARCH_TIME_LIMIT;
+        }
+        if (userLdap.hasDefined(CACHE_TTL)) {
+            cacheTtl = userLdap.require(CACHE_TTL).asLong();
+        } else {
+            cacheTtl = 0;
+        }
     }
 
     /*
@@ -89,9 +122,11 @@ public class UserLdapCallbackHandler implements Service<UserLdapCallbackHandler>
      */
 
     public void start(StartContext context) throws StartException {
+        new SecureRandom().nextBytes(salt);
     }
 
     public void stop(StopContext context) {
+        verifiedCredentials.clear();
     }
 
     public UserLdapCallbackHandler getValue() throws IllegalStateException, IllegalArgumentException {
@@ -106,6 +141,37 @@ public class UserLdapCallbackHandler implements Service<UserLdapCallbackHandler>
         return connectionManager;
     }
 
+    /*
+     *  Statistics
+     */
+
+    /**
+     * Get the time taken by authentications which had to contact LDAP.
+     *
+     * @return the authentication times
+     */
+    public LatencyHistogram getAuthenticationTimes() {
+        return authenticationTimes;
+    }
+
+    /**
+     * Get the number of authentications verified from the credential cache.
+     *
+     * @return the cache hit count
+     */
+    public long getCacheHitCount() {
+        return cacheHits.get();
+    }
+
+    /**
+     * Get the number of authentications which had to contact LDAP while the credential cache was enabled.
+     *
+     * @return the cache miss count
+     */
+    public long getCacheMissCount() {
+        return cacheMisses.get();
+    }
+
 
     /*
      *  DomainCallbackHandler Methods
@@ -141,6 +207,17 @@ public class UserLdapCallbackHandler implements Service<UserLdapCallbackHandler>
             throw new IOException("No password to verify.");
         }
 
+        final byte[] digest = cacheTtl > 0 ? digest(verifyPasswordCallback.getPassword()) : null;
+        if (digest != null) {
+            if (isCached(username, digest)) {
+                cacheHits.incrementAndGet();
+                verifyPasswordCallback.setVerified(true);
+                return;
+            }
+            cacheMisses.incrementAndGet();
+        }
+
+        final long start = System.nanoTime();
         InitialDirContext searchContext = null;
         InitialDirContext userContext = null;
         NamingEnumeration<SearchResult> searchEnumeration = null;
@@ -186,6 +263,9 @@ public class UserLdapCallbackHandler implements Service<UserLdapCallbackHandler>
             userContext = (InitialDirContext) connectionManager.getConnection(distinguishedUserDN, verifyPasswordCallback.getPassword());
             if (userContext != null) {
                 verifyPasswordCallback.setVerified(true);
+                if (digest != null) {
+                    cache(username, digest);
+                }
             }
 
         } catch (Exception e) {
@@ -194,6 +274,44 @@ public class UserLdapCallbackHandler implements Service<UserLdapCallbackHandler>
             safeClose(searchEnumeration);
             safeClose(searchContext);
             safeClose(userContext);
+            authenticationTimes.record(System.nanoTime() - start);
+        }
+    }
+
+    private boolean isCached(final String username, final byte[] digest) {
+        VerifiedCredential credential = verifiedCredentials.get(username);
+        if (credential == null) {
+            return false;
+        }
+        if (credential.isExpired(System.currentTimeMillis())) {
+            verifiedCredentials.remove(username, credential);
+            return false;
+        }
+        return MessageDigest.isEqual(credential.digest, digest);
+    }
+
+    private void cache(final String username, final byte[] digest) {
+        final long now = System.currentTimeMillis();
+        if (verifiedCredentials.size() >= CACHE_SWEEP_THRESHOLD) {
+            Iterator<VerifiedCredential> it = verifiedCredentials.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().isExpired(now)) {
+                    it.remove();
+                }
+            }
+        }
+        verifiedCredentials.put(username, new VerifiedCredential(digest, now + cacheTtl));
+    }
+
+    private byte[] digest(final String password) throws IOException {
+        try {
+            MessageDigest md = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            md.update(salt);
+            return md.digest(password.getBytes("UTF-8"));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Unable to cache verification", e);
+        } catch (UnsupportedEncodingException e) {
+            throw new IOException("Unable to cache verification", e);
         }
     }
 
@@ -215,4 +333,19 @@ public class UserLdapCallbackHandler implements Service<UserLdapCallbackHandler>
         }
     }
 
+    private static final class VerifiedCredential {
+
+        private final byte[] digest;
+        private final long expires;
+
+        private VerifiedCredential(final byte[] digest, final long expires) {
+            this.digest = digest;
+            this.expires = expires;
+        }
+
+        private boolean isExpired(final long now) {
+            return now >= expires;
+        }
+    }
+
 }
@@ -0,0 +1,197 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.domain.management.security;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PATH;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PLAIN_TEXT;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import javax.security.auth.callback.Callback;
+import javax.security.auth.callback.NameCallback;
+import javax.security.auth.callback.PasswordCallback;
+import javax.security.auth.callback.UnsupportedCallbackException;
+import javax.security.sasl.RealmCallback;
+
+import org.jboss.as.domain.management.util.HexUtil;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.StartException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the properties file callback handler in plain text and hashed mode.
+ */
+public class PropertiesCallbackHandlerTestCase {
+
+    private static final String REALM = "ManagementRealm";
+    /* A password with a character outside of ASCII, escaped as the properties file format expects. */
+    private static final String PASSWORD = "p\u00e4ssword";
+    private static final String ESCAPED_PASSWORD = "p\\u00e4ssword";
+
+    private File propertiesFile;
+
+    @Before
+    public void createFile() throws Exception {
+        propertiesFile = File.createTempFile("mgmt-users", ".properties");
+    }
+
+    @After
+    public void deleteFile() {
+        propertiesFile.delete();
+    }
+
+    @Test
+    public void testPlainText() throws Exception {
+        write("alice=" + ESCAPED_PASSWORD + "\n");
+        final PropertiesCallbackHandler handler = createHandler(true);
+        assertTrue(Arrays.asList(handler.getSupportedCallbacks()).contains(PasswordCallback.class));
+        assertTrue(Arrays.asList(handler.getSupportedCallbacks()).contains(DigestHashCallback.class));
+
+        final PasswordCallback passwordCallback = new PasswordCallback("Password", false);
+        handler.handle(callbacks("alice", passwordCallback));
+        assertEquals(PASSWORD, new String(passwordCallback.getPassword()));
+
+        // The hash handed to digest authentication is taken over the UTF-8 encoding
+        final DigestHashCallback digestHashCallback = new DigestHashCallback();
+        handler.handle(callbacks("alice", digestHashCallback));
+        assertArrayEquals(hexHash("alice", PASSWORD), digestHashCallback.getHexHash());
+    }
+
+    @Test
+    public void testPlainTextUnknownUser() throws Exception {
+        write("alice=" + ESCAPED_PASSWORD + "\n");
+        final PropertiesCallbackHandler handler = createHandler(true);
+        try {
+            handler.handle(callbacks("bob", new PasswordCallback("Password", false)));
+            fail("An unknown user should not be found");
+        } catch (UserNotFoundException expected) {
+        }
+    }
+
+    @Test
+    public void testHashed() throws Exception {
+        // Stored hashes are accepted in either case
+        write("alice=" + new String(hexHash("alice", PASSWORD), "US-ASCII").toUpperCase() + "\n");
+        final PropertiesCallbackHandler handler = createHandler(false);
+        assertFalse(Arrays.asList(handler.getSupportedCallbacks()).contains(PasswordCallback.class));
+        assertTrue(Arrays.asList(handler.getSupportedCallbacks()).contains(VerifyPasswordCallback.class));
+
+        final DigestHashCallback digestHashCallback = new DigestHashCallback();
+        handler.handle(callbacks("alice", digestHashCallback));
+        assertArrayEquals(hexHash("alice", PASSWORD), digestHashCallback.getHexHash());
+
+        try {
+            handler.handle(callbacks("alice", new PasswordCallback("Password", false)));
+            fail("A hashed realm cannot supply the plain text password");
+        } catch (UnsupportedCallbackException expected) {
+        }
+    }
+
+    @Test
+    public void testHashedVerifyPassword() throws Exception {
+        write("alice=" + new String(hexHash("alice", PASSWORD), "US-ASCII") + "\n");
+        final PropertiesCallbackHandler handler = createHandler(false);
+
+        assertTrue(verify(handler, "alice", PASSWORD));
+        assertFalse(verify(handler, "alice", "password"));
+        assertFalse(verify(handler, "alice", ""));
+        // An unknown user goes through the same comparison and is not verified
+        assertFalse(verify(handler, "bob", PASSWORD));
+    }
+
+    @Test
+    public void testHashedInvalidValue() throws Exception {
+        write("alice=" + ESCAPED_PASSWORD + "\n");
+        try {
+            createHandler(false);
+            fail("A value which is not a hex encoded MD5 hash should be rejected");
+        } catch (StartException expected) {
+        }
+    }
+
+    @Test
+    public void testReload() throws Exception {
+        write("alice=" + new String(hexHash("alice", PASSWORD), "US-ASCII") + "\n");
+        final PropertiesCallbackHandler handler = createHandler(false);
+        assertTrue(verify(handler, "alice", PASSWORD));
+        assertFalse(verify(handler, "bob", "secret"));
+
+        write("alice=" + new String(hexHash("alice", PASSWORD), "US-ASCII") + "\n"
+                + "bob=" + new String(hexHash("bob", "secret"), "US-ASCII") + "\n");
+        // Changes are looked for at most once a second
+        Thread.sleep(1100);
+        assertTrue(verify(handler, "bob", "secret"));
+        assertTrue(verify(handler, "alice", PASSWORD));
+
+        // A file which fails to load leaves the previous users in place
+        write("bob=not a hash\n");
+        Thread.sleep(1100);
+        assertTrue(verify(handler, "bob", "secret"));
+        assertTrue(verify(handler, "alice", PASSWORD));
+    }
+
+    private PropertiesCallbackHandler createHandler(final boolean plainText) throws StartException {
+        final ModelNode properties = new ModelNode();
+        properties.get(PATH).set(propertiesFile.getAbsolutePath());
+        properties.get(PLAIN_TEXT).set(plainText);
+        final PropertiesCallbackHandler handler = new PropertiesCallbackHandler(REALM, properties);
+        handler.start(null);
+        return handler;
+    }
+
+    private void write(final String content) throws Exception {
+        final OutputStream out = new FileOutputStream(propertiesFile);
+        try {
+            out.write(content.getBytes("ISO-8859-1"));
+        } finally {
+            out.close();
+        }
+    }
+
+    private static Callback[] callbacks(final String userName, final Callback credentialCallback) {
+        return new Callback[] { new RealmCallback("Realm", REALM), new NameCallback("Username", userName), credentialCallback };
+    }
+
+    private static boolean verify(final PropertiesCallbackHandler handler, final String userName, final String password) throws Exception {
+        final VerifyPasswordCallback verifyPasswordCallback = new VerifyPasswordCallback(password);
+        handler.handle(callbacks(userName, verifyPasswordCallback));
+        return verifyPasswordCallback.isVerified();
+    }
+
+    private static byte[] hexHash(final String userName, final String password) throws Exception {
+        final MessageDigest md = MessageDigest.getInstance("MD5");
+        md.update((userName + ":" + REALM + ":" + password).getBytes("UTF-8"));
+        return HexUtil.convertToHexBytes(md.digest());
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.domain.management.security;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BASE_DN;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CACHE_TTL;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RECURSIVE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SEARCH_CREDENTIAL;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SEARCH_DN;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.URL;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.USERNAME_ATTRIBUTE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Hashtable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.naming.Context;
+import javax.naming.directory.BasicAttribute;
+import javax.naming.directory.BasicAttributes;
+import javax.naming.directory.DirContext;
+import javax.naming.directory.InitialDirContext;
+import javax.security.auth.callback.Callback;
+import javax.security.auth.callback.NameCallback;
+
+import org.apache.directory.server.core.DefaultDirectoryService;
+import org.apache.directory.server.ldap.LdapServer;
+import org.apache.directory.server.protocol.shared.transport.TcpTransport;
+import org.jboss.as.controller.LatencyHistogram;
+import org.jboss.dmr.ModelNode;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests of the LDAP callback handler against an in-process directory server.
+ */
+public class UserLdapCallbackHandlerTestCase {
+
+    private static final String ADMIN_DN = "uid=admin,ou=system";
+    private static final String ADMIN_PASSWORD = "secret";
+    private static final String USERS_DN = "ou=users,ou=system";
+    private static final String USER = "alice";
+    private static final String PASSWORD = "wonderland";
+
+    private static File workingDirectory;
+    private static DefaultDirectoryService directoryService;
+    private static LdapServer ldapServer;
+    private static int port;
+
+    @BeforeClass
+    public static void startDirectory() throws Exception {
+        workingDirectory = File.createTempFile("apacheds", "");
+        workingDirectory.delete();
+        directoryService = new DefaultDirectoryService();
+        directoryService.setWorkingDirectory(workingDirectory);
+        directoryService.setShutdownHookEnabled(false);
+        directoryService.getChangeLog().setEnabled(false);
+        directoryService.startup();
+
+        port = getFreePort();
+        ldapServer = new LdapServer();
+        ldapServer.setDirectoryService(directoryService);
+        ldapServer.setTransports(new TcpTransport(port));
+        ldapServer.start();
+
+        final Hashtable<String, String> environment = new Hashtable<String, String>();
+        environment.put(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.ldap.LdapCtxFactory");
+        environment.put(Context.PROVIDER_URL, "ldap://localhost:" + port);
+        environment.put(Context.SECURITY_PRINCIPAL, ADMIN_DN);
+        environment.put(Context.SECURITY_CREDENTIALS, ADMIN_PASSWORD);
+        final DirContext context = new InitialDirContext(environment);
+        try {
+            final BasicAttributes attributes = new BasicAttributes(true);
+            final BasicAttribute objectClass = new BasicAttribute("objectClass");
+            objectClass.add("top");
+            objectClass.add("person");
+            objectClass.add("organizationalPerson");
+            objectClass.add("inetOrgPerson");
+            attributes.put(objectClass);
+            attributes.put("uid", USER);
+            attributes.put("cn", "Alice");
+            attributes.put("sn", "Liddell");
+            attributes.put("userPassword", PASSWORD);
+            context.createSubcontext("uid=" + USER + "," + USERS_DN, attributes).close();
+        } finally {
+            context.close();
+        }
+    }
+
+    @AfterClass
+    public static void stopDirectory() throws Exception {
+        if (ldapServer != null) {
+            ldapServer.stop();
+        }
+        if (directoryService != null) {
+            directoryService.shutdown();
+        }
+        delete(workingDirectory);
+    }
+
+    @Test
+    public void testCacheMissAndHit() throws Exception {
+        final UserLdapCallbackHandler handler = createHandler(port, 60000);
+        assertTrue(authenticate(handler, USER, PASSWORD));
+        assertEquals(0, handler.getCacheHitCount());
+        assertEquals(1, handler.getCacheMissCount());
+
+        assertTrue(authenticate(handler, USER, PASSWORD));
+        assertEquals(1, handler.getCacheHitCount());
+        assertEquals(1, handler.getCacheMissCount());
+        // only the authentication which contacted the directory was timed
+        assertEquals(1, handler.getAuthenticationTimes().toModelNode().get(LatencyHistogram.COUNT).asLong());
+    }
+
+    @Test
+    public void testCachedCredentialDoesNotVerifyAnotherPassword() throws Exception {
+        final UserLdapCallbackHandler handler = createHandler(port, 60000);
+        assertTrue(authenticate(handler, USER, PASSWORD));
+        try {
+            authenticate(handler, USER, "looking-glass");
+            fail("A wrong password should not be verified");
+        } catch (IOException expected) {
+        }
+        assertEquals(0, handler.getCacheHitCount());
+        assertEquals(2, handler.getCacheMissCount());
+    }
+
+    @Test
+    public void testCacheExpiry() throws Exception {
+        final UserLdapCallbackHandler handler = createHandler(port, 200);
+        assertTrue(authenticate(handler, USER, PASSWORD));
+        Thread.sleep(400);
+        assertTrue(authenticate(handler, USER, PASSWORD));
+        assertEquals(0, handler.getCacheHitCount());
+        assertEquals(2, handler.getCacheMissCount());
+    }
+
+    @Test
+    public void testCacheDisabled() throws Exception {
+        final UserLdapCallbackHandler handler = createHandler(port, 0);
+        assertTrue(authenticate(handler, USER, PASSWORD));
+        assertTrue(authenticate(handler, USER, PASSWORD));
+        assertEquals(0, handler.getCacheHitCount());
+        assertEquals(0, handler.getCacheMissCount());
+    }
+
+    @Test
+    public void testUnknownUser() throws Exception {
+        final UserLdapCallbackHandler handler = createHandler(port, 60000);
+        try {
+            authenticate(handler, "bob", PASSWORD);
+            fail("An unknown user should not be verified");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void testSearchConnectionIsPooled() throws Exception {
+        final ConnectionCountingProxy proxy = new ConnectionCountingProxy(port);
+        try {
+            final UserLdapCallbackHandler handler = createHandler(proxy.getPort(), 0);
+            final int authentications = 3;
+            for (int i = 0; i < authentications; i++) {
+                assertTrue(authenticate(handler, USER, PASSWORD));
+            }
+            // a single pooled search connection, and one connection per user bind
+            assertEquals(1 + authentications, proxy.getConnectionCount());
+        } finally {
+            proxy.close();
+        }
+    }
+
+    private static UserLdapCallbackHandler createHandler(final int port, final long cacheTtl) throws Exception {
+        final ModelNode connection = new ModelNode();
+        connection.get(URL).set("ldap://localhost:" + port);
+        connection.get(SEARCH_DN).set(ADMIN_DN);
+        connection.get(SEARCH_CREDENTIAL).set(ADMIN_PASSWORD);
+        final LdapConnectionManagerService connectionManager = new LdapConnectionManagerService(connection);
+        connectionManager.start(null);
+
+        final ModelNode ldap = new ModelNode();
+        ldap.get(BASE_DN).set(USERS_DN);
+        ldap.get(USERNAME_ATTRIBUTE).set("uid");
+        ldap.get(RECURSIVE).set(false);
+        if (cacheTtl > 0) {
+            ldap.get(CACHE_TTL).set(cacheTtl);
+        }
+        final UserLdapCallbackHandler handler = new UserLdapCallbackHandler(ldap);
+        handler.getConnectionManagerInjector().inject(connectionManager);
+        handler.start(null);
+        return handler;
+    }
+
+    private static boolean authenticate(final UserLdapCallbackHandler handler, final String user, final String password)
+            throws Exception {
+        final VerifyPasswordCallback verify = new VerifyPasswordCallback(password);
+        handler.handle(new Callback[] { new NameCallback("Username", user), verify });
+        return verify.isVerified();
+    }
+
+    private static int getFreePort() throws IOException {
+        final ServerSocket socket = new ServerSocket(0);
+        try {
+            return socket.getLocalPort();
+        } finally {
+            socket.close();
+        }
+    }
+
+    private static void delete(final File file) {
+        if (file == null) {
+            return;
+        }
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    /**
+     * Forwards connections to the directory server, counting them.
+     */
+    private static final class ConnectionCountingProxy implements Runnable {
+
+        private final ServerSocket serverSocket;
+        private final int targetPort;
+        private final AtomicInteger connectionCount = new AtomicInteger();
+
+        private ConnectionCountingProxy(final int targetPort) throws IOException {
+            this.serverSocket = new ServerSocket(0);
+            this.targetPort = targetPort;
+            final Thread thread = new Thread(this, "LDAP test proxy");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        public void run() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    final Socket client = serverSocket.accept();
+                    connectionCount.incrementAndGet();
+                    final Socket target = new Socket("localhost", targetPort);
+                    forward(client, target);
+                    forward(target, client);
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private static void forward(final Socket from, final Socket to) {
+            final Thread thread = new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        final InputStream in = from.getInputStream();
+                        final OutputStream out = to.getOutputStream();
+                        final byte[] buffer = new byte[4096];
+                        int read;
+                        while ((read = in.read(buffer)) != -1) {
+                            out.write(buffer, 0, read);
+                            out.flush();
+                        }
+                    } catch (IOException ignored) {
+                    } finally {
+                        close(from);
+                        close(to);
+                    }
+                }
+            }, "LDAP test proxy forwarder");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private static void close(final Socket socket) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        int getConnectionCount() {
+            return connectionCount.get();
+        }
+
+        void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
@@ -133,6 +133,7 @@ public class InterceptorOrder {
     public static final class Client {
 
         public static final int TO_STRING = 0x100;
+        public static final int ASYNCHRONOUS_INTERCEPTOR = 0x180;
         public static final int CLIENT_DISPATCHER = 0x200;
 
         private Client() {
@@ -25,11 +25,13 @@ package org.jboss.as.ejb3;
 import java.util.List;
 import java.util.Locale;
 import javax.xml.stream.XMLStreamException;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
 import org.jboss.as.controller.Extension;
 import org.jboss.as.controller.ExtensionContext;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.SubsystemRegistration;
 import org.jboss.as.controller.descriptions.DescriptionProvider;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
@@ -44,6 +46,7 @@ import org.jboss.as.controller.persistence.SubsystemMarshallingContext;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.Property;
 import org.jboss.staxmapper.XMLElementReader;
 import org.jboss.staxmapper.XMLElementWriter;
 import org.jboss.staxmapper.XMLExtendedStreamReader;
@@ -57,6 +60,14 @@ public class EJB3Extension implements Extension {
     public static final String SUBSYSTEM_NAME = "ejb3";
     public static final String NAMESPACE = "urn:jboss:domain:ejb3:1.0";
 
+    static final String ASYNC_EXECUTOR = "async-executor";
+    static final String BEAN_ASYNC_EXECUTORS = "bean-async-executors";
+    static final String BEAN_ASYNC_EXECUTOR = "bean-async-executor";
+    static final String EJB_NAME = "ejb-name";
+    static final String EXECUTOR = "executor";
+
+    static final String DEFAULT_ASYNC_EXECUTOR = "ejb3-async";
+
     private static final EJB3SubsystemParser parser = new EJB3SubsystemParser();
 
     /** {@inheritDoc} */
@@ -83,25 +94,73 @@ public class EJB3Extension implements Extension {
             // //TODO seems to be a problem with empty elements cleaning up the queue in FormattingXMLStreamWriter.runAttrQueue
             //context.startSubsystemElement(NewManagedBeansExtension.NAMESPACE, true);
             context.startSubsystemElement(NAMESPACE, false);
+            final ModelNode node = context.getModelNode();
+            if (node.hasDefined(ASYNC_EXECUTOR)) {
+                writer.writeAttribute(ASYNC_EXECUTOR, node.get(ASYNC_EXECUTOR).asString());
+            }
+            if (node.hasDefined(BEAN_ASYNC_EXECUTORS)) {
+                for (Property property : node.get(BEAN_ASYNC_EXECUTORS).asPropertyList()) {
+                    writer.writeEmptyElement(BEAN_ASYNC_EXECUTOR);
+                    writer.writeAttribute(EJB_NAME, property.getName());
+                    writer.writeAttribute(EXECUTOR, property.getValue().asString());
+                }
+            }
             writer.writeEndElement();
         }
 
         /** {@inheritDoc} */
         @Override
         public void readElement(final XMLExtendedStreamReader reader, final List<ModelNode> list) throws XMLStreamException {
-            ParseUtils.requireNoAttributes(reader);
-            ParseUtils.requireNoContent(reader);
             final ModelNode update = new ModelNode();
             update.get(OP).set(ADD);
             update.get(OP_ADDR).add(SUBSYSTEM, SUBSYSTEM_NAME);
+            final int count = reader.getAttributeCount();
+            for (int i = 0; i < count; i++) {
+                ParseUtils.requireNoNamespaceAttribute(reader, i);
+                final String name = reader.getAttributeLocalName(i);
+                if (ASYNC_EXECUTOR.equals(name)) {
+                    update.get(name).set(reader.getAttributeValue(i));
+                } else {
+                    throw ParseUtils.unexpectedAttribute(reader, i);
+                }
+            }
+            while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
+                if (!BEAN_ASYNC_EXECUTOR.equals(reader.getLocalName())) {
+                    throw ParseUtils.unexpectedElement(reader);
+                }
+                parseBeanAsyncExecutor(reader, update.get(BEAN_ASYNC_EXECUTORS));
+            }
             list.add(update);
         }
+
+        private void parseBeanAsyncExecutor(final XMLExtendedStreamReader reader, final ModelNode beanExecutors) throws XMLStreamException {
+            final int count = reader.getAttributeCount();
+            for (int i = 0; i < count; i++) {
+                ParseUtils.requireNoNamespaceAttribute(reader, i);
+                final String name = reader.getAttributeLocalName(i);
+                if (!EJB_NAME.equals(name) && !EXECUTOR.equals(name)) {
+                    throw ParseUtils.unexpectedAttribute(reader, i);
+                }
+            }
+            final String[] values = ParseUtils.requireAttributes(reader, EJB_NAME, EXECUTOR);
+            if (beanExecutors.hasDefined(values[0])) {
+                throw ParseUtils.duplicateNamedElement(reader, values[0]);
+            }
+            beanExecutors.get(values[0]).set(values[1]);
+            ParseUtils.requireNoContent(reader);
+        }
     }
 
-    private static ModelNode createAddSubSystemOperation() {
+    private static ModelNode createAddSubSystemOperation(final ModelNode model) {
         final ModelNode subsystem = new ModelNode();
         subsystem.get(OP).set(ADD);
         subsystem.get(OP_ADDR).add(ModelDescriptionConstants.SUBSYSTEM, SUBSYSTEM_NAME);
+        if (model.hasDefined(ASYNC_EXECUTOR)) {
+            subsystem.get(ASYNC_EXECUTOR).set(model.get(ASYNC_EXECUTOR));
+        }
+        if (model.hasDefined(BEAN_ASYNC_EXECUTORS)) {
+            subsystem.get(BEAN_ASYNC_EXECUTORS).set(model.get(BEAN_ASYNC_EXECUTORS));
+        }
         return subsystem;
     }
 
@@ -109,7 +168,7 @@ public class EJB3Extension implements Extension {
         static final SubsystemDescribeHandler INSTANCE = new SubsystemDescribeHandler();
 
         public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
-            context.getResult().add(createAddSubSystemOperation());
+            context.getResult().add(createAddSubSystemOperation(context.readModel(PathAddress.EMPTY_ADDRESS)));
             context.completeStep();
         }
 
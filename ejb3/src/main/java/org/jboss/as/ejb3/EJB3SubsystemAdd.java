@@ -22,7 +22,9 @@
 
 package org.jboss.as.ejb3;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.transaction.TransactionManager;
 import javax.transaction.TransactionSynchronizationRegistry;
 import javax.transaction.UserTransaction;
@@ -34,6 +36,7 @@ import org.jboss.as.ejb3.component.EJBUtilities;
 import org.jboss.as.ejb3.deployment.processors.AccessTimeoutAnnotationProcessor;
 import org.jboss.as.ejb3.deployment.processors.ApplicationExceptionAnnotationProcessor;
 import org.jboss.as.ejb3.deployment.processors.AsynchronousAnnotationProcessor;
+import org.jboss.as.ejb3.deployment.processors.AsynchronousExecutorProcessor;
 import org.jboss.as.ejb3.deployment.processors.BusinessViewAnnotationProcessor;
 import org.jboss.as.ejb3.deployment.processors.ConcurrencyManagementAnnotationProcessor;
 import org.jboss.as.ejb3.deployment.processors.DeclareRolesProcessor;
@@ -81,6 +84,7 @@ import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.as.server.deployment.Phase;
 import org.jboss.as.txn.TxnServices;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.Property;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceTarget;
 
@@ -97,9 +101,24 @@ class EJB3SubsystemAdd extends AbstractBoottimeAddStepHandler {
 
     protected void populateModel(ModelNode operation, ModelNode model) {
         model.setEmptyObject();
+        if (operation.hasDefined(EJB3Extension.ASYNC_EXECUTOR)) {
+            model.get(EJB3Extension.ASYNC_EXECUTOR).set(operation.get(EJB3Extension.ASYNC_EXECUTOR));
+        }
+        if (operation.hasDefined(EJB3Extension.BEAN_ASYNC_EXECUTORS)) {
+            model.get(EJB3Extension.BEAN_ASYNC_EXECUTORS).set(operation.get(EJB3Extension.BEAN_ASYNC_EXECUTORS));
+        }
     }
 
     protected void performBoottime(OperationContext context, ModelNode operation, ModelNode model, ServiceVerificationHandler verificationHandler, List<ServiceController<?>> newControllers) {
+        // asynchronous invocations run on a threads subsystem executor, "ejb3-async" unless configured otherwise for the subsystem or the bean
+        final String asyncExecutor = model.hasDefined(EJB3Extension.ASYNC_EXECUTOR) ? model.get(EJB3Extension.ASYNC_EXECUTOR).asString() : EJB3Extension.DEFAULT_ASYNC_EXECUTOR;
+        final Map<String, String> beanAsyncExecutors = new HashMap<String, String>();
+        if (model.hasDefined(EJB3Extension.BEAN_ASYNC_EXECUTORS)) {
+            for (Property property : model.get(EJB3Extension.BEAN_ASYNC_EXECUTORS).asPropertyList()) {
+                beanAsyncExecutors.put(property.getName(), property.getValue().asString());
+            }
+        }
+
         context.addStep(new AbstractDeploymentChainStep() {
             protected void execute(DeploymentProcessorTarget processorTarget) {
                     // add the metadata parser deployment processor
@@ -128,6 +147,7 @@ class EJB3SubsystemAdd extends AbstractBoottimeAddStepHandler {
                     processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_EJB_SESSION_SYNCHRONIZATION, new SessionSynchronizationProcessor());
                     processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_EJB_RESOURCE_ADAPTER_ANNOTATION, new ResourceAdapterAnnotationProcessor());
                     processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_EJB_ASYNCHRONOUS_ANNOTATION, new AsynchronousAnnotationProcessor());
+                    processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_EJB_ASYNCHRONOUS_EXECUTOR, new AsynchronousExecutorProcessor(asyncExecutor, beanAsyncExecutors));
                     processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_EJB_APPLICATION_EXCEPTION_ANNOTATION, new ApplicationExceptionAnnotationProcessor());
                     processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_REMOVE_METHOD_ANNOTAION, new RemoveAnnotationProcessor());
                     processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_EJB_DD_INTERCEPTORS, new InterceptorClassDeploymentDescriptorProcessor());
@@ -23,17 +23,24 @@
 package org.jboss.as.ejb3;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEFAULT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HEAD_COMMENT_ALLOWED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAMESPACE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REQUEST_PROPERTIES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.REQUIRED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TAIL_COMMENT_ALLOWED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE_TYPE;
 
 import java.util.Locale;
 import java.util.ResourceBundle;
 
 import org.jboss.as.controller.descriptions.DescriptionProvider;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 
 /**
  * @author Emanuel Muckenhuber
@@ -52,6 +59,15 @@ class EJB3SubsystemProviders {
             subsystem.get(TAIL_COMMENT_ALLOWED).set(true);
             subsystem.get(NAMESPACE).set(EJB3Extension.NAMESPACE);
 
+            subsystem.get(ATTRIBUTES, EJB3Extension.ASYNC_EXECUTOR, DESCRIPTION).set(bundle.getString("ejb3.async-executor"));
+            subsystem.get(ATTRIBUTES, EJB3Extension.ASYNC_EXECUTOR, TYPE).set(ModelType.STRING);
+            subsystem.get(ATTRIBUTES, EJB3Extension.ASYNC_EXECUTOR, REQUIRED).set(false);
+            subsystem.get(ATTRIBUTES, EJB3Extension.ASYNC_EXECUTOR, DEFAULT).set(EJB3Extension.DEFAULT_ASYNC_EXECUTOR);
+            subsystem.get(ATTRIBUTES, EJB3Extension.BEAN_ASYNC_EXECUTORS, DESCRIPTION).set(bundle.getString("ejb3.bean-async-executors"));
+            subsystem.get(ATTRIBUTES, EJB3Extension.BEAN_ASYNC_EXECUTORS, TYPE).set(ModelType.OBJECT);
+            subsystem.get(ATTRIBUTES, EJB3Extension.BEAN_ASYNC_EXECUTORS, VALUE_TYPE).set(ModelType.STRING);
+            subsystem.get(ATTRIBUTES, EJB3Extension.BEAN_ASYNC_EXECUTORS, REQUIRED).set(false);
+
             return subsystem;
         }
     };
@@ -64,6 +80,14 @@ class EJB3SubsystemProviders {
             final ModelNode op = new ModelNode();
             op.get(OPERATION_NAME).set(ADD);
             op.get(DESCRIPTION).set(bundle.getString("ejb3.add"));
+            op.get(REQUEST_PROPERTIES, EJB3Extension.ASYNC_EXECUTOR, DESCRIPTION).set(bundle.getString("ejb3.async-executor"));
+            op.get(REQUEST_PROPERTIES, EJB3Extension.ASYNC_EXECUTOR, TYPE).set(ModelType.STRING);
+            op.get(REQUEST_PROPERTIES, EJB3Extension.ASYNC_EXECUTOR, REQUIRED).set(false);
+            op.get(REQUEST_PROPERTIES, EJB3Extension.ASYNC_EXECUTOR, DEFAULT).set(EJB3Extension.DEFAULT_ASYNC_EXECUTOR);
+            op.get(REQUEST_PROPERTIES, EJB3Extension.BEAN_ASYNC_EXECUTORS, DESCRIPTION).set(bundle.getString("ejb3.bean-async-executors"));
+            op.get(REQUEST_PROPERTIES, EJB3Extension.BEAN_ASYNC_EXECUTORS, TYPE).set(ModelType.OBJECT);
+            op.get(REQUEST_PROPERTIES, EJB3Extension.BEAN_ASYNC_EXECUTORS, VALUE_TYPE).set(ModelType.STRING);
+            op.get(REQUEST_PROPERTIES, EJB3Extension.BEAN_ASYNC_EXECUTORS, REQUIRED).set(false);
 
             return op;
         }
@@ -0,0 +1,64 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.component;
+
+import org.jboss.as.ee.component.Component;
+import org.jboss.as.ee.component.ComponentInterceptorFactory;
+import org.jboss.as.ejb3.component.session.SessionBeanComponent;
+import org.jboss.invocation.Interceptor;
+import org.jboss.invocation.InterceptorFactoryContext;
+
+/**
+ * Creates the client interceptor which runs an asynchronous session bean method on the executor of its component.
+ */
+public final class AsyncInterceptorFactory extends ComponentInterceptorFactory {
+
+    /**
+     * For asynchronous methods returning {@code void}.
+     */
+    public static final AsyncInterceptorFactory VOID = new AsyncInterceptorFactory(true);
+
+    /**
+     * For asynchronous methods returning a {@link java.util.concurrent.Future}.
+     */
+    public static final AsyncInterceptorFactory FUTURE = new AsyncInterceptorFactory(false);
+
+    private final boolean returnsVoid;
+
+    private AsyncInterceptorFactory(final boolean returnsVoid) {
+        this.returnsVoid = returnsVoid;
+    }
+
+    @Override
+    protected Interceptor create(final Component component, final InterceptorFactoryContext context) {
+        if (!(component instanceof SessionBeanComponent)) {
+            throw new IllegalArgumentException("Component " + component + " with component class: " + component.getComponentClass() +
+                    " isn't a session bean. Asynchronous interceptors cannot be applied");
+        }
+        final SessionBeanComponent sessionBeanComponent = (SessionBeanComponent) component;
+        if (returnsVoid) {
+            return new AsyncVoidInterceptor(sessionBeanComponent.getAsynchronousExecutor());
+        }
+        return new AsyncFutureInterceptor(sessionBeanComponent.getAsynchronousExecutor());
+    }
+}
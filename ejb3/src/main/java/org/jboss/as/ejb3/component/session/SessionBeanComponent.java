@@ -24,14 +24,10 @@ package org.jboss.as.ejb3.component.session;
 
 import org.jboss.as.ee.component.ComponentView;
 import org.jboss.as.ee.component.ComponentViewInstance;
-import org.jboss.as.ejb3.component.AsyncFutureInterceptor;
-import org.jboss.as.ejb3.component.AsyncVoidInterceptor;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.stateful.StatefulSessionComponent;
 import org.jboss.as.server.CurrentServiceRegistry;
-import org.jboss.as.threads.ThreadsServices;
 import org.jboss.ejb3.context.spi.SessionContext;
-import org.jboss.invocation.InterceptorContext;
 import org.jboss.logging.Logger;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
@@ -43,10 +39,8 @@ import javax.ejb.TransactionAttributeType;
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.Executor;
 
 /**
@@ -56,10 +50,7 @@ public abstract class SessionBeanComponent extends EJBComponent implements org.j
 
     private static final Logger logger = Logger.getLogger(SessionBeanComponent.class);
 
-    static final ServiceName ASYNC_EXECUTOR_SERVICE_NAME = ThreadsServices.EXECUTOR.append("ejb3-async");
-
     protected Map<String, AccessTimeout> beanLevelAccessTimeout;
-    private final Set<Method> asynchronousMethods;
     protected Executor asyncExecutor;
     private final Map<String, ServiceName> viewServices;
 
@@ -73,8 +64,7 @@ public abstract class SessionBeanComponent extends EJBComponent implements org.j
         viewServices = ejbComponentCreateService.getViewServices();
 
         this.beanLevelAccessTimeout = ejbComponentCreateService.getBeanAccessTimeout();
-        this.asynchronousMethods = null; //ejbComponentCreateService.getAsynchronousMethods();
-//        this.asyncExecutor = (Executor) ejbComponentCreateService.getInjection(ASYNC_EXECUTOR_SERVICE_NAME).getValue();
+        this.asyncExecutor = ejbComponentCreateService.getAsynchronousExecutor();
     }
 
     @Override
@@ -114,7 +104,7 @@ public abstract class SessionBeanComponent extends EJBComponent implements org.j
     /**
      * Return the {@link Executor} used for asynchronous invocations.
      *
-     * @return the async executor
+     * @return the async executor, or null if the component has no asynchronous methods
      */
     public Executor getAsynchronousExecutor() {
         return asyncExecutor;
@@ -129,32 +119,6 @@ public abstract class SessionBeanComponent extends EJBComponent implements org.j
         return super.getRollbackOnly();
     }
 
-    protected boolean isAsynchronous(final Method method) {
-        final Set<Method> asyncMethods = this.asynchronousMethods;
-        if (asyncMethods == null) {
-            return false;
-        }
-
-        for (Method asyncMethod : asyncMethods) {
-            if (method.getName().equals(asyncMethod.getName())) {
-                final Object[] methodParams = method.getParameterTypes();
-                final Object[] asyncMethodParams = asyncMethod.getParameterTypes();
-                if (Arrays.equals(methodParams, asyncMethodParams)) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-    protected Object invokeAsynchronous(final Method method, final InterceptorContext context) throws Exception {
-        if (Void.TYPE.isAssignableFrom(method.getReturnType())) {
-            return new AsyncVoidInterceptor(getAsynchronousExecutor()).processInvocation(context);
-        } else {
-            return new AsyncFutureInterceptor(getAsynchronousExecutor()).processInvocation(context);
-        }
-    }
-
 //    @Override
 //    public Interceptor createClientInterceptor(Class<?> view, Serializable sessionId) {
 //        // ignore the session id. Session aware components like (StatefulSessionComponent) should override
@@ -23,17 +23,22 @@
 package org.jboss.as.ejb3.component.session;
 
 import org.jboss.as.ee.component.ComponentConfiguration;
+import org.jboss.as.ee.component.DependencyConfigurator;
 import org.jboss.as.ejb3.PrimitiveClassLoaderUtil;
 import org.jboss.as.ejb3.component.EJBBusinessMethod;
 import org.jboss.as.ejb3.component.EJBComponentCreateService;
 import org.jboss.as.ejb3.deployment.EjbJarConfiguration;
 import org.jboss.invocation.proxy.MethodIdentifier;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.value.InjectedValue;
 
 import javax.ejb.AccessTimeout;
 import javax.ejb.LockType;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * User: jpai
@@ -48,6 +53,10 @@ public abstract class SessionBeanComponentCreateService extends EJBComponentCrea
 
     private final Map<EJBBusinessMethod, AccessTimeout> methodApplicableAccessTimeouts;
 
+    private final ServiceName asynchronousExecutorServiceName;
+
+    private final InjectedValue<Executor> asynchronousExecutor = new InjectedValue<Executor>();
+
     /**
      * Construct a new instance.
      *
@@ -86,6 +95,16 @@ public abstract class SessionBeanComponentCreateService extends EJBComponentCrea
             this.methodApplicableAccessTimeouts = Collections.unmodifiableMap(accessTimeouts);
         }
 
+        this.asynchronousExecutorServiceName = sessionBeanComponentDescription.getAsynchronousExecutorServiceName();
+        if (this.asynchronousExecutorServiceName != null) {
+            // the component is created by this service, so it needs the executor before it starts
+            componentConfiguration.getCreateDependencies().add(new DependencyConfigurator() {
+                @Override
+                public void configureDependency(final ServiceBuilder<?> serviceBuilder) {
+                    serviceBuilder.addDependency(asynchronousExecutorServiceName, Executor.class, asynchronousExecutor);
+                }
+            });
+        }
     }
 
     public Map<String, LockType> getBeanLockType() {
@@ -104,6 +123,15 @@ public abstract class SessionBeanComponentCreateService extends EJBComponentCrea
         return this.beanLevelAccessTimeout;
     }
 
+    /**
+     * Returns the executor which runs the asynchronous invocations on the component.
+     *
+     * @return the executor, or null if the component has no asynchronous methods
+     */
+    public Executor getAsynchronousExecutor() {
+        return this.asynchronousExecutorServiceName == null ? null : this.asynchronousExecutor.getValue();
+    }
+
     private EJBBusinessMethod getEJBBusinessMethod(final MethodIdentifier method) {
         final ClassLoader classLoader = this.getComponentClass().getClassLoader();
         final String methodName = method.getName();
@@ -30,6 +30,7 @@ import org.jboss.as.ee.component.ViewConfiguration;
 import org.jboss.as.ee.component.ViewConfigurator;
 import org.jboss.as.ee.component.ViewDescription;
 import org.jboss.as.ee.component.interceptors.InterceptorOrder;
+import org.jboss.as.ejb3.component.AsyncInterceptorFactory;
 import org.jboss.as.ejb3.component.EJBComponentDescription;
 import org.jboss.as.ejb3.component.EJBViewDescription;
 import org.jboss.as.ejb3.component.MethodIntf;
@@ -37,6 +38,9 @@ import org.jboss.as.ejb3.deployment.EjbJarDescription;
 import org.jboss.as.ejb3.tx.CMTTxInterceptorFactory;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
+import org.jboss.as.server.deployment.reflect.ClassReflectionIndex;
+import org.jboss.as.server.deployment.reflect.ClassReflectionIndexUtil;
+import org.jboss.as.server.deployment.reflect.DeploymentReflectionIndex;
 import org.jboss.invocation.ImmediateInterceptorFactory;
 import org.jboss.invocation.proxy.MethodIdentifier;
 import org.jboss.logging.Logger;
@@ -52,6 +56,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -106,6 +111,10 @@ public abstract class SessionBeanComponentDescription extends EJBComponentDescri
      */
     private final Set<String> asynchronousViews = new HashSet<String>();
 
+    /**
+     * The service name of the executor which runs the asynchronous invocations on this component
+     */
+    private ServiceName asynchronousExecutorServiceName;
 
     /**
      * mapped-name of the session bean
@@ -128,7 +137,6 @@ public abstract class SessionBeanComponentDescription extends EJBComponentDescri
     public SessionBeanComponentDescription(final String componentName, final String componentClassName,
                                            final EjbJarDescription ejbJarDescription, final ServiceName deploymentUnitServiceName) {
         super(componentName, componentClassName, ejbJarDescription, deploymentUnitServiceName);
-        addDependency(SessionBeanComponent.ASYNC_EXECUTOR_SERVICE_NAME, ServiceBuilder.DependencyType.REQUIRED);
         // setSessionContext() method invocation interceptor
         this.addSetSessionContextMethodInvocationInterceptor();
     }
@@ -357,6 +365,42 @@ public abstract class SessionBeanComponentDescription extends EJBComponentDescri
         asynchronousViews.add(viewName);
     }
 
+    /**
+     * Returns true if any method or view of this component has been marked as asynchronous.
+     *
+     * @return true if the component has asynchronous methods
+     */
+    public boolean hasAsynchronousMethods() {
+        return !asynchronousMethods.isEmpty() || !asynchronousViews.isEmpty();
+    }
+
+    public Set<MethodIdentifier> getAsynchronousMethods() {
+        return Collections.unmodifiableSet(asynchronousMethods);
+    }
+
+    public Set<String> getAsynchronousViews() {
+        return Collections.unmodifiableSet(asynchronousViews);
+    }
+
+    /**
+     * Sets the executor which runs the asynchronous invocations on this component. The component depends on it.
+     *
+     * @param serviceName the service name of the executor
+     */
+    public void setAsynchronousExecutorServiceName(final ServiceName serviceName) {
+        this.asynchronousExecutorServiceName = serviceName;
+        addDependency(serviceName, ServiceBuilder.DependencyType.REQUIRED);
+    }
+
+    /**
+     * Returns the service name of the executor which runs the asynchronous invocations on this component.
+     *
+     * @return the executor service name, or null if the component has no asynchronous methods
+     */
+    public ServiceName getAsynchronousExecutorServiceName() {
+        return this.asynchronousExecutorServiceName;
+    }
+
     /**
      * Returns the type of the session bean
      *
@@ -364,6 +408,47 @@ public abstract class SessionBeanComponentDescription extends EJBComponentDescri
      */
     public abstract SessionBeanType getSessionBeanType();
 
+    @Override
+    protected void setupClientViewInterceptors(ViewDescription view) {
+        super.setupClientViewInterceptors(view);
+
+        // asynchronous methods are handed to the executor before the invocation reaches the view
+        addAsynchronousInterceptor(view);
+    }
+
+    private void addAsynchronousInterceptor(final ViewDescription view) {
+        view.getConfigurators().add(new ViewConfigurator() {
+            @Override
+            public void configure(DeploymentPhaseContext context, ComponentConfiguration componentConfiguration, ViewDescription description, ViewConfiguration configuration) throws DeploymentUnitProcessingException {
+                if (!hasAsynchronousMethods()) {
+                    return;
+                }
+                final DeploymentReflectionIndex reflectionIndex = context.getDeploymentUnit().getAttachment(org.jboss.as.server.deployment.Attachments.REFLECTION_INDEX);
+                final ClassReflectionIndex<?> index = reflectionIndex.getClassIndex(componentConfiguration.getComponentClass());
+                final boolean asynchronousView = asynchronousViews.contains(description.getViewClassName());
+                for (final Method method : configuration.getProxyFactory().getCachedMethods()) {
+                    if (method.getDeclaringClass() == Object.class) {
+                        continue;
+                    }
+                    final Method componentMethod = ClassReflectionIndexUtil.findMethod(reflectionIndex, index, MethodIdentifier.getIdentifierForMethod(method));
+                    if (asynchronousView || isAsynchronous(componentMethod)) {
+                        final AsyncInterceptorFactory factory = Void.TYPE == method.getReturnType() ? AsyncInterceptorFactory.VOID : AsyncInterceptorFactory.FUTURE;
+                        configuration.addClientInterceptor(method, factory, InterceptorOrder.Client.ASYNCHRONOUS_INTERCEPTOR);
+                    }
+                }
+            }
+        });
+    }
+
+    private boolean isAsynchronous(final Method componentMethod) {
+        if (componentMethod == null) {
+            return false;
+        }
+        // @Asynchronous on a bean class applies to the business methods declared by that class
+        return asynchronousViews.contains(componentMethod.getDeclaringClass().getName())
+                || asynchronousMethods.contains(MethodIdentifier.getIdentifierForMethod(componentMethod));
+    }
+
     @Override
     protected void setupViewInterceptors(ViewDescription view) {
         // let super do it's job first
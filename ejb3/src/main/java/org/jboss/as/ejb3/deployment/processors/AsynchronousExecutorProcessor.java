@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.deployment.processors;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.as.ee.component.Attachments;
+import org.jboss.as.ee.component.ComponentDescription;
+import org.jboss.as.ee.component.EEModuleDescription;
+import org.jboss.as.ejb3.component.session.SessionBeanComponentDescription;
+import org.jboss.as.server.deployment.DeploymentPhaseContext;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
+import org.jboss.as.server.deployment.DeploymentUnitProcessor;
+import org.jboss.as.threads.ThreadsServices;
+
+/**
+ * Deployment processor which binds each session bean with asynchronous methods to the threads subsystem executor
+ * that runs its asynchronous invocations. A bean uses the executor configured for its ejb-name in the ejb3 subsystem,
+ * or the subsystem's default asynchronous executor, so a busy bean can be given a pool of its own.
+ */
+public class AsynchronousExecutorProcessor implements DeploymentUnitProcessor {
+
+    private final String defaultExecutorName;
+    private final Map<String, String> beanExecutorNames;
+
+    /**
+     * @param defaultExecutorName the executor used by beans which have not been given one of their own
+     * @param beanExecutorNames   the executors of particular beans, keyed by ejb-name
+     */
+    public AsynchronousExecutorProcessor(final String defaultExecutorName, final Map<String, String> beanExecutorNames) {
+        this.defaultExecutorName = defaultExecutorName;
+        this.beanExecutorNames = Collections.unmodifiableMap(new HashMap<String, String>(beanExecutorNames));
+    }
+
+    @Override
+    public void deploy(final DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
+        final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
+        final EEModuleDescription eeModuleDescription = deploymentUnit.getAttachment(Attachments.EE_MODULE_DESCRIPTION);
+        if (eeModuleDescription == null) {
+            return;
+        }
+        for (ComponentDescription description : eeModuleDescription.getComponentDescriptions()) {
+            if (!(description instanceof SessionBeanComponentDescription)) {
+                continue;
+            }
+            final SessionBeanComponentDescription sessionBean = (SessionBeanComponentDescription) description;
+            // beans without asynchronous methods do not need an executor
+            if (!sessionBean.hasAsynchronousMethods()) {
+                continue;
+            }
+            String executorName = beanExecutorNames.get(sessionBean.getEJBName());
+            if (executorName == null) {
+                executorName = defaultExecutorName;
+            }
+            sessionBean.setAsynchronousExecutorServiceName(ThreadsServices.executorName(executorName));
+        }
+    }
+
+    @Override
+    public void undeploy(final DeploymentUnit context) {
+    }
+}
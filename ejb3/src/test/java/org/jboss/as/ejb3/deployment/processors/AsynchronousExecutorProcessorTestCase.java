@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.deployment.processors;
+
+import org.jboss.as.ee.component.Attachments;
+import org.jboss.as.ee.component.EEModuleDescription;
+import org.jboss.as.ejb3.component.session.SessionBeanComponentDescription;
+import org.jboss.as.ejb3.component.stateful.StatefulComponentDescription;
+import org.jboss.as.ejb3.component.stateless.StatelessComponentDescription;
+import org.jboss.as.ejb3.deployment.EjbJarDescription;
+import org.jboss.as.server.deployment.DeploymentPhaseContext;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.Services;
+import org.jboss.as.threads.ThreadsServices;
+import org.jboss.invocation.proxy.MethodIdentifier;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceName;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the assignment of asynchronous executors to session beans.
+ */
+public class AsynchronousExecutorProcessorTestCase {
+
+    private final ServiceName duServiceName = Services.deploymentUnitName("AsynchronousExecutorProcessorTestCase");
+    private EEModuleDescription moduleDescription;
+    private EjbJarDescription ejbJarDescription;
+    private DeploymentPhaseContext phaseContext;
+
+    @Before
+    public void setUp() {
+        moduleDescription = new EEModuleDescription("TestApp", "TestModule");
+        ejbJarDescription = new EjbJarDescription(moduleDescription, false);
+        final DeploymentUnit deploymentUnit = mock(DeploymentUnit.class);
+        when(deploymentUnit.getAttachment(Attachments.EE_MODULE_DESCRIPTION)).thenReturn(moduleDescription);
+        phaseContext = mock(DeploymentPhaseContext.class);
+        when(phaseContext.getDeploymentUnit()).thenReturn(deploymentUnit);
+    }
+
+    @Test
+    public void testDefaultExecutor() throws Exception {
+        final SessionBeanComponentDescription bean = addBean(new StatelessComponentDescription("Default", "org.acme.Default", ejbJarDescription, duServiceName));
+        bean.addAsynchronousMethod(MethodIdentifier.getIdentifier(void.class, "fire"));
+        new AsynchronousExecutorProcessor("ejb3-async", Collections.<String, String>emptyMap()).deploy(phaseContext);
+
+        final ServiceName executor = ThreadsServices.executorName("ejb3-async");
+        assertEquals(executor, bean.getAsynchronousExecutorServiceName());
+        assertEquals(ServiceBuilder.DependencyType.REQUIRED, bean.getDependencies().get(executor));
+    }
+
+    @Test
+    public void testBeanExecutor() throws Exception {
+        final SessionBeanComponentDescription busy = addBean(new StatelessComponentDescription("Busy", "org.acme.Busy", ejbJarDescription, duServiceName));
+        busy.addAsynchronousView("org.acme.Busy");
+        final SessionBeanComponentDescription quiet = addBean(new StatefulComponentDescription("Quiet", "org.acme.Quiet", ejbJarDescription, duServiceName));
+        quiet.addAsynchronousView("org.acme.Quiet");
+        new AsynchronousExecutorProcessor("ejb3-async", Collections.singletonMap("Busy", "busy-pool")).deploy(phaseContext);
+
+        assertEquals(ThreadsServices.executorName("busy-pool"), busy.getAsynchronousExecutorServiceName());
+        assertFalse(busy.getDependencies().containsKey(ThreadsServices.executorName("ejb3-async")));
+        assertEquals(ThreadsServices.executorName("ejb3-async"), quiet.getAsynchronousExecutorServiceName());
+    }
+
+    @Test
+    public void testNoAsynchronousMethods() throws Exception {
+        final SessionBeanComponentDescription bean = addBean(new StatelessComponentDescription("Sync", "org.acme.Sync", ejbJarDescription, duServiceName));
+        new AsynchronousExecutorProcessor("ejb3-async", Collections.singletonMap("Sync", "sync-pool")).deploy(phaseContext);
+
+        assertNull(bean.getAsynchronousExecutorServiceName());
+        assertFalse(bean.getDependencies().containsKey(ThreadsServices.executorName("sync-pool")));
+    }
+
+    private SessionBeanComponentDescription addBean(final SessionBeanComponentDescription description) {
+        moduleDescription.addComponent(description);
+        return description;
+    }
+}
@@ -38,6 +38,9 @@ enum JacORBAttribute {
 
     UNKNOWN(null, null),
 
+    // attribute of the subsystem element that controls when the CORBA services are started.
+    ACTIVATION("activation", null),
+
     // attributes of the orb element.
     ORB_NAME("name", "jacorb.implname"),
     ORB_PRINT_VERSION("print-version", "jacorb.orb.print_version"),
@@ -25,9 +25,11 @@ package org.jboss.as.jacorb;
 import org.jboss.as.controller.Extension;
 import org.jboss.as.controller.ExtensionContext;
 import org.jboss.as.controller.SubsystemRegistration;
+import org.jboss.as.controller.operations.common.ActivationStateHandler;
 import org.jboss.as.controller.parsing.ExtensionParsingContext;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
+import org.jboss.as.jacorb.service.CorbaORBService;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DESCRIBE;
@@ -53,6 +55,8 @@ public class JacORBExtension implements Extension {
                 false);
         registration.registerOperationHandler(DESCRIBE, JacORBSubsystemDescribe.INSTANCE, JacORBSubsystemDescriptions.SUBSYSTEM_DESCRIBE,
                 false, OperationEntry.EntryType.PRIVATE);
+        registration.registerMetric(ActivationStateHandler.ATTRIBUTE_NAME,
+                new ActivationStateHandler(CorbaORBService.SERVICE_NAME));
 
         subsystem.registerXMLElementWriter(PARSER);
     }
@@ -22,6 +22,7 @@
 
 package org.jboss.as.jacorb;
 
+import static org.jboss.as.jacorb.JacORBAttribute.ACTIVATION;
 import static org.jboss.as.jacorb.JacORBElement.INITIALIZERS_CONFIG;
 import static org.jboss.as.jacorb.JacORBElement.INTEROP_CONFIG;
 import static org.jboss.as.jacorb.JacORBElement.ORB_CONFIG;
@@ -31,6 +32,7 @@ import static org.jboss.as.jacorb.JacORBElement.SECURITY_CONFIG;
 
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Properties;
 
 import org.jboss.as.controller.AbstractAddStepHandler;
@@ -42,6 +44,7 @@ import org.jboss.as.controller.operations.validation.ParametersValidator;
 import org.jboss.as.jacorb.service.CorbaNamingService;
 import org.jboss.as.jacorb.service.CorbaORBService;
 import org.jboss.as.jacorb.service.CorbaPOAService;
+import org.jboss.as.jacorb.service.CorbaServiceUtil;
 import org.jboss.as.network.SocketBinding;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -66,6 +69,11 @@ import org.omg.PortableServer.POA;
  * After the {@code ORB} is created, we create and activate the "RootPOA" and then use this {@code POA} to create the
  * {@code POA}s required by the other services.
  * </p>
+ * <p>
+ * With the default {@code eager} activation the services are started as soon as the subsystem is added. With
+ * {@code lazy} activation they are installed in {@code ON_DEMAND} mode, together with their JNDI bindings, and stay
+ * dormant until a service that depends on them or on one of their bindings is started.
+ * </p>
  *
  * @author <a href="mailto:sguilhen@redhat.com">Stefan Guilhen</a>
  */
@@ -79,6 +87,17 @@ public class JacORBSubsystemAdd extends AbstractAddStepHandler {
 
     static final JacORBSubsystemAdd INSTANCE = new JacORBSubsystemAdd();
 
+    /**
+     * <p>
+     * Enumeration of the supported activation policies.
+     * </p>
+     */
+    enum Activation {
+        EAGER, LAZY
+    }
+
+    private static final Activation DEFAULT_ACTIVATION = Activation.EAGER;
+
     private final ParametersValidator jacorbConfigValidator = new ParametersValidator();
 
     /**
@@ -96,6 +115,8 @@ public class JacORBSubsystemAdd extends AbstractAddStepHandler {
                 new ModelTypeValidator(ModelType.LIST, true));
         this.jacorbConfigValidator.registerValidator(INITIALIZERS_CONFIG.getLocalName(),
                 new ModelTypeValidator(ModelType.STRING, true, true));
+        this.jacorbConfigValidator.registerValidator(ACTIVATION.getLocalName(),
+                new ModelTypeValidator(ModelType.STRING, true));
     }
 
     @Override
@@ -111,6 +132,10 @@ public class JacORBSubsystemAdd extends AbstractAddStepHandler {
                 model.get(configElementName).set(operation.get(configElementName));
             }
         }
+        if (operation.hasDefined(ACTIVATION.getLocalName())) {
+            this.getActivation(operation);
+            model.get(ACTIVATION.getLocalName()).set(operation.get(ACTIVATION.getLocalName()));
+        }
     }
 
     @Override
@@ -120,6 +145,11 @@ public class JacORBSubsystemAdd extends AbstractAddStepHandler {
 
         log.info("Activating JacORB Subsystem");
 
+        // services are only started eagerly if requested - otherwise they start when first needed.
+        Activation activation = this.getActivation(operation);
+        final ServiceController.Mode initialMode = (activation == Activation.EAGER ? ServiceController.Mode.ACTIVE
+                : ServiceController.Mode.ON_DEMAND);
+
         // get the list of ORB initializers.
         EnumSet<ORBInitializer> initializers = getORBInitializers(operation);
 
@@ -138,23 +168,23 @@ public class JacORBSubsystemAdd extends AbstractAddStepHandler {
                 orbService.getJacORBSSLSocketBindingInjector());
         builder.addListener(verificationHandler);
         // set the initial mode and install the service.
-        newControllers.add(builder.setInitialMode(ServiceController.Mode.ACTIVE).install());
+        newControllers.add(builder.setInitialMode(initialMode).install());
 
         // create the service the initializes the Root POA.
-        CorbaPOAService rootPOAService = new CorbaPOAService("RootPOA", "poa");
+        CorbaPOAService rootPOAService = new CorbaPOAService("RootPOA", null);
         newControllers.add(context.getServiceTarget().addService(CorbaPOAService.SERVICE_NAME.append("rootpoa"), rootPOAService).
                 addDependency(CorbaORBService.SERVICE_NAME, ORB.class, rootPOAService.getORBInjector()).
                 addListener(verificationHandler).
-                setInitialMode(ServiceController.Mode.ACTIVE).install());
+                setInitialMode(initialMode).install());
 
         // create the service the initializes the interface repository POA.
-        CorbaPOAService irPOAService = new CorbaPOAService("IRPOA", "irpoa", IdAssignmentPolicyValue.USER_ID,
+        CorbaPOAService irPOAService = new CorbaPOAService("IRPOA", null, IdAssignmentPolicyValue.USER_ID,
                 null, null, LifespanPolicyValue.PERSISTENT, null, null, null);
         newControllers.add(context.getServiceTarget().addService(CorbaPOAService.SERVICE_NAME.append("irpoa"), irPOAService).
                 addDependency(CorbaPOAService.SERVICE_NAME.append("rootpoa"), POA.class,
                         irPOAService.getParentPOAInjector()).
                 addListener(verificationHandler).
-                setInitialMode(ServiceController.Mode.ACTIVE).install());
+                setInitialMode(initialMode).install());
 
         // create the service that initializes the naming service POA.
         CorbaPOAService namingPOAService = new CorbaPOAService("NamingPOA", null, IdAssignmentPolicyValue.USER_ID,
@@ -163,7 +193,7 @@ public class JacORBSubsystemAdd extends AbstractAddStepHandler {
                 addDependency(CorbaPOAService.SERVICE_NAME.append("rootpoa"), POA.class,
                         namingPOAService.getParentPOAInjector()).
                 addListener(verificationHandler).
-                setInitialMode(ServiceController.Mode.ACTIVE).install());
+                setInitialMode(initialMode).install());
 
         // create the CORBA naming service.
         CorbaNamingService namingService = new CorbaNamingService();
@@ -174,7 +204,39 @@ public class JacORBSubsystemAdd extends AbstractAddStepHandler {
                 addDependency(CorbaPOAService.SERVICE_NAME.append("namingpoa"), POA.class,
                         namingService.getNamingPOAInjector()).
                 addListener(verificationHandler).
-                setInitialMode(ServiceController.Mode.ACTIVE).install());
+                setInitialMode(initialMode).install());
+
+        // bind the ORB, the POAs and the naming service to JNDI. The bindings depend on the services, so a service
+        // that depends on a binding also activates the service behind it.
+        newControllers.add(CorbaServiceUtil.bindService(context.getServiceTarget(), "orb",
+                CorbaORBService.SERVICE_NAME, initialMode));
+        newControllers.add(CorbaServiceUtil.bindService(context.getServiceTarget(), "poa",
+                CorbaPOAService.SERVICE_NAME.append("rootpoa"), initialMode));
+        newControllers.add(CorbaServiceUtil.bindService(context.getServiceTarget(), "irpoa",
+                CorbaPOAService.SERVICE_NAME.append("irpoa"), initialMode));
+        newControllers.add(CorbaServiceUtil.bindService(context.getServiceTarget(), "corbanaming",
+                CorbaNamingService.SERVICE_NAME, initialMode));
+    }
+
+    /**
+     * <p>
+     * Obtains the activation policy that has been configured in the JacORB subsystem.
+     * </p>
+     *
+     * @param jacorbConfig the {@code ModelNode} that contains the JacORB configuration.
+     * @return the configured {@code Activation} or {@code EAGER} if no activation policy has been configured.
+     * @throws OperationFailedException if an unknown activation policy has been specified in the configuration.
+     */
+    Activation getActivation(ModelNode jacorbConfig) throws OperationFailedException {
+        if (!jacorbConfig.hasDefined(ACTIVATION.getLocalName())) {
+            return DEFAULT_ACTIVATION;
+        }
+        String value = jacorbConfig.get(ACTIVATION.getLocalName()).asString();
+        try {
+            return Activation.valueOf(value.toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            throw new OperationFailedException("Unknown activation policy " + value, jacorbConfig);
+        }
     }
 
     /**
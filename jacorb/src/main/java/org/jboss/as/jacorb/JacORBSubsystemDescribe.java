@@ -68,6 +68,10 @@ public class JacORBSubsystemDescribe implements OperationStepHandler {
                 subsystemAdd.get(configElementName).set(subModel.get(configElementName));
             }
         }
+        String activation = JacORBAttribute.ACTIVATION.getLocalName();
+        if (subModel.hasDefined(activation)) {
+            subsystemAdd.get(activation).set(subModel.get(activation));
+        }
         result.add(subsystemAdd);
         context.completeStep();
     }
@@ -24,6 +24,7 @@ package org.jboss.as.jacorb;
 
 import org.jboss.as.controller.descriptions.DescriptionProvider;
 import org.jboss.as.controller.descriptions.common.CommonDescriptions;
+import org.jboss.as.controller.operations.common.ActivationStateHandler;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
@@ -100,6 +101,16 @@ public class JacORBSubsystemDescriptions {
             subsystem.get(TAIL_COMMENT_ALLOWED).set(true);
             subsystem.get(NAMESPACE).set(JacORBNamespace.CURRENT.getUriString());
 
+            // describe the activation attribute.
+            subsystem.get(ATTRIBUTES, ACTIVATION.getLocalName(), DESCRIPTION).set(bundle.getString("jacorb.activation"));
+            subsystem.get(ATTRIBUTES, ACTIVATION.getLocalName(), TYPE).set(ModelType.STRING);
+            subsystem.get(ATTRIBUTES, ACTIVATION.getLocalName(), REQUIRED).set(false);
+            subsystem.get(ATTRIBUTES, ACTIVATION.getLocalName(), DEFAULT).set("eager");
+            // describe the activation-state runtime attribute.
+            subsystem.get(ATTRIBUTES, ActivationStateHandler.ATTRIBUTE_NAME, DESCRIPTION).
+                    set(bundle.getString("jacorb.activation-state"));
+            subsystem.get(ATTRIBUTES, ActivationStateHandler.ATTRIBUTE_NAME, TYPE).set(ModelType.STRING);
+
             // describe the orb sub-element.
             subsystem.get(CHILDREN, ORB_CONFIG.getLocalName()).set(getORBConfiguration(locale));
             // describe the poa sub-element.
@@ -485,6 +496,12 @@ public class JacORBSubsystemDescriptions {
             op.get(OPERATION_NAME).set(ADD);
             op.get(DESCRIPTION).set(bundle.getString("jacorb.add"));
 
+            // describe the activation attribute.
+            op.get(REQUEST_PROPERTIES, ACTIVATION.getLocalName(), DESCRIPTION).set(bundle.getString("jacorb.activation"));
+            op.get(REQUEST_PROPERTIES, ACTIVATION.getLocalName(), TYPE).set(ModelType.STRING);
+            op.get(REQUEST_PROPERTIES, ACTIVATION.getLocalName(), REQUIRED).set(false);
+            op.get(REQUEST_PROPERTIES, ACTIVATION.getLocalName(), DEFAULT).set("eager");
+
             // describe the orb sub-element.
             op.get(CHILDREN, ORB_CONFIG.getLocalName()).set(getORBConfigurationAdd(locale));
             // describe the poa sub-element.
@@ -72,13 +72,13 @@ public class JacORBSubsystemParser implements XMLStreamConstants, XMLElementRead
 
     @Override
     public void readElement(XMLExtendedStreamReader reader, List<ModelNode> nodes) throws XMLStreamException {
-        // the subsystem element has no attributes.
-        requireNoAttributes(reader);
-
         final ModelNode subsystem = new ModelNode();
         subsystem.get(OP).set(ADD);
         subsystem.get(OP_ADDR).add(SUBSYSTEM, JacORBExtension.SUBSYSTEM_NAME);
 
+        // the subsystem element may only specify the activation policy.
+        this.parseAttributes(reader, subsystem, EnumSet.of(ACTIVATION), null);
+
         final EnumSet<JacORBElement> encountered = EnumSet.noneOf(JacORBElement.class);
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
             switch (JacORBNamespace.forUri(reader.getNamespaceURI())) {
@@ -388,6 +388,12 @@ public class JacORBSubsystemParser implements XMLStreamConstants, XMLElementRead
         context.startSubsystemElement(JacORBNamespace.CURRENT.getUriString(), false);
         ModelNode node = context.getModelNode();
 
+        // write the activation policy.
+        String activation = ACTIVATION.getLocalName();
+        if (node.hasDefined(activation)) {
+            writer.writeAttribute(activation, node.get(activation).asString());
+        }
+
         // write the orb configuration element.
         String orbConfig = ORB_CONFIG.getLocalName();
         if (node.hasDefined(orbConfig)) {
@@ -80,9 +80,6 @@ public class CorbaNamingService implements Service<NamingContextExt> {
             throw new StartException("Failed to start the CORBA Naming Service", e);
         }
 
-        // bind the corba naming service to JNDI.
-        CorbaServiceUtil.bindObject(context.getChildTarget(), "corbanaming", namingService);
-
         log.info("CORBA Naming Service Started");
         log.debugf("Naming: [" + orb.object_to_string(namingService) + "]");
     }
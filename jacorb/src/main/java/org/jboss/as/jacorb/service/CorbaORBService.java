@@ -30,7 +30,6 @@ import org.jboss.logging.Logger;
 import org.jboss.msc.inject.Injector;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceName;
-import org.jboss.msc.service.ServiceTarget;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
@@ -141,10 +140,6 @@ public class CorbaORBService implements Service<ORB> {
 
             // set the ORBInitialContextFactory ORB.
             ORBInitialContextFactory.setORB(this.orb);
-
-            // bind the ORB to JNDI under java:/jboss/orb.
-            ServiceTarget target = context.getChildTarget();
-            CorbaServiceUtil.bindObject(target, "orb", this.orb);
         } catch (Exception e) {
             throw new StartException(e);
         }
@@ -29,6 +29,7 @@ import org.jboss.as.naming.service.BinderService;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.value.InjectedValue;
 import org.jboss.msc.value.Values;
 
 /**
@@ -69,4 +70,29 @@ public class CorbaServiceUtil {
                 .setInitialMode(ServiceController.Mode.ACTIVE)
                 .install();
     }
+
+    /**
+     * <p>
+     * Adds a {@code BinderService} to the specified target. The service binds the value of the specified service to JNDI
+     * under the {@code java:/jboss/contextName} context. The binder depends on the bound service, so when both are
+     * installed in {@code ON_DEMAND} mode a service that depends on the binding also starts the bound service.
+     * </p>
+     *
+     * @param target      the {@code ServiceTarget} where the binder service will be added.
+     * @param contextName the JNDI context name where the value will be bound.
+     * @param serviceName the name of the service whose value will be bound.
+     * @param mode        the initial mode of the binder service.
+     * @return the {@code ServiceController} of the installed binder service.
+     */
+    public static ServiceController<?> bindService(final ServiceTarget target, final String contextName,
+                                                   final ServiceName serviceName, final ServiceController.Mode mode) {
+        final BinderService binderService = new BinderService(contextName);
+        final InjectedValue<Object> value = new InjectedValue<Object>();
+        return target.addService(JBOSS_CONTEXT_SERVICE_NAME.append(contextName), binderService)
+                .addDependency(JBOSS_CONTEXT_SERVICE_NAME, NamingStore.class, binderService.getNamingStoreInjector())
+                .addDependency(serviceName, Object.class, value)
+                .addInjection(binderService.getManagedObjectInjector(), new ValueManagedReferenceFactory(value))
+                .setInitialMode(mode)
+                .install();
+    }
 }
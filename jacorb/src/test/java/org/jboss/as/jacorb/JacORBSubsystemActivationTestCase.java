@@ -0,0 +1,187 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jacorb;
+
+import static org.jboss.as.jacorb.JacORBAttribute.ACTIVATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.ServiceVerificationHandler;
+import org.jboss.as.jacorb.service.CorbaNamingService;
+import org.jboss.as.jacorb.service.CorbaORBService;
+import org.jboss.as.jacorb.service.CorbaPOAService;
+import org.jboss.as.jacorb.service.CorbaServiceUtil;
+import org.jboss.as.naming.InMemoryNamingStore;
+import org.jboss.as.naming.NamingStore;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.AbstractServiceListener;
+import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ValueService;
+import org.jboss.msc.value.ImmediateValue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the services the JacORB subsystem installs for each activation policy.
+ */
+public class JacORBSubsystemActivationTestCase {
+
+    private static final ServiceName[] SERVICES = {
+        CorbaORBService.SERVICE_NAME,
+        CorbaPOAService.SERVICE_NAME.append("rootpoa"),
+        CorbaPOAService.SERVICE_NAME.append("irpoa"),
+        CorbaPOAService.SERVICE_NAME.append("namingpoa"),
+        CorbaNamingService.SERVICE_NAME,
+        CorbaServiceUtil.JBOSS_CONTEXT_SERVICE_NAME.append("orb"),
+        CorbaServiceUtil.JBOSS_CONTEXT_SERVICE_NAME.append("poa"),
+        CorbaServiceUtil.JBOSS_CONTEXT_SERVICE_NAME.append("irpoa"),
+        CorbaServiceUtil.JBOSS_CONTEXT_SERVICE_NAME.append("corbanaming"),
+    };
+
+    private ServiceContainer container;
+
+    @Before
+    public void createContainer() {
+        container = ServiceContainer.Factory.create("jacorb-test");
+    }
+
+    @After
+    public void shutdownContainer() {
+        container.shutdown();
+        try {
+            container.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void testDefaultIsEager() throws Exception {
+        final ModelNode operation = new ModelNode();
+        assertEquals(JacORBSubsystemAdd.Activation.EAGER, JacORBSubsystemAdd.INSTANCE.getActivation(operation));
+        install(operation);
+        assertModes(ServiceController.Mode.ACTIVE);
+    }
+
+    @Test
+    public void testEager() throws Exception {
+        final ModelNode operation = new ModelNode();
+        operation.get(ACTIVATION.getLocalName()).set("eager");
+        install(operation);
+        assertModes(ServiceController.Mode.ACTIVE);
+    }
+
+    @Test
+    public void testLazy() throws Exception {
+        final ModelNode operation = new ModelNode();
+        operation.get(ACTIVATION.getLocalName()).set("lazy");
+        final List<ServiceController<?>> controllers = install(operation);
+        assertEquals(SERVICES.length, controllers.size());
+        assertModes(ServiceController.Mode.ON_DEMAND);
+        // nothing depends on the services, so none of them is asked to start
+        for (ServiceName name : SERVICES) {
+            assertEquals(name.toString(), ServiceController.State.DOWN, container.getRequiredService(name).getState());
+        }
+    }
+
+    @Test
+    public void testBindingDemandsBoundService() throws Exception {
+        container.addService(CorbaServiceUtil.JBOSS_CONTEXT_SERVICE_NAME,
+                new ValueService<NamingStore>(new ImmediateValue<NamingStore>(new InMemoryNamingStore()))).install();
+        final ServiceName boundName = ServiceName.of("jacorb-test", "bound");
+        final CountDownLatch boundUp = new CountDownLatch(1);
+        container.addService(boundName, new ValueService<Object>(new ImmediateValue<Object>(new Object())))
+                .setInitialMode(ServiceController.Mode.ON_DEMAND)
+                .addListener(new AbstractServiceListener<Object>() {
+                    @Override
+                    public void transition(final ServiceController<?> controller, final ServiceController.Transition transition) {
+                        if (transition == ServiceController.Transition.STARTING_to_UP) {
+                            boundUp.countDown();
+                        }
+                    }
+                })
+                .install();
+        final ServiceController<?> binding = CorbaServiceUtil.bindService(container, "bound", boundName,
+                ServiceController.Mode.ON_DEMAND);
+        // an on demand binding nobody depends on leaves the bound service alone
+        assertFalse(boundUp.await(200, TimeUnit.MILLISECONDS));
+        // demanding the binding starts the bound service first, without any timed wait in the binder
+        binding.setMode(ServiceController.Mode.ACTIVE);
+        assertTrue(boundUp.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testUnknownActivation() throws Exception {
+        final ModelNode operation = new ModelNode();
+        operation.get(ACTIVATION.getLocalName()).set("sometimes");
+        try {
+            JacORBSubsystemAdd.INSTANCE.populateModel(operation, new ModelNode());
+            fail("An unknown activation policy should be rejected");
+        } catch (OperationFailedException expected) {
+        }
+    }
+
+    private List<ServiceController<?>> install(final ModelNode operation) throws Exception {
+        final ModelNode model = new ModelNode();
+        JacORBSubsystemAdd.INSTANCE.populateModel(operation, model);
+        final List<ServiceController<?>> controllers = new ArrayList<ServiceController<?>>();
+        JacORBSubsystemAdd.INSTANCE.performRuntime(createContext(), operation, model, new ServiceVerificationHandler(), controllers);
+        return controllers;
+    }
+
+    private void assertModes(final ServiceController.Mode mode) {
+        for (ServiceName name : SERVICES) {
+            assertEquals(name.toString(), mode, container.getRequiredService(name).getMode());
+        }
+    }
+
+    private OperationContext createContext() {
+        return (OperationContext) Proxy.newProxyInstance(OperationContext.class.getClassLoader(), new Class<?>[] { OperationContext.class },
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if ("getServiceTarget".equals(method.getName())) {
+                            return container;
+                        } else if ("getServiceRegistry".equals(method.getName())) {
+                            return container;
+                        }
+                        return null;
+                    }
+                });
+    }
+}
@@ -24,14 +24,18 @@ package org.jboss.as.jpa.hibernate;
 
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
 import org.jboss.as.jpa.config.PersistenceUnitMetadata;
+import org.jboss.as.jpa.service.JPAService;
 import org.jboss.as.jpa.spi.PersistenceProviderAdaptor;
 import org.jboss.as.naming.deployment.ContextNames;
 import org.jboss.as.naming.deployment.JndiName;
 import org.jboss.msc.service.ServiceName;
 
+import javax.persistence.SharedCacheMode;
 import java.util.ArrayList;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * Implements the PersistenceProviderAdaptor for Hibernate
@@ -40,19 +44,42 @@ import java.util.Map;
  */
 public class HibernatePersistenceProviderAdaptor implements PersistenceProviderAdaptor {
 
+    private static final String SHARED_CACHE_MODE = "javax.persistence.sharedCache.mode";
+    private static final String REGION_FACTORY = "hibernate.cache.region.factory_class";
+    private static final String INFINISPAN_CACHE_MANAGER = "hibernate.cache.infinispan.cachemanager";
+    private static final String JNDI_INFINISPAN_REGION_FACTORY = "org.hibernate.cache.infinispan.JndiInfinispanRegionFactory";
+
+    /**
+     * The caches of the default cache container used as templates for each kind of region, unless the persistence
+     * unit names its own.
+     */
+    private static final String[][] CACHE_TEMPLATES = {
+        {"hibernate.cache.infinispan.entity.cfg", "entity"},
+        {"hibernate.cache.infinispan.collection.cfg", "entity"},
+        {"hibernate.cache.infinispan.query.cfg", "local-query"},
+        {"hibernate.cache.infinispan.timestamps.cfg", "timestamps"},
+    };
+
+    private final JPAService jpaService;
+
+    public HibernatePersistenceProviderAdaptor(final JPAService jpaService) {
+        this.jpaService = jpaService;
+    }
+
     @Override
     public void addProviderProperties(Map properties, PersistenceUnitMetadata pu) {
         properties.put(Configuration.USE_NEW_ID_GENERATOR_MAPPINGS, "true");
         properties.put(org.hibernate.ejb.AvailableSettings.SCANNER, "org.jboss.as.jpa.hibernate.HibernateAnnotationScanner");
         properties.put(AvailableSettings.APP_CLASSLOADER, pu.getClassLoader());
         properties.put(AvailableSettings.JTA_PLATFORM, new JBossAppServerJtaPlatform());
+        addSecondLevelCacheProperties(properties, pu);
     }
 
     @Override
     public Iterable<ServiceName> getProviderDependencies(PersistenceUnitMetadata pu) {
         String cacheManager;
         // AS7-680 Add BinderService dependency for infinispan hibernate 2LC
-        if ((cacheManager = pu.getProperties().getProperty("hibernate.cache.infinispan.cachemanager")) != null) {
+        if ((cacheManager = getCacheManagerJndiName(pu)) != null) {
             ArrayList<ServiceName> result = new ArrayList<ServiceName>();
             result.add(adjustJndiName(cacheManager));
             return result;
@@ -60,6 +87,65 @@ public class HibernatePersistenceProviderAdaptor implements PersistenceProviderA
         return null;
     }
 
+    /**
+     * Back the second level cache of the persistence unit with the default Infinispan cache container, if the unit
+     * enables caching and does not configure a region factory of its own.
+     */
+    void addSecondLevelCacheProperties(Map properties, PersistenceUnitMetadata pu) {
+        final String cacheManager = getDefaultCacheManagerJndiName(pu);
+        if (cacheManager == null) {
+            return;
+        }
+        final Properties puProperties = pu.getProperties();
+        properties.put(Environment.USE_SECOND_LEVEL_CACHE, "true");
+        properties.put(REGION_FACTORY, JNDI_INFINISPAN_REGION_FACTORY);
+        properties.put(INFINISPAN_CACHE_MANAGER, cacheManager);
+        for (String[] template : CACHE_TEMPLATES) {
+            if (!puProperties.containsKey(template[0])) {
+                properties.put(template[0], template[1]);
+            }
+        }
+        // the region statistics are exposed through the read-second-level-cache-statistics operation, but the
+        // setting of the unit, the container or the hibernate system property wins
+        if (!puProperties.containsKey(Environment.GENERATE_STATISTICS) && !properties.containsKey(Environment.GENERATE_STATISTICS)
+                && System.getProperty(Environment.GENERATE_STATISTICS) == null) {
+            properties.put(Environment.GENERATE_STATISTICS, "true");
+        }
+    }
+
+    private String getCacheManagerJndiName(PersistenceUnitMetadata pu) {
+        final String cacheManager = pu.getProperties().getProperty(INFINISPAN_CACHE_MANAGER);
+        return cacheManager != null ? cacheManager : getDefaultCacheManagerJndiName(pu);
+    }
+
+    /**
+     * @return the JNDI name of the default cache container, or {@code null} if the persistence unit does not use it
+     */
+    private String getDefaultCacheManagerJndiName(PersistenceUnitMetadata pu) {
+        final String jndiName = jpaService.getDefaultCacheContainerJndiName();
+        if (jndiName == null) {
+            return null;
+        }
+        final Properties puProperties = pu.getProperties();
+        if (puProperties.containsKey(REGION_FACTORY) || puProperties.containsKey(INFINISPAN_CACHE_MANAGER)) {
+            return null;
+        }
+        final String useSecondLevelCache = puProperties.getProperty(Environment.USE_SECOND_LEVEL_CACHE);
+        if (useSecondLevelCache != null && !Boolean.parseBoolean(useSecondLevelCache)) {
+            return null;
+        }
+        if (useSecondLevelCache == null && !isCachingEnabled(pu)) {
+            return null;
+        }
+        return jndiName;
+    }
+
+    private boolean isCachingEnabled(PersistenceUnitMetadata pu) {
+        final String sharedCacheMode = pu.getProperties().getProperty(SHARED_CACHE_MODE);
+        final SharedCacheMode mode = sharedCacheMode != null ? SharedCacheMode.valueOf(sharedCacheMode) : pu.getSharedCacheMode();
+        return mode == SharedCacheMode.ALL || mode == SharedCacheMode.ENABLE_SELECTIVE || mode == SharedCacheMode.DISABLE_SELECTIVE;
+    }
+
     private ServiceName adjustJndiName(String jndiName) {
         jndiName = toJndiName(jndiName).toString();
         int index = jndiName.indexOf("/");
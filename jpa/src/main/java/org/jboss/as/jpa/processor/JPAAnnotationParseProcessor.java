@@ -65,12 +65,14 @@ import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.MethodInfo;
+import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 
 import javax.persistence.PersistenceContext;
 import javax.persistence.PersistenceContextType;
 import javax.persistence.PersistenceUnit;
 import javax.persistence.spi.PersistenceUnitTransactionType;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -98,12 +100,12 @@ public class JPAAnnotationParseProcessor implements DeploymentUnitProcessor {
         // @PersistenceContext
         List<AnnotationInstance> persistenceContexts = index.getAnnotations(PERSISTENCE_CONTEXT_ANNOTATION_NAME);
         // create binding and injection configurations out of the @PersistenceContext annotations
-        this.processPersistenceAnnotations(deploymentUnit, eeModuleDescription, persistenceContexts);
+        this.processPersistenceAnnotations(deploymentUnit, eeModuleDescription, index, persistenceContexts);
 
         // @PersistenceUnit
         List<AnnotationInstance> persistenceUnits = index.getAnnotations(PERSISTENCE_UNIT_ANNOTATION_NAME);
         // create binding and injection configurations out of the @PersistenceUnit annotaitons
-        this.processPersistenceAnnotations(deploymentUnit, eeModuleDescription, persistenceUnits);
+        this.processPersistenceAnnotations(deploymentUnit, eeModuleDescription, index, persistenceUnits);
 
         // if we found any @PersistenceContext or @PersistenceUnit annotations then mark this as a JPA deployment
         if (!persistenceContexts.isEmpty() || !persistenceUnits.isEmpty()) {
@@ -116,7 +118,7 @@ public class JPAAnnotationParseProcessor implements DeploymentUnitProcessor {
 
     }
 
-    private void processPersistenceAnnotations(final DeploymentUnit deploymentUnit, final EEModuleDescription eeModuleDescription, List<AnnotationInstance> persistenceContexts) throws
+    private void processPersistenceAnnotations(final DeploymentUnit deploymentUnit, final EEModuleDescription eeModuleDescription, final CompositeIndex index, List<AnnotationInstance> persistenceContexts) throws
             DeploymentUnitProcessingException {
         for (AnnotationInstance annotation : persistenceContexts) {
             ClassInfo declaringClass = null;
@@ -135,6 +137,7 @@ public class JPAAnnotationParseProcessor implements DeploymentUnitProcessor {
                 declaringClass = (ClassInfo) annotationTarget;
                 EEModuleClassDescription eeModuleClassDescription = eeModuleDescription.getOrAddClassByName(declaringClass.name().toString());
                 this.processClass(deploymentUnit, annotation, eeModuleClassDescription);
+                this.addPersistenceUnitDependency(deploymentUnit, eeModuleDescription, index, annotation, declaringClass);
             }
 
             // setup interceptors if the annotation is on a component
@@ -345,6 +348,28 @@ public class JPAAnnotationParseProcessor implements DeploymentUnitProcessor {
         return pu;
     }
 
+    /**
+     * Field and method level annotations are injected, so the components using them already wait for the persistence
+     * unit through their injections.  A class level annotation only creates a binding, so make the components of the
+     * class (and of its subclasses) depend on the persistence unit they can look up.
+     */
+    private void addPersistenceUnitDependency(final DeploymentUnit deploymentUnit, final EEModuleDescription eeModuleDescription, final CompositeIndex index,
+                                              final AnnotationInstance annotation, final ClassInfo classInfo) throws DeploymentUnitProcessingException {
+        final AnnotationValue puName = annotation.value("unitName");
+        final PersistenceUnitMetadata pu = PersistenceUnitSearch.resolvePersistenceUnitSupplier(deploymentUnit, puName != null ? puName.asString() : null);
+        if (pu == null) {
+            return;
+        }
+        final ServiceName puServiceName = getPuServiceName(pu.getScopedPersistenceUnitName());
+        final List<ComponentDescription> componentDescriptions = new ArrayList<ComponentDescription>(eeModuleDescription.getComponentsByClassName(classInfo.name().toString()));
+        for (ClassInfo subclass : index.getAllKnownSubclasses(classInfo.name())) {
+            componentDescriptions.addAll(eeModuleDescription.getComponentsByClassName(subclass.name().toString()));
+        }
+        for (ComponentDescription componentDescription : componentDescriptions) {
+            componentDescription.addDependency(puServiceName, ServiceBuilder.DependencyType.REQUIRED);
+        }
+    }
+
     private ServiceName getPuServiceName(String scopedPuName)
             throws DeploymentUnitProcessingException {
 
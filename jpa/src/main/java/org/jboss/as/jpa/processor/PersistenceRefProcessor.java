@@ -44,6 +44,7 @@ import org.jboss.metadata.javaee.spec.PersistenceUnitReferenceMetaData;
 import org.jboss.metadata.javaee.spec.PersistenceUnitReferencesMetaData;
 import org.jboss.metadata.javaee.spec.PropertiesMetaData;
 import org.jboss.metadata.javaee.spec.PropertyMetaData;
+import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 
 import javax.persistence.EntityManager;
@@ -116,7 +117,7 @@ public class PersistenceRefProcessor extends AbstractDeploymentDescriptorBinding
                 if (!isEmpty(lookup)) {
                     bindingConfiguration = new BindingConfiguration(name, new LookupInjectionSource(lookup));
                 } else if (!isEmpty(persistenceUnitName)) {
-                    InjectionSource puBindingSource = this.getPersistenceUnitBindingSource(deploymentUnit, persistenceUnitName);
+                    InjectionSource puBindingSource = this.getPersistenceUnitBindingSource(deploymentUnit, moduleDescription, componentDescription, persistenceUnitName);
                     bindingConfiguration = new BindingConfiguration(name, puBindingSource);
                 } else {
                     throw new RuntimeException("Support for persistence-unit-ref without a lookup or persistence-unit-name, isn't yet implemented");
@@ -174,7 +175,7 @@ public class PersistenceRefProcessor extends AbstractDeploymentDescriptorBinding
                         }
                     }
                     PersistenceContextType type = puRef.getPersistenceContextType() == null ? PersistenceContextType.TRANSACTION : puRef.getPersistenceContextType();
-                    InjectionSource pcBindingSource = this.getPersistenceContextBindingSource(deploymentUnit, persistenceUnitName, type, map);
+                    InjectionSource pcBindingSource = this.getPersistenceContextBindingSource(deploymentUnit, moduleDescription, componentDescription, persistenceUnitName, type, map);
                     bindingConfiguration = new BindingConfiguration(name, pcBindingSource);
                 } else {
                     throw new RuntimeException("Support for persistence-context-ref without a lookup or persistence-unit-name, isn't yet implemented");
@@ -188,17 +189,22 @@ public class PersistenceRefProcessor extends AbstractDeploymentDescriptorBinding
 
     private InjectionSource getPersistenceUnitBindingSource(
         final DeploymentUnit deploymentUnit,
+        final EEModuleDescription moduleDescription,
+        final ComponentDescription componentDescription,
         final String unitName)
         throws DeploymentUnitProcessingException {
 
         PersistenceUnitMetadata pu = getPersistenceUnit(deploymentUnit, unitName);
         String scopedPuName = pu.getScopedPersistenceUnitName();
         ServiceName puServiceName = getPuServiceName(scopedPuName);
+        addPersistenceUnitDependency(moduleDescription, componentDescription, puServiceName);
         return new PersistenceUnitInjectionSource(puServiceName, deploymentUnit, EntityManagerFactory.class.getName());
     }
 
     private InjectionSource getPersistenceContextBindingSource(
         final DeploymentUnit deploymentUnit,
+        final EEModuleDescription moduleDescription,
+        final ComponentDescription componentDescription,
         final String unitName, PersistenceContextType type, Map properties)
         throws DeploymentUnitProcessingException {
         PersistenceUnitMetadata pu = getPersistenceUnit(deploymentUnit, unitName);
@@ -207,6 +213,7 @@ public class PersistenceRefProcessor extends AbstractDeploymentDescriptorBinding
         }
         String scopedPuName = pu.getScopedPersistenceUnitName();
         ServiceName puServiceName = getPuServiceName(scopedPuName);
+        addPersistenceUnitDependency(moduleDescription, componentDescription, puServiceName);
         return new PersistenceContextInjectionSource(type, properties, puServiceName, deploymentUnit, scopedPuName, EntityManager.class.getName(), SFSBXPCMap.getXpcMap(deploymentUnit));
     }
 
@@ -220,6 +227,20 @@ public class PersistenceRefProcessor extends AbstractDeploymentDescriptorBinding
         return pu;
     }
 
+    /**
+     * A reference is only a binding unless it has injection targets, so make the component declaring it depend on the
+     * persistence unit.  References declared for the whole module apply to all of its components.
+     */
+    private void addPersistenceUnitDependency(final EEModuleDescription moduleDescription, final ComponentDescription componentDescription, final ServiceName puServiceName) {
+        if (componentDescription != null) {
+            componentDescription.addDependency(puServiceName, ServiceBuilder.DependencyType.REQUIRED);
+        } else {
+            for (ComponentDescription component : moduleDescription.getComponentDescriptions()) {
+                component.addDependency(puServiceName, ServiceBuilder.DependencyType.REQUIRED);
+            }
+        }
+    }
+
     private ServiceName getPuServiceName(String scopedPuName)
         throws DeploymentUnitProcessingException {
 
@@ -23,7 +23,6 @@
 package org.jboss.as.jpa.processor;
 
 import org.jboss.as.connector.subsystems.datasources.AbstractDataSourceService;
-import org.jboss.as.ee.component.ComponentDescription;
 import org.jboss.as.ee.component.EEModuleDescription;
 import org.jboss.as.ee.structure.DeploymentType;
 import org.jboss.as.ee.structure.DeploymentTypeMarker;
@@ -71,10 +70,10 @@ import javax.transaction.TransactionManager;
 import javax.transaction.TransactionSynchronizationRegistry;
 import javax.validation.ValidatorFactory;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Handle the installation of the Persistence Unit service
@@ -200,7 +199,6 @@ public class PersistenceUnitDeploymentProcessor implements DeploymentUnitProcess
             final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
             final Module module = deploymentUnit.getAttachment(Attachments.MODULE);
             final EEModuleDescription eeModuleDescription = deploymentUnit.getAttachment(org.jboss.as.ee.component.Attachments.EE_MODULE_DESCRIPTION);
-            final Collection<ComponentDescription> components = eeModuleDescription.getComponentDescriptions();
             if (module == null)
                 throw new DeploymentUnitProcessingException("Failed to get module attachment for " + phaseContext.getDeploymentUnit());
 
@@ -245,12 +243,10 @@ public class PersistenceUnitDeploymentProcessor implements DeploymentUnitProcess
                         }
                         addProviderProperties(pu, properties);
                         final ServiceName puServiceName = PersistenceUnitService.getPUServiceName(pu);
-                        // add the PU service as a dependency to all EE components in this scope
-                        this.addPUServiceDependencyToComponents(components, puServiceName);
-
                         deploymentUnit.addToAttachmentList(Attachments.WEB_DEPENDENCIES, puServiceName);
 
                         ServiceBuilder builder = serviceTarget.addService(puServiceName, service);
+                        builder.addDependency(JPAService.BOOTSTRAP_EXECUTOR, Executor.class, service.getBootstrapExecutorInjector());
                         boolean useDefaultDataSource = true;
                         final String jtaDataSource = adjustJndi(pu.getJtaDataSourceName());
                         final String nonJtaDataSource = adjustJndi(pu.getNonJtaDataSourceName());
@@ -370,20 +366,4 @@ public class PersistenceUnitDeploymentProcessor implements DeploymentUnitProcess
             reference = null;
         }
     }
-
-    /**
-     * Add the <code>puServiceName</code> as a dependency on each of the passed <code>components</code>
-     *
-     * @param components    The components to which the PU service is added as a dependency
-     * @param puServiceName The persistence unit service name
-     */
-    private void addPUServiceDependencyToComponents(final Collection<ComponentDescription> components, final ServiceName puServiceName) {
-        if (components == null || components.isEmpty()) {
-            return;
-        }
-        for (final ComponentDescription component : components) {
-            log.debug("Adding dependency on PU service " + puServiceName + " for component " + component.getComponentClassName());
-            component.addDependency(puServiceName, ServiceBuilder.DependencyType.REQUIRED);
-        }
-    }
 }
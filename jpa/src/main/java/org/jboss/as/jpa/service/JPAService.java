@@ -36,19 +36,48 @@ import org.jboss.msc.service.StopContext;
  *
  * @author Scott Marlow
  */
-public class JPAService implements Service<Void> {
+public class JPAService implements Service<JPAService> {
 
     public static final ServiceName SERVICE_NAME = ServiceName.JBOSS.append("jpa");
 
+    /**
+     * The thread pool persistence units create their entity manager factory on.
+     */
+    public static final ServiceName BOOTSTRAP_EXECUTOR = SERVICE_NAME.append("bootstrap-executor");
+
     private static String defaultDataSourceName = null;
 
+    private volatile String defaultCacheContainerName;
+    private volatile String defaultCacheContainerJndiName;
+
+    public JPAService(final String defaultCacheContainerName, final String defaultCacheContainerJndiName) {
+        setDefaultCacheContainer(defaultCacheContainerName, defaultCacheContainerJndiName);
+    }
 
     public static String getDefaultDataSourceName() {
         return defaultDataSourceName;
     }
 
-    public static ServiceController<?> addService(final ServiceTarget target, final String defaultDataSourceName, final ServiceListener<Object>... listeners) {
-        JPAService jpaService = new JPAService();
+    /**
+     * Get the name of the Infinispan cache container that backs the Hibernate second level cache of persistence units
+     * which do not configure their own region factory.
+     *
+     * @return the cache container name, or {@code null} if the second level cache is not wired automatically
+     */
+    public String getDefaultCacheContainerName() {
+        return defaultCacheContainerName;
+    }
+
+    /**
+     * Get the JNDI name the default cache container is bound under.
+     *
+     * @return the JNDI name, or {@code null} if the second level cache is not wired automatically
+     */
+    public String getDefaultCacheContainerJndiName() {
+        return defaultCacheContainerJndiName;
+    }
+
+    public static ServiceController<?> addService(final ServiceTarget target, final JPAService jpaService, final String defaultDataSourceName, final ServiceListener<Object>... listeners) {
         JPAService.defaultDataSourceName = defaultDataSourceName;
         return target.addService(SERVICE_NAME, jpaService)
                 .addListener(listeners)
@@ -67,11 +96,16 @@ public class JPAService implements Service<Void> {
     }
 
     @Override
-    public Void getValue() throws IllegalStateException, IllegalArgumentException {
-        return null;
+    public JPAService getValue() throws IllegalStateException, IllegalArgumentException {
+        return this;
     }
 
     public void setDefaultDataSourceName(String dataSourceName) {
         defaultDataSourceName = dataSourceName;
     }
+
+    public synchronized void setDefaultCacheContainer(String cacheContainerName, String cacheContainerJndiName) {
+        defaultCacheContainerName = cacheContainerName;
+        defaultCacheContainerJndiName = cacheContainerName != null ? cacheContainerJndiName : null;
+    }
 }
@@ -41,12 +41,17 @@ import javax.persistence.spi.PersistenceProviderResolverHolder;
 import javax.sql.DataSource;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Persistence Unit service that is created for each deployed persistence unit that will be referenced by the
  * persistence context/unit injector.
  * <p/>
  * The persistence unit scoped
+ * <p/>
+ * The entity manager factory is created asynchronously on the {@link JPAService#BOOTSTRAP_EXECUTOR} thread pool, so the
+ * persistence units of a deployment are bootstrapped concurrently instead of each one holding an MSC thread for the
+ * whole of its bootstrap.
  *
  * @author Scott Marlow
  */
@@ -59,9 +64,12 @@ public class PersistenceUnitService implements Service<PersistenceUnitService> {
     private final InjectedValue<DataSource> jtaDataSource = new InjectedValue<DataSource>();
     private final InjectedValue<DataSource> nonJtaDataSource = new InjectedValue<DataSource>();
 
+    private final InjectedValue<Executor> bootstrapExecutor = new InjectedValue<Executor>();
+
     private static final Logger log = Logger.getLogger("org.jboss.jpa");
 
-    private EntityManagerFactory entityManagerFactory;
+    private volatile EntityManagerFactory entityManagerFactory;
+    private volatile long bootstrapTime = -1;
     private PersistenceUnitMetadata pu;
 
     public PersistenceUnitService(PersistenceUnitMetadata pu) {
@@ -69,16 +77,43 @@ public class PersistenceUnitService implements Service<PersistenceUnitService> {
     }
 
     @Override
-    public void start(StartContext context) throws StartException {
+    public void start(final StartContext context) throws StartException {
+        log.infof("starting Persistence Unit Service '%s' ", pu.getScopedPersistenceUnitName() );
+        final ClassLoader classLoader = SecurityActions.getContextClassLoader();
+        context.asynchronous();
         try {
-            log.infof("starting Persistence Unit Service '%s' ", pu.getScopedPersistenceUnitName() );
+            bootstrapExecutor.getValue().execute(new Runnable() {
+                @Override
+                public void run() {
+                    final ClassLoader old = SecurityActions.getContextClassLoader();
+                    SecurityActions.setContextClassLoader(classLoader);
+                    try {
+                        bootstrap();
+                        context.complete();
+                    } catch (Throwable t) {
+                        context.failed(new StartException("Failed to start Persistence Unit Service '" + pu.getScopedPersistenceUnitName() + "'", t));
+                    } finally {
+                        SecurityActions.setContextClassLoader(old);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            pu.setTempClassloader(null);
+            context.failed(new StartException("Failed to schedule Persistence Unit Service '" + pu.getScopedPersistenceUnitName() + "'", e));
+        }
+    }
 
+    private void bootstrap() {
+        final long start = System.currentTimeMillis();
+        try {
             PersistenceProvider provider = lookupProvider(pu.getPersistenceProviderClassName());
 
             pu.setJtaDataSource(jtaDataSource.getOptionalValue());
             pu.setNonJtaDataSource(nonJtaDataSource.getOptionalValue());
             this.entityManagerFactory = createContainerEntityManagerFactory(provider);
 
+            bootstrapTime = System.currentTimeMillis() - start;
+            log.infof("started Persistence Unit Service '%s' in %d ms", pu.getScopedPersistenceUnitName(), bootstrapTime);
         } finally {
             pu.setTempClassloader(null);    // release the temp classloader (only needed when creating the EMF)
         }
@@ -91,6 +126,7 @@ public class PersistenceUnitService implements Service<PersistenceUnitService> {
             entityManagerFactory.close();
             entityManagerFactory = null;
         }
+        bootstrapTime = -1;
     }
 
     @Override
@@ -107,6 +143,15 @@ public class PersistenceUnitService implements Service<PersistenceUnitService> {
         return entityManagerFactory;
     }
 
+    /**
+     * Get the time it took to create the entity manager factory
+     *
+     * @return the bootstrap time in milliseconds, or -1 if the persistence unit is not started
+     */
+    public long getBootstrapTime() {
+        return bootstrapTime;
+    }
+
     public Injector<Map> getPropertiesInjector() {
         return properties;
     }
@@ -119,6 +164,10 @@ public class PersistenceUnitService implements Service<PersistenceUnitService> {
         return nonJtaDataSource;
     }
 
+    public Injector<Executor> getBootstrapExecutorInjector() {
+        return bootstrapExecutor;
+    }
+
     /**
      * Returns the Persistence Unit service name used for creation or lookup.
      * The service name contains the unique fully scoped persistence unit name
@@ -177,5 +226,4 @@ public class PersistenceUnitService implements Service<PersistenceUnitService> {
             }
         }
     }
-
 }
@@ -0,0 +1,69 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.subsystem;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.operations.validation.StringLengthValidator;
+import org.jboss.as.jpa.service.JPAService;
+import org.jboss.as.server.operations.ServerWriteAttributeOperationHandler;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Attribute write handler for the default-cache-container attribute.  The new value applies to persistence units
+ * deployed after the change.
+ */
+public class JPADefaultCacheContainerWriteHandler extends ServerWriteAttributeOperationHandler {
+
+    static final JPADefaultCacheContainerWriteHandler INSTANCE = new JPADefaultCacheContainerWriteHandler();
+
+    private JPADefaultCacheContainerWriteHandler() {
+        super(new StringLengthValidator(1, Integer.MAX_VALUE, true, true), new StringLengthValidator(1, Integer.MAX_VALUE, true, false));
+    }
+
+    @Override
+    protected boolean applyUpdateToRuntime(final OperationContext context, final ModelNode operation,
+            String attributeName, final ModelNode newValue, ModelNode currentValue) throws OperationFailedException {
+
+        if (context.getType() == OperationContext.Type.SERVER) {
+            context.addStep(new OperationStepHandler() {
+                public void execute(OperationContext context, ModelNode operation) {
+                    final ModelNode resolved = newValue.resolve();
+                    final String cacheContainerName = resolved.isDefined() ? resolved.asString() : null;
+                    final ServiceController<?> sc = context.getServiceRegistry(true).getRequiredService(JPAService.SERVICE_NAME);
+                    final JPAService jpaService = JPAService.class.cast(sc.getValue());
+                    final String currentCacheContainerName = jpaService.getDefaultCacheContainerName();
+                    final String currentCacheContainerJndiName = jpaService.getDefaultCacheContainerJndiName();
+                    jpaService.setDefaultCacheContainer(cacheContainerName, JPASubSystemAdd.getCacheContainerJndiName(context, cacheContainerName));
+                    if (context.completeStep() == OperationContext.ResultAction.ROLLBACK) {
+                        jpaService.setDefaultCacheContainer(currentCacheContainerName, currentCacheContainerJndiName);
+                    }
+                }
+            }, OperationContext.Stage.RUNTIME);
+        }
+        return false;
+    }
+
+}
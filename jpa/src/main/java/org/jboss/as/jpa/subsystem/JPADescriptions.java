@@ -66,6 +66,10 @@ public class JPADescriptions {
         subsystem.get(ATTRIBUTES, CommonAttributes.DEFAULT_DATASOURCE, TYPE).set(ModelType.STRING);
         subsystem.get(ATTRIBUTES, CommonAttributes.DEFAULT_DATASOURCE, REQUIRED).set(true);
         subsystem.get(ATTRIBUTES, CommonAttributes.DEFAULT_DATASOURCE, MIN_LENGTH).set(0);
+        subsystem.get(ATTRIBUTES, CommonAttributes.DEFAULT_CACHE_CONTAINER, DESCRIPTION).set(bundle.getString("default.cache.container"));
+        subsystem.get(ATTRIBUTES, CommonAttributes.DEFAULT_CACHE_CONTAINER, TYPE).set(ModelType.STRING);
+        subsystem.get(ATTRIBUTES, CommonAttributes.DEFAULT_CACHE_CONTAINER, REQUIRED).set(false);
+        subsystem.get(ATTRIBUTES, CommonAttributes.DEFAULT_CACHE_CONTAINER, MIN_LENGTH).set(1);
         subsystem.get(OPERATIONS);
         subsystem.get(CHILDREN);
         return subsystem;
@@ -83,6 +87,10 @@ public class JPADescriptions {
         op.get(REQUEST_PROPERTIES, CommonAttributes.DEFAULT_DATASOURCE, TYPE).set(ModelType.STRING);
         op.get(REQUEST_PROPERTIES, CommonAttributes.DEFAULT_DATASOURCE, REQUIRED).set(true);
         op.get(REQUEST_PROPERTIES, CommonAttributes.DEFAULT_DATASOURCE, MIN_LENGTH).set(0);
+        op.get(REQUEST_PROPERTIES, CommonAttributes.DEFAULT_CACHE_CONTAINER, DESCRIPTION).set(bundle.getString("default.cache.container"));
+        op.get(REQUEST_PROPERTIES, CommonAttributes.DEFAULT_CACHE_CONTAINER, TYPE).set(ModelType.STRING);
+        op.get(REQUEST_PROPERTIES, CommonAttributes.DEFAULT_CACHE_CONTAINER, REQUIRED).set(false);
+        op.get(REQUEST_PROPERTIES, CommonAttributes.DEFAULT_CACHE_CONTAINER, MIN_LENGTH).set(1);
 
         op.get(REPLY_PROPERTIES).setEmptyObject();
 
@@ -104,6 +112,44 @@ public class JPADescriptions {
         return op;
     }
 
+    static ModelNode getSecondLevelCacheStatistics(Locale locale) {
+
+        final ResourceBundle bundle = getResourceBundle(locale);
+
+        final ModelNode op = new ModelNode();
+        op.get(OPERATION_NAME).set(SecondLevelCacheStatisticsHandler.OPERATION_NAME);
+        op.get(DESCRIPTION).set(bundle.getString("second-level-cache-statistics"));
+
+        op.get(REQUEST_PROPERTIES, SecondLevelCacheStatisticsHandler.PERSISTENCE_UNIT, DESCRIPTION).set(bundle.getString("second-level-cache-statistics.persistence-unit"));
+        op.get(REQUEST_PROPERTIES, SecondLevelCacheStatisticsHandler.PERSISTENCE_UNIT, TYPE).set(ModelType.STRING);
+        op.get(REQUEST_PROPERTIES, SecondLevelCacheStatisticsHandler.PERSISTENCE_UNIT, REQUIRED).set(true);
+        op.get(REQUEST_PROPERTIES, SecondLevelCacheStatisticsHandler.PERSISTENCE_UNIT, MIN_LENGTH).set(1);
+
+        op.get(REPLY_PROPERTIES, DESCRIPTION).set(bundle.getString("second-level-cache-statistics.reply"));
+        op.get(REPLY_PROPERTIES, TYPE).set(ModelType.OBJECT);
+
+        return op;
+    }
+
+    static ModelNode getPersistenceUnitBootstrapTime(Locale locale) {
+
+        final ResourceBundle bundle = getResourceBundle(locale);
+
+        final ModelNode op = new ModelNode();
+        op.get(OPERATION_NAME).set(PersistenceUnitBootstrapTimeHandler.OPERATION_NAME);
+        op.get(DESCRIPTION).set(bundle.getString("persistence-unit-bootstrap-time"));
+
+        op.get(REQUEST_PROPERTIES, PersistenceUnitBootstrapTimeHandler.PERSISTENCE_UNIT, DESCRIPTION).set(bundle.getString("persistence-unit-bootstrap-time.persistence-unit"));
+        op.get(REQUEST_PROPERTIES, PersistenceUnitBootstrapTimeHandler.PERSISTENCE_UNIT, TYPE).set(ModelType.STRING);
+        op.get(REQUEST_PROPERTIES, PersistenceUnitBootstrapTimeHandler.PERSISTENCE_UNIT, REQUIRED).set(true);
+        op.get(REQUEST_PROPERTIES, PersistenceUnitBootstrapTimeHandler.PERSISTENCE_UNIT, MIN_LENGTH).set(1);
+
+        op.get(REPLY_PROPERTIES, DESCRIPTION).set(bundle.getString("persistence-unit-bootstrap-time.reply"));
+        op.get(REPLY_PROPERTIES, TYPE).set(ModelType.LONG);
+
+        return op;
+    }
+
     private static ResourceBundle getResourceBundle(Locale locale) {
         if (locale == null) {
             locale = Locale.getDefault();
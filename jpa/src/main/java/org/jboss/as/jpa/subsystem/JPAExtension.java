@@ -22,6 +22,7 @@
 package org.jboss.as.jpa.subsystem;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
 import javax.xml.stream.XMLStreamConstants;
@@ -70,11 +71,14 @@ public class JPAExtension implements Extension {
         }
     };
 
-    private static ModelNode createAddOperation(String defaultDatasource) {
+    private static ModelNode createAddOperation(String defaultDatasource, String defaultCacheContainer) {
         final ModelNode update = new ModelNode();
         update.get(OP).set(ADD);
         update.get(OP_ADDR).add(SUBSYSTEM, SUBSYSTEM_NAME);
         update.get(CommonAttributes.DEFAULT_DATASOURCE).set(defaultDatasource);
+        if (defaultCacheContainer != null) {
+            update.get(CommonAttributes.DEFAULT_CACHE_CONTAINER).set(defaultCacheContainer);
+        }
         return update;
     }
 
@@ -87,6 +91,11 @@ public class JPAExtension implements Extension {
         nodeRegistration.registerOperationHandler(JPASubSystemRemove.OPERATION_NAME, JPASubSystemRemove.INSTANCE, JPASubSystemRemove.INSTANCE, false);
         nodeRegistration.registerOperationHandler(DESCRIBE, JPADescribeHandler.INSTANCE, JPADescribeHandler.INSTANCE, false, OperationEntry.EntryType.PRIVATE);
         nodeRegistration.registerReadWriteAttribute(CommonAttributes.DEFAULT_DATASOURCE, null, JPADefaultDatasourceWriteHandler.INSTANCE, Storage.CONFIGURATION);
+        nodeRegistration.registerReadWriteAttribute(CommonAttributes.DEFAULT_CACHE_CONTAINER, null, JPADefaultCacheContainerWriteHandler.INSTANCE, Storage.CONFIGURATION);
+        nodeRegistration.registerOperationHandler(SecondLevelCacheStatisticsHandler.OPERATION_NAME, SecondLevelCacheStatisticsHandler.INSTANCE,
+            SecondLevelCacheStatisticsHandler.INSTANCE, false, OperationEntry.EntryType.PUBLIC, EnumSet.of(OperationEntry.Flag.READ_ONLY));
+        nodeRegistration.registerOperationHandler(PersistenceUnitBootstrapTimeHandler.OPERATION_NAME, PersistenceUnitBootstrapTimeHandler.INSTANCE,
+            PersistenceUnitBootstrapTimeHandler.INSTANCE, false, OperationEntry.EntryType.PUBLIC, EnumSet.of(OperationEntry.Flag.READ_ONLY));
         registration.registerXMLElementWriter(parser);
 
     }
@@ -101,7 +110,8 @@ public class JPAExtension implements Extension {
 
         public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
             ModelNode model = context.readModel(PathAddress.EMPTY_ADDRESS);
-            context.getResult().add(createAddOperation(model.require(CommonAttributes.DEFAULT_DATASOURCE).asString()));
+            final String defaultCacheContainer = model.hasDefined(CommonAttributes.DEFAULT_CACHE_CONTAINER) ? model.get(CommonAttributes.DEFAULT_CACHE_CONTAINER).asString() : null;
+            context.getResult().add(createAddOperation(model.require(CommonAttributes.DEFAULT_DATASOURCE).asString(), defaultCacheContainer));
             context.completeStep();
         }
 
@@ -141,6 +151,7 @@ public class JPAExtension implements Extension {
 
         private ModelNode parseJPA(XMLExtendedStreamReader reader) throws XMLStreamException {
             String dataSourceName = null;
+            String cacheContainerName = null;
             int count = reader.getAttributeCount();
             for (int i = 0; i < count; i++) {
                 final String value = reader.getAttributeValue(i);
@@ -150,6 +161,10 @@ public class JPAExtension implements Extension {
                         dataSourceName = value;
                         break;
                     }
+                    case DEFAULT_CACHE_CONTAINER_NAME: {
+                        cacheContainerName = value;
+                        break;
+                    }
                     default: {
                         throw ParseUtils.unexpectedAttribute(reader, i);
                     }
@@ -160,7 +175,7 @@ public class JPAExtension implements Extension {
             if (dataSourceName == null) {
                 throw ParseUtils.missingRequired(reader, Collections.singleton(Attribute.DEFAULT_DATASOURCE_NAME));
             }
-            return createAddOperation(dataSourceName);
+            return createAddOperation(dataSourceName, cacheContainerName);
         }
 
         /**
@@ -175,6 +190,9 @@ public class JPAExtension implements Extension {
                 context.startSubsystemElement(Namespace.CURRENT.getUriString(), false);
                 writer.writeStartElement(Element.JPA.getLocalName());
                 writer.writeAttribute(Attribute.DEFAULT_DATASOURCE_NAME.getLocalName(), node.get(CommonAttributes.DEFAULT_DATASOURCE).asString());
+                if (node.hasDefined(CommonAttributes.DEFAULT_CACHE_CONTAINER)) {
+                    writer.writeAttribute(Attribute.DEFAULT_CACHE_CONTAINER_NAME.getLocalName(), node.get(CommonAttributes.DEFAULT_CACHE_CONTAINER).asString());
+                }
                 writer.writeEndElement();
                 writer.writeEndElement();
             } else {
@@ -22,17 +22,22 @@
 package org.jboss.as.jpa.subsystem;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ThreadFactory;
+
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ServiceVerificationHandler;
 import org.jboss.as.controller.descriptions.DescriptionProvider;
 import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.operations.validation.ParametersValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
+import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.jpa.hibernate.HibernatePersistenceProviderAdaptor;
 import org.jboss.as.jpa.persistenceprovider.PersistenceProviderAdapterRegistry;
 import org.jboss.as.jpa.persistenceprovider.PersistenceProviderResolverImpl;
@@ -45,8 +50,13 @@ import org.jboss.as.jpa.service.JPAService;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.as.server.deployment.Phase;
+import org.jboss.as.threads.ThreadFactoryService;
+import org.jboss.as.threads.TimeSpec;
+import org.jboss.as.threads.UnboundedQueueThreadPoolService;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceController.Mode;
+import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
 
 /**
@@ -63,10 +73,18 @@ class JPASubSystemAdd extends AbstractBoottimeAddStepHandler implements Descript
     static ModelNode getAddOperation(ModelNode address, ModelNode currentModel) {
         ModelNode addOp = Util.getEmptyOperation(OPERATION_NAME, address);
         addOp.get(CommonAttributes.DEFAULT_DATASOURCE).set(currentModel.get(CommonAttributes.DEFAULT_DATASOURCE));
+        if (currentModel.hasDefined(CommonAttributes.DEFAULT_CACHE_CONTAINER)) {
+            addOp.get(CommonAttributes.DEFAULT_CACHE_CONTAINER).set(currentModel.get(CommonAttributes.DEFAULT_CACHE_CONTAINER));
+        }
         return addOp;
     }
 
     static final String OPERATION_NAME = ADD;
+
+    /** The infinispan subsystem, and the resource and attribute naming a cache container's JNDI binding */
+    private static final String INFINISPAN = "infinispan";
+    private static final String CACHE_CONTAINER = "cache-container";
+    private static final String JNDI_NAME = "jndi-name";
     static final JPASubSystemAdd INSTANCE = new JPASubSystemAdd();
 
     private ParametersValidator modelValidator = new ParametersValidator();
@@ -74,7 +92,9 @@ class JPASubSystemAdd extends AbstractBoottimeAddStepHandler implements Descript
 
     private JPASubSystemAdd() {
         modelValidator.registerValidator(CommonAttributes.DEFAULT_DATASOURCE, new StringLengthValidator(0, Integer.MAX_VALUE, false, true));
+        modelValidator.registerValidator(CommonAttributes.DEFAULT_CACHE_CONTAINER, new StringLengthValidator(1, Integer.MAX_VALUE, true, true));
         runtimeValidator.registerValidator(CommonAttributes.DEFAULT_DATASOURCE, new StringLengthValidator(0, Integer.MAX_VALUE, false, false));
+        runtimeValidator.registerValidator(CommonAttributes.DEFAULT_CACHE_CONTAINER, new StringLengthValidator(1, Integer.MAX_VALUE, true, false));
     }
 
 
@@ -82,12 +102,20 @@ class JPASubSystemAdd extends AbstractBoottimeAddStepHandler implements Descript
         modelValidator.validate(operation);
         final ModelNode defaultDSNode = operation.require(CommonAttributes.DEFAULT_DATASOURCE);
         model.get(CommonAttributes.DEFAULT_DATASOURCE).set(defaultDSNode);
+        if (operation.hasDefined(CommonAttributes.DEFAULT_CACHE_CONTAINER)) {
+            model.get(CommonAttributes.DEFAULT_CACHE_CONTAINER).set(operation.get(CommonAttributes.DEFAULT_CACHE_CONTAINER));
+        }
     }
 
     protected void performBoottime(OperationContext context, ModelNode operation, ModelNode model, ServiceVerificationHandler verificationHandler, List<ServiceController<?>> newControllers) throws OperationFailedException {
 
         runtimeValidator.validate(operation.resolve());
 
+        final ModelNode defaultDSNode = operation.require(CommonAttributes.DEFAULT_DATASOURCE);
+        final String dataSourceName = defaultDSNode.resolve().asString();
+        final String cacheContainerName = operation.hasDefined(CommonAttributes.DEFAULT_CACHE_CONTAINER) ? operation.get(CommonAttributes.DEFAULT_CACHE_CONTAINER).resolve().asString() : null;
+        final JPAService jpaService = new JPAService(cacheContainerName, getCacheContainerJndiName(context, cacheContainerName));
+
         context.addStep(new AbstractDeploymentChainStep() {
             protected void execute(DeploymentProcessorTarget processorTarget) {
 
@@ -96,7 +124,7 @@ class JPASubSystemAdd extends AbstractBoottimeAddStepHandler implements Descript
                         PersistenceProviderResolverImpl.getInstance());
 
                 PersistenceProviderAdapterRegistry.putPersistenceProviderAdaptor(
-                        "org.hibernate.ejb.HibernatePersistence", new HibernatePersistenceProviderAdaptor());
+                        "org.hibernate.ejb.HibernatePersistence", new HibernatePersistenceProviderAdaptor(jpaService));
 
                 processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_PERSISTENCE_UNIT, new PersistenceUnitParseProcessor());
                 processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_PERSISTENCE_ANNOTATION, new JPAAnnotationParseProcessor());
@@ -107,13 +135,44 @@ class JPASubSystemAdd extends AbstractBoottimeAddStepHandler implements Descript
             }
         }, OperationContext.Stage.RUNTIME);
 
-        final ModelNode defaultDSNode = operation.require(CommonAttributes.DEFAULT_DATASOURCE);
-        final String dataSourceName = defaultDSNode.resolve().asString();
         final ServiceTarget target = context.getServiceTarget();
-        newControllers.add(JPAService.addService(target, dataSourceName, verificationHandler));
+        newControllers.add(JPAService.addService(target, jpaService, dataSourceName, verificationHandler));
+
+        // persistence units are bootstrapped concurrently on this pool
+        final ServiceName threadFactoryName = JPAService.BOOTSTRAP_EXECUTOR.append("thread-factory");
+        final ThreadFactoryService threadFactory = new ThreadFactoryService();
+        threadFactory.setThreadGroupName("jpa-bootstrap");
+        threadFactory.setNamePattern("%G - %t");
+        newControllers.add(target.addService(threadFactoryName, threadFactory).setInitialMode(Mode.ON_DEMAND).install());
+        final UnboundedQueueThreadPoolService executor = new UnboundedQueueThreadPoolService(Runtime.getRuntime().availableProcessors(), TimeSpec.DEFAULT_KEEPALIVE);
+        newControllers.add(target.addService(JPAService.BOOTSTRAP_EXECUTOR, executor)
+                .addDependency(threadFactoryName, ThreadFactory.class, executor.getThreadFactoryInjector())
+                .setInitialMode(Mode.ON_DEMAND).install());
 
     }
 
+    /**
+     * Get the JNDI name the infinispan subsystem binds the given cache container under: its jndi-name attribute, or
+     * java:jboss/infinispan/&lt;name&gt; if that is not set.
+     *
+     * @return the JNDI name, or {@code null} if {@code cacheContainerName} is {@code null}
+     */
+    static String getCacheContainerJndiName(final OperationContext context, final String cacheContainerName) {
+        if (cacheContainerName == null) {
+            return null;
+        }
+        final Resource infinispan = context.getRootResource().getChild(PathElement.pathElement(SUBSYSTEM, INFINISPAN));
+        final Resource container = infinispan == null ? null : infinispan.getChild(PathElement.pathElement(CACHE_CONTAINER, cacheContainerName));
+        if (container != null && container.getModel().hasDefined(JNDI_NAME)) {
+            final String jndiName = container.getModel().get(JNDI_NAME).resolve().asString();
+            if (jndiName.startsWith("java:")) {
+                return jndiName;
+            }
+            return "java:jboss/" + (jndiName.startsWith("/") ? jndiName.substring(1) : jndiName);
+        }
+        return "java:jboss/" + INFINISPAN + "/" + cacheContainerName;
+    }
+
     @Override
     public ModelNode getModelDescription(Locale locale) {
         return JPADescriptions.getSubsystemAdd(locale);
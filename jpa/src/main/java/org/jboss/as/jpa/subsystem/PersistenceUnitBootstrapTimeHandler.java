@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.subsystem;
+
+import java.util.Locale;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.descriptions.DescriptionProvider;
+import org.jboss.as.jpa.service.PersistenceUnitService;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads how long a deployed persistence unit took to create its entity manager factory.
+ */
+class PersistenceUnitBootstrapTimeHandler implements OperationStepHandler, DescriptionProvider {
+
+    static final String OPERATION_NAME = "read-persistence-unit-bootstrap-time";
+    static final String PERSISTENCE_UNIT = "persistence-unit";
+
+    static final PersistenceUnitBootstrapTimeHandler INSTANCE = new PersistenceUnitBootstrapTimeHandler();
+
+    private PersistenceUnitBootstrapTimeHandler() {
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String persistenceUnit = operation.require(PERSISTENCE_UNIT).asString();
+        if (context.getType() == OperationContext.Type.SERVER) {
+            context.addStep(new OperationStepHandler() {
+                public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                    final ServiceController<?> controller = context.getServiceRegistry(false).getService(PersistenceUnitService.getPUServiceName(persistenceUnit));
+                    if (controller == null || controller.getState() != ServiceController.State.UP) {
+                        throw new OperationFailedException(new ModelNode().set("Persistence unit " + persistenceUnit + " is not deployed"));
+                    }
+                    context.getResult().set(((PersistenceUnitService) controller.getValue()).getBootstrapTime());
+                    context.completeStep();
+                }
+            }, OperationContext.Stage.RUNTIME);
+        }
+        context.completeStep();
+    }
+
+    @Override
+    public ModelNode getModelDescription(Locale locale) {
+        return JPADescriptions.getPersistenceUnitBootstrapTime(locale);
+    }
+}
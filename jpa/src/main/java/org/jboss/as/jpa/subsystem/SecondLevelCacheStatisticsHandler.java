@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.subsystem;
+
+import java.util.Locale;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.ejb.HibernateEntityManagerFactory;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.descriptions.DescriptionProvider;
+import org.jboss.as.jpa.service.PersistenceUnitService;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads the Hibernate second level cache statistics of a deployed persistence unit.
+ */
+class SecondLevelCacheStatisticsHandler implements OperationStepHandler, DescriptionProvider {
+
+    static final String OPERATION_NAME = "read-second-level-cache-statistics";
+    static final String PERSISTENCE_UNIT = "persistence-unit";
+
+    static final String HIT_COUNT = "hit-count";
+    static final String MISS_COUNT = "miss-count";
+    static final String PUT_COUNT = "put-count";
+    static final String ELEMENT_COUNT_IN_MEMORY = "element-count-in-memory";
+    static final String ELEMENT_COUNT_ON_DISK = "element-count-on-disk";
+    static final String REGIONS = "regions";
+
+    static final SecondLevelCacheStatisticsHandler INSTANCE = new SecondLevelCacheStatisticsHandler();
+
+    private SecondLevelCacheStatisticsHandler() {
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String persistenceUnit = operation.require(PERSISTENCE_UNIT).asString();
+        if (context.getType() == OperationContext.Type.SERVER) {
+            context.addStep(new OperationStepHandler() {
+                public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                    final ServiceController<?> controller = context.getServiceRegistry(false).getService(PersistenceUnitService.getPUServiceName(persistenceUnit));
+                    if (controller == null || controller.getState() != ServiceController.State.UP) {
+                        throw new OperationFailedException(new ModelNode().set("Persistence unit " + persistenceUnit + " is not deployed"));
+                    }
+                    final EntityManagerFactory emf = ((PersistenceUnitService) controller.getValue()).getEntityManagerFactory();
+                    if (!(emf instanceof HibernateEntityManagerFactory)) {
+                        throw new OperationFailedException(new ModelNode().set("Persistence unit " + persistenceUnit + " is not a Hibernate persistence unit"));
+                    }
+                    final Statistics statistics = ((HibernateEntityManagerFactory) emf).getSessionFactory().getStatistics();
+                    if (!statistics.isStatisticsEnabled()) {
+                        throw new OperationFailedException(new ModelNode().set("Statistics are not enabled for persistence unit " + persistenceUnit));
+                    }
+                    final ModelNode result = context.getResult();
+                    result.get(HIT_COUNT).set(statistics.getSecondLevelCacheHitCount());
+                    result.get(MISS_COUNT).set(statistics.getSecondLevelCacheMissCount());
+                    result.get(PUT_COUNT).set(statistics.getSecondLevelCachePutCount());
+                    final ModelNode regions = result.get(REGIONS).setEmptyObject();
+                    for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+                        final SecondLevelCacheStatistics region = statistics.getSecondLevelCacheStatistics(regionName);
+                        if (region == null) {
+                            continue;
+                        }
+                        final ModelNode node = regions.get(regionName);
+                        node.get(HIT_COUNT).set(region.getHitCount());
+                        node.get(MISS_COUNT).set(region.getMissCount());
+                        node.get(PUT_COUNT).set(region.getPutCount());
+                        node.get(ELEMENT_COUNT_IN_MEMORY).set(region.getElementCountInMemory());
+                        node.get(ELEMENT_COUNT_ON_DISK).set(region.getElementCountOnDisk());
+                    }
+                    context.completeStep();
+                }
+            }, OperationContext.Stage.RUNTIME);
+        }
+        context.completeStep();
+    }
+
+    @Override
+    public ModelNode getModelDescription(Locale locale) {
+        return JPADescriptions.getSecondLevelCacheStatistics(locale);
+    }
+}
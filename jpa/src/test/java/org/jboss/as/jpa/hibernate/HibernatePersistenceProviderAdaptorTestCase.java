@@ -0,0 +1,129 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.hibernate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.persistence.SharedCacheMode;
+
+import org.hibernate.cfg.Environment;
+import org.jboss.as.jpa.config.PersistenceUnitMetadata;
+import org.jboss.as.jpa.service.JPAService;
+import org.junit.Test;
+
+/**
+ * Tests the second level cache properties {@link HibernatePersistenceProviderAdaptor} adds for the default cache
+ * container.
+ */
+public class HibernatePersistenceProviderAdaptorTestCase {
+
+    private static final String REGION_FACTORY = "hibernate.cache.region.factory_class";
+    private static final String CACHE_MANAGER = "hibernate.cache.infinispan.cachemanager";
+
+    @Test
+    public void testDefaultCacheContainer() {
+        final Map<Object, Object> properties = addProperties(createAdaptor(), createPersistenceUnit(SharedCacheMode.ALL), new HashMap<Object, Object>());
+        assertEquals("true", properties.get(Environment.USE_SECOND_LEVEL_CACHE));
+        assertEquals("org.hibernate.cache.infinispan.JndiInfinispanRegionFactory", properties.get(REGION_FACTORY));
+        assertEquals("java:jboss/infinispan/hibernate", properties.get(CACHE_MANAGER));
+        assertEquals("entity", properties.get("hibernate.cache.infinispan.entity.cfg"));
+        assertEquals("true", properties.get(Environment.GENERATE_STATISTICS));
+    }
+
+    @Test
+    public void testConfiguredJndiName() {
+        final HibernatePersistenceProviderAdaptor adaptor = new HibernatePersistenceProviderAdaptor(new JPAService("hibernate", "java:jboss/caches/hibernate"));
+        final Map<Object, Object> properties = addProperties(adaptor, createPersistenceUnit(SharedCacheMode.ENABLE_SELECTIVE), new HashMap<Object, Object>());
+        assertEquals("java:jboss/caches/hibernate", properties.get(CACHE_MANAGER));
+    }
+
+    @Test
+    public void testStatisticsSetByPersistenceUnit() {
+        final PersistenceUnitMetadata pu = createPersistenceUnit(SharedCacheMode.ALL);
+        pu.getProperties().setProperty(Environment.GENERATE_STATISTICS, "false");
+        final Map<Object, Object> properties = addProperties(createAdaptor(), pu, new HashMap<Object, Object>());
+        assertEquals("java:jboss/infinispan/hibernate", properties.get(CACHE_MANAGER));
+        assertFalse(properties.containsKey(Environment.GENERATE_STATISTICS));
+    }
+
+    @Test
+    public void testStatisticsSetByContainerProperties() {
+        final Map<Object, Object> properties = new HashMap<Object, Object>();
+        properties.put(Environment.GENERATE_STATISTICS, "false");
+        addProperties(createAdaptor(), createPersistenceUnit(SharedCacheMode.ALL), properties);
+        assertEquals("false", properties.get(Environment.GENERATE_STATISTICS));
+    }
+
+    @Test
+    public void testStatisticsSetBySystemProperty() {
+        System.setProperty(Environment.GENERATE_STATISTICS, "false");
+        try {
+            final Map<Object, Object> properties = addProperties(createAdaptor(), createPersistenceUnit(SharedCacheMode.ALL), new HashMap<Object, Object>());
+            assertEquals("java:jboss/infinispan/hibernate", properties.get(CACHE_MANAGER));
+            assertFalse(properties.containsKey(Environment.GENERATE_STATISTICS));
+        } finally {
+            System.clearProperty(Environment.GENERATE_STATISTICS);
+        }
+    }
+
+    @Test
+    public void testCachingNotEnabled() {
+        final Map<Object, Object> properties = addProperties(createAdaptor(), createPersistenceUnit(SharedCacheMode.NONE), new HashMap<Object, Object>());
+        assertTrue(properties.isEmpty());
+    }
+
+    @Test
+    public void testOwnRegionFactory() {
+        final PersistenceUnitMetadata pu = createPersistenceUnit(SharedCacheMode.ALL);
+        pu.getProperties().setProperty(REGION_FACTORY, "org.hibernate.cache.infinispan.InfinispanRegionFactory");
+        final Map<Object, Object> properties = addProperties(createAdaptor(), pu, new HashMap<Object, Object>());
+        assertTrue(properties.isEmpty());
+    }
+
+    @Test
+    public void testNoDefaultCacheContainer() {
+        final HibernatePersistenceProviderAdaptor adaptor = new HibernatePersistenceProviderAdaptor(new JPAService(null, null));
+        final Map<Object, Object> properties = addProperties(adaptor, createPersistenceUnit(SharedCacheMode.ALL), new HashMap<Object, Object>());
+        assertTrue(properties.isEmpty());
+    }
+
+    private static HibernatePersistenceProviderAdaptor createAdaptor() {
+        return new HibernatePersistenceProviderAdaptor(new JPAService("hibernate", "java:jboss/infinispan/hibernate"));
+    }
+
+    private static PersistenceUnitMetadata createPersistenceUnit(final SharedCacheMode sharedCacheMode) {
+        final PersistenceUnitMetadata pu = new PersistenceUnitMetadata();
+        pu.setSharedCacheMode(sharedCacheMode);
+        return pu;
+    }
+
+    private static Map<Object, Object> addProperties(final HibernatePersistenceProviderAdaptor adaptor, final PersistenceUnitMetadata pu, final Map<Object, Object> properties) {
+        adaptor.addSecondLevelCacheProperties(properties, pu);
+        return properties;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.spi.PersistenceUnitTransactionType;
+
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.ee.component.ComponentDescription;
+import org.jboss.as.ee.component.DeploymentDescriptorEnvironment;
+import org.jboss.as.ee.component.EEModuleDescription;
+import org.jboss.as.jpa.config.PersistenceUnitMetadata;
+import org.jboss.as.jpa.config.PersistenceUnitMetadataHolder;
+import org.jboss.as.jpa.service.PersistenceUnitService;
+import org.jboss.as.server.deployment.AttachmentKey;
+import org.jboss.as.server.deployment.AttachmentList;
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.Services;
+import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.dmr.ModelNode;
+import org.jboss.metadata.javaee.spec.EnvironmentRefsGroupMetaData;
+import org.jboss.metadata.javaee.spec.PersistenceContextReferenceMetaData;
+import org.jboss.metadata.javaee.spec.PersistenceContextReferencesMetaData;
+import org.jboss.metadata.javaee.spec.PersistenceUnitReferenceMetaData;
+import org.jboss.metadata.javaee.spec.PersistenceUnitReferencesMetaData;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceRegistry;
+import org.jboss.vfs.VFS;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that components which only look a persistence unit up through JNDI, via a persistence-unit-ref or
+ * persistence-context-ref without injection targets, still depend on the persistence unit service.
+ */
+public class PersistenceRefProcessorTestCase {
+
+    private static final String UNIT_NAME = "pu";
+    private static final String SCOPED_UNIT_NAME = "test.jar#pu";
+
+    private DeploymentUnit deploymentUnit;
+    private EEModuleDescription moduleDescription;
+    private ComponentDescription first;
+    private ComponentDescription second;
+
+    @Before
+    public void setUp() {
+        deploymentUnit = createDeploymentUnit("test.jar");
+        final PersistenceUnitMetadata pu = new PersistenceUnitMetadata();
+        pu.setPersistenceUnitName(UNIT_NAME);
+        pu.setScopedPersistenceUnitName(SCOPED_UNIT_NAME);
+        pu.setTransactionType(PersistenceUnitTransactionType.JTA);
+        final ResourceRoot deploymentRoot = new ResourceRoot(VFS.getChild("test.jar"), null);
+        deploymentRoot.putAttachment(PersistenceUnitMetadataHolder.PERSISTENCE_UNITS, new PersistenceUnitMetadataHolder().setPersistenceUnits(Collections.singletonList(pu)));
+        deploymentUnit.putAttachment(Attachments.DEPLOYMENT_ROOT, deploymentRoot);
+
+        moduleDescription = new EEModuleDescription("test", "test");
+        first = createComponent("First");
+        second = createComponent("Second");
+    }
+
+    @Test
+    public void testComponentPersistenceUnitRef() throws Exception {
+        final EnvironmentRefsGroupMetaData environment = new EnvironmentRefsGroupMetaData();
+        environment.setPersistenceUnitRefs(createPersistenceUnitRefs());
+        process(environment, first);
+
+        assertEquals(ServiceBuilder.DependencyType.REQUIRED, first.getDependencies().get(getPuServiceName()));
+        assertNull(second.getDependencies().get(getPuServiceName()));
+    }
+
+    @Test
+    public void testComponentPersistenceContextRef() throws Exception {
+        final EnvironmentRefsGroupMetaData environment = new EnvironmentRefsGroupMetaData();
+        environment.setPersistenceContextRefs(createPersistenceContextRefs());
+        process(environment, first);
+
+        assertEquals(ServiceBuilder.DependencyType.REQUIRED, first.getDependencies().get(getPuServiceName()));
+        assertNull(second.getDependencies().get(getPuServiceName()));
+    }
+
+    @Test
+    public void testModulePersistenceUnitRef() throws Exception {
+        final EnvironmentRefsGroupMetaData environment = new EnvironmentRefsGroupMetaData();
+        environment.setPersistenceUnitRefs(createPersistenceUnitRefs());
+        process(environment, null);
+
+        assertEquals(ServiceBuilder.DependencyType.REQUIRED, first.getDependencies().get(getPuServiceName()));
+        assertEquals(ServiceBuilder.DependencyType.REQUIRED, second.getDependencies().get(getPuServiceName()));
+    }
+
+    private void process(final EnvironmentRefsGroupMetaData environment, final ComponentDescription componentDescription) throws Exception {
+        new PersistenceRefProcessor().processDescriptorEntries(deploymentUnit, new DeploymentDescriptorEnvironment("java:comp/env/", environment),
+                moduleDescription, componentDescription, getClass().getClassLoader(), null);
+    }
+
+    private static ServiceName getPuServiceName() {
+        return PersistenceUnitService.getPUServiceName(SCOPED_UNIT_NAME);
+    }
+
+    private ComponentDescription createComponent(final String name) {
+        final ComponentDescription component = new ComponentDescription(name, "test." + name, moduleDescription,
+                moduleDescription.getOrAddClassByName("test." + name), deploymentUnit.getServiceName());
+        moduleDescription.addComponent(component);
+        return component;
+    }
+
+    private static PersistenceUnitReferencesMetaData createPersistenceUnitRefs() {
+        final PersistenceUnitReferenceMetaData ref = new PersistenceUnitReferenceMetaData();
+        ref.setName("persistence/emf");
+        ref.setPersistenceUnitName(UNIT_NAME);
+        final PersistenceUnitReferencesMetaData refs = new PersistenceUnitReferencesMetaData();
+        refs.add(ref);
+        return refs;
+    }
+
+    private static PersistenceContextReferencesMetaData createPersistenceContextRefs() {
+        final PersistenceContextReferenceMetaData ref = new PersistenceContextReferenceMetaData();
+        ref.setName("persistence/em");
+        ref.setPersistenceUnitName(UNIT_NAME);
+        final PersistenceContextReferencesMetaData refs = new PersistenceContextReferencesMetaData();
+        refs.add(ref);
+        return refs;
+    }
+
+    private static DeploymentUnit createDeploymentUnit(final String name) {
+        return new DeploymentUnit() {
+            private final Map<AttachmentKey<?>, Object> attachments = new HashMap<AttachmentKey<?>, Object>();
+
+            @Override
+            public ServiceName getServiceName() {
+                return Services.deploymentUnitName(name);
+            }
+
+            @Override
+            public DeploymentUnit getParent() {
+                return null;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public ServiceRegistry getServiceRegistry() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public boolean hasAttachment(AttachmentKey<?> key) {
+                return attachments.containsKey(key);
+            }
+
+            @Override
+            public <T> T getAttachment(AttachmentKey<T> key) {
+                return key.cast(attachments.get(key));
+            }
+
+            @Override
+            public <T> List<T> getAttachmentList(AttachmentKey<? extends List<T>> key) {
+                final List<T> list = key.cast(attachments.get(key));
+                return list == null ? Collections.<T>emptyList() : list;
+            }
+
+            @Override
+            public <T> T putAttachment(AttachmentKey<T> key, T value) {
+                return key.cast(attachments.put(key, value));
+            }
+
+            @Override
+            public <T> T removeAttachment(AttachmentKey<T> key) {
+                return key.cast(attachments.remove(key));
+            }
+
+            @Override
+            public <T> void addToAttachmentList(AttachmentKey<AttachmentList<T>> key, T value) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public ModelNode createDeploymentSubModel(String subsystemName, PathElement address) {
+                return new ModelNode();
+            }
+        };
+    }
+}
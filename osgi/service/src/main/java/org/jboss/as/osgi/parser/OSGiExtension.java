@@ -41,6 +41,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
 import org.jboss.as.controller.descriptions.common.CommonDescriptions;
+import org.jboss.as.controller.operations.common.ActivationStateHandler;
 import org.jboss.as.controller.parsing.ExtensionParsingContext;
 import static org.jboss.as.controller.parsing.ParseUtils.missingRequired;
 import static org.jboss.as.controller.parsing.ParseUtils.requireNoAttributes;
@@ -59,6 +60,7 @@ import static org.jboss.as.osgi.parser.CommonAttributes.PID;
 import static org.jboss.as.osgi.parser.CommonAttributes.PROPERTIES;
 import static org.jboss.as.osgi.parser.CommonAttributes.STARTLEVEL;
 import org.jboss.dmr.ModelNode;
+import org.jboss.osgi.framework.Services;
 import org.jboss.staxmapper.XMLElementReader;
 import org.jboss.staxmapper.XMLElementWriter;
 import org.jboss.staxmapper.XMLExtendedStreamReader;
@@ -83,6 +85,7 @@ public class OSGiExtension implements Extension {
         registration.registerOperationHandler(ADD, OSGiSubsystemAdd.INSTANCE, OSGiSubsystemProviders.SUBSYSTEM_ADD, false);
         registration.registerOperationHandler(DESCRIBE, OSGiSubsystemDescribeHandler.INSTANCE, OSGiSubsystemDescribeHandler.INSTANCE, false,
                 OperationEntry.EntryType.PRIVATE);
+        registration.registerMetric(ActivationStateHandler.ATTRIBUTE_NAME, new ActivationStateHandler(Services.FRAMEWORK_ACTIVATOR));
         subsystem.registerXMLElementWriter(PARSER);
     }
 
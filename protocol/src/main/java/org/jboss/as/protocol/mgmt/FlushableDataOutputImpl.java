@@ -32,14 +32,18 @@ import org.jboss.remoting3.MessageOutputStream;
  */
 class FlushableDataOutputImpl implements FlushableDataOutput, Closeable {
 
-    private final SimpleDataOutput output;
+    private final MessageOutputStream stream;
+    private final ManagementStreamPool pool;
+    private SimpleDataOutput output;
 
-    private FlushableDataOutputImpl(SimpleDataOutput output) {
+    private FlushableDataOutputImpl(MessageOutputStream stream, ManagementStreamPool pool, SimpleDataOutput output) {
+        this.stream = stream;
+        this.pool = pool;
         this.output = output;
     }
 
-    static FlushableDataOutputImpl create(MessageOutputStream output) {
-        return new FlushableDataOutputImpl(new SimpleDataOutput(Marshalling.createByteOutput(output)));
+    static FlushableDataOutputImpl create(MessageOutputStream output, ManagementStreamPool pool) throws IOException {
+        return new FlushableDataOutputImpl(output, pool, pool.acquireOutput(Marshalling.createByteOutput(output)));
     }
 
     /**
@@ -208,6 +212,16 @@ class FlushableDataOutputImpl implements FlushableDataOutput, Closeable {
      * @see org.jboss.marshalling.SimpleDataOutput#close()
      */
     public void close() throws IOException {
-        output.close();
+        final SimpleDataOutput output = this.output;
+        if (output == null) {
+            return;
+        }
+        // Make sure the pooled output cannot be written through this instance once reused
+        this.output = null;
+        try {
+            pool.releaseOutput(output);
+        } finally {
+            stream.close();
+        }
     }
 }
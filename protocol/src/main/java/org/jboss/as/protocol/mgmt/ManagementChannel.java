@@ -23,9 +23,8 @@ import static org.jboss.as.protocol.old.ProtocolUtils.expectHeader;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jboss.as.protocol.ProtocolChannel;
 import org.jboss.marshalling.Marshalling;
@@ -44,6 +43,7 @@ public class ManagementChannel extends ProtocolChannel {
 
     private final RequestReceiver requestReceiver = new RequestReceiver();
     private final ResponseReceiver responseReceiver = new ResponseReceiver();
+    private final ManagementStreamPool streamPool = new ManagementStreamPool();
 
     ManagementChannel(String name, Channel channel) {
         super(name, channel);
@@ -56,7 +56,14 @@ public class ManagementChannel extends ProtocolChannel {
     @Override
     protected void doHandle(final Channel channel, final MessageInputStream message) {
         log.tracef("%s handling incoming data", this);
-        final SimpleDataInput input = new SimpleDataInput(Marshalling.createByteInput(message));
+        final SimpleDataInput input;
+        try {
+            input = streamPool.acquireInput(Marshalling.createByteInput(message));
+        } catch (IOException e) {
+            log.tracef(e, "%s error handling incoming data", this);
+            IoUtils.safeClose(message);
+            return;
+        }
         Exception error = null;
         ManagementRequestHeader requestHeader = null;
         ManagementRequestHandler requestHandler = null;
@@ -80,7 +87,7 @@ public class ManagementChannel extends ProtocolChannel {
 
             } catch (IOException ignore) {
             }
-            IoUtils.safeClose(input);
+            streamPool.releaseInput(input);
             IoUtils.safeClose(message);
         }
 
@@ -104,7 +111,7 @@ public class ManagementChannel extends ProtocolChannel {
     void executeRequest(ManagementRequest<?> request, ManagementResponseHandler<?> responseHandler) throws IOException {
         addCloseHandler(request, responseHandler);
         responseReceiver.registerResponseHandler(request.getCurrentRequestId(), responseHandler);
-        final FlushableDataOutputImpl output = FlushableDataOutputImpl.create(this.writeMessage());
+        final FlushableDataOutputImpl output = FlushableDataOutputImpl.create(this.writeMessage(), streamPool);
         try {
             final ManagementRequestHeader managementRequestHeader = new ManagementRequestHeader(ManagementProtocol.VERSION, request.getCurrentRequestId(), request.getBatchId(), request.getRequestCode());
             managementRequestHeader.write(output);
@@ -178,7 +185,7 @@ public class ManagementChannel extends ProtocolChannel {
             log.tracef("%s writing response %d", ManagementChannel.this, requestHeader.getBatchId());
             final FlushableDataOutputImpl output;
             try {
-                output = FlushableDataOutputImpl.create(writeMessage());
+                output = FlushableDataOutputImpl.create(writeMessage(), streamPool);
             } catch (Exception e) {
                 log.tracef(e, "%s could not open output stream for request %d", ManagementChannel.this, requestHeader.getBatchId());
                 return;
@@ -244,10 +251,10 @@ public class ManagementChannel extends ProtocolChannel {
 
     private class ResponseReceiver {
 
-        private final Map<Integer, ManagementResponseHandler<?>> responseHandlers = Collections.synchronizedMap(new HashMap<Integer, ManagementResponseHandler<?>>());
+        private final ConcurrentMap<Integer, ManagementResponseHandler<?>> responseHandlers = new ConcurrentHashMap<Integer, ManagementResponseHandler<?>>(16, 0.75f, 4);
 
         private void registerResponseHandler(final int requestId, final ManagementResponseHandler<?> handler) throws IOException {
-            if (responseHandlers.put(requestId, handler) != null) {
+            if (responseHandlers.putIfAbsent(requestId, handler) != null) {
                 throw new IOException("Response handler already registered for request");
             }
         }
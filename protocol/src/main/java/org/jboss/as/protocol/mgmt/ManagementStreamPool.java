@@ -0,0 +1,162 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2011 Red Hat Inc. and/or its affiliates and other contributors
+ * as indicated by the @authors tag. All rights reserved.
+ * See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * This copyrighted material is made available to anyone wishing to use,
+ * modify, copy, or redistribute it subject to the terms and conditions
+ * of the GNU Lesser General Public License, v. 2.1.
+ * This program is distributed in the hope that it will be useful, but WITHOUT A
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE.  See the GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License,
+ * v.2.1 along with this distribution; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston,
+ * MA  02110-1301, USA.
+ */
+package org.jboss.as.protocol.mgmt;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.marshalling.ByteInput;
+import org.jboss.marshalling.ByteOutput;
+import org.jboss.marshalling.SimpleDataInput;
+import org.jboss.marshalling.SimpleDataOutput;
+
+/**
+ * A bounded pool of the buffered data streams used to read and write management protocol
+ * messages, so that each message does not allocate and discard its own buffer.
+ * <p>
+ * Each {@link ManagementChannel} owns its pool, so the idle streams go away with the channel.
+ */
+final class ManagementStreamPool {
+
+    static final int BUFFER_SIZE = 8192;
+
+    /** The maximum number of idle streams of each kind kept for reuse */
+    static final int MAX_POOLED = 4;
+
+    private final Queue<PooledDataInput> inputs = new ConcurrentLinkedQueue<PooledDataInput>();
+    private final AtomicInteger pooledInputs = new AtomicInteger();
+    private final Queue<PooledDataOutput> outputs = new ConcurrentLinkedQueue<PooledDataOutput>();
+    private final AtomicInteger pooledOutputs = new AtomicInteger();
+
+    int getPooledInputCount() {
+        return pooledInputs.get();
+    }
+
+    int getPooledOutputCount() {
+        return pooledOutputs.get();
+    }
+
+    /**
+     * Get a data input reading from the given byte input. The caller is responsible for closing
+     * the underlying input and must release the data input once done with it.
+     *
+     * @param byteInput the input to read from
+     * @return the data input
+     * @throws IOException if the input could not be started
+     */
+    SimpleDataInput acquireInput(final ByteInput byteInput) throws IOException {
+        PooledDataInput input = inputs.poll();
+        if (input == null) {
+            input = new PooledDataInput();
+        } else {
+            pooledInputs.decrementAndGet();
+        }
+        input.open(byteInput);
+        return input;
+    }
+
+    /**
+     * Return a data input obtained from {@link #acquireInput(ByteInput)} to the pool.
+     *
+     * @param input the data input, which must not be used afterwards
+     */
+    void releaseInput(final SimpleDataInput input) {
+        final PooledDataInput pooled = (PooledDataInput) input;
+        try {
+            pooled.reset();
+        } catch (IOException e) {
+            return;
+        }
+        if (pooledInputs.incrementAndGet() <= MAX_POOLED) {
+            inputs.offer(pooled);
+        } else {
+            pooledInputs.decrementAndGet();
+        }
+    }
+
+    /**
+     * Get a data output writing to the given byte output. The caller is responsible for closing
+     * the underlying output and must release the data output once done with it.
+     *
+     * @param byteOutput the output to write to
+     * @return the data output
+     * @throws IOException if the output could not be started
+     */
+    SimpleDataOutput acquireOutput(final ByteOutput byteOutput) throws IOException {
+        PooledDataOutput output = outputs.poll();
+        if (output == null) {
+            output = new PooledDataOutput();
+        } else {
+            pooledOutputs.decrementAndGet();
+        }
+        output.open(byteOutput);
+        return output;
+    }
+
+    /**
+     * Flush any buffered data of a data output obtained from {@link #acquireOutput(ByteOutput)} and
+     * return it to the pool.
+     *
+     * @param output the data output, which must not be used afterwards
+     * @throws IOException if the buffered data could not be written
+     */
+    void releaseOutput(final SimpleDataOutput output) throws IOException {
+        final PooledDataOutput pooled = (PooledDataOutput) output;
+        // Only reuse the output if it was cleanly reset
+        pooled.flush();
+        pooled.reset();
+        if (pooledOutputs.incrementAndGet() <= MAX_POOLED) {
+            outputs.offer(pooled);
+        } else {
+            pooledOutputs.decrementAndGet();
+        }
+    }
+
+    private static final class PooledDataInput extends SimpleDataInput {
+
+        PooledDataInput() {
+            super(BUFFER_SIZE);
+        }
+
+        void open(final ByteInput byteInput) throws IOException {
+            start(byteInput);
+        }
+
+        void reset() throws IOException {
+            finish();
+        }
+    }
+
+    private static final class PooledDataOutput extends SimpleDataOutput {
+
+        PooledDataOutput() {
+            super(BUFFER_SIZE);
+        }
+
+        void open(final ByteOutput byteOutput) throws IOException {
+            start(byteOutput);
+        }
+
+        void reset() throws IOException {
+            finish();
+        }
+    }
+}
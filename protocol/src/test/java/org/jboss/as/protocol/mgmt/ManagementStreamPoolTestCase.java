@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.protocol.mgmt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.marshalling.Marshalling;
+import org.jboss.marshalling.SimpleDataInput;
+import org.jboss.marshalling.SimpleDataOutput;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link ManagementStreamPool}.
+ */
+public class ManagementStreamPoolTestCase {
+
+    private ManagementStreamPool pool;
+
+    @Before
+    public void createPool() {
+        pool = new ManagementStreamPool();
+    }
+
+    @Test
+    public void testInputReused() throws Exception {
+        final SimpleDataInput first = pool.acquireInput(Marshalling.createByteInput(new ByteArrayInputStream(new byte[] { 1, 2 })));
+        Assert.assertEquals(1, first.readByte());
+        pool.releaseInput(first);
+        Assert.assertEquals(1, pool.getPooledInputCount());
+
+        // The reused input must only see the new message, not what was left buffered from the last one
+        final SimpleDataInput second = pool.acquireInput(Marshalling.createByteInput(new ByteArrayInputStream(new byte[] { 3 })));
+        Assert.assertSame(first, second);
+        Assert.assertEquals(0, pool.getPooledInputCount());
+        Assert.assertEquals(3, second.readByte());
+        Assert.assertEquals(-1, second.read());
+        pool.releaseInput(second);
+    }
+
+    @Test
+    public void testOutputFlushedOnRelease() throws Exception {
+        final ByteArrayOutputStream first = new ByteArrayOutputStream();
+        final SimpleDataOutput output = pool.acquireOutput(Marshalling.createByteOutput(first));
+        output.writeInt(42);
+        pool.releaseOutput(output);
+        Assert.assertEquals(4, first.size());
+        Assert.assertEquals(1, pool.getPooledOutputCount());
+
+        final ByteArrayOutputStream second = new ByteArrayOutputStream();
+        final SimpleDataOutput reused = pool.acquireOutput(Marshalling.createByteOutput(second));
+        Assert.assertSame(output, reused);
+        reused.writeByte(7);
+        pool.releaseOutput(reused);
+        Assert.assertEquals(4, first.size());
+        Assert.assertArrayEquals(new byte[] { 7 }, second.toByteArray());
+    }
+
+    @Test
+    public void testBounded() throws Exception {
+        final List<SimpleDataOutput> outputs = new ArrayList<SimpleDataOutput>();
+        for (int i = 0; i < ManagementStreamPool.MAX_POOLED + 5; i++) {
+            outputs.add(pool.acquireOutput(Marshalling.createByteOutput(new ByteArrayOutputStream())));
+        }
+        for (SimpleDataOutput output : outputs) {
+            pool.releaseOutput(output);
+        }
+        Assert.assertEquals(ManagementStreamPool.MAX_POOLED, pool.getPooledOutputCount());
+    }
+
+    @Test
+    public void testPoolsNotShared() throws Exception {
+        final SimpleDataOutput output = pool.acquireOutput(Marshalling.createByteOutput(new ByteArrayOutputStream()));
+        pool.releaseOutput(output);
+
+        final ManagementStreamPool other = new ManagementStreamPool();
+        final SimpleDataOutput fresh = other.acquireOutput(Marshalling.createByteOutput(new ByteArrayOutputStream()));
+        Assert.assertNotSame(output, fresh);
+        Assert.assertEquals(1, pool.getPooledOutputCount());
+        other.releaseOutput(fresh);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.security;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import java.util.Map;
+
+import org.infinispan.Cache;
+import org.infinispan.stats.Stats;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.security.plugins.DefaultAuthenticationCache;
+import org.jboss.as.security.plugins.SecurityDomainContext;
+import org.jboss.as.security.service.SecurityDomainService;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reports the hit, miss and eviction counts of the authentication cache of a security domain.
+ */
+class AuthenticationCacheMetrics implements OperationStepHandler {
+
+    static final AuthenticationCacheMetrics INSTANCE = new AuthenticationCacheMetrics();
+
+    static final String HIT_COUNT = "cache-hit-count";
+    static final String MISS_COUNT = "cache-miss-count";
+    static final String EVICTION_COUNT = "cache-eviction-count";
+    static final String[] ATTRIBUTES = new String[] { HIT_COUNT, MISS_COUNT, EVICTION_COUNT };
+
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        ModelNode opAddr = operation.require(OP_ADDR);
+        PathAddress address = PathAddress.pathAddress(opAddr);
+        final String securityDomain = address.getLastElement().getValue();
+        final String attributeName = operation.require(NAME).asString();
+
+        if (context.getType() == OperationContext.Type.SERVER) {
+            context.addStep(new OperationStepHandler() {
+                public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                    ServiceController<?> controller = context.getServiceRegistry(false).getService(
+                            SecurityDomainService.SERVICE_NAME.append(securityDomain));
+                    if (controller != null && controller.getState() == ServiceController.State.UP) {
+                        SecurityDomainContext sdc = (SecurityDomainContext) controller.getValue();
+                        Map<?, ?> cache = sdc.getAuthenticationCache();
+                        if (cache instanceof DefaultAuthenticationCache) {
+                            DefaultAuthenticationCache defaultCache = (DefaultAuthenticationCache) cache;
+                            setResult(context.getResult(), attributeName, defaultCache.getHitCount(), defaultCache.getMissCount(),
+                                    defaultCache.getEvictionCount());
+                        } else if (cache instanceof Cache) {
+                            Stats stats = ((Cache<?, ?>) cache).getAdvancedCache().getStats();
+                            setResult(context.getResult(), attributeName, stats.getHits(), stats.getMisses(), stats.getEvictions());
+                        } else {
+                            context.getResult().set("no authentication cache for security domain " + securityDomain);
+                        }
+                    } else {
+                        context.getResult().set("no metrics available");
+                    }
+                    context.completeStep();
+                }
+            }, OperationContext.Stage.RUNTIME);
+        } else {
+            context.getResult().set("no metrics available");
+        }
+        context.completeStep();
+    }
+
+    private static void setResult(ModelNode result, String attributeName, long hits, long misses, long evictions) {
+        if (HIT_COUNT.equals(attributeName)) {
+            result.set(hits);
+        } else if (MISS_COUNT.equals(attributeName)) {
+            result.set(misses);
+        } else if (EVICTION_COUNT.equals(attributeName)) {
+            result.set(evictions);
+        }
+    }
+}
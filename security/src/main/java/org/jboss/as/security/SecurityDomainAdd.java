@@ -31,6 +31,9 @@ import static org.jboss.as.security.Constants.AUTHENTICATION;
 import static org.jboss.as.security.Constants.AUTHENTICATION_JASPI;
 import static org.jboss.as.security.Constants.AUTHORIZATION;
 import static org.jboss.as.security.Constants.AUTH_MODULE;
+import static org.jboss.as.security.Constants.CACHE_CONCURRENCY_LEVEL;
+import static org.jboss.as.security.Constants.CACHE_LIFESPAN;
+import static org.jboss.as.security.Constants.CACHE_MAX_ENTRIES;
 import static org.jboss.as.security.Constants.CACHE_TYPE;
 import static org.jboss.as.security.Constants.CIPHER_SUITES;
 import static org.jboss.as.security.Constants.CLIENT_ALIAS;
@@ -150,8 +153,13 @@ class SecurityDomainAdd extends AbstractAddStepHandler {
         final JSSESecurityDomain jsseSecurityDomain = createJSSESecurityDomain(securityDomain, operation);
         final String cacheType = getAuthenticationCacheType(operation);
 
+        final Integer cacheMaxEntries = operation.hasDefined(CACHE_MAX_ENTRIES) ? operation.get(CACHE_MAX_ENTRIES).asInt() : null;
+        final Integer cacheConcurrencyLevel = operation.hasDefined(CACHE_CONCURRENCY_LEVEL) ? operation.get(CACHE_CONCURRENCY_LEVEL)
+                .asInt() : null;
+        final Long cacheLifespan = operation.hasDefined(CACHE_LIFESPAN) ? operation.get(CACHE_LIFESPAN).asLong() : null;
+
         final SecurityDomainService securityDomainService = new SecurityDomainService(securityDomain,
-                applicationPolicy, jsseSecurityDomain, cacheType);
+                applicationPolicy, jsseSecurityDomain, cacheType, cacheMaxEntries, cacheConcurrencyLevel, cacheLifespan);
         final ServiceTarget target = context.getServiceTarget();
         // some login modules may require the TransactionManager
         final Injector<TransactionManager> transactionManagerInjector = new Injector<TransactionManager>() {
@@ -88,6 +88,9 @@ public class SecurityExtension implements Extension {
                 SecurityDomainOperations.LIST_CACHED_PRINCIPALS_OP, SecuritySubsystemDescriptions.LIST_CACHED_PRINCIPALS);
         securityDomain.registerOperationHandler(SecurityDomainOperations.FLUSH_CACHE, SecurityDomainOperations.FLUSH_CACHE_OP,
                 SecuritySubsystemDescriptions.FLUSH_CACHE);
+        for (String metric : AuthenticationCacheMetrics.ATTRIBUTES) {
+            securityDomain.registerMetric(metric, AuthenticationCacheMetrics.INSTANCE);
+        }
 
         subsystem.registerXMLElementWriter(PARSER);
     }
@@ -49,6 +49,9 @@ import static org.jboss.as.security.Constants.AUTHENTICATION_MANAGER_CLASS_NAME;
 import static org.jboss.as.security.Constants.AUTHORIZATION;
 import static org.jboss.as.security.Constants.AUTHORIZATION_MANAGER_CLASS_NAME;
 import static org.jboss.as.security.Constants.AUTH_MODULE;
+import static org.jboss.as.security.Constants.CACHE_CONCURRENCY_LEVEL;
+import static org.jboss.as.security.Constants.CACHE_LIFESPAN;
+import static org.jboss.as.security.Constants.CACHE_MAX_ENTRIES;
 import static org.jboss.as.security.Constants.CACHE_TYPE;
 import static org.jboss.as.security.Constants.CIPHER_SUITES;
 import static org.jboss.as.security.Constants.CLIENT_ALIAS;
@@ -318,6 +321,19 @@ class SecuritySubsystemDescriptions {
             op.get(ATTRIBUTES, CACHE_TYPE, DESCRIPTION).set(bundle.getString("cache-type"));
             op.get(ATTRIBUTES, CACHE_TYPE, TYPE).set(ModelType.STRING);
             op.get(ATTRIBUTES, CACHE_TYPE, REQUIRED).set(false);
+            op.get(ATTRIBUTES, CACHE_MAX_ENTRIES, DESCRIPTION).set(bundle.getString("cache-max-entries"));
+            op.get(ATTRIBUTES, CACHE_MAX_ENTRIES, TYPE).set(ModelType.INT);
+            op.get(ATTRIBUTES, CACHE_MAX_ENTRIES, REQUIRED).set(false);
+            op.get(ATTRIBUTES, CACHE_CONCURRENCY_LEVEL, DESCRIPTION).set(bundle.getString("cache-concurrency-level"));
+            op.get(ATTRIBUTES, CACHE_CONCURRENCY_LEVEL, TYPE).set(ModelType.INT);
+            op.get(ATTRIBUTES, CACHE_CONCURRENCY_LEVEL, REQUIRED).set(false);
+            op.get(ATTRIBUTES, CACHE_LIFESPAN, DESCRIPTION).set(bundle.getString("cache-lifespan"));
+            op.get(ATTRIBUTES, CACHE_LIFESPAN, TYPE).set(ModelType.LONG);
+            op.get(ATTRIBUTES, CACHE_LIFESPAN, REQUIRED).set(false);
+            for (String metric : AuthenticationCacheMetrics.ATTRIBUTES) {
+                op.get(ATTRIBUTES, metric, DESCRIPTION).set(bundle.getString(metric));
+                op.get(ATTRIBUTES, metric, TYPE).set(ModelType.LONG);
+            }
             op.get(CHILDREN, AUTHENTICATION).set(getAuthentication(locale));
             op.get(CHILDREN, AUTHENTICATION_JASPI).set(getAuthenticationJaspi(locale));
             op.get(CHILDREN, AUTHORIZATION).set(getAuthorization(locale));
@@ -342,6 +358,15 @@ class SecuritySubsystemDescriptions {
             op.get(REQUEST_PROPERTIES, CACHE_TYPE, DESCRIPTION).set(bundle.getString("cache-type"));
             op.get(REQUEST_PROPERTIES, CACHE_TYPE, TYPE).set(ModelType.STRING);
             op.get(REQUEST_PROPERTIES, CACHE_TYPE, REQUIRED).set(false);
+            op.get(REQUEST_PROPERTIES, CACHE_MAX_ENTRIES, DESCRIPTION).set(bundle.getString("cache-max-entries"));
+            op.get(REQUEST_PROPERTIES, CACHE_MAX_ENTRIES, TYPE).set(ModelType.INT);
+            op.get(REQUEST_PROPERTIES, CACHE_MAX_ENTRIES, REQUIRED).set(false);
+            op.get(REQUEST_PROPERTIES, CACHE_CONCURRENCY_LEVEL, DESCRIPTION).set(bundle.getString("cache-concurrency-level"));
+            op.get(REQUEST_PROPERTIES, CACHE_CONCURRENCY_LEVEL, TYPE).set(ModelType.INT);
+            op.get(REQUEST_PROPERTIES, CACHE_CONCURRENCY_LEVEL, REQUIRED).set(false);
+            op.get(REQUEST_PROPERTIES, CACHE_LIFESPAN, DESCRIPTION).set(bundle.getString("cache-lifespan"));
+            op.get(REQUEST_PROPERTIES, CACHE_LIFESPAN, TYPE).set(ModelType.LONG);
+            op.get(REQUEST_PROPERTIES, CACHE_LIFESPAN, REQUIRED).set(false);
             op.get(CHILDREN, AUTHENTICATION).set(getAuthenticationAdd(locale));
             op.get(CHILDREN, AUTHENTICATION_JASPI).set(getAuthenticationJaspiAdd(locale));
             op.get(CHILDREN, AUTHORIZATION).set(getAuthorizationAdd(locale));
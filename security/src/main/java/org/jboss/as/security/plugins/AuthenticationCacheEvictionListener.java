@@ -25,6 +25,8 @@ package org.jboss.as.security.plugins;
 import java.security.Principal;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.infinispan.util.concurrent.BoundedConcurrentHashMap.EvictionListener;
 import org.jboss.security.authentication.JBossCachedAuthenticationManager.DomainInfo;
@@ -36,13 +38,40 @@ import org.jboss.security.authentication.JBossCachedAuthenticationManager.Domain
  */
 public class AuthenticationCacheEvictionListener implements EvictionListener<Principal, DomainInfo> {
 
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private final ConcurrentMap<Principal, Long> expirations;
+
+    public AuthenticationCacheEvictionListener() {
+        this(null);
+    }
+
+    /**
+     * @param expirations the expiration times of the cache entries, which are dropped along with evicted entries; may
+     *        be {@code null}
+     */
+    public AuthenticationCacheEvictionListener(ConcurrentMap<Principal, Long> expirations) {
+        this.expirations = expirations;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void onEntryEviction(Map<Principal, DomainInfo> evicted) {
         for (Entry<Principal, DomainInfo> entry : evicted.entrySet()) {
             DomainInfo domainInfo = entry.getValue();
             domainInfo.logout();
+            if (expirations != null) {
+                expirations.remove(entry.getKey());
+            }
         }
+        evictionCount.addAndGet(evicted.size());
+    }
+
+    /**
+     * @return the number of entries evicted so far
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
     }
 
     @Override
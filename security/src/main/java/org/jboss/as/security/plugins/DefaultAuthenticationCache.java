@@ -0,0 +1,175 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.security.plugins;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.infinispan.util.concurrent.BoundedConcurrentHashMap;
+import org.jboss.security.authentication.JBossCachedAuthenticationManager.DomainInfo;
+
+/**
+ * The default authentication cache: a bounded map with LIRS eviction whose entries optionally expire a fixed time
+ * after they were added. Evicted, expired and removed entries are logged out.
+ * <p>
+ * Expiration times are kept beside the entries and can be lost when an eviction races a put of the same principal, so
+ * when entries expire an entry without an expiration time is treated as expired.
+ */
+public class DefaultAuthenticationCache extends BoundedConcurrentHashMap<Principal, DomainInfo> {
+
+    private static final long serialVersionUID = 1459490003748298538L;
+
+    private final long lifespan;
+    private final ConcurrentMap<Principal, Long> expirations;
+    private final AuthenticationCacheEvictionListener evictionListener;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+
+    /**
+     * @param maxEntries the maximum number of entries
+     * @param concurrencyLevel the estimated number of concurrently updating threads
+     * @param lifespan the time after which an entry expires, in milliseconds, or {@code 0} if entries never expire
+     */
+    public DefaultAuthenticationCache(int maxEntries, int concurrencyLevel, long lifespan) {
+        this(maxEntries, concurrencyLevel, lifespan, lifespan > 0 ? new ConcurrentHashMap<Principal, Long>() : null);
+    }
+
+    private DefaultAuthenticationCache(int maxEntries, int concurrencyLevel, long lifespan, ConcurrentMap<Principal, Long> expirations) {
+        this(maxEntries, concurrencyLevel, lifespan, expirations, new AuthenticationCacheEvictionListener(expirations));
+    }
+
+    private DefaultAuthenticationCache(int maxEntries, int concurrencyLevel, long lifespan, ConcurrentMap<Principal, Long> expirations,
+            AuthenticationCacheEvictionListener evictionListener) {
+        super(maxEntries, concurrencyLevel, Eviction.LIRS, evictionListener);
+        this.lifespan = lifespan;
+        this.expirations = expirations;
+        this.evictionListener = evictionListener;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DomainInfo get(Object key) {
+        DomainInfo domainInfo = super.get(key);
+        if (domainInfo != null && expirations != null) {
+            final Long expiration = expirations.get(key);
+            if (expiration == null || expiration.longValue() <= System.currentTimeMillis()) {
+                if (super.remove(key, domainInfo)) {
+                    if (expiration != null) {
+                        expirations.remove(key, expiration);
+                    }
+                    expired.incrementAndGet();
+                    domainInfo.logout();
+                }
+                domainInfo = null;
+            }
+        }
+        if (domainInfo != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return domainInfo;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DomainInfo put(Principal key, DomainInfo value) {
+        if (expirations != null) {
+            expirations.put(key, Long.valueOf(System.currentTimeMillis() + lifespan));
+        }
+        return super.put(key, value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DomainInfo putIfAbsent(Principal key, DomainInfo value) {
+        if (expirations == null) {
+            return super.putIfAbsent(key, value);
+        }
+        // set the expiration first, so the new entry is never found without one
+        final Long expiration = Long.valueOf(System.currentTimeMillis() + lifespan);
+        final Long previous = expirations.put(key, expiration);
+        final DomainInfo existing = super.putIfAbsent(key, value);
+        if (existing != null) {
+            // the existing entry keeps its own expiration
+            if (previous == null) {
+                expirations.remove(key, expiration);
+            } else {
+                expirations.replace(key, expiration, previous);
+            }
+        }
+        return existing;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DomainInfo remove(Object key) {
+        DomainInfo removed = super.remove(key);
+        if (expirations != null) {
+            expirations.remove(key);
+        }
+        if (removed != null) {
+            removed.logout();
+        }
+        return removed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        Collection<DomainInfo> values = values();
+        for (DomainInfo domainInfo : values) {
+            domainInfo.logout();
+        }
+        super.clear();
+        if (expirations != null) {
+            expirations.clear();
+        }
+    }
+
+    /**
+     * @return the number of lookups which found a live entry
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of lookups which found no entry, or an expired one
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of entries evicted because the cache was full or because they expired
+     */
+    public long getEvictionCount() {
+        return evictionListener.getEvictionCount() + expired.get();
+    }
+}
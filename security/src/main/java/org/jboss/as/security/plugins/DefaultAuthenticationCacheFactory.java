@@ -23,12 +23,8 @@
 package org.jboss.as.security.plugins;
 
 import java.security.Principal;
-import java.util.Collection;
 import java.util.concurrent.ConcurrentMap;
 
-import org.infinispan.util.concurrent.BoundedConcurrentHashMap;
-import org.infinispan.util.concurrent.BoundedConcurrentHashMap.Eviction;
-import org.jboss.security.authentication.JBossCachedAuthenticationManager;
 import org.jboss.security.authentication.JBossCachedAuthenticationManager.DomainInfo;
 
 /**
@@ -38,38 +34,43 @@ import org.jboss.security.authentication.JBossCachedAuthenticationManager.Domain
  */
 public class DefaultAuthenticationCacheFactory {
 
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private final int maxEntries;
+
+    private final int concurrencyLevel;
+
+    private final long lifespan;
+
+    /**
+     * Creates a factory of caches holding up to 1000 entries which never expire.
+     */
+    public DefaultAuthenticationCacheFactory() {
+        this(null, null, null);
+    }
+
+    /**
+     * Creates a factory of caches with the given settings.
+     *
+     * @param maxEntries the maximum number of entries, or {@code null} for the default
+     * @param concurrencyLevel the estimated number of concurrently updating threads, or {@code null} for the default
+     * @param lifespan the time after which an entry expires, in milliseconds, or {@code null} if entries never expire
+     */
+    public DefaultAuthenticationCacheFactory(Integer maxEntries, Integer concurrencyLevel, Long lifespan) {
+        this.maxEntries = maxEntries != null ? maxEntries.intValue() : DEFAULT_MAX_ENTRIES;
+        this.concurrencyLevel = concurrencyLevel != null ? concurrencyLevel.intValue() : DEFAULT_CONCURRENCY_LEVEL;
+        this.lifespan = lifespan != null && lifespan.longValue() > 0 ? lifespan.longValue() : 0;
+    }
+
     /**
      * Returns a default cache implementation
      *
      * @return cache implementation
      */
     public ConcurrentMap<Principal, DomainInfo> getCache() {
-        ConcurrentMap<Principal, DomainInfo> map = new BoundedConcurrentHashMap<Principal, JBossCachedAuthenticationManager.DomainInfo>(
-                1000, 16, Eviction.LIRS, new AuthenticationCacheEvictionListener()) {
-
-            private static final long serialVersionUID = 1459490003748298538L;
-
-            /** {@inheritDoc} */
-            @Override
-            public DomainInfo remove(Object key) {
-                DomainInfo removed = super.remove(key);
-                if (removed != null) {
-                    removed.logout();
-                }
-                return removed;
-            }
-
-            /** {@inheritDoc} */
-            @Override
-            public void clear() {
-                Collection<DomainInfo> values = values();
-                for (DomainInfo domainInfo : values) {
-                    domainInfo.logout();
-                }
-                super.clear();
-            }
-        };
-        return map;
+        return new DefaultAuthenticationCache(maxEntries, concurrencyLevel, lifespan);
     }
 
 }
@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.security.plugins;
+
+import org.infinispan.Cache;
+import org.infinispan.config.Configuration;
+import org.infinispan.config.FluentConfiguration;
+import org.infinispan.eviction.EvictionStrategy;
+import org.infinispan.manager.EmbeddedCacheManager;
+
+/**
+ * Factory that creates authentication caches from the cache container of the security subsystem. Each security domain
+ * gets its own cache, based on the container's {@code auth-cache} configuration and the settings of the domain.
+ */
+public class InfinispanAuthenticationCacheFactory {
+
+    private static final String TEMPLATE = "auth-cache";
+
+    private final EmbeddedCacheManager cacheManager;
+
+    private final Integer maxEntries;
+
+    private final Integer concurrencyLevel;
+
+    private final Long lifespan;
+
+    /**
+     * Creates a factory of caches with the given settings. Settings which are {@code null} are taken from the
+     * {@code auth-cache} configuration.
+     *
+     * @param cacheManager the cache container
+     * @param maxEntries the maximum number of entries
+     * @param concurrencyLevel the estimated number of concurrently updating threads
+     * @param lifespan the time after which an entry expires, in milliseconds
+     */
+    public InfinispanAuthenticationCacheFactory(EmbeddedCacheManager cacheManager, Integer maxEntries, Integer concurrencyLevel,
+            Long lifespan) {
+        this.cacheManager = cacheManager;
+        this.maxEntries = maxEntries;
+        this.concurrencyLevel = concurrencyLevel;
+        this.lifespan = lifespan;
+    }
+
+    /**
+     * Returns the cache of a security domain
+     *
+     * @param securityDomain name of the security domain
+     * @return cache implementation
+     */
+    @SuppressWarnings("rawtypes")
+    public Cache getCache(String securityDomain) {
+        Configuration overrides = new Configuration();
+        FluentConfiguration fluent = overrides.fluent();
+        if (maxEntries != null) {
+            fluent.eviction().strategy(EvictionStrategy.LIRS).maxEntries(maxEntries);
+        }
+        if (concurrencyLevel != null) {
+            fluent.locking().concurrencyLevel(concurrencyLevel);
+        }
+        if (lifespan != null && lifespan.longValue() > 0) {
+            fluent.expiration().lifespan(lifespan);
+        }
+        // statistics back the cache metrics of the security domain
+        fluent.jmxStatistics();
+        cacheManager.defineConfiguration(securityDomain, TEMPLATE, overrides);
+        return cacheManager.getCache(securityDomain);
+    }
+}
@@ -32,8 +32,6 @@ import javax.naming.Context;
 import javax.naming.InitialContext;
 import javax.security.auth.callback.CallbackHandler;
 
-import org.infinispan.Cache;
-import org.infinispan.config.Configuration;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.jboss.logging.Logger;
 import org.jboss.security.AuthenticationManager;
@@ -277,28 +275,23 @@ public class JNDIBasedSecurityManagement implements ISecurityManagement {
         AuthenticationManager am = createAuthenticationManager(securityDomain);
         // create authentication cache
         if (cacheFactory instanceof EmbeddedCacheManager) {
-            EmbeddedCacheManager cacheManager = EmbeddedCacheManager.class.cast(cacheFactory);
-            @SuppressWarnings("rawtypes")
-            Cache cache = null;
-            if (cacheManager != null) {
-                // TODO override global settings with security domain specific
-                cacheManager.defineConfiguration(securityDomain, "auth-cache", new Configuration());
-                cache = cacheManager.getCache(securityDomain);
-            }
-            if (cache != null && am instanceof CacheableManager) {
-                @SuppressWarnings({ "unchecked", "rawtypes" })
-                CacheableManager<Map, Principal> cm = (CacheableManager<Map, Principal>) am;
-                cm.setCache(cache);
-            }
+            cacheFactory = new InfinispanAuthenticationCacheFactory(EmbeddedCacheManager.class.cast(cacheFactory), null, null, null);
+        }
+        @SuppressWarnings("rawtypes")
+        Map cache = null;
+        if (cacheFactory instanceof InfinispanAuthenticationCacheFactory) {
+            InfinispanAuthenticationCacheFactory cacheManager = InfinispanAuthenticationCacheFactory.class.cast(cacheFactory);
+            cache = cacheManager.getCache(securityDomain);
         } else if (cacheFactory instanceof DefaultAuthenticationCacheFactory) {
             DefaultAuthenticationCacheFactory cacheManager = DefaultAuthenticationCacheFactory.class.cast(cacheFactory);
-            @SuppressWarnings("rawtypes")
-            Map cache = cacheManager.getCache();
-            if (cache != null && am instanceof CacheableManager) {
-                @SuppressWarnings({ "unchecked", "rawtypes" })
-                CacheableManager<Map, Principal> cm = (CacheableManager<Map, Principal>) am;
-                cm.setCache(cache);
-            }
+            cache = cacheManager.getCache();
+        }
+        if (cache != null && am instanceof CacheableManager) {
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            CacheableManager<Map, Principal> cm = (CacheableManager<Map, Principal>) am;
+            cm.setCache(cache);
+        } else {
+            cache = null;
         }
 
         // set DeepCopySubject option if supported
@@ -307,6 +300,7 @@ public class JNDIBasedSecurityManagement implements ISecurityManagement {
         }
 
         SecurityDomainContext securityDomainContext = new SecurityDomainContext(am);
+        securityDomainContext.setAuthenticationCache(cache);
         securityDomainContext.setAuthorizationManager(createAuthorizationManager(securityDomain));
         securityDomainContext.setAuditManager(createAuditManager(securityDomain));
         securityDomainContext.setIdentityTrustManager(createIdentityTrustManager(securityDomain));
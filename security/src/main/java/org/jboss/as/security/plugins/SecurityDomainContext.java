@@ -22,6 +22,8 @@
 
 package org.jboss.as.security.plugins;
 
+import java.util.Map;
+
 import javax.naming.InvalidNameException;
 import javax.naming.NamingException;
 import javax.security.auth.Subject;
@@ -59,6 +61,7 @@ public class SecurityDomainContext {
     MappingManager mappingMgr;
     IdentityTrustManager identityTrustMgr;
     JSSESecurityDomain jsseSecurityDomain;
+    Map<?, ?> authenticationCache;
 
     private static final String SUBJECT_CONTEXT_KEY = "javax.security.auth.Subject.container";
 
@@ -140,6 +143,17 @@ public class SecurityDomainContext {
         this.identityTrustMgr = identityTrustMgr;
     }
 
+    /**
+     * @return the authentication cache of the domain, or {@code null} if authentication results are not cached
+     */
+    public Map<?, ?> getAuthenticationCache() {
+        return authenticationCache;
+    }
+
+    public void setAuthenticationCache(Map<?, ?> authenticationCache) {
+        this.authenticationCache = authenticationCache;
+    }
+
     public JSSESecurityDomain getJSSE() {
         return jsseSecurityDomain;
     }
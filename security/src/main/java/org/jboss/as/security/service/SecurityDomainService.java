@@ -27,6 +27,7 @@ import javax.security.auth.login.Configuration;
 import org.infinispan.manager.EmbeddedCacheManager;
 import org.jboss.as.security.SecurityExtension;
 import org.jboss.as.security.plugins.DefaultAuthenticationCacheFactory;
+import org.jboss.as.security.plugins.InfinispanAuthenticationCacheFactory;
 import org.jboss.as.security.plugins.JNDIBasedSecurityManagement;
 import org.jboss.as.security.plugins.SecurityDomainContext;
 import org.jboss.logging.Logger;
@@ -69,12 +70,26 @@ public class SecurityDomainService implements Service<SecurityDomainContext> {
 
     private final String cacheType;
 
+    private final Integer cacheMaxEntries;
+
+    private final Integer cacheConcurrencyLevel;
+
+    private final Long cacheLifespan;
+
     public SecurityDomainService(String name, ApplicationPolicy applicationPolicy, JSSESecurityDomain jsseSecurityDomain,
             String cacheType) {
+        this(name, applicationPolicy, jsseSecurityDomain, cacheType, null, null, null);
+    }
+
+    public SecurityDomainService(String name, ApplicationPolicy applicationPolicy, JSSESecurityDomain jsseSecurityDomain,
+            String cacheType, Integer cacheMaxEntries, Integer cacheConcurrencyLevel, Long cacheLifespan) {
         this.name = name;
         this.applicationPolicy = applicationPolicy;
         this.jsseSecurityDomain = jsseSecurityDomain;
         this.cacheType = cacheType;
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.cacheConcurrencyLevel = cacheConcurrencyLevel;
+        this.cacheLifespan = cacheLifespan;
     }
 
     /** {@inheritDoc} */
@@ -90,9 +105,10 @@ public class SecurityDomainService implements Service<SecurityDomainContext> {
         final JNDIBasedSecurityManagement securityManagement = (JNDIBasedSecurityManagement) securityManagementValue.getValue();
         Object cacheFactory = null;
         if ("infinispan".equals(cacheType)) {
-            cacheFactory = cacheManagerValue.getValue();
+            cacheFactory = new InfinispanAuthenticationCacheFactory(cacheManagerValue.getValue(), cacheMaxEntries,
+                    cacheConcurrencyLevel, cacheLifespan);
         } else if ("default".equals(cacheType)) {
-            cacheFactory = new DefaultAuthenticationCacheFactory();
+            cacheFactory = new DefaultAuthenticationCacheFactory(cacheMaxEntries, cacheConcurrencyLevel, cacheLifespan);
         }
         try {
             securityDomainContext = securityManagement.createSecurityDomainContext(name, cacheFactory);
@@ -25,6 +25,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
 import static org.jboss.as.security.Constants.SECURITY_DOMAIN;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
 
@@ -98,6 +99,25 @@ public class SubsystemParsingUnitTestCase {
         assertEquals("required", flag.asString());
     }
 
+    @Test
+    public void testAuthenticationCache() throws Exception {
+        List<ModelNode> operations = parse("subsystem-cache.xml");
+        assertEquals(3, operations.size());
+
+        ModelNode cached = operations.get(1);
+        assertEquals("cached", cached.get(OP_ADDR).asPropertyList().get(1).getValue().asString());
+        assertEquals("default", cached.get("cache-type").asString());
+        assertEquals(5000, cached.get("cache-max-entries").asInt());
+        assertEquals(60000L, cached.get("cache-lifespan").asLong());
+        assertFalse(cached.hasDefined("cache-concurrency-level"));
+
+        ModelNode uncached = operations.get(2);
+        assertEquals("uncached", uncached.get(OP_ADDR).asPropertyList().get(1).getValue().asString());
+        assertFalse(uncached.hasDefined("cache-max-entries"));
+        assertFalse(uncached.hasDefined("cache-lifespan"));
+        assertFalse(uncached.hasDefined("cache-concurrency-level"));
+    }
+
     List<ModelNode> parse(final String name) throws XMLStreamException, IOException {
         final List<ModelNode> operations = new ArrayList<ModelNode>();
 
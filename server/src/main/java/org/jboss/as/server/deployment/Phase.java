@@ -246,6 +246,8 @@ public enum Phase {
     public static final int PARSE_EJB_SESSION_SYNCHRONIZATION           = 0x1C50;
     public static final int PARSE_EJB_RESOURCE_ADAPTER_ANNOTATION       = 0x1D00;
     public static final int PARSE_EJB_ASYNCHRONOUS_ANNOTATION           = 0x1E00;
+    // should be after the asynchronous annotation processor
+    public static final int PARSE_EJB_ASYNCHRONOUS_EXECUTOR             = 0x1E01;
     public static final int PARSE_WEB_COMPONENTS                        = 0x1F00;
     public static final int PARSE_WEB_MERGE_METADATA                    = 0x2000;
     public static final int PARSE_JSF_VERSION                           = 0x2001;
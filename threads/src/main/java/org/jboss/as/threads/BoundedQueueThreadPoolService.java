@@ -41,9 +41,10 @@ import java.util.concurrent.TimeUnit;
  *
  * @author John E. Bailey
  */
-public class BoundedQueueThreadPoolService implements Service<Executor> {
+public class BoundedQueueThreadPoolService implements Service<Executor>, MeteredThreadPool {
     private final InjectedValue<ThreadFactory> threadFactoryValue = new InjectedValue<ThreadFactory>();
     private final InjectedValue<Executor> handoffExecutorValue = new InjectedValue<Executor>();
+    private final ThreadPoolMetrics metrics = new ThreadPoolMetrics();
 
     private QueueExecutor executor;
     private Executor value;
@@ -67,9 +68,9 @@ public class BoundedQueueThreadPoolService implements Service<Executor> {
     public synchronized void start(final StartContext context) throws StartException {
         final TimeSpec keepAliveSpec = keepAlive;
         long keepAliveTime = keepAliveSpec == null ? Long.MAX_VALUE : keepAliveSpec.getUnit().toNanos(keepAliveSpec.getDuration());
-        executor = new QueueExecutor(coreThreads, maxThreads, keepAliveTime, TimeUnit.NANOSECONDS, queueLength, threadFactoryValue.getValue(), blocking, handoffExecutorValue.getOptionalValue());
+        executor = new QueueExecutor(coreThreads, maxThreads, keepAliveTime, TimeUnit.NANOSECONDS, queueLength, metrics.meteredThreadFactory(threadFactoryValue.getValue()), blocking, handoffExecutorValue.getOptionalValue());
         executor.setAllowCoreThreadTimeout(allowCoreTimeout);
-        value = JBossExecutors.protectedBlockingExecutor(executor);
+        value = JBossExecutors.protectedBlockingExecutor(metrics.meteredBlockingExecutor(executor));
     }
 
     public synchronized void stop(final StopContext context) {
@@ -96,6 +97,10 @@ public class BoundedQueueThreadPoolService implements Service<Executor> {
         return value;
     }
 
+    public ThreadPoolMetrics getMetrics() {
+        return metrics;
+    }
+
     public Injector<ThreadFactory> getThreadFactoryInjector() {
         return threadFactoryValue;
     }
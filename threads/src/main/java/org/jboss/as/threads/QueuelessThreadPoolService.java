@@ -41,9 +41,10 @@ import java.util.concurrent.ThreadFactory;
  *
  * @author John E. Bailey
  */
-public class QueuelessThreadPoolService implements Service<ExecutorService> {
+public class QueuelessThreadPoolService implements Service<ExecutorService>, MeteredThreadPool {
     private final InjectedValue<ThreadFactory> threadFactoryValue = new InjectedValue<ThreadFactory>();
     private final InjectedValue<Executor> handoffExecutorValue = new InjectedValue<Executor>();
+    private final ThreadPoolMetrics metrics = new ThreadPoolMetrics();
 
     private QueuelessExecutor executor;
     private ExecutorService value;
@@ -61,10 +62,10 @@ public class QueuelessThreadPoolService implements Service<ExecutorService> {
     public synchronized void start(final StartContext context) throws StartException {
         final TimeSpec keepAliveSpec = keepAlive;
         long keepAlive = keepAliveSpec == null ? Long.MAX_VALUE : keepAliveSpec.getUnit().toMillis(keepAliveSpec.getDuration());
-        executor = new QueuelessExecutor(threadFactoryValue.getValue(), JBossExecutors.directExecutor(), handoffExecutorValue.getOptionalValue(), keepAlive);
+        executor = new QueuelessExecutor(metrics.meteredThreadFactory(threadFactoryValue.getValue()), JBossExecutors.directExecutor(), handoffExecutorValue.getOptionalValue(), keepAlive);
         executor.setMaxThreads(maxThreads);
         executor.setBlocking(blocking);
-        value = JBossExecutors.protectedExecutorService(executor);
+        value = JBossExecutors.protectedExecutorService(metrics.meteredExecutorService(executor));
     }
 
     public synchronized void stop(final StopContext context) {
@@ -91,6 +92,10 @@ public class QueuelessThreadPoolService implements Service<ExecutorService> {
         return value;
     }
 
+    public ThreadPoolMetrics getMetrics() {
+        return metrics;
+    }
+
     public Injector<ThreadFactory> getThreadFactoryInjector() {
         return threadFactoryValue;
     }
@@ -30,18 +30,31 @@ import org.jboss.msc.service.StopContext;
 import org.jboss.msc.value.InjectedValue;
 import org.jboss.threads.JBossExecutors;
 
+import java.util.concurrent.Delayed;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service responsible for creating, starting and stopping a scheduled thread pool executor.
  *
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
-public final class ScheduledThreadPoolService implements Service<ScheduledExecutorService> {
+public final class ScheduledThreadPoolService implements Service<ScheduledExecutorService>, MeteredThreadPool {
 
     private final InjectedValue<ThreadFactory> threadFactoryValue = new InjectedValue<ThreadFactory>();
+    private final ThreadPoolMetrics metrics = new ThreadPoolMetrics() {
+        // Scheduled tasks are not submitted through a metered executor; the pending ones sit in the executor's queue
+        @Override
+        public int getQueueSize() {
+            synchronized (ScheduledThreadPoolService.this) {
+                final ScheduledThreadPoolExecutor executor = ScheduledThreadPoolService.this.executor;
+                return executor == null ? 0 : executor.getQueue().size();
+            }
+        }
+    };
 
     private ScheduledThreadPoolExecutor executor;
     private ScheduledExecutorService value;
@@ -56,7 +69,7 @@ public final class ScheduledThreadPoolService implements Service<ScheduledExecut
     }
 
     public synchronized void start(final StartContext context) throws StartException {
-        executor = new ExecutorImpl(0, threadFactoryValue.getValue());
+        executor = new ExecutorImpl(0, metrics.meteredThreadFactory(threadFactoryValue.getValue()));
         executor.setCorePoolSize(maxThreads);
         if(keepAlive != null)
             executor.setKeepAliveTime(keepAlive.getDuration(), keepAlive.getUnit());
@@ -83,14 +96,35 @@ public final class ScheduledThreadPoolService implements Service<ScheduledExecut
         return value;
     }
 
+    public ThreadPoolMetrics getMetrics() {
+        return metrics;
+    }
+
     public Injector<ThreadFactory> getThreadFactoryInjector() {
         return threadFactoryValue;
     }
 
     private class ExecutorImpl extends ScheduledThreadPoolExecutor {
 
+        private final ThreadLocal<Long> taskStart = new ThreadLocal<Long>();
+
         ExecutorImpl(final int corePoolSize, final ThreadFactory threadFactory) {
-            super(corePoolSize, threadFactory);
+            super(corePoolSize, threadFactory, metrics.meteredRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy()));
+        }
+
+        protected void beforeExecute(final Thread thread, final Runnable task) {
+            super.beforeExecute(thread, task);
+            // The wait of a scheduled task is how late it starts compared to when it was due
+            final long late = task instanceof Delayed ? -((Delayed) task).getDelay(TimeUnit.NANOSECONDS) : 0L;
+            metrics.taskStarted(Math.max(late, 0L));
+            taskStart.set(Long.valueOf(System.nanoTime()));
+        }
+
+        protected void afterExecute(final Runnable task, final Throwable throwable) {
+            final Long start = taskStart.get();
+            taskStart.remove();
+            metrics.taskFinished(start == null ? 0L : System.nanoTime() - start.longValue());
+            super.afterExecute(task, throwable);
         }
 
         protected void terminated() {
@@ -0,0 +1,265 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.as.controller.LatencyHistogram;
+import org.jboss.dmr.ModelNode;
+import org.jboss.threads.BlockingExecutor;
+
+/**
+ * Runtime statistics of a thread pool. The pool's thread factory and executor are wrapped so that threads and tasks
+ * are counted as they come and go, whatever the executor implementation.
+ */
+public class ThreadPoolMetrics {
+
+    private final AtomicInteger currentThreadCount = new AtomicInteger();
+    private final AtomicInteger largestThreadCount = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicLong completedTaskCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final LatencyHistogram taskWaitTime = new LatencyHistogram();
+    private final LatencyHistogram taskRunTime = new LatencyHistogram();
+
+    public int getCurrentThreadCount() {
+        return currentThreadCount.get();
+    }
+
+    public int getLargestThreadCount() {
+        return largestThreadCount.get();
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * @return the number of tasks accepted but not yet started
+     */
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    public long getCompletedTaskCount() {
+        return completedTaskCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public ModelNode getTaskWaitTime() {
+        return taskWaitTime.toModelNode();
+    }
+
+    public ModelNode getTaskRunTime() {
+        return taskRunTime.toModelNode();
+    }
+
+    void taskStarted(final long waitNanos) {
+        activeCount.incrementAndGet();
+        taskWaitTime.record(waitNanos);
+    }
+
+    void taskFinished(final long runNanos) {
+        activeCount.decrementAndGet();
+        completedTaskCount.incrementAndGet();
+        taskRunTime.record(runNanos);
+    }
+
+    ThreadFactory meteredThreadFactory(final ThreadFactory delegate) {
+        return new ThreadFactory() {
+            public Thread newThread(final Runnable runnable) {
+                return delegate.newThread(new Runnable() {
+                    public void run() {
+                        final int current = currentThreadCount.incrementAndGet();
+                        int largest;
+                        while (current > (largest = largestThreadCount.get()) && !largestThreadCount.compareAndSet(largest, current)) {
+                            // retry
+                        }
+                        try {
+                            runnable.run();
+                        } finally {
+                            currentThreadCount.decrementAndGet();
+                        }
+                    }
+                });
+            }
+        };
+    }
+
+    ExecutorService meteredExecutorService(final ExecutorService delegate) {
+        return new MeteredExecutorService(delegate);
+    }
+
+    BlockingExecutor meteredBlockingExecutor(final BlockingExecutor delegate) {
+        return new MeteredBlockingExecutor(delegate);
+    }
+
+    /**
+     * Counts the rejections of a pool whose tasks are not submitted through a metered executor.
+     */
+    RejectedExecutionHandler meteredRejectedExecutionHandler(final RejectedExecutionHandler delegate) {
+        return new RejectedExecutionHandler() {
+            public void rejectedExecution(final Runnable task, final ThreadPoolExecutor executor) {
+                rejectedCount.incrementAndGet();
+                delegate.rejectedExecution(task, executor);
+            }
+        };
+    }
+
+    private MeteredTask submitted(final Runnable task) {
+        queueSize.incrementAndGet();
+        return new MeteredTask(task);
+    }
+
+    private void notAccepted(final boolean rejected) {
+        queueSize.decrementAndGet();
+        if (rejected) {
+            rejectedCount.incrementAndGet();
+        }
+    }
+
+    private final class MeteredTask implements Runnable {
+        private final Runnable task;
+        private final long submitted = System.nanoTime();
+
+        private MeteredTask(final Runnable task) {
+            this.task = task;
+        }
+
+        public void run() {
+            final long start = System.nanoTime();
+            queueSize.decrementAndGet();
+            taskStarted(start - submitted);
+            try {
+                task.run();
+            } finally {
+                taskFinished(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private final class MeteredExecutorService extends AbstractExecutorService {
+        private final ExecutorService delegate;
+
+        private MeteredExecutorService(final ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        public void execute(final Runnable command) {
+            final MeteredTask task = submitted(command);
+            try {
+                delegate.execute(task);
+            } catch (RejectedExecutionException e) {
+                notAccepted(true);
+                throw e;
+            }
+        }
+
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+
+    private final class MeteredBlockingExecutor implements BlockingExecutor {
+        private final BlockingExecutor delegate;
+
+        private MeteredBlockingExecutor(final BlockingExecutor delegate) {
+            this.delegate = delegate;
+        }
+
+        public void execute(final Runnable command) {
+            final MeteredTask task = submitted(command);
+            try {
+                delegate.execute(task);
+            } catch (RejectedExecutionException e) {
+                notAccepted(true);
+                throw e;
+            }
+        }
+
+        public void executeBlocking(final Runnable command) throws RejectedExecutionException, InterruptedException {
+            final MeteredTask task = submitted(command);
+            try {
+                delegate.executeBlocking(task);
+            } catch (RejectedExecutionException e) {
+                notAccepted(true);
+                throw e;
+            } catch (InterruptedException e) {
+                notAccepted(false);
+                throw e;
+            }
+        }
+
+        public void executeBlocking(final Runnable command, final long timeout, final TimeUnit unit) throws RejectedExecutionException, InterruptedException {
+            final MeteredTask task = submitted(command);
+            try {
+                delegate.executeBlocking(task, timeout, unit);
+            } catch (RejectedExecutionException e) {
+                notAccepted(true);
+                throw e;
+            } catch (InterruptedException e) {
+                notAccepted(false);
+                throw e;
+            }
+        }
+
+        public void executeNonBlocking(final Runnable command) throws RejectedExecutionException {
+            final MeteredTask task = submitted(command);
+            try {
+                delegate.executeNonBlocking(task);
+            } catch (RejectedExecutionException e) {
+                notAccepted(true);
+                throw e;
+            }
+        }
+    }
+}
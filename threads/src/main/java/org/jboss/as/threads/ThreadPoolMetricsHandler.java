@@ -0,0 +1,135 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Handler for the runtime metrics of a thread pool.
+ */
+class ThreadPoolMetricsHandler implements OperationStepHandler {
+
+    static final ThreadPoolMetricsHandler INSTANCE = new ThreadPoolMetricsHandler();
+
+    enum PoolMetric {
+
+        CURRENT_THREAD_COUNT("current-thread-count", ModelType.INT),
+        LARGEST_THREAD_COUNT("largest-thread-count", ModelType.INT),
+        ACTIVE_COUNT("active-count", ModelType.INT),
+        QUEUE_SIZE("queue-size", ModelType.INT),
+        COMPLETED_TASK_COUNT("completed-task-count", ModelType.LONG),
+        REJECTED_COUNT("rejected-count", ModelType.LONG),
+        TASK_WAIT_TIME("task-wait-time", ModelType.OBJECT),
+        TASK_RUN_TIME("task-run-time", ModelType.OBJECT);
+
+        private static final Map<String, PoolMetric> MAP = new HashMap<String, PoolMetric>();
+        static {
+            for (PoolMetric metric : EnumSet.allOf(PoolMetric.class)) {
+                MAP.put(metric.toString(), metric);
+            }
+        }
+        private final String stringForm;
+        private final ModelType type;
+        private PoolMetric(final String stringForm, final ModelType type) {
+            this.stringForm = stringForm;
+            this.type = type;
+        }
+
+        ModelType getType() {
+            return type;
+        }
+
+        @Override
+        public final String toString() {
+            return stringForm;
+        }
+
+        static PoolMetric getMetric(final String stringForm) {
+            return MAP.get(stringForm);
+        }
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final PoolMetric metric = PoolMetric.getMetric(operation.require(NAME).asString());
+        if (metric == null) {
+            context.getFailureDescription().set(String.format("Unknown metric %s", operation.require(NAME).asString()));
+            context.completeStep();
+            return;
+        }
+        final String poolName = PathAddress.pathAddress(operation.require(OP_ADDR)).getLastElement().getValue();
+        context.addStep(new OperationStepHandler() {
+            @Override
+            public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+                final ServiceController<?> controller = context.getServiceRegistry(false).getService(ThreadsServices.executorName(poolName));
+                if (controller != null && controller.getState() == ServiceController.State.UP) {
+                    final ThreadPoolMetrics metrics = ((MeteredThreadPool) controller.getService()).getMetrics();
+                    final ModelNode result = context.getResult();
+                    switch (metric) {
+                        case CURRENT_THREAD_COUNT:
+                            result.set(metrics.getCurrentThreadCount());
+                            break;
+                        case LARGEST_THREAD_COUNT:
+                            result.set(metrics.getLargestThreadCount());
+                            break;
+                        case ACTIVE_COUNT:
+                            result.set(metrics.getActiveCount());
+                            break;
+                        case QUEUE_SIZE:
+                            result.set(metrics.getQueueSize());
+                            break;
+                        case COMPLETED_TASK_COUNT:
+                            result.set(metrics.getCompletedTaskCount());
+                            break;
+                        case REJECTED_COUNT:
+                            result.set(metrics.getRejectedCount());
+                            break;
+                        case TASK_WAIT_TIME:
+                            result.set(metrics.getTaskWaitTime());
+                            break;
+                        case TASK_RUN_TIME:
+                            result.set(metrics.getTaskRunTime());
+                            break;
+                        default:
+                            throw new IllegalStateException(String.format("Unknown metric %s", metric));
+                    }
+                }
+                context.completeStep();
+            }
+        }, OperationContext.Stage.RUNTIME);
+        context.completeStep();
+    }
+}
@@ -108,6 +108,7 @@ public class ThreadsExtension implements Extension {
                 BoundedQueueThreadPoolAdd.INSTANCE, false);
         boundedQueueThreadPools.registerOperationHandler(REMOVE, BoundedQueueThreadPoolRemove.INSTANCE,
                 BoundedQueueThreadPoolRemove.INSTANCE, false);
+        registerMetrics(boundedQueueThreadPools);
 
         final ManagementResourceRegistration unboundedQueueThreadPools = subsystem.registerSubModel(
                 PathElement.pathElement(UNBOUNDED_QUEUE_THREAD_POOL), UNBOUNDED_QUEUE_THREAD_POOL_DESC);
@@ -115,6 +116,7 @@ public class ThreadsExtension implements Extension {
                 UnboundedQueueThreadPoolAdd.INSTANCE, false);
         unboundedQueueThreadPools.registerOperationHandler(REMOVE, UnboundedQueueThreadPoolRemove.INSTANCE,
                 UnboundedQueueThreadPoolRemove.INSTANCE, false);
+        registerMetrics(unboundedQueueThreadPools);
 
         final ManagementResourceRegistration queuelessThreadPools = subsystem.registerSubModel(
                 PathElement.pathElement(QUEUELESS_THREAD_POOL), QUEUELESS_THREAD_POOL_DESC);
@@ -122,6 +124,7 @@ public class ThreadsExtension implements Extension {
                 false);
         queuelessThreadPools.registerOperationHandler(REMOVE, QueuelessThreadPoolRemove.INSTANCE,
                 QueuelessThreadPoolRemove.INSTANCE, false);
+        registerMetrics(queuelessThreadPools);
 
         final ManagementResourceRegistration scheduledThreadPools = subsystem.registerSubModel(
                 PathElement.pathElement(SCHEDULED_THREAD_POOL), SCHEDULED_THREAD_POOL_DESC);
@@ -129,6 +132,13 @@ public class ThreadsExtension implements Extension {
                 false);
         scheduledThreadPools.registerOperationHandler(REMOVE, ScheduledThreadPoolRemove.INSTANCE,
                 ScheduledThreadPoolRemove.INSTANCE, false);
+        registerMetrics(scheduledThreadPools);
+    }
+
+    private static void registerMetrics(final ManagementResourceRegistration pools) {
+        for (ThreadPoolMetricsHandler.PoolMetric metric : ThreadPoolMetricsHandler.PoolMetric.values()) {
+            pools.registerMetric(metric.toString(), ThreadPoolMetricsHandler.INSTANCE);
+        }
     }
 
     @Override
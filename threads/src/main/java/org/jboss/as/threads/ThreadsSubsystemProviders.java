@@ -267,6 +267,11 @@ public class ThreadsSubsystemProviders {
                 bundle.getString("threadpool.common.keepalive.unit"));
         node.get(ATTRIBUTES, KEEPALIVE_TIME, VALUE_TYPE, UNIT, TYPE).set(ModelType.STRING);
         node.get(ATTRIBUTES, KEEPALIVE_TIME, VALUE_TYPE, UNIT, REQUIRED).set(true);
+
+        for (ThreadPoolMetricsHandler.PoolMetric metric : ThreadPoolMetricsHandler.PoolMetric.values()) {
+            node.get(ATTRIBUTES, metric.toString(), DESCRIPTION).set(bundle.getString("threadpool.common." + metric));
+            node.get(ATTRIBUTES, metric.toString(), TYPE).set(metric.getType());
+        }
         return node;
     }
 
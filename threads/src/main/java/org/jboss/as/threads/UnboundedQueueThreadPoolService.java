@@ -42,8 +42,9 @@ import java.util.concurrent.TimeUnit;
  *
  * @author John E. Bailey
  */
-public class UnboundedQueueThreadPoolService implements Service<ExecutorService> {
+public class UnboundedQueueThreadPoolService implements Service<ExecutorService>, MeteredThreadPool {
     private final InjectedValue<ThreadFactory> threadFactoryValue = new InjectedValue<ThreadFactory>();
+    private final ThreadPoolMetrics metrics = new ThreadPoolMetrics();
 
     private JBossThreadPoolExecutor executor;
     private ExecutorService value;
@@ -59,8 +60,8 @@ public class UnboundedQueueThreadPoolService implements Service<ExecutorService>
     public synchronized void start(final StartContext context) throws StartException {
         final TimeSpec keepAliveSpec = keepAlive;
         long keepAliveTime = keepAliveSpec == null ? Long.MAX_VALUE : keepAliveSpec.getUnit().toNanos(keepAliveSpec.getDuration());
-        executor = new JBossThreadPoolExecutor(maxThreads, maxThreads, keepAliveTime, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<Runnable>(), threadFactoryValue.getValue());
-        value = JBossExecutors.protectedExecutorService(executor);
+        executor = new JBossThreadPoolExecutor(maxThreads, maxThreads, keepAliveTime, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<Runnable>(), metrics.meteredThreadFactory(threadFactoryValue.getValue()));
+        value = JBossExecutors.protectedExecutorService(metrics.meteredExecutorService(executor));
     }
 
     public synchronized void stop(final StopContext context) {
@@ -87,6 +88,10 @@ public class UnboundedQueueThreadPoolService implements Service<ExecutorService>
         return value;
     }
 
+    public ThreadPoolMetrics getMetrics() {
+        return metrics;
+    }
+
     public Injector<ThreadFactory> getThreadFactoryInjector() {
         return threadFactoryValue;
     }
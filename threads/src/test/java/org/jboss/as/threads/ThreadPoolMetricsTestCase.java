@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.threads;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.LatencyHistogram;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ThreadPoolMetrics}.
+ */
+public class ThreadPoolMetricsTestCase {
+
+    @Test
+    public void testTaskAndThreadCounts() throws Exception {
+        final ThreadPoolMetrics metrics = new ThreadPoolMetrics();
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+                metrics.meteredThreadFactory(Executors.defaultThreadFactory()));
+        final ExecutorService executor = metrics.meteredExecutorService(pool);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(new Runnable() {
+                public void run() {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            started.await();
+            assertEquals(1, metrics.getActiveCount());
+            assertEquals(1, metrics.getCurrentThreadCount());
+            assertEquals(0, metrics.getQueueSize());
+
+            try {
+                executor.execute(new Runnable() {
+                    public void run() {
+                    }
+                });
+                fail("The pool has no room for a second task");
+            } catch (RejectedExecutionException expected) {
+            }
+            assertEquals(1, metrics.getRejectedCount());
+            assertEquals(0, metrics.getQueueSize());
+
+            release.countDown();
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        assertEquals(0, metrics.getActiveCount());
+        assertEquals(1, metrics.getLargestThreadCount());
+        assertEquals(1, metrics.getCompletedTaskCount());
+        assertEquals(1, metrics.getTaskRunTime().get(LatencyHistogram.COUNT).asLong());
+        assertEquals(1, metrics.getTaskWaitTime().get(LatencyHistogram.COUNT).asLong());
+    }
+
+    @Test
+    public void testScheduledPoolRejections() throws Exception {
+        final ThreadPoolMetrics metrics = new ThreadPoolMetrics();
+        final ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(1, Executors.defaultThreadFactory(),
+                metrics.meteredRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy()));
+        pool.shutdown();
+        try {
+            pool.schedule(new Runnable() {
+                public void run() {
+                }
+            }, 1, TimeUnit.SECONDS);
+            fail("A pool which has been shut down accepts no tasks");
+        } catch (RejectedExecutionException expected) {
+        }
+        assertEquals(1, metrics.getRejectedCount());
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -3,6 +3,8 @@
  */
 package org.jboss.as.txn;
 
+import java.io.File;
+
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -10,6 +12,8 @@ import org.jboss.msc.service.StopContext;
 import org.jboss.msc.value.InjectedValue;
 
 import com.arjuna.ats.arjuna.common.ObjectStoreEnvironmentBean;
+import com.arjuna.ats.internal.arjuna.objectstore.hornetq.HornetqJournalEnvironmentBean;
+import com.arjuna.ats.internal.arjuna.objectstore.hornetq.HornetqObjectStoreAdaptor;
 import com.arjuna.common.internal.util.propertyservice.BeanPopulator;
 
 /**
@@ -22,6 +26,12 @@ public class ArjunaObjectStoreEnvironmentService implements Service<Void> {
 
     private final InjectedValue<String> pathInjector = new InjectedValue<String>();
 
+    private final boolean useHornetqStore;
+
+    public ArjunaObjectStoreEnvironmentService(final boolean useHornetqStore) {
+        this.useHornetqStore = useHornetqStore;
+    }
+
     @Override
     public Void getValue() throws IllegalStateException, IllegalArgumentException {
         return null;
@@ -43,6 +53,13 @@ public class ArjunaObjectStoreEnvironmentService implements Service<Void> {
         final ObjectStoreEnvironmentBean communicationStoreObjectStoreEnvironmentBean =
             BeanPopulator.getNamedInstance(ObjectStoreEnvironmentBean.class, "communicationStore");
         communicationStoreObjectStoreEnvironmentBean.setObjectStoreDir(objectStoreDir);
+
+        if (useHornetqStore) {
+            // the action store takes a record write per commit; the journal appends it and syncs concurrent commits together
+            final HornetqJournalEnvironmentBean hornetqJournalEnvironmentBean = BeanPopulator.getDefaultInstance(HornetqJournalEnvironmentBean.class);
+            hornetqJournalEnvironmentBean.setStoreDir(objectStoreDir + File.separator + "HornetqObjectStore");
+            defaultActionStoreObjectStoreEnvironmentBean.setObjectStoreType(HornetqObjectStoreAdaptor.class.getName());
+        }
     }
 
     @Override
@@ -109,8 +109,9 @@ final class ArjunaTransactionManagerService implements Service<com.arjuna.ats.jb
                 service.setJbossXATerminator(xaTerminatorInjector.getValue());
                 service.setTransactionSynchronizationRegistry(new com.arjuna.ats.internal.jta.transaction.arjunacore.TransactionSynchronizationRegistryImple());
 
-                jtaEnvironmentBean.setTransactionManagerClassName(com.arjuna.ats.jbossatx.jta.TransactionManagerDelegate.class.getName());
-                jtaEnvironmentBean.setUserTransactionClassName(com.arjuna.ats.internal.jta.transaction.arjunacore.UserTransactionImple.class.getName());
+                // time commits and rollbacks for the latency metrics while statistics are enabled
+                jtaEnvironmentBean.setTransactionManagerClassName(TimedTransactionManagerDelegate.class.getName());
+                jtaEnvironmentBean.setUserTransactionClassName(TimedUserTransaction.class.getName());
                 jtaEnvironmentBean.setTransactionSynchronizationRegistryClassName(com.arjuna.ats.internal.jta.transaction.arjunacore.TransactionSynchronizationRegistryImple.class.getName());
 
                 try {
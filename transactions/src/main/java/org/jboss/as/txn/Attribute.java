@@ -43,6 +43,7 @@ enum Attribute {
     RECOVERY_LISTENER("recovery-listener"),
     RELATIVE_TO("relative-to"),
     PATH("path"),
+    USE_HORNETQ_STORE("use-hornetq-store"),
     ;
     private final String name;
 
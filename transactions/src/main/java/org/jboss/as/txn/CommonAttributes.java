@@ -46,6 +46,8 @@ interface CommonAttributes {
     /** The process-id/socket attribute for max ports */
     String SOCKET_PROCESS_ID_MAX_PORTS = "max-ports";
     String STATUS_BINDING = "status-socket-binding";
+    /** Use the HornetQ journal based object store rather than one file per record */
+    String USE_HORNETQ_STORE = "use-hornetq-store";
     /** The process-id/uuid element */
     String UUID = "uuid";
     // TxStats
@@ -58,5 +60,10 @@ interface CommonAttributes {
     String NUMBER_OF_TIMED_OUT_TRANSACTIONS = "number-of-timed-out-transactions";
     String NUMBER_OF_APPLICATION_ROLLBACKS = "number-of-application-rollbacks";
     String NUMBER_OF_RESOURCE_ROLLBACKS = "number-of-resource-rollbacks";
+    // Transaction timings
+    String COMMIT_LATENCY = "commit-latency";
+    String RESOURCE_COMPLETION_LATENCY = "resource-completion-latency";
+    String ROLLBACK_LATENCY = "rollback-latency";
+    String INFLIGHT_TRANSACTIONS = "inflight-transactions";
     // TODO, process-id/mbean, process-id/file
 }
@@ -90,12 +90,21 @@ public class Descriptions {
         subsystem.get(ModelDescriptionConstants.ATTRIBUTES, CommonAttributes.OBJECT_STORE, ModelDescriptionConstants.VALUE_TYPE, ModelDescriptionConstants.PATH, ModelDescriptionConstants.DESCRIPTION).set(bundle.getString("object-store.path"));
         subsystem.get(ModelDescriptionConstants.ATTRIBUTES, CommonAttributes.OBJECT_STORE, ModelDescriptionConstants.VALUE_TYPE, ModelDescriptionConstants.PATH, ModelDescriptionConstants.TYPE).set(ModelType.STRING);
         subsystem.get(ModelDescriptionConstants.ATTRIBUTES, CommonAttributes.OBJECT_STORE, ModelDescriptionConstants.VALUE_TYPE, ModelDescriptionConstants.PATH, ModelDescriptionConstants.REQUIRED).set(false);
+        subsystem.get(ModelDescriptionConstants.ATTRIBUTES, CommonAttributes.OBJECT_STORE, ModelDescriptionConstants.VALUE_TYPE, CommonAttributes.USE_HORNETQ_STORE, ModelDescriptionConstants.DESCRIPTION).set(bundle.getString("object-store.use-hornetq-store"));
+        subsystem.get(ModelDescriptionConstants.ATTRIBUTES, CommonAttributes.OBJECT_STORE, ModelDescriptionConstants.VALUE_TYPE, CommonAttributes.USE_HORNETQ_STORE, ModelDescriptionConstants.TYPE).set(ModelType.BOOLEAN);
+        subsystem.get(ModelDescriptionConstants.ATTRIBUTES, CommonAttributes.OBJECT_STORE, ModelDescriptionConstants.VALUE_TYPE, CommonAttributes.USE_HORNETQ_STORE, ModelDescriptionConstants.REQUIRED).set(false);
+        subsystem.get(ModelDescriptionConstants.ATTRIBUTES, CommonAttributes.OBJECT_STORE, ModelDescriptionConstants.VALUE_TYPE, CommonAttributes.USE_HORNETQ_STORE, ModelDescriptionConstants.DEFAULT).set(false);
 
         for (TxStatsHandler.TxStat stat : EnumSet.allOf(TxStatsHandler.TxStat.class)) {
             String statString = stat.toString();
             subsystem.get(ModelDescriptionConstants.ATTRIBUTES, statString, ModelDescriptionConstants.DESCRIPTION).set(bundle.getString(statString));
             subsystem.get(ModelDescriptionConstants.ATTRIBUTES, statString, ModelDescriptionConstants.TYPE).set(ModelType.LONG);
         }
+        for (TxTimingsHandler.TxTiming timing : EnumSet.allOf(TxTimingsHandler.TxTiming.class)) {
+            String timingString = timing.toString();
+            subsystem.get(ModelDescriptionConstants.ATTRIBUTES, timingString, ModelDescriptionConstants.DESCRIPTION).set(bundle.getString(timingString));
+            subsystem.get(ModelDescriptionConstants.ATTRIBUTES, timingString, ModelDescriptionConstants.TYPE).set(ModelType.OBJECT);
+        }
 
         return subsystem;
     }
@@ -168,6 +177,10 @@ public class Descriptions {
         op.get(ModelDescriptionConstants.REQUEST_PROPERTIES, CommonAttributes.OBJECT_STORE, ModelDescriptionConstants.VALUE_TYPE, ModelDescriptionConstants.PATH, ModelDescriptionConstants.DESCRIPTION).set(bundle.getString("object-store.path"));
         op.get(ModelDescriptionConstants.REQUEST_PROPERTIES, CommonAttributes.OBJECT_STORE, ModelDescriptionConstants.VALUE_TYPE, ModelDescriptionConstants.PATH, ModelDescriptionConstants.TYPE).set(ModelType.STRING);
         op.get(ModelDescriptionConstants.REQUEST_PROPERTIES, CommonAttributes.OBJECT_STORE, ModelDescriptionConstants.VALUE_TYPE, ModelDescriptionConstants.PATH, ModelDescriptionConstants.REQUIRED).set(false);
+        op.get(ModelDescriptionConstants.REQUEST_PROPERTIES, CommonAttributes.OBJECT_STORE, ModelDescriptionConstants.VALUE_TYPE, CommonAttributes.USE_HORNETQ_STORE, ModelDescriptionConstants.DESCRIPTION).set(bundle.getString("object-store.use-hornetq-store"));
+        op.get(ModelDescriptionConstants.REQUEST_PROPERTIES, CommonAttributes.OBJECT_STORE, ModelDescriptionConstants.VALUE_TYPE, CommonAttributes.USE_HORNETQ_STORE, ModelDescriptionConstants.TYPE).set(ModelType.BOOLEAN);
+        op.get(ModelDescriptionConstants.REQUEST_PROPERTIES, CommonAttributes.OBJECT_STORE, ModelDescriptionConstants.VALUE_TYPE, CommonAttributes.USE_HORNETQ_STORE, ModelDescriptionConstants.REQUIRED).set(false);
+        op.get(ModelDescriptionConstants.REQUEST_PROPERTIES, CommonAttributes.OBJECT_STORE, ModelDescriptionConstants.VALUE_TYPE, CommonAttributes.USE_HORNETQ_STORE, ModelDescriptionConstants.DEFAULT).set(false);
 
         op.get(ModelDescriptionConstants.REPLY_PROPERTIES).setEmptyObject();
 
@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.txn;
+
+import javax.transaction.HeuristicMixedException;
+import javax.transaction.HeuristicRollbackException;
+import javax.transaction.NotSupportedException;
+import javax.transaction.RollbackException;
+import javax.transaction.SystemException;
+
+import com.arjuna.ats.internal.jta.transaction.arjunacore.UserTransactionImple;
+
+/**
+ * The JTA user transaction, which feeds {@link TransactionTimings} while coordinator statistics are enabled.
+ */
+public class TimedUserTransaction extends UserTransactionImple {
+
+    private static final long serialVersionUID = 4307620409212394361L;
+
+    @Override
+    public void begin() throws NotSupportedException, SystemException {
+        super.begin();
+        if (TransactionTimings.isEnabled()) {
+            TransactionTimings.INSTANCE.begun();
+        }
+    }
+
+    @Override
+    public void commit() throws RollbackException, HeuristicMixedException, HeuristicRollbackException, SecurityException,
+            IllegalStateException, SystemException {
+        if (!TransactionTimings.isEnabled()) {
+            super.commit();
+            return;
+        }
+        final long start = System.nanoTime();
+        TransactionTimings.INSTANCE.committing();
+        try {
+            super.commit();
+        } finally {
+            TransactionTimings.INSTANCE.committed(start);
+        }
+    }
+
+    @Override
+    public void rollback() throws IllegalStateException, SecurityException, SystemException {
+        if (!TransactionTimings.isEnabled()) {
+            super.rollback();
+            return;
+        }
+        final long start = System.nanoTime();
+        try {
+            super.rollback();
+        } finally {
+            TransactionTimings.INSTANCE.rolledBack(start);
+        }
+    }
+}
@@ -63,6 +63,7 @@ import static org.jboss.as.txn.CommonAttributes.ENABLE_STATISTICS;
 import static org.jboss.as.txn.CommonAttributes.ENABLE_TSM_STATUS;
 import static org.jboss.as.txn.CommonAttributes.NODE_IDENTIFIER;
 import static org.jboss.as.txn.CommonAttributes.OBJECT_STORE;
+import static org.jboss.as.txn.CommonAttributes.USE_HORNETQ_STORE;
 import static org.jboss.as.txn.CommonAttributes.PROCESS_ID;
 import static org.jboss.as.txn.CommonAttributes.RECOVERY_ENVIRONMENT;
 import static org.jboss.as.txn.CommonAttributes.RECOVERY_LISTENER;
@@ -100,6 +101,9 @@ public class TransactionExtension implements Extension {
         for (TxStatsHandler.TxStat stat : EnumSet.allOf(TxStatsHandler.TxStat.class)) {
             registration.registerMetric(stat.toString(), TxStatsHandler.INSTANCE);
         }
+        for (TxTimingsHandler.TxTiming timing : EnumSet.allOf(TxTimingsHandler.TxTiming.class)) {
+            registration.registerMetric(timing.toString(), TxTimingsHandler.INSTANCE);
+        }
         subsystem.registerXMLElementWriter(parser);
     }
 
@@ -192,6 +196,9 @@ public class TransactionExtension implements Extension {
                     case PATH:
                         store.get(PATH).set(value);
                         break;
+                    case USE_HORNETQ_STORE:
+                        store.get(USE_HORNETQ_STORE).set(Boolean.parseBoolean(value));
+                        break;
                     default:
                         throw unexpectedAttribute(reader, i);
                 }
@@ -427,6 +434,9 @@ public class TransactionExtension implements Extension {
                 if (has(env, PATH)) {
                     writeAttribute(writer, Attribute.PATH, env.get(PATH));
                 }
+                if (has(env, USE_HORNETQ_STORE)) {
+                    writeAttribute(writer, Attribute.USE_HORNETQ_STORE, env.get(USE_HORNETQ_STORE));
+                }
                 writer.writeEndElement();
             }
             writer.writeEndElement();
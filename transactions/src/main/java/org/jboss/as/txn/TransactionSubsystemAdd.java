@@ -96,6 +96,7 @@ class TransactionSubsystemAdd implements OperationStepHandler {
         final ModelNode objectStore = operation.get(OBJECT_STORE);
         final String objectStorePathRef = objectStore.hasDefined(RELATIVE_TO) ? objectStore.get(RELATIVE_TO).asString() : "jboss.server.data.dir";
         final String objectStorePath = objectStore.hasDefined(PATH) ? objectStore.get(PATH).asString() : "tx-object-store";
+        final boolean useHornetqStore = objectStore.get(USE_HORNETQ_STORE).asBoolean(false);
         final int maxPorts = 10;
         final int coordinatorDefaultTimeout = operation.get(COORDINATOR_ENVIRONMENT, DEFAULT_TIMEOUT).asInt(300);
         if(log.isDebugEnabled()) {
@@ -119,6 +120,7 @@ class TransactionSubsystemAdd implements OperationStepHandler {
         subModel.get(COORDINATOR_ENVIRONMENT, DEFAULT_TIMEOUT).set(coordinatorDefaultTimeout);  // store the default so we write it -- TODO store all the defaults
         subModel.get(OBJECT_STORE, RELATIVE_TO).set(operation.get(OBJECT_STORE, RELATIVE_TO));
         subModel.get(OBJECT_STORE,PATH).set(operation.get(OBJECT_STORE, PATH));
+        subModel.get(OBJECT_STORE, USE_HORNETQ_STORE).set(operation.get(OBJECT_STORE, USE_HORNETQ_STORE));
 
         boolean setReload = false;
         if (context.getType() == OperationContext.Type.SERVER) {
@@ -180,7 +182,7 @@ class TransactionSubsystemAdd implements OperationStepHandler {
                             // Configure the ObjectStoreEnvironmentBeans
                             ServiceController<String> objectStoreRPS = RelativePathService.addService(INTERNAL_OBJECTSTORE_PATH, objectStorePath, objectStorePathRef, target);
                             controllers.add(objectStoreRPS);
-                            final ArjunaObjectStoreEnvironmentService objStoreEnvironmentService = new ArjunaObjectStoreEnvironmentService();
+                            final ArjunaObjectStoreEnvironmentService objStoreEnvironmentService = new ArjunaObjectStoreEnvironmentService(useHornetqStore);
                             controllers.add(target.addService(TxnServices.JBOSS_TXN_ARJUNA_OBJECTSTORE_ENVIRONMENT, objStoreEnvironmentService)
                                     .addDependency(objectStoreRPS.getName(), String.class, objStoreEnvironmentService.getPathInjector())
                                     .addDependency(TxnServices.JBOSS_TXN_CORE_ENVIRONMENT)
@@ -0,0 +1,232 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.txn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.transaction.RollbackException;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.SystemException;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.as.controller.LatencyHistogram;
+import org.jboss.dmr.ModelNode;
+
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
+import com.arjuna.ats.internal.jta.transaction.arjunacore.TransactionImple;
+import com.arjuna.ats.internal.jta.transaction.arjunacore.TransactionSynchronizationRegistryImple;
+
+/**
+ * Timings of the transactions demarcated through the transaction manager and user transaction, kept while coordinator
+ * statistics are enabled. The setting is read as each transaction is demarcated, so changing it at runtime through the
+ * coordinator environment bean takes effect for the following transactions.
+ * <ul>
+ * <li>commit latency: the whole of a commit call, including synchronizations;</li>
+ * <li>resource completion latency: from the end of the synchronizations' beforeCompletion to afterCompletion, which
+ * is the prepare, log write and commit of the enlisted resources;</li>
+ * <li>rollback latency: the whole of a rollback call;</li>
+ * <li>the age of the transactions still in flight.</li>
+ * </ul>
+ * The timings are per transaction, not per enlisted XA resource: resources are enlisted by the resource adapters
+ * directly into the JBossTS transactions, which offer no hook to wrap them.
+ */
+final class TransactionTimings {
+
+    static final String TRANSACTION = "transaction";
+    static final String AGE = "age";
+    static final String STATUS = "status";
+    static final String OLDEST = "oldest";
+
+    /** The number of in-flight transactions listed by {@link #inflightToModelNode()}. */
+    private static final int INFLIGHT_LIMIT = 10;
+
+    static final TransactionTimings INSTANCE = new TransactionTimings();
+
+    private final LatencyHistogram commitLatency = new LatencyHistogram();
+    private final LatencyHistogram resourceCompletionLatency = new LatencyHistogram();
+    private final LatencyHistogram rollbackLatency = new LatencyHistogram();
+    private final ConcurrentMap<Transaction, Long> inflight = new ConcurrentHashMap<Transaction, Long>();
+    private final TransactionSynchronizationRegistry registry = new TransactionSynchronizationRegistryImple();
+
+    TransactionTimings() {
+    }
+
+    /**
+     * Are coordinator statistics currently enabled?
+     */
+    static boolean isEnabled() {
+        return arjPropertyManager.getCoordinatorEnvironmentBean().isEnableStatistics();
+    }
+
+    /**
+     * Called once a transaction has been begun on the current thread.
+     */
+    void begun() {
+        begun(TransactionImple.getTransaction());
+    }
+
+    /**
+     * Track the given transaction as in flight until it completes, however it completes.
+     */
+    void begun(final Transaction transaction) {
+        if (transaction == null) {
+            return;
+        }
+        inflight.put(transaction, Long.valueOf(System.nanoTime()));
+        try {
+            transaction.registerSynchronization(new InflightRemover(transaction));
+        } catch (RollbackException e) {
+            inflight.remove(transaction);
+        } catch (SystemException e) {
+            inflight.remove(transaction);
+        } catch (IllegalStateException e) {
+            inflight.remove(transaction);
+        }
+    }
+
+    /**
+     * Called right before the transaction of the current thread is committed.
+     */
+    void committing() {
+        if (TransactionImple.getTransaction() != null) {
+            try {
+                // registered last, so it runs after every other interposed synchronization, right before prepare
+                registry.registerInterposedSynchronization(new CompletionTimer());
+            } catch (IllegalStateException ignored) {
+                // marked for rollback or already completing, there is no resource completion to time
+            }
+        }
+    }
+
+    void committed(final long start) {
+        commitLatency.record(System.nanoTime() - start);
+    }
+
+    void rolledBack(final long start) {
+        rollbackLatency.record(System.nanoTime() - start);
+    }
+
+    ModelNode commitLatencyToModelNode() {
+        return commitLatency.toModelNode();
+    }
+
+    ModelNode resourceCompletionLatencyToModelNode() {
+        return resourceCompletionLatency.toModelNode();
+    }
+
+    ModelNode rollbackLatencyToModelNode() {
+        return rollbackLatency.toModelNode();
+    }
+
+    /**
+     * List the oldest transactions still in flight. Transactions leave the list when they complete; any whose
+     * completion was missed are dropped here.
+     */
+    ModelNode inflightToModelNode() {
+        final long now = System.nanoTime();
+        final List<Map.Entry<Transaction, Long>> entries = new ArrayList<Map.Entry<Transaction, Long>>(inflight.size());
+        for (Map.Entry<Transaction, Long> entry : inflight.entrySet()) {
+            if (isCompleted(entry.getKey())) {
+                inflight.remove(entry.getKey(), entry.getValue());
+            } else {
+                entries.add(entry);
+            }
+        }
+        Collections.sort(entries, new Comparator<Map.Entry<Transaction, Long>>() {
+            public int compare(final Map.Entry<Transaction, Long> o1, final Map.Entry<Transaction, Long> o2) {
+                return o1.getValue().compareTo(o2.getValue());
+            }
+        });
+
+        final ModelNode node = new ModelNode();
+        node.get(LatencyHistogram.COUNT).set(entries.size());
+        final ModelNode oldest = node.get(OLDEST).setEmptyList();
+        for (Map.Entry<Transaction, Long> entry : entries.subList(0, Math.min(INFLIGHT_LIMIT, entries.size()))) {
+            final ModelNode transaction = new ModelNode();
+            transaction.get(TRANSACTION).set(entry.getKey().toString());
+            transaction.get(AGE).set(TimeUnit.NANOSECONDS.toMillis(now - entry.getValue().longValue()));
+            transaction.get(STATUS).set(getStatus(entry.getKey()));
+            oldest.add(transaction);
+        }
+        return node;
+    }
+
+    private static boolean isCompleted(final Transaction transaction) {
+        try {
+            final int status = transaction.getStatus();
+            return status == Status.STATUS_NO_TRANSACTION || status == Status.STATUS_COMMITTED || status == Status.STATUS_ROLLEDBACK;
+        } catch (SystemException e) {
+            return true;
+        }
+    }
+
+    private static int getStatus(final Transaction transaction) {
+        try {
+            return transaction.getStatus();
+        } catch (SystemException e) {
+            return Status.STATUS_UNKNOWN;
+        }
+    }
+
+    /**
+     * Removes a transaction from the in-flight transactions when it completes, including when it is rolled back by
+     * the reaper.
+     */
+    private final class InflightRemover implements Synchronization {
+        private final Transaction transaction;
+
+        private InflightRemover(final Transaction transaction) {
+            this.transaction = transaction;
+        }
+
+        public void beforeCompletion() {
+        }
+
+        public void afterCompletion(final int status) {
+            inflight.remove(transaction);
+        }
+    }
+
+    private final class CompletionTimer implements Synchronization {
+        private long start;
+
+        public void beforeCompletion() {
+            start = System.nanoTime();
+        }
+
+        public void afterCompletion(final int status) {
+            if (start != 0) {
+                resourceCompletionLatency.record(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.txn;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.operations.validation.ParametersValidator;
+import org.jboss.as.controller.operations.validation.StringLengthValidator;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Handler for the transaction latency histograms and in-flight transaction metrics
+ */
+public class TxTimingsHandler implements OperationStepHandler {
+
+    public enum TxTiming {
+
+        COMMIT_LATENCY(CommonAttributes.COMMIT_LATENCY),
+        RESOURCE_COMPLETION_LATENCY(CommonAttributes.RESOURCE_COMPLETION_LATENCY),
+        ROLLBACK_LATENCY(CommonAttributes.ROLLBACK_LATENCY),
+        INFLIGHT_TRANSACTIONS(CommonAttributes.INFLIGHT_TRANSACTIONS);
+
+        private static final Map<String, TxTiming> MAP = new HashMap<String, TxTiming>();
+        static {
+            for (TxTiming timing : EnumSet.allOf(TxTiming.class)) {
+                MAP.put(timing.toString(), timing);
+            }
+        }
+        private final String stringForm;
+        private TxTiming(final String stringForm) {
+            this.stringForm = stringForm;
+        }
+
+        @Override
+        public final String toString() {
+            return stringForm;
+        }
+
+        public static TxTiming getTiming(final String stringForm) {
+            return MAP.get(stringForm);
+        }
+    }
+
+    public static final TxTimingsHandler INSTANCE = new TxTimingsHandler();
+
+    private final ParametersValidator validator = new ParametersValidator();
+
+    private TxTimingsHandler() {
+        validator.registerValidator(ModelDescriptionConstants.NAME, new StringLengthValidator(1));
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        validator.validate(operation);
+
+        TxTiming timing = TxTiming.getTiming(operation.require(ModelDescriptionConstants.NAME).asString());
+        if (timing == null) {
+            context.getFailureDescription().set(String.format("Unknown metric %s", operation.require(ModelDescriptionConstants.NAME).asString()));
+        }
+        else {
+            final TransactionTimings timings = TransactionTimings.INSTANCE;
+            switch (timing) {
+                case COMMIT_LATENCY:
+                    context.getResult().set(timings.commitLatencyToModelNode());
+                    break;
+                case RESOURCE_COMPLETION_LATENCY:
+                    context.getResult().set(timings.resourceCompletionLatencyToModelNode());
+                    break;
+                case ROLLBACK_LATENCY:
+                    context.getResult().set(timings.rollbackLatencyToModelNode());
+                    break;
+                case INFLIGHT_TRANSACTIONS:
+                    context.getResult().set(timings.inflightToModelNode());
+                    break;
+                default:
+                    throw new IllegalStateException(String.format("Unknown metric %s", timing));
+            }
+        }
+
+        context.completeStep();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.txn;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PATH;
+import static org.jboss.as.txn.CommonAttributes.OBJECT_STORE;
+import static org.jboss.as.txn.CommonAttributes.USE_HORNETQ_STORE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.as.controller.persistence.SubsystemMarshallingContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLExtendedStreamWriter;
+import org.jboss.staxmapper.XMLExtendedStreamWriterFactory;
+import org.jboss.staxmapper.XMLMapper;
+import org.junit.Test;
+
+/**
+ * Tests parsing and marshalling the object store configuration of the transactions subsystem.
+ */
+public class TransactionSubsystemParserTestCase {
+
+    private final TransactionExtension.TransactionSubsystemParser parser = new TransactionExtension.TransactionSubsystemParser();
+
+    @Test
+    public void testHornetqStore() throws Exception {
+        final ModelNode operation = parse(read("subsystem-hornetq-store.xml"));
+        assertTrue(operation.get(OBJECT_STORE, USE_HORNETQ_STORE).asBoolean());
+        assertEquals("tx-object-store", operation.get(OBJECT_STORE, PATH).asString());
+
+        final String marshalled = marshal(operation);
+        assertTrue(marshalled, marshalled.contains(Attribute.USE_HORNETQ_STORE.getLocalName() + "=\"true\""));
+        assertEquals(operation, parse(marshalled));
+    }
+
+    @Test
+    public void testDefaultStore() throws Exception {
+        final ModelNode operation = parse(read("subsystem-default-store.xml"));
+        assertFalse(operation.get(OBJECT_STORE).hasDefined(USE_HORNETQ_STORE));
+
+        final String marshalled = marshal(operation);
+        assertFalse(marshalled, marshalled.contains(Attribute.USE_HORNETQ_STORE.getLocalName()));
+        assertEquals(operation, parse(marshalled));
+    }
+
+    private ModelNode parse(final String xml) throws XMLStreamException {
+        final XMLMapper mapper = XMLMapper.Factory.create();
+        mapper.registerRootElement(new QName(Namespace.CURRENT.getUriString(), "subsystem"), parser);
+        final List<ModelNode> operations = new ArrayList<ModelNode>();
+        mapper.parseDocument(operations, XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(xml)));
+        assertEquals(1, operations.size());
+        return operations.get(0);
+    }
+
+    private String marshal(final ModelNode model) throws XMLStreamException {
+        final StringWriter out = new StringWriter();
+        final XMLExtendedStreamWriter writer = XMLExtendedStreamWriterFactory.create(XMLOutputFactory.newInstance().createXMLStreamWriter(out));
+        parser.writeContent(writer, new SubsystemMarshallingContext(model, writer));
+        writer.close();
+        return out.toString();
+    }
+
+    private String read(final String name) throws Exception {
+        final InputStream in = getClass().getResourceAsStream(name);
+        assertNotNull(name, in);
+        try {
+            final StringBuilder builder = new StringBuilder();
+            final byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                builder.append(new String(buffer, 0, read, "UTF-8"));
+            }
+            return builder.toString();
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.txn;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.transaction.RollbackException;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.Transaction;
+import javax.transaction.xa.XAResource;
+
+import org.jboss.as.controller.LatencyHistogram;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Tests of {@link TransactionTimings} and the {@link LatencyHistogram} it records into.
+ */
+public class TransactionTimingsTestCase {
+
+    @Test
+    public void testCompletedTransactionsLeaveInflight() {
+        final TransactionTimings timings = new TransactionTimings();
+        final MockTransaction committed = new MockTransaction();
+        final MockTransaction reaped = new MockTransaction();
+        final MockTransaction active = new MockTransaction();
+        timings.begun(committed);
+        timings.begun(reaped);
+        timings.begun(active);
+        assertEquals(3, timings.inflightToModelNode().get(LatencyHistogram.COUNT).asInt());
+
+        committed.complete(Status.STATUS_COMMITTED);
+        // rolled back by the reaper, without going through the transaction manager
+        reaped.complete(Status.STATUS_ROLLEDBACK);
+
+        final ModelNode inflight = timings.inflightToModelNode();
+        assertEquals(1, inflight.get(LatencyHistogram.COUNT).asInt());
+        assertEquals(active.toString(), inflight.get(TransactionTimings.OLDEST).get(0).get(TransactionTimings.TRANSACTION).asString());
+        assertEquals(Status.STATUS_ACTIVE, inflight.get(TransactionTimings.OLDEST).get(0).get(TransactionTimings.STATUS).asInt());
+    }
+
+    @Test
+    public void testRejectedSynchronizationIsNotTracked() {
+        final TransactionTimings timings = new TransactionTimings();
+        final MockTransaction transaction = new MockTransaction();
+        transaction.rollbackOnly = true;
+        timings.begun(transaction);
+        timings.begun(null);
+        assertEquals(0, timings.inflightToModelNode().get(LatencyHistogram.COUNT).asInt());
+    }
+
+    @Test
+    public void testInflightListIsBounded() {
+        final TransactionTimings timings = new TransactionTimings();
+        final List<MockTransaction> transactions = new ArrayList<MockTransaction>();
+        for (int i = 0; i < 25; i++) {
+            final MockTransaction transaction = new MockTransaction();
+            transactions.add(transaction);
+            timings.begun(transaction);
+        }
+        final ModelNode inflight = timings.inflightToModelNode();
+        assertEquals(25, inflight.get(LatencyHistogram.COUNT).asInt());
+        assertEquals(10, inflight.get(TransactionTimings.OLDEST).asList().size());
+
+        for (MockTransaction transaction : transactions) {
+            transaction.complete(Status.STATUS_COMMITTED);
+        }
+        assertEquals(0, timings.inflightToModelNode().get(LatencyHistogram.COUNT).asInt());
+    }
+
+    @Test
+    public void testCommitAndRollbackLatency() {
+        final TransactionTimings timings = new TransactionTimings();
+        timings.committed(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(3));
+        timings.committed(System.nanoTime());
+        timings.rolledBack(System.nanoTime());
+        assertEquals(2, timings.commitLatencyToModelNode().get(LatencyHistogram.COUNT).asLong());
+        assertEquals(1, timings.rollbackLatencyToModelNode().get(LatencyHistogram.COUNT).asLong());
+        assertEquals(0, timings.resourceCompletionLatencyToModelNode().get(LatencyHistogram.COUNT).asLong());
+        assertTrue(timings.commitLatencyToModelNode().get(LatencyHistogram.MAX).asDouble() >= 3.0);
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        ModelNode node = histogram.toModelNode();
+        assertEquals(0, node.get(LatencyHistogram.COUNT).asLong());
+        assertEquals(0.0, node.get(LatencyHistogram.P99).asDouble(), 0.0);
+
+        // 90 samples of 200us, 10 of 20ms
+        for (int i = 0; i < 90; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(200));
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(20));
+        }
+        node = histogram.toModelNode();
+        assertEquals(100, node.get(LatencyHistogram.COUNT).asLong());
+        assertEquals(20.0, node.get(LatencyHistogram.MAX).asDouble(), 0.0);
+        assertEquals(2.18, node.get(LatencyHistogram.MEAN).asDouble(), 0.001);
+        // percentiles are the upper bound of their bucket, capped at the largest sample
+        assertEquals(0.25, node.get(LatencyHistogram.P50).asDouble(), 0.0);
+        assertEquals(0.25, node.get(LatencyHistogram.P90).asDouble(), 0.0);
+        assertEquals(20.0, node.get(LatencyHistogram.P99).asDouble(), 0.0);
+        assertEquals(90, node.get(LatencyHistogram.BUCKETS, "0.25").asLong());
+        assertEquals(10, node.get(LatencyHistogram.BUCKETS, "25.0").asLong());
+        assertEquals(0, node.get(LatencyHistogram.BUCKETS, "+Inf").asLong());
+    }
+
+    private static final class MockTransaction implements Transaction {
+        private final List<Synchronization> synchronizations = new ArrayList<Synchronization>();
+        private int status = Status.STATUS_ACTIVE;
+        private boolean rollbackOnly;
+
+        void complete(final int status) {
+            this.status = status;
+            for (Synchronization synchronization : synchronizations) {
+                synchronization.afterCompletion(status);
+            }
+        }
+
+        public void registerSynchronization(final Synchronization synchronization) throws RollbackException {
+            if (rollbackOnly) {
+                throw new RollbackException();
+            }
+            synchronizations.add(synchronization);
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public void commit() {
+            complete(Status.STATUS_COMMITTED);
+        }
+
+        public void rollback() {
+            complete(Status.STATUS_ROLLEDBACK);
+        }
+
+        public void setRollbackOnly() {
+            rollbackOnly = true;
+        }
+
+        public boolean enlistResource(final XAResource resource) {
+            return false;
+        }
+
+        public boolean delistResource(final XAResource resource, final int flag) {
+            return false;
+        }
+    }
+}
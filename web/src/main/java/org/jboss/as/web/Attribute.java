@@ -33,6 +33,10 @@ enum Attribute {
 
     CA_CERTIFICATE_FILE(Constants.CA_CERTIFICATE_FILE),
     CA_REVOCATION_URL(Constants.CA_REVOCATION_URL),
+    CACHE_MAX_SIZE(Constants.CACHE_MAX_SIZE),
+    CACHE_OBJECT_MAX_SIZE(Constants.CACHE_OBJECT_MAX_SIZE),
+    CACHE_TTL(Constants.CACHE_TTL),
+    CACHING_ALLOWED(Constants.CACHING_ALLOWED),
     CERTIFICATE_FILE(Constants.CERTIFICATE_FILE),
     CERTIFICATE_KEY_FILE(Constants.CERTIFICATE_KEY_FILE),
     CHECK_INTERVAL(Constants.CHECK_INTERVAL),
@@ -67,6 +71,7 @@ enum Attribute {
     PASSWORD(Constants.PASSWORD),
     PATH(Constants.PATH),
     PATTERN(Constants.PATTERN),
+    PRECOMPILE(Constants.PRECOMPILE),
     PREFIX(Constants.PREFIX),
     PROTOCOL(Constants.PROTOCOL),
     PROXY_NAME(Constants.PROXY_NAME),
@@ -74,6 +79,7 @@ enum Attribute {
     READ_ONLY(Constants.READ_ONLY),
     REDIRECT_PORT(Constants.REDIRECT_PORT),
     RECOMPILE_ON_FAIL(Constants.RECOMPILE_ON_FAIL),
+    RESPONSE_TIME_HISTOGRAMS(Constants.RESPONSE_TIME_HISTOGRAMS),
     RELATIVE_TO(Constants.RELATIVE_TO),
     RESOLVE_HOSTS(Constants.RESOLVE_HOSTS),
     ROTATE(Constants.ROTATE),
@@ -0,0 +1,97 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.web;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.ServletException;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.jboss.as.controller.LatencyHistogram;
+
+/**
+ * An engine valve keeping the request statistics of each connector added to the web server.
+ */
+class ConnectorStatisticsValve extends ValveBase {
+
+    private final ConcurrentMap<Connector, ConnectorStatistics> connectors = new ConcurrentHashMap<Connector, ConnectorStatistics>();
+
+    @Override
+    public void invoke(final Request request, final Response response) throws IOException, ServletException {
+        final ConnectorStatistics statistics = connectors.get(request.getConnector());
+        if (statistics == null) {
+            getNext().invoke(request, response);
+            return;
+        }
+        statistics.activeRequests.incrementAndGet();
+        final long start = System.nanoTime();
+        try {
+            getNext().invoke(request, response);
+        } finally {
+            statistics.requestTimes.record(System.nanoTime() - start);
+            statistics.activeRequests.decrementAndGet();
+        }
+    }
+
+    void addConnector(final Connector connector) {
+        connectors.putIfAbsent(connector, new ConnectorStatistics());
+    }
+
+    void removeConnector(final Connector connector) {
+        connectors.remove(connector);
+    }
+
+    /**
+     * @return the statistics of the connector, or {@code null} if it was not added to the web server
+     */
+    ConnectorStatistics getStatistics(final Connector connector) {
+        return connectors.get(connector);
+    }
+
+    static final class ConnectorStatistics {
+
+        private final AtomicInteger activeRequests = new AtomicInteger();
+        private final LatencyHistogram requestTimes = new LatencyHistogram();
+
+        /**
+         * @return the number of requests the connector is processing
+         */
+        int getActiveRequests() {
+            return activeRequests.get();
+        }
+
+        /**
+         * @return the times taken by the requests of the connector, from the engine to the response
+         */
+        LatencyHistogram getRequestTimes() {
+            return requestTimes;
+        }
+    }
+}
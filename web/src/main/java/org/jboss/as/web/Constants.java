@@ -29,6 +29,10 @@ interface Constants {
 
     String ACCESS_LOG = "access-log";
     String ALIAS = "alias";
+    String CACHE_MAX_SIZE = "cache-max-size";
+    String CACHE_OBJECT_MAX_SIZE = "cache-object-max-size";
+    String CACHE_TTL = "cache-ttl";
+    String CACHING_ALLOWED = "caching-allowed";
     String CA_CERTIFICATE_FILE = "ca-certificate-file";
     String CA_REVOCATION_URL = "ca-revocation-url";
     String CERTIFICATE_FILE = "certificate-file";
@@ -71,6 +75,7 @@ interface Constants {
     String PASSWORD = "password";
     String PATH = "path";
     String PATTERN = "pattern";
+    String PRECOMPILE = "precompile";
     String PREFIX = "prefix";
     String PROTOCOL = "protocol";
     String PROXY_NAME = "proxy-name";
@@ -80,6 +85,7 @@ interface Constants {
     String REDIRECT_PORT = "redirect-port";
     String RELATIVE_TO = "relative-to";
     String RESOLVE_HOSTS = "resolve-hosts";
+    String RESPONSE_TIME_HISTOGRAMS = "response-time-histograms";
     String REWRITE = "rewrite";
     String ROTATE = "rotate";
     String SCHEME = "scheme";
@@ -55,6 +55,7 @@ public class DefaultJspConfig {
         defaults.put(Constants.TARGET_VM, new ModelNode().set("1.5"));
         defaults.put(Constants.JAVA_ENCODING, new ModelNode().set("UTF8"));
         defaults.put(Constants.DISPLAY_SOURCE_FRAGMENT, new ModelNode().set(true));
+        defaults.put(Constants.PRECOMPILE, new ModelNode().set(false));
     }
 
     static ModelNode getDefaultStaticResource() {
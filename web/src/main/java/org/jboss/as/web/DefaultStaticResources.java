@@ -43,6 +43,10 @@ public class DefaultStaticResources {
         defaults.put(Constants.WEBDAV, new ModelNode().set(false));
         defaults.put(Constants.MAX_DEPTH, new ModelNode().set(3));
         defaults.put(Constants.DISABLED, new ModelNode().set(false));
+        defaults.put(Constants.CACHING_ALLOWED, new ModelNode().set(true));
+        defaults.put(Constants.CACHE_MAX_SIZE, new ModelNode().set(10240));
+        defaults.put(Constants.CACHE_OBJECT_MAX_SIZE, new ModelNode().set(512));
+        defaults.put(Constants.CACHE_TTL, new ModelNode().set(5000));
     }
 
     static ModelNode getDefaultStaticResource() {
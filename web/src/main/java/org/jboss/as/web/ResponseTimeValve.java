@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.web;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.servlet.ServletException;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.Valve;
+import org.apache.catalina.Wrapper;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.jboss.as.controller.LatencyHistogram;
+
+/**
+ * A valve recording the response times of a web context, and of each servlet it dispatches to, in
+ * {@link LatencyHistogram}s. Only installed when the subsystem enables response time histograms.
+ */
+public class ResponseTimeValve extends ValveBase {
+
+    private final LatencyHistogram contextTimes = new LatencyHistogram();
+    private final ConcurrentMap<String, LatencyHistogram> servletTimes = new ConcurrentHashMap<String, LatencyHistogram>();
+
+    @Override
+    public void invoke(final Request request, final Response response) throws IOException, ServletException {
+        final long start = System.nanoTime();
+        try {
+            getNext().invoke(request, response);
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            contextTimes.record(elapsed);
+            final Wrapper wrapper = request.getWrapper();
+            if (wrapper != null) {
+                getOrCreateServletTimes(wrapper.getName()).record(elapsed);
+            }
+        }
+    }
+
+    /**
+     * @return the response times of all requests to the context
+     */
+    public LatencyHistogram getContextTimes() {
+        return contextTimes;
+    }
+
+    /**
+     * @param servletName the servlet name
+     * @return the response times of the requests dispatched to the given servlet, or {@code null} if no request has
+     *         been dispatched to it
+     */
+    public LatencyHistogram getServletTimes(final String servletName) {
+        return servletTimes.get(servletName);
+    }
+
+    private LatencyHistogram getOrCreateServletTimes(final String servletName) {
+        LatencyHistogram histogram = servletTimes.get(servletName);
+        if (histogram == null) {
+            final LatencyHistogram created = new LatencyHistogram();
+            histogram = servletTimes.putIfAbsent(servletName, created);
+            if (histogram == null) {
+                histogram = created;
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Find the response time valve of a context.
+     *
+     * @param context the context
+     * @return the valve, or {@code null} if response times are not recorded for the context
+     */
+    public static ResponseTimeValve getValve(final Context context) {
+        for (final Valve valve : context.getPipeline().getValves()) {
+            if (valve instanceof ResponseTimeValve) {
+                return (ResponseTimeValve) valve;
+            }
+        }
+        return null;
+    }
+}
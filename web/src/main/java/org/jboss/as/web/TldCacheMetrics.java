@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2010, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.web.deployment.TldCache;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Metrics of the TLD metadata cache shared by the web deployments.
+ */
+class TldCacheMetrics implements OperationStepHandler {
+
+    static final TldCacheMetrics INSTANCE = new TldCacheMetrics();
+
+    static final String HIT_COUNT = "tld-cache-hit-count";
+    static final String MISS_COUNT = "tld-cache-miss-count";
+    static final String SIZE = "tld-cache-size";
+    static final String[] ATTRIBUTES = new String[] {HIT_COUNT, MISS_COUNT, SIZE};
+
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        if (context.getType() == OperationContext.Type.SERVER) {
+            context.addStep(new OperationStepHandler() {
+                public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                    final String attributeName = operation.require(NAME).asString();
+                    final ServiceController<?> controller = context.getServiceRegistry(false).getService(WebSubsystemServices.JBOSS_WEB_TLD_CACHE);
+                    if (controller != null && controller.getState() == ServiceController.State.UP) {
+                        final TldCache cache = (TldCache) controller.getValue();
+                        final ModelNode result = context.getResult();
+                        if (HIT_COUNT.equals(attributeName)) {
+                            result.set(cache.getHitCount());
+                        } else if (MISS_COUNT.equals(attributeName)) {
+                            result.set(cache.getMissCount());
+                        } else if (SIZE.equals(attributeName)) {
+                            result.set(cache.getSize());
+                        }
+                    } else {
+                        context.getResult().set("no metrics available");
+                    }
+                    context.completeStep();
+                }
+            }, OperationContext.Stage.RUNTIME);
+        } else {
+            context.getResult().set("no metrics available");
+        }
+        context.completeStep();
+    }
+}
@@ -22,12 +22,15 @@
 
 package org.jboss.as.web;
 
+import java.lang.reflect.Method;
+
 import org.apache.catalina.connector.Connector;
 import org.apache.coyote.RequestGroupInfo;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
+import org.jboss.as.web.ConnectorStatisticsValve.ConnectorStatistics;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import org.jboss.dmr.ModelNode;
@@ -47,7 +50,13 @@ class WebConnectorMetrics implements OperationStepHandler {
     private static final String ERROR_COUNT = "errorCount";
     private static final String MAX_TIME = "maxTime";
     private static final String REQUEST_COUNT = "requestCount";
-    static final String[] ATTRIBUTES = new String[] {BYTES_SENT, BYTES_RECEIVED, PROCESSING_TIME, ERROR_COUNT, MAX_TIME, REQUEST_COUNT};
+    // requests in flight through the engine, idle keep-alive connections are not counted
+    static final String ACTIVE_REQUESTS = "activeRequests";
+    // the accept queue is held by the kernel, only its configured length can be read
+    static final String CONFIGURED_BACKLOG = "configuredBacklog";
+    static final String REQUEST_TIME = "requestTime";
+    static final String[] ATTRIBUTES = new String[] {BYTES_SENT, BYTES_RECEIVED, PROCESSING_TIME, ERROR_COUNT, MAX_TIME, REQUEST_COUNT,
+            ACTIVE_REQUESTS, CONFIGURED_BACKLOG, REQUEST_TIME};
 
     public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
         if (context.getType() == OperationContext.Type.SERVER) {
@@ -63,7 +72,29 @@ class WebConnectorMetrics implements OperationStepHandler {
                         try {
                             final Connector connector = (Connector) controller.getValue();
                             final ModelNode result = context.getResult();
-                            if (connector.getProtocolHandler() != null && connector.getProtocolHandler().getRequestGroupInfo() != null) {
+                            if (ACTIVE_REQUESTS.equals(attributeName) || REQUEST_TIME.equals(attributeName)) {
+                                final ConnectorStatistics statistics = getStatistics(context, connector);
+                                if (statistics == null) {
+                                    result.set("no metrics available");
+                                } else if (ACTIVE_REQUESTS.equals(attributeName)) {
+                                    result.set(statistics.getActiveRequests());
+                                } else {
+                                    result.set(statistics.getRequestTimes().toModelNode());
+                                }
+                            } else if (CONFIGURED_BACKLOG.equals(attributeName)) {
+                                // Only some protocol handlers report it
+                                final Object handler = connector.getProtocolHandler();
+                                if (handler == null) {
+                                    result.set("no metrics available");
+                                } else {
+                                    try {
+                                        final Method m = handler.getClass().getMethod("getBacklog");
+                                        result.set(((Number) m.invoke(handler)).intValue());
+                                    } catch (NoSuchMethodException e) {
+                                        result.set("no metrics available");
+                                    }
+                                }
+                            } else if (connector.getProtocolHandler() != null && connector.getProtocolHandler().getRequestGroupInfo() != null) {
                                 RequestGroupInfo info = connector.getProtocolHandler().getRequestGroupInfo();
                                 if (BYTES_SENT.equals(attributeName)) {
                                     result.set("" + info.getBytesSent());
@@ -93,4 +124,12 @@ class WebConnectorMetrics implements OperationStepHandler {
         }
         context.completeStep();
     }
+
+    private static ConnectorStatistics getStatistics(final OperationContext context, final Connector connector) {
+        final ServiceController<?> controller = context.getServiceRegistry(false).getService(WebSubsystemServices.JBOSS_WEB);
+        if (controller == null || controller.getState() != ServiceController.State.UP) {
+            return null;
+        }
+        return ((WebServerService) controller.getService()).getConnectorStatistics(connector);
+    }
 }
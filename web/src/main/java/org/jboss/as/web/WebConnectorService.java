@@ -85,6 +85,9 @@ class WebConnectorService implements Service<Connector> {
         try {
             // Create connector
             final Connector connector = new Connector(protocol);
+            if (connector.getProtocolHandler() == null) {
+                throw new StartException("Protocol " + protocol + " is not supported by the web container");
+            }
             connector.setPort(address.getPort());
             connector.setScheme(scheme);
             if(enableLookups != null) connector.setEnableLookups(enableLookups);
@@ -63,6 +63,9 @@ public class WebExtension implements Extension {
         registration.registerOperationHandler(ADD, WebSubsystemAdd.INSTANCE, WebSubsystemAdd.INSTANCE, false);
         registration.registerOperationHandler(DESCRIBE, WebSubsystemDescribe.INSTANCE, WebSubsystemDescribe.INSTANCE, false, OperationEntry.EntryType.PRIVATE);
         subsystem.registerXMLElementWriter(WebSubsystemParser.getInstance());
+        for (final String attributeName : TldCacheMetrics.ATTRIBUTES) {
+            registration.registerMetric(attributeName, TldCacheMetrics.INSTANCE);
+        }
         // connector
         final ManagementResourceRegistration connectors = registration.registerSubModel(connectorPath, WebSubsystemDescriptionProviders.CONNECTOR);
         connectors.registerOperationHandler(ADD, WebConnectorAdd.INSTANCE, WebConnectorAdd.INSTANCE, false);
@@ -83,6 +86,7 @@ public class WebExtension implements Extension {
         };
         final ManagementResourceRegistration deployments = subsystem.registerDeploymentModel(NULL);
         final ManagementResourceRegistration servlets = deployments.registerSubModel(PathElement.pathElement("servlet"), NULL);
+        ServletDeploymentStats.registerDeployment(deployments);
         ServletDeploymentStats.register(servlets);
     }
 
@@ -42,6 +42,7 @@ class WebServerService implements WebServer, Service<WebServer> {
 
     private final String defaultHost;
     private final boolean useNative;
+    private final ConnectorStatisticsValve connectorStatistics = new ConnectorStatisticsValve();
 
     private Engine engine;
     private StandardServer server;
@@ -77,6 +78,7 @@ class WebServerService implements WebServer, Service<WebServer> {
         engine.setName(JBOSS_WEB);
         engine.setService(service);
         engine.setDefaultHost(defaultHost);
+        engine.getPipeline().addValve(connectorStatistics);
 
         service.setContainer(engine);
 
@@ -118,6 +120,7 @@ class WebServerService implements WebServer, Service<WebServer> {
     /** {@inheritDoc} */
     public synchronized void addConnector(Connector connector) {
         final StandardService service = this.service;
+        connectorStatistics.addConnector(connector);
         service.addConnector(connector);
     }
 
@@ -125,6 +128,7 @@ class WebServerService implements WebServer, Service<WebServer> {
     public synchronized void removeConnector(Connector connector) {
         final StandardService service = this.service;
         service.removeConnector(connector);
+        connectorStatistics.removeConnector(connector);
     }
 
     /** {@inheritDoc} */
@@ -139,6 +143,13 @@ class WebServerService implements WebServer, Service<WebServer> {
         engine.removeChild(host);
     }
 
+    /**
+     * @return the request statistics of the connector, or {@code null} if it was not added to this server
+     */
+    ConnectorStatisticsValve.ConnectorStatistics getConnectorStatistics(final Connector connector) {
+        return connectorStatistics.getStatistics(connector);
+    }
+
     InjectedValue<MBeanServer> getMbeanServer() {
         return mbeanServer;
     }
@@ -25,6 +25,7 @@ package org.jboss.as.web;
 import javax.management.MBeanServer;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ThreadFactory;
 
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.OperationContext;
@@ -35,9 +36,14 @@ import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.as.server.deployment.Phase;
 import org.jboss.as.server.services.path.AbstractPathService;
+import org.jboss.as.threads.ThreadFactoryService;
+import org.jboss.as.threads.TimeSpec;
+import org.jboss.as.threads.UnboundedQueueThreadPoolService;
 import org.jboss.as.web.deployment.EarContextRootProcessor;
 import org.jboss.as.web.deployment.JBossWebParsingDeploymentProcessor;
+import org.jboss.as.web.deployment.ResourceCacheConfig;
 import org.jboss.as.web.deployment.ServletContainerInitializerDeploymentProcessor;
+import org.jboss.as.web.deployment.TldCache;
 import org.jboss.as.web.deployment.TldParsingDeploymentProcessor;
 import org.jboss.as.web.deployment.WarAnnotationDeploymentProcessor;
 import org.jboss.as.web.deployment.WarClassloadingDependencyProcessor;
@@ -57,6 +63,8 @@ import org.jboss.msc.service.ServiceBuilder.DependencyType;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceController.Mode;
 import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ValueService;
+import org.jboss.msc.value.ImmediateValue;
 
 /**
  * Adds the web subsystem.
@@ -68,6 +76,7 @@ class WebSubsystemAdd extends AbstractBoottimeAddStepHandler implements Descript
     static final WebSubsystemAdd INSTANCE = new WebSubsystemAdd();
     private static final String DEFAULT_VIRTUAL_SERVER = "localhost";
     private static final boolean DEFAULT_NATIVE = true;
+    private static final boolean DEFAULT_RESPONSE_TIME_HISTOGRAMS = false;
     private static final String TEMP_DIR = "jboss.server.temp.dir";
 
     private WebSubsystemAdd() {
@@ -76,6 +85,12 @@ class WebSubsystemAdd extends AbstractBoottimeAddStepHandler implements Descript
 
     protected void populateModel(ModelNode operation, ModelNode model) {
 
+        for (final String attribute : new String[] { Constants.NATIVE, Constants.DEFAULT_VIRTUAL_SERVER, Constants.RESPONSE_TIME_HISTOGRAMS }) {
+            if (operation.hasDefined(attribute)) {
+                model.get(attribute).set(operation.get(attribute));
+            }
+        }
+
         ModelNode ourContainerConfig = new ModelNode();
 
         ModelNode ourStaticResources = DefaultStaticResources.getDefaultStaticResource();
@@ -92,8 +107,8 @@ class WebSubsystemAdd extends AbstractBoottimeAddStepHandler implements Descript
         }
         if (opConfig.hasDefined(Constants.JSP_CONFIGURATION)) {
             for (Property prop : opConfig.get(Constants.JSP_CONFIGURATION).asPropertyList()) {
-                ModelNode val = DefaultStaticResources.getDefaultIfUndefined(prop.getName(), prop.getValue());
-                ourStaticResources.get(prop.getName()).set(val);
+                ModelNode val = DefaultJspConfig.getDefaultIfUndefined(prop.getName(), prop.getValue());
+                ourJspConfig.get(prop.getName()).set(val);
             }
         }
         if (opConfig.hasDefined(Constants.MIME_MAPPING)) {
@@ -117,6 +132,17 @@ class WebSubsystemAdd extends AbstractBoottimeAddStepHandler implements Descript
                 operation.get(Constants.DEFAULT_VIRTUAL_SERVER).asString() : DEFAULT_VIRTUAL_SERVER;
         final boolean useNative = operation.hasDefined(Constants.NATIVE) ?
                 operation.get(Constants.NATIVE).asBoolean() : DEFAULT_NATIVE;
+        final boolean responseTimeHistograms = operation.hasDefined(Constants.RESPONSE_TIME_HISTOGRAMS) ?
+                operation.get(Constants.RESPONSE_TIME_HISTOGRAMS).asBoolean() : DEFAULT_RESPONSE_TIME_HISTOGRAMS;
+        final boolean precompileJsps = config.hasDefined(Constants.JSP_CONFIGURATION)
+                && config.get(Constants.JSP_CONFIGURATION).get(Constants.PRECOMPILE).asBoolean(false);
+        final ResourceCacheConfig resourceCacheConfig = new ResourceCacheConfig(
+                getStaticResourcesAttribute(config, Constants.CACHING_ALLOWED).asBoolean(),
+                getStaticResourcesAttribute(config, Constants.CACHE_MAX_SIZE).asInt(),
+                getStaticResourcesAttribute(config, Constants.CACHE_OBJECT_MAX_SIZE).asInt(),
+                getStaticResourcesAttribute(config, Constants.CACHE_TTL).asInt());
+
+        final TldCache tldCache = new TldCache();
 
         context.addStep(new AbstractDeploymentChainStep() {
             protected void execute(DeploymentProcessorTarget processorTarget) {
@@ -128,7 +154,7 @@ class WebSubsystemAdd extends AbstractBoottimeAddStepHandler implements Descript
                 processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_WEB_DEPLOYMENT, new WebParsingDeploymentProcessor());
                 processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_WEB_DEPLOYMENT_FRAGMENT, new WebFragmentParsingDeploymentProcessor());
                 processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_JBOSS_WEB_DEPLOYMENT, new JBossWebParsingDeploymentProcessor());
-                processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_TLD_DEPLOYMENT, new TldParsingDeploymentProcessor());
+                processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_TLD_DEPLOYMENT, new TldParsingDeploymentProcessor(tldCache));
                 processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_ANNOTATION_WAR, new WarAnnotationDeploymentProcessor());
                 processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_WEB_COMPONENTS, new WebComponentProcessor());
                 processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.PARSE_EAR_CONTEXT_ROOT, new EarContextRootProcessor());
@@ -139,7 +165,7 @@ class WebSubsystemAdd extends AbstractBoottimeAddStepHandler implements Descript
                 processorTarget.addDeploymentProcessor(Phase.PARSE, Phase.POST_MODULE_JSF_MANAGED_BEANS, new JsfManagedBeanProcessor());
                 processorTarget.addDeploymentProcessor(Phase.INSTALL, Phase.INSTALL_SERVLET_INIT_DEPLOYMENT, new ServletContainerInitializerDeploymentProcessor());
                 processorTarget.addDeploymentProcessor(Phase.INSTALL, Phase.INSTALL_JSF_ANNOTATIONS, new JsfAnnotationProcessor());
-                processorTarget.addDeploymentProcessor(Phase.INSTALL, Phase.INSTALL_WAR_DEPLOYMENT, new WarDeploymentProcessor(defaultVirtualServer));
+                processorTarget.addDeploymentProcessor(Phase.INSTALL, Phase.INSTALL_WAR_DEPLOYMENT, new WarDeploymentProcessor(defaultVirtualServer, precompileJsps, responseTimeHistograms, resourceCacheConfig));
             }
         }, OperationContext.Stage.RUNTIME);
 
@@ -149,9 +175,34 @@ class WebSubsystemAdd extends AbstractBoottimeAddStepHandler implements Descript
                 .addDependency(DependencyType.OPTIONAL, ServiceName.JBOSS.append("mbean", "server"), MBeanServer.class, service.getMbeanServer())
                 .setInitialMode(Mode.ON_DEMAND)
                 .install());
+        newControllers.add(context.getServiceTarget().addService(WebSubsystemServices.JBOSS_WEB_TLD_CACHE,
+                new ValueService<TldCache>(new ImmediateValue<TldCache>(tldCache)))
+                .install());
+        if (precompileJsps) {
+            final ServiceName threadFactoryName = WebSubsystemServices.JBOSS_WEB_JSP_PRECOMPILER.append("thread-factory");
+            final ThreadFactoryService threadFactory = new ThreadFactoryService();
+            threadFactory.setThreadGroupName("jsp-precompiler");
+            threadFactory.setNamePattern("%G - %t");
+            newControllers.add(context.getServiceTarget().addService(threadFactoryName, threadFactory)
+                    .setInitialMode(Mode.ON_DEMAND)
+                    .install());
+            final UnboundedQueueThreadPoolService executor = new UnboundedQueueThreadPoolService(
+                    Runtime.getRuntime().availableProcessors(), TimeSpec.DEFAULT_KEEPALIVE);
+            newControllers.add(context.getServiceTarget().addService(WebSubsystemServices.JBOSS_WEB_JSP_PRECOMPILER, executor)
+                    .addDependency(threadFactoryName, ThreadFactory.class, executor.getThreadFactoryInjector())
+                    .setInitialMode(Mode.ON_DEMAND)
+                    .install());
+        }
 
     }
 
+    private static ModelNode getStaticResourcesAttribute(final ModelNode config, final String name) {
+        if (config.hasDefined(Constants.STATIC_RESOURCES) && config.get(Constants.STATIC_RESOURCES).hasDefined(name)) {
+            return config.get(Constants.STATIC_RESOURCES, name);
+        }
+        return DefaultStaticResources.getDefaultIfUndefined(name, new ModelNode());
+    }
+
     protected boolean requiresRuntimeVerification() {
         return false;
     }
@@ -50,6 +50,11 @@ class WebSubsystemDescribe implements OperationStepHandler, DescriptionProvider
         final ModelNode subsystemAdd = new ModelNode();
         subsystemAdd.get(OP).set(ADD);
         subsystemAdd.get(OP_ADDR).set(rootAddress.toModelNode());
+        for (final String attribute : new String[] { Constants.NATIVE, Constants.DEFAULT_VIRTUAL_SERVER, Constants.RESPONSE_TIME_HISTOGRAMS }) {
+            if (subModel.hasDefined(attribute)) {
+                subsystemAdd.get(attribute).set(subModel.get(attribute));
+            }
+        }
         if (subModel.hasDefined(Constants.CONTAINER_CONFIG)) {
             subsystemAdd.get(Constants.CONTAINER_CONFIG).set(subModel.get(Constants.CONTAINER_CONFIG));
         }
@@ -59,6 +59,16 @@ class WebSubsystemDescriptions {
         node.get(ATTRIBUTES, Constants.NATIVE, REQUIRED).set(false);
         node.get(ATTRIBUTES, Constants.NATIVE, DEFAULT).set(true);
 
+        node.get(ATTRIBUTES, Constants.RESPONSE_TIME_HISTOGRAMS, TYPE).set(ModelType.BOOLEAN);
+        node.get(ATTRIBUTES, Constants.RESPONSE_TIME_HISTOGRAMS, DESCRIPTION).set(bundle.getString("web.response-time-histograms"));
+        node.get(ATTRIBUTES, Constants.RESPONSE_TIME_HISTOGRAMS, REQUIRED).set(false);
+        node.get(ATTRIBUTES, Constants.RESPONSE_TIME_HISTOGRAMS, DEFAULT).set(false);
+
+        for (String metric : TldCacheMetrics.ATTRIBUTES) {
+            node.get(ATTRIBUTES, metric, TYPE).set(metric.equals(TldCacheMetrics.SIZE) ? ModelType.INT : ModelType.LONG);
+            node.get(ATTRIBUTES, metric, DESCRIPTION).set(bundle.getString("web." + metric));
+        }
+
         getConfigurationCommonDescription(node.get(ATTRIBUTES, Constants.CONTAINER_CONFIG), ATTRIBUTES, bundle);
         getConnectorCommonDescription(node.get(CHILDREN, Constants.CONNECTOR), ATTRIBUTES, bundle);
         getVirtualServerCommonDescription(node.get(CHILDREN, Constants.VIRTUAL_SERVER), ATTRIBUTES, bundle);
@@ -83,6 +93,11 @@ class WebSubsystemDescriptions {
         node.get(REQUEST_PROPERTIES, Constants.NATIVE, REQUIRED).set(false);
         node.get(REQUEST_PROPERTIES, Constants.NATIVE, DEFAULT).set(true);
 
+        node.get(REQUEST_PROPERTIES, Constants.RESPONSE_TIME_HISTOGRAMS, TYPE).set(ModelType.BOOLEAN);
+        node.get(REQUEST_PROPERTIES, Constants.RESPONSE_TIME_HISTOGRAMS, DESCRIPTION).set(bundle.getString("web.response-time-histograms"));
+        node.get(REQUEST_PROPERTIES, Constants.RESPONSE_TIME_HISTOGRAMS, REQUIRED).set(false);
+        node.get(REQUEST_PROPERTIES, Constants.RESPONSE_TIME_HISTOGRAMS, DEFAULT).set(false);
+
         getConfigurationCommonDescription(node.get(REQUEST_PROPERTIES, Constants.CONTAINER_CONFIG), REQUEST_PROPERTIES, bundle);
 
         return node;
@@ -183,6 +198,26 @@ class WebSubsystemDescriptions {
         node.get(type, Constants.DISABLED, REQUIRED).set(false);
         node.get(type, Constants.DISABLED, DEFAULT).set(false);
 
+        node.get(type, Constants.CACHING_ALLOWED, TYPE).set(ModelType.BOOLEAN);
+        node.get(type, Constants.CACHING_ALLOWED, DESCRIPTION).set(bundle.getString("web.configuration.static.caching-allowed"));
+        node.get(type, Constants.CACHING_ALLOWED, REQUIRED).set(false);
+        node.get(type, Constants.CACHING_ALLOWED, DEFAULT).set(true);
+
+        node.get(type, Constants.CACHE_MAX_SIZE, TYPE).set(ModelType.INT);
+        node.get(type, Constants.CACHE_MAX_SIZE, DESCRIPTION).set(bundle.getString("web.configuration.static.cache-max-size"));
+        node.get(type, Constants.CACHE_MAX_SIZE, REQUIRED).set(false);
+        node.get(type, Constants.CACHE_MAX_SIZE, DEFAULT).set(10240);
+
+        node.get(type, Constants.CACHE_OBJECT_MAX_SIZE, TYPE).set(ModelType.INT);
+        node.get(type, Constants.CACHE_OBJECT_MAX_SIZE, DESCRIPTION).set(bundle.getString("web.configuration.static.cache-object-max-size"));
+        node.get(type, Constants.CACHE_OBJECT_MAX_SIZE, REQUIRED).set(false);
+        node.get(type, Constants.CACHE_OBJECT_MAX_SIZE, DEFAULT).set(512);
+
+        node.get(type, Constants.CACHE_TTL, TYPE).set(ModelType.INT);
+        node.get(type, Constants.CACHE_TTL, DESCRIPTION).set(bundle.getString("web.configuration.static.cache-ttl"));
+        node.get(type, Constants.CACHE_TTL, REQUIRED).set(false);
+        node.get(type, Constants.CACHE_TTL, DEFAULT).set(5000);
+
         return node;
     }
 
@@ -286,6 +321,11 @@ class WebSubsystemDescriptions {
         node.get(type, Constants.DISPLAY_SOURCE_FRAGMENT, REQUIRED).set(false);
         node.get(type, Constants.DISPLAY_SOURCE_FRAGMENT, DEFAULT).set(true);
 
+        node.get(type, Constants.PRECOMPILE, TYPE).set(ModelType.BOOLEAN);
+        node.get(type, Constants.PRECOMPILE, DESCRIPTION).set(bundle.getString("web.configuration.jsp.precompile"));
+        node.get(type, Constants.PRECOMPILE, REQUIRED).set(false);
+        node.get(type, Constants.PRECOMPILE, DEFAULT).set(false);
+
         return node;
     }
 
@@ -359,8 +399,11 @@ class WebSubsystemDescriptions {
 
         if (ATTRIBUTES.equals(type)) {
             for(final String metric : WebConnectorMetrics.ATTRIBUTES) {
-                node.get(ATTRIBUTES, metric, TYPE).set(ModelType.INT);
+                node.get(ATTRIBUTES, metric, TYPE).set(WebConnectorMetrics.REQUEST_TIME.equals(metric) ? ModelType.OBJECT : ModelType.INT);
             }
+            node.get(ATTRIBUTES, WebConnectorMetrics.ACTIVE_REQUESTS, DESCRIPTION).set(bundle.getString("web.connector.activeRequests"));
+            node.get(ATTRIBUTES, WebConnectorMetrics.CONFIGURED_BACKLOG, DESCRIPTION).set(bundle.getString("web.connector.configuredBacklog"));
+            node.get(ATTRIBUTES, WebConnectorMetrics.REQUEST_TIME, DESCRIPTION).set(bundle.getString("web.connector.requestTime"));
         }
 
         return node;
@@ -37,6 +37,10 @@ import static org.jboss.as.web.Constants.ACCESS_LOG;
 import static org.jboss.as.web.Constants.ALIAS;
 import static org.jboss.as.web.Constants.CA_CERTIFICATE_FILE;
 import static org.jboss.as.web.Constants.CA_REVOCATION_URL;
+import static org.jboss.as.web.Constants.CACHE_MAX_SIZE;
+import static org.jboss.as.web.Constants.CACHE_OBJECT_MAX_SIZE;
+import static org.jboss.as.web.Constants.CACHE_TTL;
+import static org.jboss.as.web.Constants.CACHING_ALLOWED;
 import static org.jboss.as.web.Constants.CERTIFICATE_FILE;
 import static org.jboss.as.web.Constants.CERTIFICATE_KEY_FILE;
 import static org.jboss.as.web.Constants.CIPHER_SUITE;
@@ -129,6 +133,7 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
         ModelNode node = context.getModelNode();
         writeAttribute(writer, Attribute.NATIVE.getLocalName(), node);
         writeAttribute(writer, Attribute.DEFAULT_VIRTUAL_SERVER.getLocalName(), node);
+        writeAttribute(writer, Attribute.RESPONSE_TIME_HISTOGRAMS.getLocalName(), node);
         if(node.hasDefined(CONTAINER_CONFIG)) {
             writeContainerConfig(writer, node.get(CONTAINER_CONFIG));
         }
@@ -269,13 +274,17 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
     private boolean writeStaticResources(XMLExtendedStreamWriter writer, ModelNode config) throws XMLStreamException {
 
         boolean startWritten = writeStaticResourceAttribute(writer, Attribute.LISTINGS.getLocalName(), config, false);
-        startWritten = startWritten || writeStaticResourceAttribute(writer, Attribute.SENDFILE.getLocalName(), config, startWritten);
-        startWritten = startWritten || writeStaticResourceAttribute(writer, Attribute.FILE_ENCONDING.getLocalName(), config, startWritten);
-        startWritten = startWritten || writeStaticResourceAttribute(writer, Attribute.READ_ONLY.getLocalName(), config, startWritten);
-        startWritten = startWritten || writeStaticResourceAttribute(writer, Attribute.WEBDAV.getLocalName(), config, startWritten);
-        startWritten = startWritten || writeStaticResourceAttribute(writer, Attribute.SECRET.getLocalName(), config, startWritten);
-        startWritten = startWritten || writeStaticResourceAttribute(writer, Attribute.MAX_DEPTH.getLocalName(), config, startWritten);
-        startWritten = startWritten || writeStaticResourceAttribute(writer, Attribute.DISABLED.getLocalName(), config, startWritten);
+        startWritten = writeStaticResourceAttribute(writer, Attribute.SENDFILE.getLocalName(), config, startWritten) || startWritten;
+        startWritten = writeStaticResourceAttribute(writer, Attribute.FILE_ENCONDING.getLocalName(), config, startWritten) || startWritten;
+        startWritten = writeStaticResourceAttribute(writer, Attribute.READ_ONLY.getLocalName(), config, startWritten) || startWritten;
+        startWritten = writeStaticResourceAttribute(writer, Attribute.WEBDAV.getLocalName(), config, startWritten) || startWritten;
+        startWritten = writeStaticResourceAttribute(writer, Attribute.SECRET.getLocalName(), config, startWritten) || startWritten;
+        startWritten = writeStaticResourceAttribute(writer, Attribute.MAX_DEPTH.getLocalName(), config, startWritten) || startWritten;
+        startWritten = writeStaticResourceAttribute(writer, Attribute.DISABLED.getLocalName(), config, startWritten) || startWritten;
+        startWritten = writeStaticResourceAttribute(writer, Attribute.CACHING_ALLOWED.getLocalName(), config, startWritten) || startWritten;
+        startWritten = writeStaticResourceAttribute(writer, Attribute.CACHE_MAX_SIZE.getLocalName(), config, startWritten) || startWritten;
+        startWritten = writeStaticResourceAttribute(writer, Attribute.CACHE_OBJECT_MAX_SIZE.getLocalName(), config, startWritten) || startWritten;
+        startWritten = writeStaticResourceAttribute(writer, Attribute.CACHE_TTL.getLocalName(), config, startWritten) || startWritten;
 
         if (startWritten) {
             writer.writeEndElement();
@@ -298,24 +307,25 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
     private boolean writeJSPConfiguration(XMLExtendedStreamWriter writer, ModelNode jsp, boolean containerConfigStartWritten) throws XMLStreamException {
 
         boolean startWritten = writeJspConfigAttribute(writer, Attribute.DEVELOPMENT.getLocalName(), jsp, false, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.KEEP_GENERATED.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.TRIM_SPACES.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.TAG_POOLING.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.MAPPED_FILE.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.CHECK_INTERVAL.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.MODIFIFICATION_TEST_INTERVAL.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.RECOMPILE_ON_FAIL.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.SMAP.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.DUMP_SMAP.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.GENERATE_STRINGS_AS_CHAR_ARRAYS.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.ERROR_ON_USE_BEAN_INVALID_CLASS_ATTRIBUTE.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.SCRATCH_DIR.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.SOURCE_VM.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.TARGET_VM.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.JAVA_ENCODING.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.X_POWERED_BY.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.DISPLAY_SOURCE_FRAGMENT.getLocalName(), jsp, startWritten, containerConfigStartWritten);
-        startWritten = startWritten || writeJspConfigAttribute(writer, Attribute.DISABLED.getLocalName(), jsp, startWritten, containerConfigStartWritten);
+        startWritten = writeJspConfigAttribute(writer, Attribute.KEEP_GENERATED.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.TRIM_SPACES.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.TAG_POOLING.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.MAPPED_FILE.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.CHECK_INTERVAL.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.MODIFIFICATION_TEST_INTERVAL.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.RECOMPILE_ON_FAIL.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.SMAP.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.DUMP_SMAP.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.GENERATE_STRINGS_AS_CHAR_ARRAYS.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.ERROR_ON_USE_BEAN_INVALID_CLASS_ATTRIBUTE.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.SCRATCH_DIR.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.SOURCE_VM.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.TARGET_VM.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.JAVA_ENCODING.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.X_POWERED_BY.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.DISPLAY_SOURCE_FRAGMENT.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.DISABLED.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
+        startWritten = writeJspConfigAttribute(writer, Attribute.PRECOMPILE.getLocalName(), jsp, startWritten, containerConfigStartWritten) || startWritten;
 
         if (startWritten) {
             writer.writeEndElement();
@@ -357,6 +367,7 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
             switch (attribute) {
             case NATIVE:
             case DEFAULT_VIRTUAL_SERVER:
+            case RESPONSE_TIME_HISTOGRAMS:
                 subsystem.get(attribute.getLocalName()).set(value);
                 break;
             default:
@@ -459,6 +470,7 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
             case JAVA_ENCODING:
             case X_POWERED_BY:
             case DISPLAY_SOURCE_FRAGMENT:
+            case PRECOMPILE:
                 jsp.get(attribute.getLocalName()).set(value);
                 break;
             default:
@@ -501,6 +513,18 @@ class WebSubsystemParser implements XMLStreamConstants, XMLElementReader<List<Mo
             case DISABLED:
                 resources.get(DISABLED).set(value);
                 break;
+            case CACHING_ALLOWED:
+                resources.get(CACHING_ALLOWED).set(value);
+                break;
+            case CACHE_MAX_SIZE:
+                resources.get(CACHE_MAX_SIZE).set(value);
+                break;
+            case CACHE_OBJECT_MAX_SIZE:
+                resources.get(CACHE_OBJECT_MAX_SIZE).set(value);
+                break;
+            case CACHE_TTL:
+                resources.get(CACHE_TTL).set(value);
+                break;
             default:
                 throw unexpectedAttribute(reader, i);
             }
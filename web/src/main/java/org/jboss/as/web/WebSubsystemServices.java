@@ -22,6 +22,10 @@ public class WebSubsystemServices {
     public static final ServiceName JBOSS_WEB_HOST = JBOSS_WEB.append("host");
     /** The base name for jboss.web realm services. */
     public static final ServiceName JBOSS_WEB_REALM = JBOSS_WEB.append("realm");
+    /** The service name of the TLD metadata cache shared by the web deployments. */
+    public static final ServiceName JBOSS_WEB_TLD_CACHE = JBOSS_WEB.append("tld-cache");
+    /** The service name of the executor the JSPs of the web deployments are precompiled on. */
+    public static final ServiceName JBOSS_WEB_JSP_PRECOMPILER = JBOSS_WEB.append("jsp-precompiler");
 
     private WebSubsystemServices() {
     }
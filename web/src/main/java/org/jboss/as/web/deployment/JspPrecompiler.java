@@ -0,0 +1,543 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.deployment;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.Servlet;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.catalina.Wrapper;
+import org.apache.catalina.core.StandardContext;
+import org.apache.jasper.compiler.JspUtil;
+import org.jboss.as.naming.context.NamespaceContextSelector;
+import org.jboss.as.web.NamingValve;
+import org.jboss.logging.Logger;
+
+/**
+ * Compiles the JSPs of a started web context in parallel on an executor, through the JSP precompilation protocol of its own JSP
+ * servlet, so the configuration, tag libraries and class loader are exactly those used at request time.
+ * <p>
+ * Jasper only compares timestamps to decide whether a page is stale, and deployments get new timestamps whenever they
+ * are copied or exploded again. An index of content hashes is therefore kept in the scratch directory: the generated
+ * classes of unchanged pages are brought up to date with the page's timestamp so they are not compiled again, and
+ * those of changed pages are removed so they always are. Tag files and included fragments are compiled with the pages
+ * using them; if any of them, or any TLD or tag file packaged in a library, changed, every page is left to Jasper's own
+ * staleness check.
+ */
+class JspPrecompiler {
+
+    private static final Logger log = Logger.getLogger("org.jboss.web");
+
+    private static final String JSP_SERVLET = "jsp";
+    private static final String SCRATCH_DIR_PARAM = "scratchdir";
+    private static final String PRECOMPILE_QUERY = "jsp_precompile";
+    private static final String BASE_PACKAGE = "org.apache.jsp";
+    private static final String OPTIONS_KEY = "jasper.options";
+
+    private static final List<String> PAGE_SUFFIXES = Arrays.asList(".jsp", ".jspx");
+    private static final List<String> FRAGMENT_SUFFIXES = Arrays.asList(".jspf", ".tag", ".tagx", ".tld");
+    private static final List<String> SKIPPED_DIRECTORIES = Arrays.asList("/WEB-INF/classes", "/META-INF");
+    private static final String LIB_DIRECTORY = "/WEB-INF/lib";
+    private static final String LIB_SUFFIX = ".jar";
+    private static final String LIB_ENTRY_SEPARATOR = "!/";
+
+    private final StandardContext context;
+    private final NamespaceContextSelector selector;
+    private final Executor executor;
+
+    JspPrecompiler(final StandardContext context, final NamespaceContextSelector selector, final Executor executor) {
+        this.context = context;
+        this.selector = selector;
+        this.executor = executor;
+    }
+
+    /**
+     * Compile the pages of the context on the executor, without waiting for them. Failures are logged; the affected
+     * pages are compiled again on first request.
+     *
+     * @param completion run once every page has been compiled or failed to, whether or not anything was compiled
+     */
+    void precompile(final Runnable completion) {
+        try {
+            executor.execute(new Runnable() {
+                public void run() {
+                    boolean scheduled = false;
+                    try {
+                        scheduled = schedule(completion);
+                    } catch (RuntimeException e) {
+                        log.warnf(e, "Could not precompile the JSPs of %s", context.getName());
+                    } finally {
+                        if (!scheduled) {
+                            completion.run();
+                        }
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warnf(e, "Could not precompile the JSPs of %s", context.getName());
+            completion.run();
+        }
+    }
+
+    /**
+     * Bring the generated classes in line with the index and submit the compilation of each page.
+     *
+     * @return {@code true} if the pages were submitted, in which case the last of them runs the completion
+     */
+    private boolean schedule(final Runnable completion) {
+        final Wrapper wrapper = (Wrapper) context.findChild(JSP_SERVLET);
+        if (wrapper == null) {
+            return false;
+        }
+        final long start = System.currentTimeMillis();
+        final File docBase = new File(context.getDocBase());
+        final Map<String, File> pages = new HashMap<String, File>();
+        final Map<String, File> fragments = new HashMap<String, File>();
+        collect(docBase, "", pages, fragments);
+        if (pages.isEmpty()) {
+            return false;
+        }
+
+        final File scratchDir = getScratchDir(wrapper);
+        final File indexFile = scratchDir == null ? null : new File(scratchDir, getIndexName());
+        final Properties index = load(indexFile);
+        final Properties hashes = new Properties();
+        hashes.setProperty(OPTIONS_KEY, getOptions(wrapper));
+        boolean dependenciesUnchanged = hashes.getProperty(OPTIONS_KEY).equals(index.getProperty(OPTIONS_KEY));
+        for (Map.Entry<String, String> dependency : hashDependencies(fragments).entrySet()) {
+            final String hash = dependency.getValue();
+            if (hash != null) {
+                hashes.setProperty(dependency.getKey(), hash);
+            }
+            dependenciesUnchanged &= hash != null && hash.equals(index.getProperty(dependency.getKey()));
+        }
+        for (Map.Entry<String, File> page : pages.entrySet()) {
+            final String hash = hash(page.getValue());
+            if (hash == null) {
+                continue;
+            }
+            hashes.setProperty(page.getKey(), hash);
+            if (scratchDir != null) {
+                if (hash.equals(index.getProperty(page.getKey()))) {
+                    if (dependenciesUnchanged) {
+                        refresh(scratchDir, page.getKey(), page.getValue().lastModified());
+                    }
+                } else {
+                    discard(scratchDir, page.getKey());
+                }
+            }
+        }
+
+        final Servlet servlet;
+        try {
+            servlet = wrapper.allocate();
+        } catch (ServletException e) {
+            log.warnf(e, "Could not precompile the JSPs of %s", context.getName());
+            return false;
+        }
+        new Compilation(wrapper, servlet, indexFile, hashes, new ArrayList<String>(pages.keySet()), start, completion).submit();
+        return true;
+    }
+
+    /**
+     * Collect the pages and the files they may depend on, by path in the web application.
+     */
+    static void collect(final File dir, final String path, final Map<String, File> pages, final Map<String, File> fragments) {
+        final File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            final String filePath = path + "/" + file.getName();
+            if (file.isDirectory()) {
+                if (!SKIPPED_DIRECTORIES.contains(filePath)) {
+                    collect(file, filePath, pages, fragments);
+                }
+            } else if (LIB_DIRECTORY.equals(path)) {
+                if (LIB_SUFFIX.equals(getSuffix(file))) {
+                    fragments.put(filePath, file);
+                }
+            } else if (PAGE_SUFFIXES.contains(getSuffix(file))) {
+                pages.put(filePath, file);
+            } else if (FRAGMENT_SUFFIXES.contains(getSuffix(file))) {
+                fragments.put(filePath, file);
+            }
+        }
+    }
+
+    /**
+     * Hash the files pages may depend on. Libraries are not hashed as a whole; each of their TLDs and tag files is,
+     * under the path of the library followed by {@code !/} and the path of the entry.
+     *
+     * @return the hashes by path, {@code null} for those that could not be read
+     */
+    static Map<String, String> hashDependencies(final Map<String, File> fragments) {
+        final Map<String, String> hashes = new HashMap<String, String>();
+        for (Map.Entry<String, File> fragment : fragments.entrySet()) {
+            if (fragment.getKey().startsWith(LIB_DIRECTORY + "/")) {
+                hashLibrary(fragment.getKey(), fragment.getValue(), hashes);
+            } else {
+                hashes.put(fragment.getKey(), hash(fragment.getValue()));
+            }
+        }
+        return hashes;
+    }
+
+    private static void hashLibrary(final String path, final File file, final Map<String, String> hashes) {
+        try {
+            final JarFile jar = new JarFile(file);
+            try {
+                final Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    final JarEntry entry = entries.nextElement();
+                    final String name = entry.getName();
+                    final int dot = name.lastIndexOf('.');
+                    if (!entry.isDirectory() && name.startsWith("META-INF/") && dot >= 0
+                            && FRAGMENT_SUFFIXES.contains(name.substring(dot))) {
+                        final InputStream in = jar.getInputStream(entry);
+                        try {
+                            hashes.put(path + LIB_ENTRY_SEPARATOR + name, hash(in));
+                        } finally {
+                            in.close();
+                        }
+                    }
+                }
+            } finally {
+                jar.close();
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Could not read %s", file);
+            hashes.put(path, null);
+        }
+    }
+
+    private static String getSuffix(final File file) {
+        final String name = file.getName();
+        final int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot);
+    }
+
+    private File getScratchDir(final Wrapper wrapper) {
+        final String scratchDir = wrapper.findInitParameter(SCRATCH_DIR_PARAM);
+        if (scratchDir != null) {
+            return new File(scratchDir);
+        }
+        final Object tempDir = context.getServletContext().getAttribute(ServletContext.TEMPDIR);
+        return tempDir instanceof File ? (File) tempDir : null;
+    }
+
+    private String getIndexName() {
+        // the scratch directory may be shared by all contexts when it is configured
+        return "jsp-precompile" + context.getPath().replace('/', '-') + ".properties";
+    }
+
+    /**
+     * @return the JSP servlet options, as they are compiled into the generated classes
+     */
+    private static String getOptions(final Wrapper wrapper) {
+        final String[] names = wrapper.findInitParameters();
+        Arrays.sort(names);
+        final StringBuilder options = new StringBuilder();
+        for (String name : names) {
+            options.append(name).append('=').append(wrapper.findInitParameter(name)).append(';');
+        }
+        return options.toString();
+    }
+
+    /**
+     * Get the generated source and class of a page, where Jasper puts them.
+     */
+    private static File[] getGeneratedFiles(final File scratchDir, final String page) {
+        final int slash = page.lastIndexOf('/');
+        String packageName = BASE_PACKAGE;
+        if (slash > 0) {
+            packageName += '.' + JspUtil.makeJavaPackage(page.substring(1, slash));
+        }
+        final File dir = new File(scratchDir, packageName.replace('.', File.separatorChar));
+        final String className = JspUtil.makeJavaIdentifier(page.substring(slash + 1));
+        return new File[] { new File(dir, className + ".class"), new File(dir, className + ".java") };
+    }
+
+    private static void refresh(final File scratchDir, final String page, final long lastModified) {
+        final File[] generated = getGeneratedFiles(scratchDir, page);
+        if (generated[0].exists()) {
+            for (File file : generated) {
+                if (file.exists() && !file.setLastModified(lastModified)) {
+                    log.debugf("Could not update the timestamp of %s", file);
+                }
+            }
+        }
+    }
+
+    private static void discard(final File scratchDir, final String page) {
+        for (File file : getGeneratedFiles(scratchDir, page)) {
+            if (file.exists() && !file.delete()) {
+                log.debugf("Could not delete %s", file);
+            }
+        }
+    }
+
+    private static String hash(final File file) {
+        try {
+            final InputStream in = new FileInputStream(file);
+            try {
+                return hash(in);
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Could not read %s", file);
+            return null;
+        }
+    }
+
+    private static String hash(final InputStream in) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        final StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hash.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hash.toString();
+    }
+
+    private static Properties load(final File indexFile) {
+        final Properties index = new Properties();
+        if (indexFile != null && indexFile.isFile()) {
+            try {
+                final InputStream in = new FileInputStream(indexFile);
+                try {
+                    index.load(in);
+                } finally {
+                    in.close();
+                }
+            } catch (IOException e) {
+                log.debugf(e, "Could not read %s", indexFile);
+                index.clear();
+            }
+        }
+        return index;
+    }
+
+    private static void store(final File indexFile, final Properties index) {
+        if (indexFile == null) {
+            return;
+        }
+        try {
+            indexFile.getParentFile().mkdirs();
+            final OutputStream out = new FileOutputStream(indexFile);
+            try {
+                index.store(out, null);
+            } finally {
+                out.close();
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Could not write %s", indexFile);
+        }
+    }
+
+    private HttpServletRequest createRequest(final String page) {
+        final String contextPath = context.getPath();
+        return (HttpServletRequest) Proxy.newProxyInstance(HttpServletRequest.class.getClassLoader(),
+                new Class<?>[] { HttpServletRequest.class }, new InvocationHandler() {
+                    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                        final String name = method.getName();
+                        if ("getServletPath".equals(name)) {
+                            return page;
+                        } else if ("getRequestURI".equals(name)) {
+                            return contextPath + page;
+                        } else if ("getContextPath".equals(name)) {
+                            return contextPath;
+                        } else if ("getQueryString".equals(name)) {
+                            return PRECOMPILE_QUERY;
+                        } else if ("getParameter".equals(name)) {
+                            return PRECOMPILE_QUERY.equals(args[0]) ? "" : null;
+                        } else if ("getMethod".equals(name)) {
+                            return "GET";
+                        } else if ("getDispatcherType".equals(name)) {
+                            return DispatcherType.REQUEST;
+                        }
+                        return defaultResult(proxy, method, args);
+                    }
+                });
+    }
+
+    private static HttpServletResponse createResponse() {
+        return (HttpServletResponse) Proxy.newProxyInstance(HttpServletResponse.class.getClassLoader(),
+                new Class<?>[] { HttpServletResponse.class }, new InvocationHandler() {
+                    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                        return defaultResult(proxy, method, args);
+                    }
+                });
+    }
+
+    private static Object defaultResult(final Object proxy, final Method method, final Object[] args) {
+        final String name = method.getName();
+        if ("equals".equals(name)) {
+            return Boolean.valueOf(proxy == args[0]);
+        } else if ("hashCode".equals(name)) {
+            return Integer.valueOf(System.identityHashCode(proxy));
+        } else if ("toString".equals(name)) {
+            return "JSP precompilation " + proxy.getClass().getInterfaces()[0].getSimpleName();
+        }
+        final Class<?> type = method.getReturnType();
+        if (type == boolean.class) {
+            return Boolean.FALSE;
+        } else if (type == int.class) {
+            return Integer.valueOf(0);
+        } else if (type == long.class) {
+            return Long.valueOf(0L);
+        }
+        return null;
+    }
+
+    /**
+     * The compilation of the pages of the context, one task per page. The last task to finish releases the JSP servlet,
+     * stores the index and runs the completion.
+     */
+    private final class Compilation {
+        private final Wrapper wrapper;
+        private final Servlet servlet;
+        private final ClassLoader classLoader;
+        private final File indexFile;
+        private final Properties hashes;
+        private final List<String> pages;
+        private final long start;
+        private final Runnable completion;
+        private final AtomicInteger remaining;
+        private final Queue<String> failed = new ConcurrentLinkedQueue<String>();
+
+        private Compilation(final Wrapper wrapper, final Servlet servlet, final File indexFile, final Properties hashes,
+                            final List<String> pages, final long start, final Runnable completion) {
+            this.wrapper = wrapper;
+            this.servlet = servlet;
+            this.classLoader = context.getLoader().getClassLoader();
+            this.indexFile = indexFile;
+            this.hashes = hashes;
+            this.pages = pages;
+            this.start = start;
+            this.completion = completion;
+            this.remaining = new AtomicInteger(pages.size());
+        }
+
+        void submit() {
+            for (final String page : pages) {
+                try {
+                    executor.execute(new Runnable() {
+                        public void run() {
+                            compile(page);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    log.warnf(e, "Failed to precompile %s in %s", page, context.getName());
+                    done(page, false);
+                }
+            }
+        }
+
+        private void compile(final String page) {
+            boolean compiled = false;
+            final ClassLoader oldTccl = SecurityActions.getContextClassLoader();
+            try {
+                SecurityActions.setContextClassLoader(classLoader);
+                NamingValve.beginComponentStart(selector);
+                try {
+                    servlet.service(createRequest(page), createResponse());
+                    compiled = true;
+                } finally {
+                    NamingValve.endComponentStart();
+                }
+            } catch (Exception e) {
+                log.warnf(e, "Failed to precompile %s in %s", page, context.getName());
+            } finally {
+                SecurityActions.setContextClassLoader(oldTccl);
+                done(page, compiled);
+            }
+        }
+
+        private void done(final String page, final boolean compiled) {
+            if (!compiled) {
+                failed.add(page);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            try {
+                try {
+                    wrapper.deallocate(servlet);
+                } catch (ServletException e) {
+                    log.debugf(e, "Failed to deallocate the JSP servlet of %s", context.getName());
+                }
+                for (String page : failed) {
+                    hashes.remove(page);
+                }
+                store(indexFile, hashes);
+                log.infof("Precompiled %d JSPs of %s in %d ms, %d failed", pages.size() - failed.size(), context.getName(),
+                        System.currentTimeMillis() - start, failed.size());
+            } finally {
+                completion.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.web.deployment;
+
+import org.apache.catalina.core.StandardContext;
+
+/**
+ * The configuration of the in-memory cache which each web context keeps of its static resources.
+ */
+public final class ResourceCacheConfig {
+
+    private final boolean cachingAllowed;
+    private final int cacheMaxSize;
+    private final int cacheObjectMaxSize;
+    private final int cacheTTL;
+
+    /**
+     * @param cachingAllowed whether static resources are cached at all
+     * @param cacheMaxSize the maximum size of the cache, in kilobytes
+     * @param cacheObjectMaxSize the maximum size of a cached resource, in kilobytes
+     * @param cacheTTL the time after which a cached resource is revalidated, in milliseconds
+     */
+    public ResourceCacheConfig(final boolean cachingAllowed, final int cacheMaxSize, final int cacheObjectMaxSize, final int cacheTTL) {
+        if (cacheMaxSize < 0 || cacheObjectMaxSize < 0 || cacheTTL < 0) {
+            throw new IllegalArgumentException("negative resource cache setting");
+        }
+        this.cachingAllowed = cachingAllowed;
+        this.cacheMaxSize = cacheMaxSize;
+        this.cacheObjectMaxSize = cacheObjectMaxSize;
+        this.cacheTTL = cacheTTL;
+    }
+
+    void configure(final StandardContext context) {
+        context.setCachingAllowed(cachingAllowed);
+        context.setCacheMaxSize(cacheMaxSize);
+        context.setCacheObjectMaxSize(cacheObjectMaxSize);
+        context.setCacheTTL(cacheTTL);
+    }
+}
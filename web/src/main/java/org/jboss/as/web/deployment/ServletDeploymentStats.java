@@ -25,6 +25,9 @@ package org.jboss.as.web.deployment;
 import org.apache.catalina.Context;
 import org.apache.catalina.Wrapper;
 import org.apache.catalina.core.StandardWrapper;
+import org.apache.naming.resources.ProxyDirContext;
+import org.apache.naming.resources.ResourceCache;
+import org.jboss.as.controller.LatencyHistogram;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.OperationFailedException;
@@ -32,17 +35,23 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.descriptions.DescriptionProvider;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.web.ResponseTimeValve;
 import org.jboss.as.web.WebSubsystemServices;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceController;
 
 import java.util.Locale;
 
+import javax.naming.directory.DirContext;
+
 /**
  * @author Emanuel Muckenhuber
  */
 public class ServletDeploymentStats {
 
+    static final String RESPONSE_TIME = "response-time";
+    static final String[] RESPONSE_TIME_PERCENTILES = { LatencyHistogram.P50, LatencyHistogram.P99, LatencyHistogram.P999 };
+
     static final DescriptionProvider provider = new DescriptionProvider() {
         @Override
         public ModelNode getModelDescription(Locale locale) {
@@ -61,13 +70,13 @@ public class ServletDeploymentStats {
         registration.registerMetric("max-time", new AbstractMetricsHandler() {
             @Override
             void handle(final ModelNode response, final String name, final Wrapper wrapper) {
-                response.set(((StandardWrapper)wrapper).getMinTime());
+                response.set(((StandardWrapper)wrapper).getMaxTime());
             }
         });
         registration.registerMetric("min-time", new AbstractMetricsHandler() {
             @Override
             void handle(final ModelNode response, final String name, final Wrapper wrapper) {
-                response.set(((StandardWrapper)wrapper).getLoadTime());
+                response.set(((StandardWrapper)wrapper).getMinTime());
             }
         });
         registration.registerMetric("processing-time", new AbstractMetricsHandler() {
@@ -82,26 +91,132 @@ public class ServletDeploymentStats {
                 response.set(((StandardWrapper)wrapper).getRequestCount());
             }
         });
+        registerResponseTimes(registration, true);
+    }
+
+    /**
+     * Register the metrics of the web subsystem resource of a deployment.
+     */
+    public static void registerDeployment(final ManagementResourceRegistration registration) {
+        registerResponseTimes(registration, false);
+        registration.registerMetric("static-cache-hit-count", new AbstractResourceCacheMetricsHandler() {
+            @Override
+            void handle(final ModelNode response, final ResourceCache cache) {
+                response.set(cache.getHitsCount());
+            }
+        });
+        registration.registerMetric("static-cache-miss-count", new AbstractResourceCacheMetricsHandler() {
+            @Override
+            void handle(final ModelNode response, final ResourceCache cache) {
+                response.set(cache.getAccessCount() - cache.getHitsCount());
+            }
+        });
+        registration.registerMetric("static-cache-size", new AbstractResourceCacheMetricsHandler() {
+            @Override
+            void handle(final ModelNode response, final ResourceCache cache) {
+                response.set(cache.getCacheSize());
+            }
+        });
+    }
+
+    private static void registerResponseTimes(final ManagementResourceRegistration registration, final boolean servlet) {
+        registration.registerMetric(RESPONSE_TIME, new ResponseTimeHandler(servlet, null));
+        for (final String percentile : RESPONSE_TIME_PERCENTILES) {
+            registration.registerMetric(RESPONSE_TIME + "-" + percentile, new ResponseTimeHandler(servlet, percentile));
+        }
+    }
+
+    /**
+     * Reports the response times recorded by the {@link ResponseTimeValve} of a deployment, either as the whole
+     * histogram or as a single percentile. Nothing is reported if response time histograms are not enabled, or for a
+     * servlet no request has been dispatched to yet.
+     */
+    static class ResponseTimeHandler extends AbstractContextMetricsHandler {
+
+        private final boolean servlet;
+        private final String percentile;
+
+        ResponseTimeHandler(final boolean servlet, final String percentile) {
+            super(servlet ? 3 : 2);
+            this.servlet = servlet;
+            this.percentile = percentile;
+        }
+
+        @Override
+        void handle(final ModelNode response, final ModelNode model, final Context webContext) {
+            final ResponseTimeValve valve = ResponseTimeValve.getValve(webContext);
+            if (valve != null) {
+                final LatencyHistogram histogram = servlet ? valve.getServletTimes(model.get("servlet-name").asString()) : valve.getContextTimes();
+                if (histogram != null) {
+                    final ModelNode times = histogram.toModelNode();
+                    response.set(percentile == null ? times : times.get(percentile));
+                }
+            }
+        }
     }
 
-    abstract static class AbstractMetricsHandler implements OperationStepHandler {
+    /**
+     * Reports on the static resource cache of a deployment. Nothing is reported if caching is disabled.
+     */
+    abstract static class AbstractResourceCacheMetricsHandler extends AbstractContextMetricsHandler {
+
+        AbstractResourceCacheMetricsHandler() {
+            super(2);
+        }
+
+        abstract void handle(ModelNode response, ResourceCache cache);
+
+        @Override
+        void handle(final ModelNode response, final ModelNode model, final Context webContext) {
+            final DirContext resources = webContext.getResources();
+            if (resources instanceof ProxyDirContext) {
+                final ResourceCache cache = ((ProxyDirContext) resources).getCache();
+                if (cache != null) {
+                    handle(response, cache);
+                }
+            }
+        }
+    }
+
+    abstract static class AbstractMetricsHandler extends AbstractContextMetricsHandler {
+
+        AbstractMetricsHandler() {
+            super(3);
+        }
 
         abstract void handle(ModelNode response, String name, Wrapper wrapper);
 
+        @Override
+        void handle(final ModelNode response, final ModelNode model, final Context webContext) {
+            final String name = model.get("servlet-name").asString();
+            final Wrapper wrapper = Wrapper.class.cast(webContext.findChild(name));
+            handle(response, name, wrapper);
+        }
+    }
+
+    abstract static class AbstractContextMetricsHandler implements OperationStepHandler {
+
+        /** The position of the deployment element, counted from the end of the address. */
+        private final int deploymentDepth;
+
+        AbstractContextMetricsHandler(final int deploymentDepth) {
+            this.deploymentDepth = deploymentDepth;
+        }
+
+        abstract void handle(ModelNode response, ModelNode model, Context webContext);
+
         @Override
         public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
             final PathAddress address = PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR));
-            final String deploymentName = address.getElement(address.size() -3).getValue();
+            final String deploymentName = address.getElement(address.size() - deploymentDepth).getValue();
             final ModelNode node  = context.readModel(PathAddress.EMPTY_ADDRESS);
             context.addStep(new OperationStepHandler() {
                 @Override
                 public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
                     final ServiceController<?> controller = context.getServiceRegistry(false).getRequiredService(WebSubsystemServices.JBOSS_WEB.append(deploymentName));
                     if(controller != null) {
-                        final String name = node.get("servlet-name").asString();
                         final Context webContext = Context.class.cast(controller.getValue());
-                        final Wrapper wrapper = Wrapper.class.cast(webContext.findChild(name));
-                        handle(context.getResult(), address.getLastElement().getValue(), wrapper);
+                        handle(context.getResult(), node, webContext);
                     }
                     context.completeStep();
                 }
@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.deployment;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.metadata.web.spec.TldMetaData;
+
+/**
+ * A cache of parsed TLD metadata shared by all web deployments, keyed by the content hash of the TLD file, so the tag
+ * libraries bundled by many applications are only parsed once. Like the shared TLDs of the container, the cached
+ * metadata is read only once parsed.
+ * <p>
+ * Entries are softly referenced, so the TLDs of undeployed applications do not pin memory. The garbage collector queues
+ * the references it clears, and their entries are dropped on the next update.
+ */
+public final class TldCache {
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+    private final ReferenceQueue<TldMetaData> cleared = new ReferenceQueue<TldMetaData>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Get the metadata parsed from a TLD with the given content.
+     *
+     * @param hash the content hash, see {@link #hash(byte[])}
+     * @return the metadata, or {@code null} if it must be parsed
+     */
+    public TldMetaData get(final String hash) {
+        final Entry entry = entries.get(hash);
+        final TldMetaData metaData = entry == null ? null : entry.get();
+        if (metaData == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return metaData;
+    }
+
+    /**
+     * Cache the metadata parsed from a TLD.
+     *
+     * @param hash the content hash, see {@link #hash(byte[])}
+     * @param metaData the metadata
+     */
+    public void put(final String hash, final TldMetaData metaData) {
+        expunge();
+        entries.put(hash, new Entry(hash, metaData, cleared));
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int getSize() {
+        expunge();
+        return entries.size();
+    }
+
+    Entry getEntry(final String hash) {
+        return entries.get(hash);
+    }
+
+    /**
+     * Drop the entries the garbage collector has cleared, unless they have been replaced since.
+     */
+    private void expunge() {
+        Entry entry;
+        while ((entry = (Entry) cleared.poll()) != null) {
+            entries.remove(entry.hash, entry);
+        }
+    }
+
+    /**
+     * Compute the content hash under which a TLD is cached.
+     *
+     * @param content the TLD file content
+     * @return the hash
+     */
+    public static String hash(final byte[] content) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest(content)) {
+            hash.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hash.toString();
+    }
+
+    static final class Entry extends SoftReference<TldMetaData> {
+        private final String hash;
+
+        private Entry(final String hash, final TldMetaData metaData, final ReferenceQueue<TldMetaData> queue) {
+            super(metaData, queue);
+            this.hash = hash;
+        }
+    }
+}
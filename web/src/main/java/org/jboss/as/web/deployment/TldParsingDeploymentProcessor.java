@@ -21,6 +21,8 @@
  */
 package org.jboss.as.web.deployment;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
@@ -55,6 +57,12 @@ public class TldParsingDeploymentProcessor implements DeploymentUnitProcessor {
     private static final String LIB = "lib";
     private static final String IMPLICIT_TLD = "implicit.tld";
 
+    private final TldCache cache;
+
+    public TldParsingDeploymentProcessor(final TldCache cache) {
+        this.cache = cache;
+    }
+
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
         if (!DeploymentTypeMarker.isType(DeploymentType.WAR, deploymentUnit)) {
@@ -115,10 +123,17 @@ public class TldParsingDeploymentProcessor implements DeploymentUnitProcessor {
         InputStream is = null;
         try {
             is = tld.openStream();
-            final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
-            inputFactory.setXMLResolver(NoopXmlResolver.create());
-            XMLStreamReader xmlReader = inputFactory.createXMLStreamReader(is);
-            return TldMetaDataParser.parse(xmlReader);
+            final byte[] content = read(is);
+            final String hash = TldCache.hash(content);
+            TldMetaData metaData = cache.get(hash);
+            if (metaData == null) {
+                final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+                inputFactory.setXMLResolver(NoopXmlResolver.create());
+                XMLStreamReader xmlReader = inputFactory.createXMLStreamReader(new ByteArrayInputStream(content));
+                metaData = TldMetaDataParser.parse(xmlReader);
+                cache.put(hash, metaData);
+            }
+            return metaData;
         } catch (Exception e) {
             throw new DeploymentUnitProcessingException("Failed to parse " + tld, e);
         } finally {
@@ -132,4 +147,14 @@ public class TldParsingDeploymentProcessor implements DeploymentUnitProcessor {
         }
     }
 
+    private static byte[] read(InputStream is) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = is.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
 }
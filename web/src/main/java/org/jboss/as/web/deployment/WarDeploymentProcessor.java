@@ -29,6 +29,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import javax.servlet.ServletContext;
 
@@ -48,6 +49,7 @@ import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.DeploymentUnitProcessor;
 import org.jboss.as.web.NamingValve;
+import org.jboss.as.web.ResponseTimeValve;
 import org.jboss.as.web.VirtualHost;
 import org.jboss.as.web.WebSubsystemServices;
 import org.jboss.as.web.deployment.component.ComponentInstantiator;
@@ -75,12 +77,22 @@ import org.jboss.vfs.VirtualFile;
 public class WarDeploymentProcessor implements DeploymentUnitProcessor {
 
     private final String defaultHost;
+    private final boolean precompileJsps;
+    private final boolean responseTimeHistograms;
+    private final ResourceCacheConfig resourceCacheConfig;
 
-    public WarDeploymentProcessor(String defaultHost) {
+    public WarDeploymentProcessor(String defaultHost, boolean precompileJsps, boolean responseTimeHistograms,
+            ResourceCacheConfig resourceCacheConfig) {
         if (defaultHost == null) {
             throw new IllegalArgumentException("null default host");
         }
+        if (resourceCacheConfig == null) {
+            throw new IllegalArgumentException("null resource cache config");
+        }
         this.defaultHost = defaultHost;
+        this.precompileJsps = precompileJsps;
+        this.responseTimeHistograms = responseTimeHistograms;
+        this.resourceCacheConfig = resourceCacheConfig;
     }
 
     /** {@inheritDoc} */
@@ -133,6 +145,14 @@ public class WarDeploymentProcessor implements DeploymentUnitProcessor {
         valve.setValveClass(NamingValve.class.getName());
         valve.setId(NamingValve.class.getName());
         valves.add(valve);
+        if (responseTimeHistograms) {
+            // Ahead of the other deployment valves, so their time is included
+            final ValveMetaData responseTimeValve = new ValveMetaData();
+            responseTimeValve.setModule("org.jboss.as.web");
+            responseTimeValve.setValveClass(ResponseTimeValve.class.getName());
+            responseTimeValve.setId(ResponseTimeValve.class.getName());
+            valves.add(0, responseTimeValve);
+        }
         //webContext.addInstanceListener(NamingValve.class.getName());
 
         // Set the deployment root
@@ -159,6 +179,7 @@ public class WarDeploymentProcessor implements DeploymentUnitProcessor {
         webContext.setPath(pathName);
         webContext.setIgnoreAnnotations(true);
         webContext.setCrossContext(!metaData.isDisableCrossContext());
+        resourceCacheConfig.configure(webContext);
 
         final WebInjectionContainer injectionContainer = new WebInjectionContainer(module.getClassLoader());
 
@@ -220,6 +241,10 @@ public class WarDeploymentProcessor implements DeploymentUnitProcessor {
                     new WebContextInjector(webContext)).addDependencies(injectionContainer.getServiceNames());
             builder.addDependency(WebSubsystemServices.JBOSS_WEB_REALM.append(deploymentName), Realm.class,
                     webDeploymentService.getRealm());
+            if (precompileJsps) {
+                builder.addDependency(WebSubsystemServices.JBOSS_WEB_JSP_PRECOMPILER, Executor.class,
+                        webDeploymentService.getPrecompileExecutor());
+            }
 
             builder.addDependencies(deploymentUnit.getAttachmentList(Attachments.WEB_DEPENDENCIES));
 
@@ -21,6 +21,8 @@
  */
 package org.jboss.as.web.deployment;
 
+import java.util.concurrent.Executor;
+
 import org.apache.catalina.Context;
 import org.apache.catalina.LifecycleException;
 import org.apache.catalina.Realm;
@@ -46,6 +48,7 @@ class WebDeploymentService implements Service<Context> {
     private final StandardContext context;
     private final InjectedValue<NamespaceContextSelector> namespaceSelector = new InjectedValue<NamespaceContextSelector>();
     private final InjectedValue<Realm> realm = new InjectedValue<Realm>();
+    private final InjectedValue<Executor> precompileExecutor = new InjectedValue<Executor>();
     private final WebInjectionContainer injectionContainer;
 
     public WebDeploymentService(final StandardContext context, final WebInjectionContainer injectionContainer) {
@@ -56,7 +59,7 @@ class WebDeploymentService implements Service<Context> {
     /**
      * {@inheritDoc}
      */
-    public synchronized void start(StartContext startContext) throws StartException {
+    public synchronized void start(final StartContext startContext) throws StartException {
         final ClassLoader oldTccl = SecurityActions.getContextClassLoader();
         try {
             SecurityActions.setContextClassLoader(context.getLoader().getClassLoader());
@@ -86,6 +89,16 @@ class WebDeploymentService implements Service<Context> {
         } finally {
             SecurityActions.setContextClassLoader(oldTccl);
         }
+        final Executor executor = precompileExecutor.getOptionalValue();
+        if (executor != null) {
+            // the deployment is up once its JSPs are compiled, without holding the thread starting it
+            startContext.asynchronous();
+            new JspPrecompiler(context, namespaceSelector.getOptionalValue(), executor).precompile(new Runnable() {
+                public void run() {
+                    startContext.complete();
+                }
+            });
+        }
     }
 
     /**
@@ -129,4 +142,8 @@ class WebDeploymentService implements Service<Context> {
         return realm;
     }
 
+    public InjectedValue<Executor> getPrecompileExecutor() {
+        return precompileExecutor;
+    }
+
 }
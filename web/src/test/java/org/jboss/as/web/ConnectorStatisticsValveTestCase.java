@@ -0,0 +1,129 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import javax.servlet.ServletException;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.jboss.as.controller.LatencyHistogram;
+import org.jboss.as.web.ConnectorStatisticsValve.ConnectorStatistics;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the per connector request statistics kept by {@link ConnectorStatisticsValve}.
+ */
+public class ConnectorStatisticsValveTestCase {
+
+    private ConnectorStatisticsValve valve;
+    private Connector connector;
+    private NextValve next;
+
+    @Before
+    public void setUp() {
+        valve = new ConnectorStatisticsValve();
+        connector = mock(Connector.class);
+        next = new NextValve();
+        valve.setNext(next);
+    }
+
+    @Test
+    public void testRequestCounted() throws Exception {
+        valve.addConnector(connector);
+        final ConnectorStatistics statistics = valve.getStatistics(connector);
+        next.statistics = statistics;
+
+        valve.invoke(createRequest(connector), mock(Response.class));
+
+        assertEquals(1, next.activeRequests);
+        assertEquals(0, statistics.getActiveRequests());
+        assertEquals(1, statistics.getRequestTimes().toModelNode().get(LatencyHistogram.COUNT).asLong());
+    }
+
+    @Test
+    public void testFailedRequestCounted() throws Exception {
+        valve.addConnector(connector);
+        final ConnectorStatistics statistics = valve.getStatistics(connector);
+        next.failure = new ServletException("failed");
+
+        try {
+            valve.invoke(createRequest(connector), mock(Response.class));
+            fail("the failure of the next valve should propagate");
+        } catch (ServletException expected) {
+        }
+
+        assertEquals(0, statistics.getActiveRequests());
+        assertEquals(1, statistics.getRequestTimes().toModelNode().get(LatencyHistogram.COUNT).asLong());
+    }
+
+    @Test
+    public void testUnknownConnector() throws Exception {
+        final Request request = createRequest(connector);
+        valve.invoke(request, mock(Response.class));
+
+        assertEquals(1, next.invocations);
+        assertNull(valve.getStatistics(connector));
+    }
+
+    @Test
+    public void testRemoveConnector() throws Exception {
+        valve.addConnector(connector);
+        valve.removeConnector(connector);
+        assertNull(valve.getStatistics(connector));
+    }
+
+    private static Request createRequest(final Connector connector) {
+        final Request request = mock(Request.class);
+        when(request.getConnector()).thenReturn(connector);
+        return request;
+    }
+
+    private static class NextValve extends ValveBase {
+        private ConnectorStatistics statistics;
+        private ServletException failure;
+        private int activeRequests = -1;
+        private int invocations;
+
+        @Override
+        public void invoke(Request request, Response response) throws IOException, ServletException {
+            invocations++;
+            if (statistics != null) {
+                activeRequests = statistics.getActiveRequests();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
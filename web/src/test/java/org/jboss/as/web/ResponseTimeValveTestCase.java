@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import javax.servlet.ServletException;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.Pipeline;
+import org.apache.catalina.Valve;
+import org.apache.catalina.Wrapper;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.jboss.as.controller.LatencyHistogram;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the response times recorded by {@link ResponseTimeValve}.
+ */
+public class ResponseTimeValveTestCase {
+
+    private ResponseTimeValve valve;
+
+    @Before
+    public void setUp() {
+        valve = new ResponseTimeValve();
+        valve.setNext(new ValveBase() {
+            @Override
+            public void invoke(Request request, Response response) throws IOException, ServletException {
+            }
+        });
+    }
+
+    @Test
+    public void testServletRequest() throws Exception {
+        valve.invoke(createRequest("servlet"), mock(Response.class));
+        valve.invoke(createRequest("servlet"), mock(Response.class));
+
+        assertEquals(2, count(valve.getContextTimes()));
+        assertEquals(2, count(valve.getServletTimes("servlet")));
+    }
+
+    @Test
+    public void testRequestWithoutServlet() throws Exception {
+        valve.invoke(createRequest(null), mock(Response.class));
+
+        assertEquals(1, count(valve.getContextTimes()));
+        assertNull(valve.getServletTimes("servlet"));
+    }
+
+    @Test
+    public void testLookupDoesNotCreate() {
+        assertNull(valve.getServletTimes("servlet"));
+        assertNull(valve.getServletTimes("servlet"));
+    }
+
+    @Test
+    public void testGetValve() {
+        final Context context = mock(Context.class);
+        final Pipeline pipeline = mock(Pipeline.class);
+        when(context.getPipeline()).thenReturn(pipeline);
+        when(pipeline.getValves()).thenReturn(new Valve[] { mock(Valve.class), valve });
+        assertSame(valve, ResponseTimeValve.getValve(context));
+
+        when(pipeline.getValves()).thenReturn(new Valve[] { mock(Valve.class) });
+        assertNull(ResponseTimeValve.getValve(context));
+    }
+
+    private static Request createRequest(final String servletName) {
+        final Request request = mock(Request.class);
+        if (servletName != null) {
+            final Wrapper wrapper = mock(Wrapper.class);
+            when(wrapper.getName()).thenReturn(servletName);
+            when(request.getWrapper()).thenReturn(wrapper);
+        }
+        return request;
+    }
+
+    private static long count(final LatencyHistogram histogram) {
+        return histogram.toModelNode().get(LatencyHistogram.COUNT).asLong();
+    }
+}
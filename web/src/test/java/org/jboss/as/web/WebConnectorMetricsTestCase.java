@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.ProtocolHandler;
+import org.apache.coyote.http11.Http11Protocol;
+import org.jboss.as.controller.LatencyHistogram;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests reading the request metrics of a connector through {@link WebConnectorMetrics}.
+ */
+public class WebConnectorMetricsTestCase {
+
+    private static final String NO_METRICS = "no metrics available";
+
+    private Connector connector;
+    private ServiceRegistry registry;
+    private ConnectorStatisticsValve valve;
+
+    @Before
+    public void setUp() {
+        connector = mock(Connector.class);
+        registry = mock(ServiceRegistry.class);
+        final ServiceController<?> connectorController = mock(ServiceController.class);
+        doReturn(connector).when(connectorController).getValue();
+        doReturn(connectorController).when(registry).getService(WebSubsystemServices.JBOSS_WEB_CONNECTOR.append("http"));
+
+        valve = new ConnectorStatisticsValve();
+        valve.addConnector(connector);
+        final WebServerService server = mock(WebServerService.class);
+        when(server.getConnectorStatistics(connector)).thenReturn(valve.getStatistics(connector));
+        final ServiceController<?> serverController = mock(ServiceController.class);
+        doReturn(ServiceController.State.UP).when(serverController).getState();
+        doReturn(server).when(serverController).getService();
+        doReturn(serverController).when(registry).getService(WebSubsystemServices.JBOSS_WEB);
+    }
+
+    @Test
+    public void testActiveRequests() throws Exception {
+        assertEquals(0, readMetric(WebConnectorMetrics.ACTIVE_REQUESTS).asInt());
+    }
+
+    @Test
+    public void testRequestTime() throws Exception {
+        valve.getStatistics(connector).getRequestTimes().record(1000000L);
+        assertEquals(1, readMetric(WebConnectorMetrics.REQUEST_TIME).get(LatencyHistogram.COUNT).asLong());
+    }
+
+    @Test
+    public void testStatisticsWithoutWebServer() throws Exception {
+        doReturn(null).when(registry).getService(WebSubsystemServices.JBOSS_WEB);
+        assertEquals(NO_METRICS, readMetric(WebConnectorMetrics.ACTIVE_REQUESTS).asString());
+    }
+
+    @Test
+    public void testConfiguredBacklog() throws Exception {
+        final Http11Protocol handler = new Http11Protocol();
+        handler.setBacklog(42);
+        when(connector.getProtocolHandler()).thenReturn(handler);
+        assertEquals(42, readMetric(WebConnectorMetrics.CONFIGURED_BACKLOG).asInt());
+    }
+
+    @Test
+    public void testConfiguredBacklogNotReported() throws Exception {
+        when(connector.getProtocolHandler()).thenReturn(mock(ProtocolHandler.class));
+        assertEquals(NO_METRICS, readMetric(WebConnectorMetrics.CONFIGURED_BACKLOG).asString());
+    }
+
+    @Test
+    public void testNoProtocolHandler() throws Exception {
+        assertEquals(NO_METRICS, readMetric(WebConnectorMetrics.CONFIGURED_BACKLOG).asString());
+        assertFalse(readMetric("requestCount").isDefined());
+    }
+
+    private ModelNode readMetric(final String name) throws Exception {
+        final ModelNode result = new ModelNode();
+        final OperationContext context = mock(OperationContext.class);
+        when(context.getType()).thenReturn(OperationContext.Type.SERVER);
+        when(context.getServiceRegistry(false)).thenReturn(registry);
+        when(context.getResult()).thenReturn(result);
+
+        final ModelNode operation = new ModelNode();
+        operation.get(OP_ADDR).add("subsystem", "web").add("connector", "http");
+        operation.get(NAME).set(name);
+        WebConnectorMetrics.INSTANCE.execute(context, operation);
+
+        final ArgumentCaptor<OperationStepHandler> step = ArgumentCaptor.forClass(OperationStepHandler.class);
+        verify(context).addStep(step.capture(), any(OperationContext.Stage.class));
+        step.getValue().execute(context, operation);
+        return result;
+    }
+}
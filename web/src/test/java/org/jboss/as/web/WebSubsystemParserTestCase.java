@@ -0,0 +1,128 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web;
+
+import static org.jboss.as.web.Constants.CACHE_MAX_SIZE;
+import static org.jboss.as.web.Constants.CACHE_OBJECT_MAX_SIZE;
+import static org.jboss.as.web.Constants.CACHE_TTL;
+import static org.jboss.as.web.Constants.CACHING_ALLOWED;
+import static org.jboss.as.web.Constants.CONTAINER_CONFIG;
+import static org.jboss.as.web.Constants.LISTINGS;
+import static org.jboss.as.web.Constants.STATIC_RESOURCES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.as.controller.persistence.SubsystemMarshallingContext;
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLExtendedStreamWriter;
+import org.jboss.staxmapper.XMLExtendedStreamWriterFactory;
+import org.jboss.staxmapper.XMLMapper;
+import org.junit.Test;
+
+/**
+ * Tests parsing and marshalling the static resource cache configuration of the web subsystem.
+ */
+public class WebSubsystemParserTestCase {
+
+    private final WebSubsystemParser parser = WebSubsystemParser.getInstance();
+
+    @Test
+    public void testStaticResourcesCache() throws Exception {
+        final ModelNode operation = parse(read("subsystem-static-resources-cache.xml"));
+        final ModelNode resources = operation.get(CONTAINER_CONFIG, STATIC_RESOURCES);
+        assertTrue(resources.get(LISTINGS).asBoolean());
+        assertFalse(resources.get(CACHING_ALLOWED).asBoolean());
+        assertEquals(20480, resources.get(CACHE_MAX_SIZE).asInt());
+        assertEquals(1024, resources.get(CACHE_OBJECT_MAX_SIZE).asInt());
+        assertEquals(10000, resources.get(CACHE_TTL).asInt());
+
+        // Every attribute is written, not only the first one that differs from its default
+        final String marshalled = marshal(operation);
+        assertTrue(marshalled, marshalled.contains(Attribute.LISTINGS.getLocalName() + "=\"true\""));
+        assertTrue(marshalled, marshalled.contains(Attribute.CACHING_ALLOWED.getLocalName() + "=\"false\""));
+        assertTrue(marshalled, marshalled.contains(Attribute.CACHE_MAX_SIZE.getLocalName() + "=\"20480\""));
+        assertTrue(marshalled, marshalled.contains(Attribute.CACHE_OBJECT_MAX_SIZE.getLocalName() + "=\"1024\""));
+        assertTrue(marshalled, marshalled.contains(Attribute.CACHE_TTL.getLocalName() + "=\"10000\""));
+        assertEquals(operation, parse(marshalled));
+    }
+
+    @Test
+    public void testStaticResourcesCacheDefaults() throws Exception {
+        final ModelNode operation = parse(read("subsystem-static-resources-default.xml"));
+        final ModelNode resources = operation.get(CONTAINER_CONFIG, STATIC_RESOURCES);
+        assertFalse(resources.hasDefined(CACHING_ALLOWED));
+        assertFalse(resources.hasDefined(CACHE_MAX_SIZE));
+        assertFalse(resources.hasDefined(CACHE_OBJECT_MAX_SIZE));
+        assertFalse(resources.hasDefined(CACHE_TTL));
+
+        final String marshalled = marshal(operation);
+        assertFalse(marshalled, marshalled.contains("cache"));
+        assertEquals(operation, parse(marshalled));
+    }
+
+    private ModelNode parse(final String xml) throws XMLStreamException {
+        final XMLMapper mapper = XMLMapper.Factory.create();
+        mapper.registerRootElement(new QName(Namespace.CURRENT.getUriString(), "subsystem"), parser);
+        final List<ModelNode> operations = new ArrayList<ModelNode>();
+        mapper.parseDocument(operations, XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(xml)));
+        assertEquals(1, operations.size());
+        return operations.get(0);
+    }
+
+    private String marshal(final ModelNode model) throws XMLStreamException {
+        final StringWriter out = new StringWriter();
+        final XMLExtendedStreamWriter writer = XMLExtendedStreamWriterFactory.create(XMLOutputFactory.newInstance().createXMLStreamWriter(out));
+        parser.writeContent(writer, new SubsystemMarshallingContext(model, writer));
+        writer.close();
+        return out.toString();
+    }
+
+    private String read(final String name) throws Exception {
+        final InputStream in = getClass().getResourceAsStream(name);
+        assertNotNull(name, in);
+        try {
+            final StringBuilder builder = new StringBuilder();
+            final byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                builder.append(new String(buffer, 0, read, "UTF-8"));
+            }
+            return builder.toString();
+        } finally {
+            in.close();
+        }
+    }
+}
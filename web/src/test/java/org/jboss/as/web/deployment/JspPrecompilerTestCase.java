@@ -0,0 +1,192 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.apache.catalina.core.StandardContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the JSP precompiler.
+ */
+public class JspPrecompilerTestCase {
+
+    private File docBase;
+
+    @Before
+    public void createDocBase() throws IOException {
+        docBase = File.createTempFile("jsp-precompiler", "");
+        docBase.delete();
+        docBase.mkdirs();
+    }
+
+    @After
+    public void deleteDocBase() {
+        delete(docBase);
+    }
+
+    @Test
+    public void testCollect() throws Exception {
+        write("/index.jsp", "<html/>");
+        write("/WEB-INF/view.jspx", "<jsp:root/>");
+        write("/WEB-INF/tags/greeting.tag", "Hello");
+        write("/WEB-INF/classes/ignored.jsp", "<html/>");
+        write("/WEB-INF/lib/readme.txt", "not a library");
+        writeLibrary("/WEB-INF/lib/tags.jar", "<taglib/>");
+
+        final Map<String, File> pages = new HashMap<String, File>();
+        final Map<String, File> fragments = new HashMap<String, File>();
+        JspPrecompiler.collect(docBase, "", pages, fragments);
+
+        assertEquals(2, pages.size());
+        assertTrue(pages.containsKey("/index.jsp"));
+        assertTrue(pages.containsKey("/WEB-INF/view.jspx"));
+        assertEquals(2, fragments.size());
+        assertTrue(fragments.containsKey("/WEB-INF/tags/greeting.tag"));
+        assertTrue(fragments.containsKey("/WEB-INF/lib/tags.jar"));
+    }
+
+    @Test
+    public void testLibraryTagLibrariesAreHashed() throws Exception {
+        write("/WEB-INF/tags/greeting.tag", "Hello");
+        writeLibrary("/WEB-INF/lib/tags.jar", "<taglib/>");
+        final Map<String, String> hashes = hashDependencies();
+
+        assertEquals(3, hashes.size());
+        assertNotNull(hashes.get("/WEB-INF/tags/greeting.tag"));
+        final String tld = hashes.get("/WEB-INF/lib/tags.jar!/META-INF/tags.tld");
+        final String tag = hashes.get("/WEB-INF/lib/tags.jar!/META-INF/tags/farewell.tag");
+        assertNotNull(tld);
+        assertNotNull(tag);
+
+        // a changed TLD in a library changes its hash, and only its hash
+        writeLibrary("/WEB-INF/lib/tags.jar", "<taglib version=\"2.1\"/>");
+        final Map<String, String> changed = hashDependencies();
+        assertFalse(tld.equals(changed.get("/WEB-INF/lib/tags.jar!/META-INF/tags.tld")));
+        assertEquals(tag, changed.get("/WEB-INF/lib/tags.jar!/META-INF/tags/farewell.tag"));
+        assertEquals(hashes.get("/WEB-INF/tags/greeting.tag"), changed.get("/WEB-INF/tags/greeting.tag"));
+    }
+
+    @Test
+    public void testPrecompileDoesNotBlock() {
+        final List<Runnable> tasks = new ArrayList<Runnable>();
+        final AtomicBoolean completed = new AtomicBoolean();
+        new JspPrecompiler(new StandardContext(), null, new Executor() {
+            public void execute(final Runnable command) {
+                tasks.add(command);
+            }
+        }).precompile(new Runnable() {
+            public void run() {
+                completed.set(true);
+            }
+        });
+
+        // nothing is done on the calling thread
+        assertFalse(completed.get());
+        assertEquals(1, tasks.size());
+        // a context without a JSP servlet has nothing to compile
+        tasks.remove(0).run();
+        assertTrue(completed.get());
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    public void testRejectedPrecompileCompletes() {
+        final AtomicBoolean completed = new AtomicBoolean();
+        new JspPrecompiler(new StandardContext(), null, new Executor() {
+            public void execute(final Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        }).precompile(new Runnable() {
+            public void run() {
+                completed.set(true);
+            }
+        });
+        assertTrue(completed.get());
+    }
+
+    private Map<String, String> hashDependencies() {
+        final Map<String, File> fragments = new HashMap<String, File>();
+        JspPrecompiler.collect(docBase, "", new HashMap<String, File>(), fragments);
+        return JspPrecompiler.hashDependencies(fragments);
+    }
+
+    private void write(final String path, final String content) throws IOException {
+        final OutputStream out = new FileOutputStream(create(path));
+        try {
+            out.write(content.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+    }
+
+    private void writeLibrary(final String path, final String tld) throws IOException {
+        final JarOutputStream out = new JarOutputStream(new FileOutputStream(create(path)));
+        try {
+            out.putNextEntry(new JarEntry("META-INF/tags.tld"));
+            out.write(tld.getBytes("UTF-8"));
+            out.putNextEntry(new JarEntry("META-INF/tags/farewell.tag"));
+            out.write("Goodbye".getBytes("UTF-8"));
+            out.putNextEntry(new JarEntry("org/example/FarewellTag.class"));
+            out.write(new byte[] { (byte) 0xca, (byte) 0xfe });
+        } finally {
+            out.close();
+        }
+    }
+
+    private File create(final String path) {
+        final File file = new File(docBase, path.substring(1));
+        file.getParentFile().mkdirs();
+        return file;
+    }
+
+    private static void delete(final File file) {
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
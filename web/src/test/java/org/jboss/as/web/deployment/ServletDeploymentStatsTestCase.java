@@ -0,0 +1,118 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.Pipeline;
+import org.apache.catalina.Valve;
+import org.apache.catalina.Wrapper;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.jboss.as.controller.LatencyHistogram;
+import org.jboss.as.web.ResponseTimeValve;
+import org.jboss.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the response time attributes {@link ServletDeploymentStats} reports for a deployment and its servlets.
+ */
+public class ServletDeploymentStatsTestCase {
+
+    private ResponseTimeValve valve;
+    private Context context;
+    private ModelNode servletModel;
+
+    @Before
+    public void setUp() throws Exception {
+        valve = new ResponseTimeValve();
+        valve.setNext(mock(Valve.class));
+        context = mock(Context.class);
+        final Pipeline pipeline = mock(Pipeline.class);
+        when(context.getPipeline()).thenReturn(pipeline);
+        when(pipeline.getValves()).thenReturn(new Valve[] { valve });
+        servletModel = new ModelNode();
+        servletModel.get("servlet-name").set("servlet");
+    }
+
+    @Test
+    public void testServletResponseTime() throws Exception {
+        invoke("servlet");
+        final ModelNode times = read(true, null, servletModel);
+        assertEquals(1, times.get(LatencyHistogram.COUNT).asLong());
+    }
+
+    @Test
+    public void testServletPercentiles() throws Exception {
+        invoke("servlet");
+        invoke("servlet");
+        final ModelNode times = valve.getServletTimes("servlet").toModelNode();
+        for (final String percentile : ServletDeploymentStats.RESPONSE_TIME_PERCENTILES) {
+            assertEquals(times.get(percentile).asDouble(), read(true, percentile, servletModel).asDouble(), 0.0);
+        }
+    }
+
+    @Test
+    public void testDeploymentPercentiles() throws Exception {
+        invoke("servlet");
+        invoke("other");
+        assertEquals(2, read(false, null, new ModelNode()).get(LatencyHistogram.COUNT).asLong());
+        final ModelNode times = valve.getContextTimes().toModelNode();
+        for (final String percentile : ServletDeploymentStats.RESPONSE_TIME_PERCENTILES) {
+            assertEquals(times.get(percentile).asDouble(), read(false, percentile, new ModelNode()).asDouble(), 0.0);
+        }
+    }
+
+    @Test
+    public void testServletWithoutRequests() throws Exception {
+        invoke("other");
+        assertFalse(read(true, null, servletModel).isDefined());
+        assertFalse(read(true, LatencyHistogram.P99, servletModel).isDefined());
+    }
+
+    @Test
+    public void testHistogramsDisabled() throws Exception {
+        when(context.getPipeline().getValves()).thenReturn(new Valve[0]);
+        assertFalse(read(false, null, new ModelNode()).isDefined());
+        assertFalse(read(true, LatencyHistogram.P50, servletModel).isDefined());
+    }
+
+    private ModelNode read(final boolean servlet, final String percentile, final ModelNode model) {
+        final ModelNode response = new ModelNode();
+        new ServletDeploymentStats.ResponseTimeHandler(servlet, percentile).handle(response, model, context);
+        return response;
+    }
+
+    private void invoke(final String servletName) throws Exception {
+        final Request request = mock(Request.class);
+        final Wrapper wrapper = mock(Wrapper.class);
+        when(wrapper.getName()).thenReturn(servletName);
+        when(request.getWrapper()).thenReturn(wrapper);
+        valve.invoke(request, mock(Response.class));
+    }
+}
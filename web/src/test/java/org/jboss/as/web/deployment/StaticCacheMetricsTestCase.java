@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.naming.directory.DirContext;
+
+import org.apache.catalina.Context;
+import org.apache.naming.resources.ProxyDirContext;
+import org.apache.naming.resources.ResourceCache;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests the static resource cache metrics {@link ServletDeploymentStats} reports for a deployment.
+ */
+public class StaticCacheMetricsTestCase {
+
+    private final Map<String, OperationStepHandler> handlers = new HashMap<String, OperationStepHandler>();
+    private Context context;
+
+    @Before
+    public void setUp() throws Exception {
+        final ManagementResourceRegistration registration = mock(ManagementResourceRegistration.class);
+        ServletDeploymentStats.registerDeployment(registration);
+        final ArgumentCaptor<String> names = ArgumentCaptor.forClass(String.class);
+        final ArgumentCaptor<OperationStepHandler> metrics = ArgumentCaptor.forClass(OperationStepHandler.class);
+        verify(registration, atLeastOnce()).registerMetric(names.capture(), metrics.capture());
+        for (int i = 0; i < names.getAllValues().size(); i++) {
+            handlers.put(names.getAllValues().get(i), metrics.getAllValues().get(i));
+        }
+        context = mock(Context.class);
+    }
+
+    @Test
+    public void testHitsAndMisses() throws Exception {
+        final ResourceCache cache = mock(ResourceCache.class);
+        when(cache.getAccessCount()).thenReturn(10L);
+        when(cache.getHitsCount()).thenReturn(7L);
+        when(cache.getCacheSize()).thenReturn(64);
+        final ProxyDirContext resources = mock(ProxyDirContext.class);
+        when(resources.getCache()).thenReturn(cache);
+        when(context.getResources()).thenReturn(resources);
+
+        assertEquals(7L, read("static-cache-hit-count").asLong());
+        assertEquals(3L, read("static-cache-miss-count").asLong());
+        assertEquals(64, read("static-cache-size").asInt());
+    }
+
+    @Test
+    public void testCachingDisabled() throws Exception {
+        when(context.getResources()).thenReturn(mock(ProxyDirContext.class));
+
+        assertFalse(read("static-cache-hit-count").isDefined());
+        assertFalse(read("static-cache-miss-count").isDefined());
+        assertFalse(read("static-cache-size").isDefined());
+    }
+
+    @Test
+    public void testNotProxied() throws Exception {
+        when(context.getResources()).thenReturn(mock(DirContext.class));
+
+        assertFalse(read("static-cache-hit-count").isDefined());
+        assertFalse(read("static-cache-miss-count").isDefined());
+    }
+
+    private ModelNode read(final String metric) {
+        final ServletDeploymentStats.AbstractContextMetricsHandler handler = (ServletDeploymentStats.AbstractContextMetricsHandler) handlers.get(metric);
+        final ModelNode response = new ModelNode();
+        handler.handle(response, new ModelNode(), context);
+        return response;
+    }
+}
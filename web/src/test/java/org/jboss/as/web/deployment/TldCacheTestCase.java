@@ -0,0 +1,96 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2011, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.web.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.jboss.metadata.web.spec.TldMetaData;
+import org.junit.Test;
+
+/**
+ * Tests of the shared TLD metadata cache.
+ */
+public class TldCacheTestCase {
+
+    private static final String FIRST = TldCache.hash(new byte[] { 1 });
+    private static final String SECOND = TldCache.hash(new byte[] { 2 });
+    private static final String THIRD = TldCache.hash(new byte[] { 3 });
+
+    @Test
+    public void testHitAndMiss() {
+        final TldCache cache = new TldCache();
+        final TldMetaData metaData = new TldMetaData();
+        assertNull(cache.get(FIRST));
+        cache.put(FIRST, metaData);
+        assertSame(metaData, cache.get(FIRST));
+        assertNull(cache.get(SECOND));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    public void testClearedEntriesAreExpunged() {
+        final TldCache cache = new TldCache();
+        cache.put(FIRST, new TldMetaData());
+        cache.put(SECOND, new TldMetaData());
+        collect(cache.getEntry(FIRST));
+
+        assertNull(cache.get(FIRST));
+        cache.put(THIRD, new TldMetaData());
+        assertEquals(2, cache.getSize());
+        assertNull(cache.getEntry(FIRST));
+    }
+
+    @Test
+    public void testReplacedEntryIsKept() {
+        final TldCache cache = new TldCache();
+        cache.put(FIRST, new TldMetaData());
+        final TldCache.Entry replaced = cache.getEntry(FIRST);
+        final TldMetaData metaData = new TldMetaData();
+        cache.put(FIRST, metaData);
+        // the reference of the replaced entry is only queued once the new one is in place
+        collect(replaced);
+
+        assertEquals(1, cache.getSize());
+        assertSame(metaData, cache.get(FIRST));
+    }
+
+    @Test
+    public void testHash() {
+        assertEquals(FIRST, TldCache.hash(new byte[] { 1 }));
+        assertFalse(FIRST.equals(SECOND));
+        assertEquals(40, FIRST.length());
+    }
+
+    /**
+     * Do what the garbage collector does to a softly reachable entry.
+     */
+    private static void collect(final TldCache.Entry entry) {
+        entry.clear();
+        entry.enqueue();
+    }
+}
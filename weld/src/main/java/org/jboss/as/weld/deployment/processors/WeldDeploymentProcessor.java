@@ -24,6 +24,9 @@ package org.jboss.as.weld.deployment.processors;
 import org.jboss.as.ee.beanvalidation.BeanValidationAttachments;
 import org.jboss.as.ee.component.EEApplicationDescription;
 import org.jboss.as.ee.component.EEModuleDescription;
+import org.jboss.as.jpa.config.PersistenceUnitMetadata;
+import org.jboss.as.jpa.config.PersistenceUnitMetadataHolder;
+import org.jboss.as.jpa.service.PersistenceUnitService;
 import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
@@ -185,6 +188,12 @@ public class WeldDeploymentProcessor implements DeploymentUnitProcessor {
 
         weldServiceBuilder.addDependencies(TCCLSingletonService.SERVICE_NAME);
 
+        // JPA injection resolves the persistence unit services directly, so they have to be up before weld is
+        addPersistenceUnitDependencies(deploymentUnit, weldServiceBuilder);
+        for (DeploymentUnit subDeployment : subDeployments) {
+            addPersistenceUnitDependencies(subDeployment, weldServiceBuilder);
+        }
+
         installResourceInjectionService(serviceTarget, deploymentUnit, weldService, weldServiceBuilder);
         installSecurityService(serviceTarget, deploymentUnit, weldService, weldServiceBuilder);
         installTransactionService(serviceTarget, deploymentUnit, weldService, weldServiceBuilder);
@@ -194,6 +203,23 @@ public class WeldDeploymentProcessor implements DeploymentUnitProcessor {
     }
 
 
+    private void addPersistenceUnitDependencies(final DeploymentUnit deploymentUnit, final ServiceBuilder<WeldContainer> weldServiceBuilder) {
+        addPersistenceUnitDependencies(deploymentUnit.getAttachment(Attachments.DEPLOYMENT_ROOT), weldServiceBuilder);
+        for (ResourceRoot resourceRoot : deploymentUnit.getAttachmentList(Attachments.RESOURCE_ROOTS)) {
+            addPersistenceUnitDependencies(resourceRoot, weldServiceBuilder);
+        }
+    }
+
+    private void addPersistenceUnitDependencies(final ResourceRoot resourceRoot, final ServiceBuilder<WeldContainer> weldServiceBuilder) {
+        final PersistenceUnitMetadataHolder holder = resourceRoot == null ? null : resourceRoot.getAttachment(PersistenceUnitMetadataHolder.PERSISTENCE_UNITS);
+        if (holder == null || holder.getPersistenceUnits() == null) {
+            return;
+        }
+        for (PersistenceUnitMetadata pu : holder.getPersistenceUnits()) {
+            weldServiceBuilder.addDependency(PersistenceUnitService.getPUServiceName(pu));
+        }
+    }
+
     private ServiceName installSecurityService(ServiceTarget serviceTarget, DeploymentUnit deploymentUnit,
                                                WeldService weldService, ServiceBuilder<WeldContainer> weldServiceBuilder) {
         final WeldSecurityServices service = new WeldSecurityServices();
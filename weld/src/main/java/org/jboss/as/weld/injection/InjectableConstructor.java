@@ -30,6 +30,8 @@ import javax.enterprise.inject.spi.Bean;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -46,6 +48,14 @@ public class InjectableConstructor {
 
     public InjectableConstructor(AnnotatedConstructor<?> constructor, BeanManagerImpl beanManager, Bean bean) {
         this.constructor = constructor.getJavaMember();
+        // suppress the access check once, rather than paying for it on every instance we create
+        AccessController.doPrivileged(new PrivilegedAction<Object>() {
+            @Override
+            public Object run() {
+                InjectableConstructor.this.constructor.setAccessible(true);
+                return null;
+            }
+        });
         this.parameterInjectionPoints = new ParameterInjectionPoint[constructor.getParameters().size()];
         this.beans = new Bean[parameterInjectionPoints.length];
         this.beanManager = beanManager;
@@ -39,13 +39,13 @@ import java.util.Set;
  */
 final class InjectableMethod {
     private final Method method;
-    private final List<Bean<?>> beans;
-    private final List<InjectionPoint> injectionPoints;
+    private final Bean<?>[] beans;
+    private final InjectionPoint[] injectionPoints;
 
     public InjectableMethod(final Method method, final List<Bean<?>> beans, final List<InjectionPoint> injectionPoints) {
-        this.beans = beans;
+        this.beans = beans.toArray(new Bean<?>[beans.size()]);
         this.method = method;
-        this.injectionPoints = injectionPoints;
+        this.injectionPoints = injectionPoints.toArray(new InjectionPoint[injectionPoints.size()]);
         AccessController.doPrivileged(new PrivilegedAction<Object>() {
             @Override
             public Object run() {
@@ -64,11 +64,9 @@ final class InjectableMethod {
      */
     public void inject(Object instance, BeanManagerImpl beanManager, CreationalContext<?> ctx) {
         try {
-            final Object[] params = new Object[beans.size()];
-            int i = 0;
-            for(Bean<?> bean : beans) {
-                final Object value = beanManager.getReference(injectionPoints.get(i),bean, ctx);
-                params[i++] = value;
+            final Object[] params = new Object[beans.length];
+            for (int i = 0; i < beans.length; ++i) {
+                params[i] = beanManager.getReference(injectionPoints[i], beans[i], ctx);
             }
             method.invoke(instance,params);
         } catch (IllegalAccessException e) {
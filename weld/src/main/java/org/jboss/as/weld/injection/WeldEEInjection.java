@@ -34,7 +34,9 @@ import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.InjectionPoint;
 import javax.inject.Inject;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -49,16 +51,36 @@ class WeldEEInjection {
 
     private final Class<?> componentClass;
     private final BeanManagerImpl beanManager;
-    private final List<InjectableField> injectableFields;
-    private final List<InjectableMethod> injectableMethods;
+    private final InjectableField[] injectableFields;
+    private final InjectableMethod[] injectableMethods;
     private final InjectableConstructor constructor;
+    private final Constructor<?> defaultConstructor;
 
     public WeldEEInjection(Class<?> componentClass, BeanManagerImpl beanManager, List<InjectableField> injectableFields, List<InjectableMethod> injectableMethods, InjectableConstructor constructor) {
         this.componentClass = componentClass;
         this.beanManager = beanManager;
-        this.injectableFields = injectableFields;
-        this.injectableMethods = injectableMethods;
+        this.injectableFields = injectableFields.toArray(new InjectableField[injectableFields.size()]);
+        this.injectableMethods = injectableMethods.toArray(new InjectableMethod[injectableMethods.size()]);
         this.constructor = constructor;
+        this.defaultConstructor = constructor == null ? getDefaultConstructor(componentClass) : null;
+    }
+
+    /**
+     * Resolves the no-arg constructor up front, so creating an instance does not repeat the lookup that
+     * {@link Class#newInstance()} performs on each call. Only a public constructor of a public class is resolved;
+     * anything else is left to {@link Class#newInstance()}, which applies the usual access checks.
+     *
+     * @return the public no-arg constructor, or {@code null} if there is none
+     */
+    private static Constructor<?> getDefaultConstructor(final Class<?> componentClass) {
+        if (!Modifier.isPublic(componentClass.getModifiers())) {
+            return null;
+        }
+        try {
+            return componentClass.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
     }
 
     /**
@@ -87,13 +109,21 @@ class WeldEEInjection {
         try {
             if (constructor != null) {
                 return constructor.createInstance(ctx);
+            } else if (defaultConstructor != null) {
+                return defaultConstructor.newInstance();
             } else {
                 return componentClass.newInstance();
             }
         } catch (IllegalAccessException e) {
             throw new RuntimeException(e);
         } catch (InvocationTargetException e) {
-            throw new RuntimeException(e);
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
         } catch (InstantiationException e) {
             throw new RuntimeException(e);
         }
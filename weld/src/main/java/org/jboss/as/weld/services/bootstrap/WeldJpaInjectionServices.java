@@ -62,8 +62,8 @@ public class WeldJpaInjectionServices implements JpaInjectionServices {
         final ServiceName persistenceUnitServiceName = PersistenceUnitService.getPUServiceName(scopedPuName);
 
         final ServiceController<?> serviceController = serviceRegistry.getRequiredService(persistenceUnitServiceName);
-        //now we have the service controller, as this method is only called at runtime the service should
-        //always be up
+        //the weld service depends on every persistence unit of the deployment and this method is only called
+        //once weld is up, so the persistence unit service is always up here
         PersistenceUnitService persistenceUnitService = (PersistenceUnitService)serviceController.getValue();
         return new TransactionScopedEntityManager(scopedPuName,new HashMap<Object,Object>(), persistenceUnitService.getEntityManagerFactory(), sfsbxpcMap);
     }
@@ -79,8 +79,8 @@ public class WeldJpaInjectionServices implements JpaInjectionServices {
         final ServiceName persistenceUnitServiceName = PersistenceUnitService.getPUServiceName(scopedPuName);
 
         final ServiceController<?> serviceController = serviceRegistry.getRequiredService(persistenceUnitServiceName);
-        //now we have the service controller, as this method is only called at runtime the service should
-        //always be up
+        //the weld service depends on every persistence unit of the deployment and this method is only called
+        //once weld is up, so the persistence unit service is always up here
         PersistenceUnitService persistenceUnitService = (PersistenceUnitService)serviceController.getValue();
         return persistenceUnitService.getEntityManagerFactory();
     }